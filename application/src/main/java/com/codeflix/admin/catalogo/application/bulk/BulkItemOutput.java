@@ -0,0 +1,25 @@
+package com.codeflix.admin.catalogo.application.bulk;
+
+import com.codeflix.admin.catalogo.domain.validation.Error;
+
+import java.util.List;
+
+public record BulkItemOutput(
+        int index,
+        String id,
+        BulkItemStatus status,
+        List<Error> errors
+) {
+    public static BulkItemOutput success(final int index, final String id, final BulkItemStatus status) {
+        return new BulkItemOutput(index, id, status, List.of());
+    }
+
+    public static BulkItemOutput failure(
+            final int index,
+            final String id,
+            final BulkItemStatus status,
+            final List<Error> errors
+    ) {
+        return new BulkItemOutput(index, id, status, List.copyOf(errors));
+    }
+}
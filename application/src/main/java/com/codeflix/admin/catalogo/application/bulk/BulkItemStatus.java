@@ -0,0 +1,10 @@
+package com.codeflix.admin.catalogo.application.bulk;
+
+public enum BulkItemStatus {
+    CREATED,
+    UPDATED,
+    DELETED,
+    NOT_FOUND,
+    INVALID,
+    FAILED
+}
@@ -0,0 +1,16 @@
+package com.codeflix.admin.catalogo.application.bulk;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+public enum BulkOperation {
+    CREATE,
+    UPDATE,
+    DELETE;
+
+    public static Optional<BulkOperation> from(final String label) {
+        return Arrays.stream(BulkOperation.values())
+                .filter(it -> it.name().equalsIgnoreCase(label))
+                .findFirst();
+    }
+}
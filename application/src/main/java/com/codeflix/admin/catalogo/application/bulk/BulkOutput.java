@@ -0,0 +1,6 @@
+package com.codeflix.admin.catalogo.application.bulk;
+
+import java.util.List;
+
+public record BulkOutput(List<BulkItemOutput> items) {
+}
@@ -0,0 +1,91 @@
+package com.codeflix.admin.catalogo.application.bulk;
+
+import com.codeflix.admin.catalogo.domain.validation.Error;
+import com.codeflix.admin.catalogo.domain.validation.ValidationHandler;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class BulkResults {
+
+    public static final int DEFAULT_CHUNK_SIZE = 500;
+
+    private final BulkItemOutput[] items;
+    private final int chunkSize;
+
+    public BulkResults(final int size, final int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("'chunkSize' should be greater than zero");
+        }
+        this.items = new BulkItemOutput[size];
+        this.chunkSize = chunkSize;
+    }
+
+    public void invalid(final int index, final String id, final ValidationHandler aHandler) {
+        this.items[index] = BulkItemOutput.failure(index, id, BulkItemStatus.INVALID, aHandler.getErrors());
+    }
+
+    public void notFound(final int index, final String id, final String aggregateName) {
+        this.items[index] = BulkItemOutput.failure(
+                index,
+                id,
+                BulkItemStatus.NOT_FOUND,
+                List.of(new Error("%s with ID %s was not found".formatted(aggregateName, id)))
+        );
+    }
+
+    public <T> void write(
+            final List<Pending<T>> pending,
+            final Consumer<List<T>> writer,
+            final Function<T, String> idOf,
+            final BulkItemStatus status
+    ) {
+        write(pending, values -> {
+            writer.accept(values);
+            return values;
+        }, idOf, status, null);
+    }
+
+    public <T> void write(
+            final List<Pending<T>> pending,
+            final Function<List<T>, List<T>> writer,
+            final Function<T, String> idOf,
+            final BulkItemStatus status,
+            final String aggregateName
+    ) {
+        for (int start = 0; start < pending.size(); start += this.chunkSize) {
+            final var chunk = pending.subList(start, Math.min(start + this.chunkSize, pending.size()));
+            final Set<String> written;
+            try {
+                written = writer.apply(chunk.stream().map(Pending::value).toList()).stream()
+                        .map(idOf)
+                        .collect(Collectors.toSet());
+            } catch (Throwable t) {
+                final var errors = List.of(new Error(Objects.requireNonNullElse(t.getMessage(), t.getClass().getSimpleName())));
+                chunk.forEach(it -> this.items[it.index()] = BulkItemOutput.failure(it.index(), idOf.apply(it.value()), BulkItemStatus.FAILED, errors));
+                continue;
+            }
+
+            for (final var it : chunk) {
+                final var anId = idOf.apply(it.value());
+                if (written.contains(anId)) {
+                    this.items[it.index()] = BulkItemOutput.success(it.index(), anId, status);
+                } else {
+                    notFound(it.index(), anId, aggregateName);
+                }
+            }
+        }
+    }
+
+    public BulkOutput output() {
+        return new BulkOutput(Arrays.asList(this.items));
+    }
+
+    public record Pending<T>(int index, T value) {
+    }
+}
@@ -0,0 +1,9 @@
+package com.codeflix.admin.catalogo.application.castmember.bulk;
+
+import java.util.List;
+
+public record BulkCastMemberCommand(List<BulkCastMemberItem> items) {
+    public static BulkCastMemberCommand with(final List<BulkCastMemberItem> items) {
+        return new BulkCastMemberCommand(items == null ? List.of() : items);
+    }
+}
@@ -0,0 +1,20 @@
+package com.codeflix.admin.catalogo.application.castmember.bulk;
+
+import com.codeflix.admin.catalogo.application.bulk.BulkOperation;
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberType;
+
+public record BulkCastMemberItem(
+        BulkOperation operation,
+        String id,
+        String name,
+        CastMemberType type
+) {
+    public static BulkCastMemberItem with(
+            final BulkOperation anOperation,
+            final String anId,
+            final String aName,
+            final CastMemberType aType
+    ) {
+        return new BulkCastMemberItem(anOperation, anId, aName, aType);
+    }
+}
@@ -0,0 +1,9 @@
+package com.codeflix.admin.catalogo.application.castmember.bulk;
+
+import com.codeflix.admin.catalogo.application.UseCase;
+import com.codeflix.admin.catalogo.application.bulk.BulkOutput;
+
+public sealed abstract class BulkCastMemberUseCase
+        extends UseCase<BulkCastMemberCommand, BulkOutput>
+        permits DefaultBulkCastMemberUseCase {
+}
@@ -0,0 +1,126 @@
+package com.codeflix.admin.catalogo.application.castmember.bulk;
+
+import com.codeflix.admin.catalogo.application.bulk.BulkItemStatus;
+import com.codeflix.admin.catalogo.application.bulk.BulkOperation;
+import com.codeflix.admin.catalogo.application.bulk.BulkOutput;
+import com.codeflix.admin.catalogo.application.bulk.BulkResults;
+import com.codeflix.admin.catalogo.application.bulk.BulkResults.Pending;
+import com.codeflix.admin.catalogo.domain.castmember.CastMember;
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberID;
+import com.codeflix.admin.catalogo.domain.validation.Error;
+import com.codeflix.admin.catalogo.domain.validation.handlers.Notification;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public non-sealed class DefaultBulkCastMemberUseCase extends BulkCastMemberUseCase {
+
+    private final CastMemberGateway castMemberGateway;
+    private final int chunkSize;
+
+    public DefaultBulkCastMemberUseCase(final CastMemberGateway castMemberGateway) {
+        this(castMemberGateway, BulkResults.DEFAULT_CHUNK_SIZE);
+    }
+
+    public DefaultBulkCastMemberUseCase(final CastMemberGateway castMemberGateway, final int chunkSize) {
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public BulkOutput execute(final BulkCastMemberCommand aCommand) {
+        final var items = aCommand.items();
+        final var results = new BulkResults(items.size(), chunkSize);
+        final var existing = loadExisting(items);
+        final var deletable = loadDeletable(items);
+
+        final var creates = new ArrayList<Pending<CastMember>>();
+        final var updates = new ArrayList<Pending<CastMember>>();
+        final var deletes = new ArrayList<Pending<CastMemberID>>();
+
+        for (int index = 0; index < items.size(); index++) {
+            final var item = items.get(index);
+            final var notification = Notification.create();
+
+            if (item.operation() == null) {
+                results.invalid(index, item.id(), notification.append(new Error("'operation' should be one of create, update or delete")));
+                continue;
+            }
+
+            switch (item.operation()) {
+                case CREATE -> {
+                    final var aMember = notification.validate(() -> CastMember.create(item.name(), item.type()));
+                    if (notification.hasError()) {
+                        results.invalid(index, null, notification);
+                    } else {
+                        creates.add(new Pending<>(index, aMember));
+                    }
+                }
+                case UPDATE -> {
+                    final var aMember = item.id() == null ? null : existing.get(item.id());
+                    if (aMember == null) {
+                        results.notFound(index, item.id(), CastMember.class.getSimpleName());
+                        continue;
+                    }
+                    notification.validate(() -> aMember.update(item.name(), item.type()));
+                    if (notification.hasError()) {
+                        results.invalid(index, item.id(), notification);
+                    } else {
+                        updates.add(new Pending<>(index, aMember));
+                    }
+                }
+                case DELETE -> {
+                    if (item.id() == null || item.id().isBlank()) {
+                        results.invalid(index, item.id(), notification.append(new Error("'id' should not be empty")));
+                    } else if (!deletable.contains(CastMemberID.load(item.id()))) {
+                        results.notFound(index, item.id(), CastMember.class.getSimpleName());
+                    } else {
+                        deletes.add(new Pending<>(index, CastMemberID.load(item.id())));
+                    }
+                }
+            }
+        }
+
+        results.write(creates, this.castMemberGateway::createAll, it -> it.getId().getValue(), BulkItemStatus.CREATED);
+        results.write(updates, this.castMemberGateway::updateAll, it -> it.getId().getValue(), BulkItemStatus.UPDATED, CastMember.class.getSimpleName());
+        results.write(deletes, this.castMemberGateway::deleteAllByIds, CastMemberID::getValue, BulkItemStatus.DELETED);
+
+        return results.output();
+    }
+
+    private Map<String, CastMember> loadExisting(final List<BulkCastMemberItem> items) {
+        final var ids = items.stream()
+                .filter(it -> it.operation() == BulkOperation.UPDATE && it.id() != null)
+                .map(it -> CastMemberID.load(it.id()))
+                .distinct()
+                .toList();
+
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        return this.castMemberGateway.findAllByIds(ids).stream()
+                .collect(Collectors.toMap(it -> it.getId().getValue(), Function.identity(), (a, b) -> a));
+    }
+
+    private Set<CastMemberID> loadDeletable(final List<BulkCastMemberItem> items) {
+        final var ids = items.stream()
+                .filter(it -> it.operation() == BulkOperation.DELETE && it.id() != null && !it.id().isBlank())
+                .map(it -> CastMemberID.load(it.id()))
+                .distinct()
+                .toList();
+
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+
+        return new HashSet<>(this.castMemberGateway.existsByIds(ids));
+    }
+}
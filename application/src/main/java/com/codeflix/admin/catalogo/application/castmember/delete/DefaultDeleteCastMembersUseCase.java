@@ -0,0 +1,31 @@
+package com.codeflix.admin.catalogo.application.castmember.delete;
+
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberID;
+
+import java.util.List;
+import java.util.Objects;
+
+public non-sealed class DefaultDeleteCastMembersUseCase extends DeleteCastMembersUseCase {
+
+    private final CastMemberGateway castMemberGateway;
+
+    public DefaultDeleteCastMembersUseCase(final CastMemberGateway castMemberGateway) {
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+    }
+
+    @Override
+    public DeleteCastMembersOutput execute(final List<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return DeleteCastMembersOutput.from(0);
+        }
+
+        final var anIds = ids.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .map(CastMemberID::load)
+                .toList();
+
+        return DeleteCastMembersOutput.from(this.castMemberGateway.deleteAllByIds(anIds));
+    }
+}
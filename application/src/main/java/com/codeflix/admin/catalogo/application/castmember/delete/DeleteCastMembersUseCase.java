@@ -0,0 +1,10 @@
+package com.codeflix.admin.catalogo.application.castmember.delete;
+
+import com.codeflix.admin.catalogo.application.UseCase;
+
+import java.util.List;
+
+public sealed abstract class DeleteCastMembersUseCase
+        extends UseCase<List<String>, DeleteCastMembersOutput>
+        permits DefaultDeleteCastMembersUseCase {
+}
@@ -0,0 +1,21 @@
+package com.codeflix.admin.catalogo.application.castmember.retrieve.export;
+
+import com.codeflix.admin.catalogo.application.castmember.retrieve.list.CastMemberListOutput;
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberGateway;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+public non-sealed class DefaultExportCastMembersUseCase extends ExportCastMembersUseCase {
+
+    private final CastMemberGateway castMemberGateway;
+
+    public DefaultExportCastMembersUseCase(final CastMemberGateway castMemberGateway) {
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+    }
+
+    @Override
+    public void execute(final Consumer<CastMemberListOutput> aConsumer) {
+        this.castMemberGateway.exportAll(aMember -> aConsumer.accept(CastMemberListOutput.from(aMember)));
+    }
+}
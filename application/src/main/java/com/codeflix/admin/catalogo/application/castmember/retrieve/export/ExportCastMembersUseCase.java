@@ -0,0 +1,11 @@
+package com.codeflix.admin.catalogo.application.castmember.retrieve.export;
+
+import com.codeflix.admin.catalogo.application.UnitUseCase;
+import com.codeflix.admin.catalogo.application.castmember.retrieve.list.CastMemberListOutput;
+
+import java.util.function.Consumer;
+
+public sealed abstract class ExportCastMembersUseCase
+        extends UnitUseCase<Consumer<CastMemberListOutput>>
+        permits DefaultExportCastMembersUseCase {
+}
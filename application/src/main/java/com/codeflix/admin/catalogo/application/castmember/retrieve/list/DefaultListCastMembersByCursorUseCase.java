@@ -0,0 +1,22 @@
+package com.codeflix.admin.catalogo.application.castmember.retrieve.list;
+
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.codeflix.admin.catalogo.domain.pagination.CursorPagination;
+import com.codeflix.admin.catalogo.domain.pagination.CursorQuery;
+
+import java.util.Objects;
+
+public non-sealed class DefaultListCastMembersByCursorUseCase extends ListCastMembersByCursorUseCase {
+
+    private final CastMemberGateway castMemberGateway;
+
+    public DefaultListCastMembersByCursorUseCase(final CastMemberGateway castMemberGateway) {
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+    }
+
+    @Override
+    public CursorPagination<CastMemberListOutput> execute(final CursorQuery aQuery) {
+        return this.castMemberGateway.findAllByCursor(aQuery)
+                .map(CastMemberListOutput::from);
+    }
+}
@@ -0,0 +1,11 @@
+package com.codeflix.admin.catalogo.application.castmember.retrieve.list;
+
+import com.codeflix.admin.catalogo.application.UseCase;
+import com.codeflix.admin.catalogo.domain.pagination.CursorPagination;
+import com.codeflix.admin.catalogo.domain.pagination.CursorQuery;
+
+public sealed abstract class ListCastMembersByCursorUseCase
+        extends UseCase<CursorQuery, CursorPagination<CastMemberListOutput>>
+        permits DefaultListCastMembersByCursorUseCase {
+    public abstract CursorPagination<CastMemberListOutput> execute(CursorQuery aQuery);
+}
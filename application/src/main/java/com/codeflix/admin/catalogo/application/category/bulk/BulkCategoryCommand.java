@@ -0,0 +1,9 @@
+package com.codeflix.admin.catalogo.application.category.bulk;
+
+import java.util.List;
+
+public record BulkCategoryCommand(List<BulkCategoryItem> items) {
+    public static BulkCategoryCommand with(final List<BulkCategoryItem> items) {
+        return new BulkCategoryCommand(items == null ? List.of() : items);
+    }
+}
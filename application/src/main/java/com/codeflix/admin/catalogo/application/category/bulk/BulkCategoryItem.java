@@ -0,0 +1,21 @@
+package com.codeflix.admin.catalogo.application.category.bulk;
+
+import com.codeflix.admin.catalogo.application.bulk.BulkOperation;
+
+public record BulkCategoryItem(
+        BulkOperation operation,
+        String id,
+        String name,
+        String description,
+        boolean isActive
+) {
+    public static BulkCategoryItem with(
+            final BulkOperation anOperation,
+            final String anId,
+            final String aName,
+            final String aDescription,
+            final boolean isActive
+    ) {
+        return new BulkCategoryItem(anOperation, anId, aName, aDescription, isActive);
+    }
+}
@@ -0,0 +1,7 @@
+package com.codeflix.admin.catalogo.application.category.bulk;
+
+import com.codeflix.admin.catalogo.application.UseCase;
+import com.codeflix.admin.catalogo.application.bulk.BulkOutput;
+
+public abstract class BulkCategoryUseCase extends UseCase<BulkCategoryCommand, BulkOutput> {
+}
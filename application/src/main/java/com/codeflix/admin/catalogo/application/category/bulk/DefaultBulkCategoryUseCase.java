@@ -0,0 +1,127 @@
+package com.codeflix.admin.catalogo.application.category.bulk;
+
+import com.codeflix.admin.catalogo.application.bulk.BulkItemStatus;
+import com.codeflix.admin.catalogo.application.bulk.BulkOperation;
+import com.codeflix.admin.catalogo.application.bulk.BulkOutput;
+import com.codeflix.admin.catalogo.application.bulk.BulkResults;
+import com.codeflix.admin.catalogo.application.bulk.BulkResults.Pending;
+import com.codeflix.admin.catalogo.domain.category.Category;
+import com.codeflix.admin.catalogo.domain.category.CategoryGateway;
+import com.codeflix.admin.catalogo.domain.category.CategoryID;
+import com.codeflix.admin.catalogo.domain.validation.Error;
+import com.codeflix.admin.catalogo.domain.validation.handlers.Notification;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class DefaultBulkCategoryUseCase extends BulkCategoryUseCase {
+
+    private final CategoryGateway categoryGateway;
+    private final int chunkSize;
+
+    public DefaultBulkCategoryUseCase(final CategoryGateway categoryGateway) {
+        this(categoryGateway, BulkResults.DEFAULT_CHUNK_SIZE);
+    }
+
+    public DefaultBulkCategoryUseCase(final CategoryGateway categoryGateway, final int chunkSize) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public BulkOutput execute(final BulkCategoryCommand aCommand) {
+        final var items = aCommand.items();
+        final var results = new BulkResults(items.size(), chunkSize);
+        final var existing = loadExisting(items);
+        final var deletable = loadDeletable(items);
+
+        final var creates = new ArrayList<Pending<Category>>();
+        final var updates = new ArrayList<Pending<Category>>();
+        final var deletes = new ArrayList<Pending<CategoryID>>();
+
+        for (int index = 0; index < items.size(); index++) {
+            final var item = items.get(index);
+            final var notification = Notification.create();
+
+            if (item.operation() == null) {
+                results.invalid(index, item.id(), notification.append(new Error("'operation' should be one of create, update or delete")));
+                continue;
+            }
+
+            switch (item.operation()) {
+                case CREATE -> {
+                    final var aCategory = Category.createCategory(item.name(), item.description(), item.isActive());
+                    aCategory.validate(notification);
+                    if (notification.hasError()) {
+                        results.invalid(index, aCategory.getId().getValue(), notification);
+                    } else {
+                        creates.add(new Pending<>(index, aCategory));
+                    }
+                }
+                case UPDATE -> {
+                    final var aCategory = item.id() == null ? null : existing.get(item.id());
+                    if (aCategory == null) {
+                        results.notFound(index, item.id(), Category.class.getSimpleName());
+                        continue;
+                    }
+                    aCategory.update(item.name(), item.description(), item.isActive()).validate(notification);
+                    if (notification.hasError()) {
+                        results.invalid(index, item.id(), notification);
+                    } else {
+                        updates.add(new Pending<>(index, aCategory));
+                    }
+                }
+                case DELETE -> {
+                    if (item.id() == null || item.id().isBlank()) {
+                        results.invalid(index, item.id(), notification.append(new Error("'id' should not be empty")));
+                    } else if (!deletable.contains(CategoryID.load(item.id()))) {
+                        results.notFound(index, item.id(), Category.class.getSimpleName());
+                    } else {
+                        deletes.add(new Pending<>(index, CategoryID.load(item.id())));
+                    }
+                }
+            }
+        }
+
+        results.write(creates, this.categoryGateway::createAll, it -> it.getId().getValue(), BulkItemStatus.CREATED);
+        results.write(updates, this.categoryGateway::updateAll, it -> it.getId().getValue(), BulkItemStatus.UPDATED, Category.class.getSimpleName());
+        results.write(deletes, this.categoryGateway::deleteAllByIds, CategoryID::getValue, BulkItemStatus.DELETED);
+
+        return results.output();
+    }
+
+    private Map<String, Category> loadExisting(final List<BulkCategoryItem> items) {
+        final var ids = items.stream()
+                .filter(it -> it.operation() == BulkOperation.UPDATE && it.id() != null)
+                .map(it -> CategoryID.load(it.id()))
+                .distinct()
+                .toList();
+
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        return this.categoryGateway.findAllByIds(ids).stream()
+                .collect(Collectors.toMap(it -> it.getId().getValue(), Function.identity(), (a, b) -> a));
+    }
+
+    private Set<CategoryID> loadDeletable(final List<BulkCategoryItem> items) {
+        final var ids = items.stream()
+                .filter(it -> it.operation() == BulkOperation.DELETE && it.id() != null && !it.id().isBlank())
+                .map(it -> CategoryID.load(it.id()))
+                .distinct()
+                .toList();
+
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+
+        return new HashSet<>(this.categoryGateway.existsByIds(ids));
+    }
+}
@@ -0,0 +1,31 @@
+package com.codeflix.admin.catalogo.application.category.delete;
+
+import com.codeflix.admin.catalogo.domain.category.CategoryGateway;
+import com.codeflix.admin.catalogo.domain.category.CategoryID;
+
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultDeleteCategoriesUseCase extends DeleteCategoriesUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultDeleteCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public DeleteCategoriesOutput execute(final List<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return DeleteCategoriesOutput.from(0);
+        }
+
+        final var anIds = ids.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .map(CategoryID::load)
+                .toList();
+
+        return DeleteCategoriesOutput.from(this.categoryGateway.deleteAllByIds(anIds));
+    }
+}
@@ -0,0 +1,8 @@
+package com.codeflix.admin.catalogo.application.category.delete;
+
+import com.codeflix.admin.catalogo.application.UseCase;
+
+import java.util.List;
+
+public abstract class DeleteCategoriesUseCase extends UseCase<List<String>, DeleteCategoriesOutput> {
+}
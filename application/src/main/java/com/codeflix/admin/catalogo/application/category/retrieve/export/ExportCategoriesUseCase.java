@@ -0,0 +1,9 @@
+package com.codeflix.admin.catalogo.application.category.retrieve.export;
+
+import com.codeflix.admin.catalogo.application.UnitUseCase;
+import com.codeflix.admin.catalogo.application.category.retrieve.list.ListCategoriesOutput;
+
+import java.util.function.Consumer;
+
+public abstract class ExportCategoriesUseCase extends UnitUseCase<Consumer<ListCategoriesOutput>> {
+}
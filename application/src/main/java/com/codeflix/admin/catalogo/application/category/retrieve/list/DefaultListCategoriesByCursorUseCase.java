@@ -0,0 +1,20 @@
+package com.codeflix.admin.catalogo.application.category.retrieve.list;
+
+import com.codeflix.admin.catalogo.domain.category.CategoryGateway;
+import com.codeflix.admin.catalogo.domain.pagination.CursorPagination;
+import com.codeflix.admin.catalogo.domain.pagination.CursorQuery;
+
+import java.util.Objects;
+
+public class DefaultListCategoriesByCursorUseCase extends ListCategoriesByCursorUseCase {
+    private final CategoryGateway categoryGateway;
+
+    public DefaultListCategoriesByCursorUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public CursorPagination<ListCategoriesOutput> execute(final CursorQuery aQuery) {
+        return this.categoryGateway.findAllByCursor(aQuery).map(ListCategoriesOutput::create);
+    }
+}
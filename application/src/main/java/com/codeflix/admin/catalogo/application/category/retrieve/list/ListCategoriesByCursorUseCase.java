@@ -0,0 +1,8 @@
+package com.codeflix.admin.catalogo.application.category.retrieve.list;
+
+import com.codeflix.admin.catalogo.application.UseCase;
+import com.codeflix.admin.catalogo.domain.pagination.CursorPagination;
+import com.codeflix.admin.catalogo.domain.pagination.CursorQuery;
+
+public abstract class ListCategoriesByCursorUseCase extends UseCase<CursorQuery, CursorPagination<ListCategoriesOutput>> {
+}
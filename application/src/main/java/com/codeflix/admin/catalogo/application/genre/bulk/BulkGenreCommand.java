@@ -0,0 +1,9 @@
+package com.codeflix.admin.catalogo.application.genre.bulk;
+
+import java.util.List;
+
+public record BulkGenreCommand(List<BulkGenreItem> items) {
+    public static BulkGenreCommand with(final List<BulkGenreItem> items) {
+        return new BulkGenreCommand(items == null ? List.of() : items);
+    }
+}
@@ -0,0 +1,29 @@
+package com.codeflix.admin.catalogo.application.genre.bulk;
+
+import com.codeflix.admin.catalogo.application.bulk.BulkOperation;
+
+import java.util.List;
+
+public record BulkGenreItem(
+        BulkOperation operation,
+        String id,
+        String name,
+        boolean isActive,
+        List<String> categories
+) {
+    public static BulkGenreItem with(
+            final BulkOperation anOperation,
+            final String anId,
+            final String aName,
+            final Boolean isActive,
+            final List<String> categories
+    ) {
+        return new BulkGenreItem(
+                anOperation,
+                anId,
+                aName,
+                isActive != null ? isActive : true,
+                categories != null ? categories : List.of()
+        );
+    }
+}
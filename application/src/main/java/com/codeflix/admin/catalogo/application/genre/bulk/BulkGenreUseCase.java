@@ -0,0 +1,7 @@
+package com.codeflix.admin.catalogo.application.genre.bulk;
+
+import com.codeflix.admin.catalogo.application.UseCase;
+import com.codeflix.admin.catalogo.application.bulk.BulkOutput;
+
+public abstract class BulkGenreUseCase extends UseCase<BulkGenreCommand, BulkOutput> {
+}
@@ -0,0 +1,172 @@
+package com.codeflix.admin.catalogo.application.genre.bulk;
+
+import com.codeflix.admin.catalogo.application.bulk.BulkItemStatus;
+import com.codeflix.admin.catalogo.application.bulk.BulkOperation;
+import com.codeflix.admin.catalogo.application.bulk.BulkOutput;
+import com.codeflix.admin.catalogo.application.bulk.BulkResults;
+import com.codeflix.admin.catalogo.application.bulk.BulkResults.Pending;
+import com.codeflix.admin.catalogo.domain.category.CategoryGateway;
+import com.codeflix.admin.catalogo.domain.category.CategoryID;
+import com.codeflix.admin.catalogo.domain.genre.Genre;
+import com.codeflix.admin.catalogo.domain.genre.GenreGateway;
+import com.codeflix.admin.catalogo.domain.genre.GenreID;
+import com.codeflix.admin.catalogo.domain.validation.Error;
+import com.codeflix.admin.catalogo.domain.validation.handlers.Notification;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class DefaultBulkGenreUseCase extends BulkGenreUseCase {
+
+    private final CategoryGateway categoryGateway;
+    private final GenreGateway genreGateway;
+    private final int chunkSize;
+
+    public DefaultBulkGenreUseCase(final CategoryGateway categoryGateway, final GenreGateway genreGateway) {
+        this(categoryGateway, genreGateway, BulkResults.DEFAULT_CHUNK_SIZE);
+    }
+
+    public DefaultBulkGenreUseCase(
+            final CategoryGateway categoryGateway,
+            final GenreGateway genreGateway,
+            final int chunkSize
+    ) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public BulkOutput execute(final BulkGenreCommand aCommand) {
+        final var items = aCommand.items();
+        final var results = new BulkResults(items.size(), chunkSize);
+        final var existing = loadExisting(items);
+        final var deletable = loadDeletable(items);
+        final var knownCategories = loadCategories(items);
+
+        final var creates = new ArrayList<Pending<Genre>>();
+        final var updates = new ArrayList<Pending<Genre>>();
+        final var deletes = new ArrayList<Pending<GenreID>>();
+
+        for (int index = 0; index < items.size(); index++) {
+            final var item = items.get(index);
+            final var notification = Notification.create();
+
+            if (item.operation() == null) {
+                results.invalid(index, item.id(), notification.append(new Error("'operation' should be one of create, update or delete")));
+                continue;
+            }
+
+            switch (item.operation()) {
+                case CREATE -> {
+                    final var categories = toCategoryID(item.categories());
+                    validateCategories(categories, knownCategories, notification);
+                    final var aGenre = notification.validate(() -> Genre.createGenre(item.name(), item.isActive()));
+                    if (notification.hasError()) {
+                        results.invalid(index, aGenre != null ? aGenre.getId().getValue() : null, notification);
+                    } else {
+                        creates.add(new Pending<>(index, aGenre.addCategories(categories)));
+                    }
+                }
+                case UPDATE -> {
+                    final var aGenre = item.id() == null ? null : existing.get(item.id());
+                    if (aGenre == null) {
+                        results.notFound(index, item.id(), Genre.class.getSimpleName());
+                        continue;
+                    }
+                    final var categories = toCategoryID(item.categories());
+                    validateCategories(categories, knownCategories, notification);
+                    notification.validate(() -> aGenre.update(item.name(), item.isActive(), categories));
+                    if (notification.hasError()) {
+                        results.invalid(index, item.id(), notification);
+                    } else {
+                        updates.add(new Pending<>(index, aGenre));
+                    }
+                }
+                case DELETE -> {
+                    if (item.id() == null || item.id().isBlank()) {
+                        results.invalid(index, item.id(), notification.append(new Error("'id' should not be empty")));
+                    } else if (!deletable.contains(GenreID.load(item.id()))) {
+                        results.notFound(index, item.id(), Genre.class.getSimpleName());
+                    } else {
+                        deletes.add(new Pending<>(index, GenreID.load(item.id())));
+                    }
+                }
+            }
+        }
+
+        results.write(creates, this.genreGateway::createAll, it -> it.getId().getValue(), BulkItemStatus.CREATED);
+        results.write(updates, this.genreGateway::updateAll, it -> it.getId().getValue(), BulkItemStatus.UPDATED, Genre.class.getSimpleName());
+        results.write(deletes, this.genreGateway::deleteAllByIds, GenreID::getValue, BulkItemStatus.DELETED);
+
+        return results.output();
+    }
+
+    private Map<String, Genre> loadExisting(final List<BulkGenreItem> items) {
+        final var ids = items.stream()
+                .filter(it -> it.operation() == BulkOperation.UPDATE && it.id() != null)
+                .map(it -> GenreID.load(it.id()))
+                .distinct()
+                .toList();
+
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        return this.genreGateway.findAllByIds(ids).stream()
+                .collect(Collectors.toMap(it -> it.getId().getValue(), Function.identity(), (a, b) -> a));
+    }
+
+    private Set<GenreID> loadDeletable(final List<BulkGenreItem> items) {
+        final var ids = items.stream()
+                .filter(it -> it.operation() == BulkOperation.DELETE && it.id() != null && !it.id().isBlank())
+                .map(it -> GenreID.load(it.id()))
+                .distinct()
+                .toList();
+
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+
+        return new HashSet<>(this.genreGateway.existsByIds(ids));
+    }
+
+    private Set<CategoryID> loadCategories(final List<BulkGenreItem> items) {
+        final var ids = items.stream()
+                .filter(it -> it.operation() == BulkOperation.CREATE || it.operation() == BulkOperation.UPDATE)
+                .flatMap(it -> toCategoryID(it.categories()).stream())
+                .distinct()
+                .toList();
+
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+
+        return new HashSet<>(this.categoryGateway.existsByIds(ids));
+    }
+
+    private void validateCategories(
+            final List<CategoryID> categories,
+            final Set<CategoryID> knownCategories,
+            final Notification notification
+    ) {
+        final var missingIdsMessage = categories.stream()
+                .filter(it -> !knownCategories.contains(it))
+                .map(CategoryID::getValue)
+                .collect(Collectors.joining(", "));
+
+        if (!missingIdsMessage.isEmpty()) {
+            notification.append(new Error("Some categories could not be found: %s".formatted(missingIdsMessage)));
+        }
+    }
+
+    private List<CategoryID> toCategoryID(final List<String> categories) {
+        return categories == null ? List.of() : categories.stream().map(CategoryID::load).toList();
+    }
+}
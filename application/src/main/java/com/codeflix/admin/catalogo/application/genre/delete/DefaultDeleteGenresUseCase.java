@@ -0,0 +1,31 @@
+package com.codeflix.admin.catalogo.application.genre.delete;
+
+import com.codeflix.admin.catalogo.domain.genre.GenreGateway;
+import com.codeflix.admin.catalogo.domain.genre.GenreID;
+
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultDeleteGenresUseCase extends DeleteGenresUseCase {
+
+    private final GenreGateway genreGateway;
+
+    public DefaultDeleteGenresUseCase(final GenreGateway genreGateway) {
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+    }
+
+    @Override
+    public DeleteGenresOutput execute(final List<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return DeleteGenresOutput.from(0);
+        }
+
+        final var anIds = ids.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .map(GenreID::load)
+                .toList();
+
+        return DeleteGenresOutput.from(this.genreGateway.deleteAllByIds(anIds));
+    }
+}
@@ -0,0 +1,8 @@
+package com.codeflix.admin.catalogo.application.genre.delete;
+
+public record DeleteGenresOutput(int deleted) {
+
+    public static DeleteGenresOutput from(final int deleted) {
+        return new DeleteGenresOutput(deleted);
+    }
+}
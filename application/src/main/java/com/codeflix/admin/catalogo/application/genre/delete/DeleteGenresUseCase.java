@@ -0,0 +1,8 @@
+package com.codeflix.admin.catalogo.application.genre.delete;
+
+import com.codeflix.admin.catalogo.application.UseCase;
+
+import java.util.List;
+
+public abstract class DeleteGenresUseCase extends UseCase<List<String>, DeleteGenresOutput> {
+}
@@ -0,0 +1,21 @@
+package com.codeflix.admin.catalogo.application.genre.retrieve.export;
+
+import com.codeflix.admin.catalogo.application.genre.retrieve.list.ListGenreOutput;
+import com.codeflix.admin.catalogo.domain.genre.GenreGateway;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+public class DefaultExportGenresUseCase extends ExportGenresUseCase {
+
+    private final GenreGateway genreGateway;
+
+    public DefaultExportGenresUseCase(final GenreGateway genreGateway) {
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+    }
+
+    @Override
+    public void execute(final Consumer<ListGenreOutput> aConsumer) {
+        this.genreGateway.exportAll(aGenre -> aConsumer.accept(ListGenreOutput.create(aGenre)));
+    }
+}
@@ -0,0 +1,9 @@
+package com.codeflix.admin.catalogo.application.genre.retrieve.export;
+
+import com.codeflix.admin.catalogo.application.UnitUseCase;
+import com.codeflix.admin.catalogo.application.genre.retrieve.list.ListGenreOutput;
+
+import java.util.function.Consumer;
+
+public abstract class ExportGenresUseCase extends UnitUseCase<Consumer<ListGenreOutput>> {
+}
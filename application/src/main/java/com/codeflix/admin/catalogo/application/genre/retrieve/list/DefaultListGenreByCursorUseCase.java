@@ -0,0 +1,20 @@
+package com.codeflix.admin.catalogo.application.genre.retrieve.list;
+
+import com.codeflix.admin.catalogo.domain.genre.GenreGateway;
+import com.codeflix.admin.catalogo.domain.pagination.CursorPagination;
+import com.codeflix.admin.catalogo.domain.pagination.CursorQuery;
+
+import java.util.Objects;
+
+public class DefaultListGenreByCursorUseCase extends ListGenreByCursorUseCase {
+    private final GenreGateway genreGateway;
+
+    public DefaultListGenreByCursorUseCase(final GenreGateway genreGateway) {
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+    }
+
+    @Override
+    public CursorPagination<ListGenreOutput> execute(final CursorQuery aQuery) {
+        return this.genreGateway.findAllByCursor(aQuery).map(ListGenreOutput::create);
+    }
+}
@@ -0,0 +1,8 @@
+package com.codeflix.admin.catalogo.application.genre.retrieve.list;
+
+import com.codeflix.admin.catalogo.application.UseCase;
+import com.codeflix.admin.catalogo.domain.pagination.CursorPagination;
+import com.codeflix.admin.catalogo.domain.pagination.CursorQuery;
+
+abstract public class ListGenreByCursorUseCase extends UseCase<CursorQuery, CursorPagination<ListGenreOutput>> {
+}
@@ -0,0 +1,119 @@
+package com.codeflix.admin.catalogo.application.video;
+
+import com.codeflix.admin.catalogo.domain.Identifier;
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberID;
+import com.codeflix.admin.catalogo.domain.category.CategoryGateway;
+import com.codeflix.admin.catalogo.domain.category.CategoryID;
+import com.codeflix.admin.catalogo.domain.genre.GenreGateway;
+import com.codeflix.admin.catalogo.domain.genre.GenreID;
+import com.codeflix.admin.catalogo.domain.validation.Error;
+import com.codeflix.admin.catalogo.domain.validation.ValidationHandler;
+import com.codeflix.admin.catalogo.domain.validation.handlers.Notification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+public class VideoReferenceValidator {
+
+    private final CategoryGateway categoryGateway;
+    private final GenreGateway genreGateway;
+    private final CastMemberGateway castMemberGateway;
+    private final Executor executor;
+
+    public VideoReferenceValidator(
+            final CategoryGateway categoryGateway,
+            final GenreGateway genreGateway,
+            final CastMemberGateway castMemberGateway,
+            final Executor executor
+    ) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    public void validate(
+            final Set<CategoryID> categoryIds,
+            final Set<GenreID> genreIds,
+            final Set<CastMemberID> castMemberIds,
+            final ValidationHandler aHandler
+    ) {
+        validate(categoryIds, genreIds, castMemberIds, aHandler, () -> null);
+    }
+
+    public <T> T validate(
+            final Set<CategoryID> categoryIds,
+            final Set<GenreID> genreIds,
+            final Set<CastMemberID> castMemberIds,
+            final ValidationHandler aHandler,
+            final Supplier<T> aLoader
+    ) {
+        final var categories = check("categories", categoryIds, categoryGateway::existsByIds);
+        final var genres = check("genres", genreIds, genreGateway::existsByIds);
+        final var castMembers = check("cast members", castMemberIds, castMemberGateway::existsByIds);
+
+        final T loaded = aLoader.get();
+
+        aHandler.append(join(categories));
+        aHandler.append(join(genres));
+        aHandler.append(join(castMembers));
+
+        return loaded;
+    }
+
+    private <T extends Identifier> CompletableFuture<ValidationHandler> check(
+            final String aggregateName,
+            final Set<T> ids,
+            final Function<Iterable<T>, List<T>> existsByIds
+    ) {
+        if (ids == null || ids.isEmpty()) {
+            return CompletableFuture.completedFuture(Notification.create());
+        }
+
+        return CompletableFuture.supplyAsync(() -> missing(aggregateName, ids, existsByIds.apply(ids)), executor);
+    }
+
+    private static <T extends Identifier> ValidationHandler missing(
+            final String aggregateName,
+            final Set<T> ids,
+            final List<T> existingIds
+    ) {
+        final Notification notification = Notification.create();
+
+        if (ids.size() != existingIds.size()) {
+            final List<T> missingIds = new ArrayList<>(ids);
+            missingIds.removeAll(existingIds);
+
+            final String missingIdsMessage = missingIds.stream()
+                    .map(Identifier::getValue)
+                    .collect(Collectors.joining(", "));
+
+            notification.append(new Error("Some %s could not be found: %s".formatted(aggregateName, missingIdsMessage)));
+        }
+
+        return notification;
+    }
+
+    private static <T> T join(final CompletableFuture<T> aFuture) {
+        try {
+            return aFuture.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            if (e.getCause() instanceof java.lang.Error err) {
+                throw err;
+            }
+            throw e;
+        }
+    }
+}
@@ -1,46 +1,35 @@
 package com.codeflix.admin.catalogo.application.video.create;
 
-import com.codeflix.admin.catalogo.domain.Identifier;
-import com.codeflix.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.codeflix.admin.catalogo.application.video.VideoReferenceValidator;
 import com.codeflix.admin.catalogo.domain.castmember.CastMemberID;
-import com.codeflix.admin.catalogo.domain.category.CategoryGateway;
 import com.codeflix.admin.catalogo.domain.category.CategoryID;
 import com.codeflix.admin.catalogo.domain.exceptions.DomainException;
 import com.codeflix.admin.catalogo.domain.exceptions.InternalErrorException;
 import com.codeflix.admin.catalogo.domain.exceptions.NotificationException;
-import com.codeflix.admin.catalogo.domain.genre.GenreGateway;
 import com.codeflix.admin.catalogo.domain.genre.GenreID;
 import com.codeflix.admin.catalogo.domain.validation.Error;
-import com.codeflix.admin.catalogo.domain.validation.ValidationHandler;
 import com.codeflix.admin.catalogo.domain.validation.handlers.Notification;
 import com.codeflix.admin.catalogo.domain.video.*;
 
 import java.time.Year;
 import java.util.*;
-import java.util.function.Function;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class DefaultCreateVideoUseCase extends CreateVideoUseCase{
 
-    private final CategoryGateway categoryGateway;
-    private final GenreGateway genreGateway;
-    private final CastMemberGateway castMemberGateway;
+    private final VideoReferenceValidator referenceValidator;
     private final VideoGateway videoGateway;
-    private final MediaResourceGateway mediaResourceGateway;
+    private final MediaProcessingGateway mediaProcessingGateway;
 
     public DefaultCreateVideoUseCase(
-            final CategoryGateway categoryGateway,
-            final GenreGateway genreGateway,
-            final CastMemberGateway castMemberGateway,
+            final VideoReferenceValidator referenceValidator,
             final VideoGateway videoGateway,
-            final MediaResourceGateway mediaResourceGateway
+            final MediaProcessingGateway mediaProcessingGateway
     ) {
-        this.categoryGateway = Objects.requireNonNull(categoryGateway);
-        this.genreGateway = Objects.requireNonNull(genreGateway);
-        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+        this.referenceValidator = Objects.requireNonNull(referenceValidator);
         this.videoGateway = Objects.requireNonNull(videoGateway);
-        this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+        this.mediaProcessingGateway = Objects.requireNonNull(mediaProcessingGateway);
     }
 
     @Override
@@ -53,9 +42,7 @@ public class DefaultCreateVideoUseCase extends CreateVideoUseCase{
         final Set<CastMemberID> castMemberIds = new HashSet<>(aCommand.castMembers().stream().map(CastMemberID::load).toList());
 
         final var notification = Notification.create();
-        notification.append(validateCategories(categoryIds));
-        notification.append(validateGenres(genreIds));
-        notification.append(validateCastMembers(castMemberIds));
+        referenceValidator.validate(categoryIds, genreIds, castMemberIds, notification);
 
         Video video = Video.create(
                 aCommand.title(),
@@ -85,77 +72,38 @@ public class DefaultCreateVideoUseCase extends CreateVideoUseCase{
         return () -> DomainException.raise(new Error("Rating not found %s".formatted(rating)));
     }
 
-    private ValidationHandler validateCategories(final Set<CategoryID> categoryIds) {
-        return validateAggregate("categories", categoryIds, categoryGateway::existsByIds);
-    }
-
-    private ValidationHandler validateGenres(final Set<GenreID> genreIds) {
-        return validateAggregate("genres", genreIds, genreGateway::existsByIds);
-    }
-
-    private ValidationHandler validateCastMembers(final Set<CastMemberID> castMemberIds) {
-        return validateAggregate("cast members", castMemberIds, castMemberGateway::existsByIds);
-    }
-
-    private <T extends Identifier> ValidationHandler validateAggregate(
-            final String aggregateName,
-            final Set<T> ids,
-            final Function<Iterable<T>, List<T>> existsByIds
-    ){
-        final Notification notification = Notification.create();
-        if (ids == null || ids.isEmpty()) {
-            return notification;
-        }
-
-        final List<T> existingIds = existsByIds.apply(ids);
-
-        if (ids.size() != existingIds.size()) {
-            final List<T> missingIds = new ArrayList<>(ids);
-            missingIds.removeAll(existingIds);
-
-            final String missingIdsMessage = missingIds.stream()
-                    .map(Identifier::getValue)
-                    .collect(Collectors.joining(", "));
-
-            notification.append(new Error("Some %s could not be found: %s".formatted(aggregateName, missingIdsMessage)));
-        }
-
-        return notification;
-    }
-
     private Video create(final CreateVideoCommand command, final Video aVideo) {
         final var videoId = aVideo.getId();
+        final var resources = Stream.of(
+                command.getVideo(),
+                command.getTrailer(),
+                command.getBanner(),
+                command.getThumbnail(),
+                command.getThumbnailHalf()
+        ).flatMap(Optional::stream).toList();
+
+        aVideo.setVideo(command.getVideo().map(it -> AudioVideoMedia.pending(it.getName())).orElse(null))
+                .setTrailer(command.getTrailer().map(it -> AudioVideoMedia.pending(it.getName())).orElse(null))
+                .setBanner(command.getBanner().map(it -> ImageMedia.pending(it.getName())).orElse(null))
+                .setThumbnail(command.getThumbnail().map(it -> ImageMedia.pending(it.getName())).orElse(null))
+                .setThumbnailHalf(command.getThumbnailHalf().map(it -> ImageMedia.pending(it.getName())).orElse(null));
+
+        final Video created;
         try {
+            created = this.videoGateway.create(aVideo);
+        } catch (final Throwable t) {
+            throw InternalErrorException.with("An error on create video was observed [videoId:%s]".formatted(videoId.getValue()), t);
+        }
 
-            final var audioVideoMedia = command.getVideo()
-                    .map(it -> this.mediaResourceGateway.storeAudioVideo(videoId, it))
-                    .orElse(null);
-
-            final var trailerMedia = command.getTrailer()
-                    .map(it -> this.mediaResourceGateway.storeAudioVideo(videoId, it))
-                    .orElse(null);
-
-            final var bannerMedia = command.getBanner()
-                    .map(it -> this.mediaResourceGateway.storeImage(videoId, it))
-                    .orElse(null);
-
-            final var thumbnailMedia = command.getThumbnail()
-                    .map(it -> this.mediaResourceGateway.storeImage(videoId, it))
-                    .orElse(null);
-
-            final var thumbnailHalfMedia = command.getThumbnailHalf()
-                    .map(it -> this.mediaResourceGateway.storeImage(videoId, it))
-                    .orElse(null);
-
-            aVideo.setVideo(audioVideoMedia)
-                    .setTrailer(trailerMedia)
-                    .setBanner(bannerMedia)
-                    .setThumbnail(thumbnailMedia)
-                    .setThumbnailHalf(thumbnailHalfMedia);
+        if (resources.isEmpty()) {
+            return created;
+        }
 
-            return this.videoGateway.create(aVideo);
+        try {
+            this.mediaProcessingGateway.process(videoId, resources);
+            return created;
         } catch (final Throwable t) {
-            this.mediaResourceGateway.clearResources(videoId);
+            this.videoGateway.deleteById(videoId);
             throw InternalErrorException.with("An error on create video was observed [videoId:%s]".formatted(videoId.getValue()), t);
         }
     }
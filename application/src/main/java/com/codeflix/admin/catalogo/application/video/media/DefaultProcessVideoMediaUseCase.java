@@ -0,0 +1,210 @@
+package com.codeflix.admin.catalogo.application.video.media;
+
+import com.codeflix.admin.catalogo.domain.exceptions.ConflictException;
+import com.codeflix.admin.catalogo.domain.exceptions.InternalErrorException;
+import com.codeflix.admin.catalogo.domain.exceptions.NotFoundException;
+import com.codeflix.admin.catalogo.domain.video.AudioVideoMedia;
+import com.codeflix.admin.catalogo.domain.video.MediaResourceGateway;
+import com.codeflix.admin.catalogo.domain.video.Resource;
+import com.codeflix.admin.catalogo.domain.video.Video;
+import com.codeflix.admin.catalogo.domain.video.VideoGateway;
+import com.codeflix.admin.catalogo.domain.video.VideoID;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+public class DefaultProcessVideoMediaUseCase extends ProcessVideoMediaUseCase {
+
+    private static final int MAX_MODIFY_ATTEMPTS = 3;
+
+    private final VideoGateway videoGateway;
+    private final MediaResourceGateway mediaResourceGateway;
+    private final Executor storageExecutor;
+
+    public DefaultProcessVideoMediaUseCase(
+            final VideoGateway videoGateway,
+            final MediaResourceGateway mediaResourceGateway,
+            final Executor storageExecutor
+    ) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+        this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+        this.storageExecutor = Objects.requireNonNull(storageExecutor);
+    }
+
+    @Override
+    public void execute(final ProcessVideoMediaCommand aCommand) {
+        final var videoId = VideoID.from(aCommand.videoId());
+        final var resources = aCommand.resources();
+
+        modify(videoId, video -> resources.forEach(it -> markAsProcessing(video, it.getType())));
+
+        try {
+            final var stored = storeAll(videoId, resources);
+            final var discarded = new ArrayList<Resource.Type>();
+            modify(videoId, video -> {
+                discarded.clear();
+                stored.forEach(it -> {
+                    if (video.hasPendingMedia(it.type())) {
+                        it.apply().accept(video);
+                    } else {
+                        discarded.add(it.type());
+                    }
+                });
+            });
+            discarded.forEach(it -> this.mediaResourceGateway.release(videoId, it));
+        } catch (final Throwable t) {
+            resources.forEach(it -> this.mediaResourceGateway.release(videoId, it.getType()));
+            modify(videoId, video -> resources.forEach(it -> video.removeMedia(it.getType())));
+            throw InternalErrorException.with("An error on process video media was observed [videoId:%s]".formatted(videoId.getValue()), t);
+        }
+    }
+
+    private List<StoredMedia> storeAll(final VideoID anId, final List<Resource> resources) throws Throwable {
+        final CompletionService<StoredMedia> completion = new ExecutorCompletionService<>(this.storageExecutor);
+        final var tasks = resources.stream().map(it -> new StoreTask(() -> store(anId, it))).toList();
+
+        try {
+            for (final var task : tasks) {
+                task.future = completion.submit(task::call);
+            }
+
+            final var stored = new ArrayList<StoredMedia>(tasks.size());
+            for (int i = 0; i < tasks.size(); i++) {
+                stored.add(completion.take().get());
+            }
+            return stored;
+        } catch (final ExecutionException e) {
+            cancelAll(tasks);
+            throw e.getCause();
+        } catch (final Throwable t) {
+            cancelAll(tasks);
+            throw t;
+        }
+    }
+
+    private static void cancelAll(final List<StoreTask> tasks) {
+        tasks.forEach(StoreTask::cancel);
+
+        var interrupted = false;
+        for (final var task : tasks) {
+            while (true) {
+                try {
+                    task.done.await();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private StoredMedia store(final VideoID anId, final Resource aResource) {
+        final var type = aResource.getType();
+        return new StoredMedia(type, switch (type) {
+            case VIDEO -> {
+                final var media = this.mediaResourceGateway.storeAudioVideo(anId, aResource).completed();
+                yield video -> video.setVideo(media);
+            }
+            case TRAILER -> {
+                final var media = this.mediaResourceGateway.storeAudioVideo(anId, aResource).completed();
+                yield video -> video.setTrailer(media);
+            }
+            case BANNER -> {
+                final var media = this.mediaResourceGateway.storeImage(anId, aResource);
+                yield video -> video.setBanner(media);
+            }
+            case THUMBNAIL -> {
+                final var media = this.mediaResourceGateway.storeImage(anId, aResource);
+                yield video -> video.setThumbnail(media);
+            }
+            case THUMBNAIL_HALF -> {
+                final var media = this.mediaResourceGateway.storeImage(anId, aResource);
+                yield video -> video.setThumbnailHalf(media);
+            }
+        });
+    }
+
+    /**
+     * Applies the change to a fresh read of the video. A request thread may write the same video between the
+     * read and the update; the update is then rejected as a conflict and the change is applied again on top of
+     * what that request stored, so neither write is lost.
+     */
+    private void modify(final VideoID anId, final Consumer<Video> aChange) {
+        for (int attempt = 1; ; attempt++) {
+            final var video = this.videoGateway.findById(anId)
+                    .orElseThrow(() -> NotFoundException.raise(Video.class, anId));
+            aChange.accept(video);
+            try {
+                this.videoGateway.update(video);
+                return;
+            } catch (final ConflictException e) {
+                if (attempt >= MAX_MODIFY_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private static void markAsProcessing(final Video aVideo, final Resource.Type aType) {
+        switch (aType) {
+            case VIDEO -> aVideo.getVideo().map(AudioVideoMedia::processing).ifPresent(aVideo::setVideo);
+            case TRAILER -> aVideo.getTrailer().map(AudioVideoMedia::processing).ifPresent(aVideo::setTrailer);
+            default -> {
+            }
+        }
+    }
+
+    private static final class StoreTask {
+
+        private final Supplier<StoredMedia> work;
+        private final AtomicBoolean started = new AtomicBoolean();
+        private final CountDownLatch done = new CountDownLatch(1);
+        private Future<StoredMedia> future;
+
+        private StoreTask(final Supplier<StoredMedia> work) {
+            this.work = work;
+        }
+
+        private StoredMedia call() {
+            if (!this.started.compareAndSet(false, true)) {
+                throw new CancellationException();
+            }
+            try {
+                return this.work.get();
+            } finally {
+                this.done.countDown();
+            }
+        }
+
+        private void cancel() {
+            if (this.started.compareAndSet(false, true)) {
+                this.done.countDown();
+            }
+            if (this.future != null) {
+                this.future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * A stored file and the change that points the video at it. The change is only applied while the video
+     * still holds pending media of that type; a newer job or an edit may have replaced or removed it meanwhile.
+     */
+    private record StoredMedia(Resource.Type type, Consumer<Video> apply) {
+    }
+}
@@ -0,0 +1,59 @@
+package com.codeflix.admin.catalogo.application.video.media;
+
+import com.codeflix.admin.catalogo.domain.exceptions.ConflictException;
+import com.codeflix.admin.catalogo.domain.video.MediaResourceGateway;
+import com.codeflix.admin.catalogo.domain.video.Resource;
+import com.codeflix.admin.catalogo.domain.video.VideoGateway;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Fails the media of jobs that were queued or running when the previous process stopped. Those jobs only
+ * lived in memory, so their media would otherwise stay PENDING or PROCESSING forever. Each such media is
+ * detached from its video and whatever was already stored for it is released.
+ */
+public class DefaultRecoverVideoMediaUseCase extends RecoverVideoMediaUseCase {
+
+    private final VideoGateway videoGateway;
+    private final MediaResourceGateway mediaResourceGateway;
+
+    public DefaultRecoverVideoMediaUseCase(
+            final VideoGateway videoGateway,
+            final MediaResourceGateway mediaResourceGateway
+    ) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+        this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+    }
+
+    @Override
+    public Integer execute() {
+        var recovered = 0;
+
+        for (final var anId : this.videoGateway.findIdsWithPendingMedia()) {
+            final var aVideo = this.videoGateway.findById(anId).orElse(null);
+            if (aVideo == null) {
+                continue;
+            }
+
+            final var pending = Arrays.stream(Resource.Type.values())
+                    .filter(aVideo::hasPendingMedia)
+                    .toList();
+            if (pending.isEmpty()) {
+                continue;
+            }
+
+            pending.forEach(aVideo::removeMedia);
+            try {
+                this.videoGateway.update(aVideo);
+            } catch (final ConflictException e) {
+                // written since it was read, so its media no longer belongs to a lost job
+                continue;
+            }
+            pending.forEach(it -> this.mediaResourceGateway.release(anId, it));
+            recovered++;
+        }
+
+        return recovered;
+    }
+}
@@ -0,0 +1,15 @@
+package com.codeflix.admin.catalogo.application.video.media;
+
+import com.codeflix.admin.catalogo.domain.video.Resource;
+
+import java.util.List;
+
+public record ProcessVideoMediaCommand(
+        String videoId,
+        List<Resource> resources
+) {
+
+    public static ProcessVideoMediaCommand with(final String videoId, final List<Resource> resources) {
+        return new ProcessVideoMediaCommand(videoId, resources);
+    }
+}
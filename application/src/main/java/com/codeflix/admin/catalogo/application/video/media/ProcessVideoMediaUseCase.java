@@ -0,0 +1,6 @@
+package com.codeflix.admin.catalogo.application.video.media;
+
+import com.codeflix.admin.catalogo.application.UnitUseCase;
+
+public abstract class ProcessVideoMediaUseCase extends UnitUseCase<ProcessVideoMediaCommand> {
+}
@@ -0,0 +1,6 @@
+package com.codeflix.admin.catalogo.application.video.media;
+
+import com.codeflix.admin.catalogo.application.NullaryUseCase;
+
+public abstract class RecoverVideoMediaUseCase extends NullaryUseCase<Integer> {
+}
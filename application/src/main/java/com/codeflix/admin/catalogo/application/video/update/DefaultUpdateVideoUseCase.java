@@ -1,46 +1,35 @@
 package com.codeflix.admin.catalogo.application.video.update;
 
-import com.codeflix.admin.catalogo.domain.Identifier;
-import com.codeflix.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.codeflix.admin.catalogo.application.video.VideoReferenceValidator;
 import com.codeflix.admin.catalogo.domain.castmember.CastMemberID;
-import com.codeflix.admin.catalogo.domain.category.CategoryGateway;
 import com.codeflix.admin.catalogo.domain.category.CategoryID;
+import com.codeflix.admin.catalogo.domain.exceptions.ConflictException;
 import com.codeflix.admin.catalogo.domain.exceptions.InternalErrorException;
 import com.codeflix.admin.catalogo.domain.exceptions.NotFoundException;
 import com.codeflix.admin.catalogo.domain.exceptions.NotificationException;
-import com.codeflix.admin.catalogo.domain.genre.GenreGateway;
 import com.codeflix.admin.catalogo.domain.genre.GenreID;
 import com.codeflix.admin.catalogo.domain.utils.CollectionUtils;
-import com.codeflix.admin.catalogo.domain.validation.Error;
-import com.codeflix.admin.catalogo.domain.validation.ValidationHandler;
 import com.codeflix.admin.catalogo.domain.validation.handlers.Notification;
 import com.codeflix.admin.catalogo.domain.video.*;
 
 import java.time.Year;
 import java.util.*;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class DefaultUpdateVideoUseCase extends UpdateVideoUseCase{
 
-    private final CategoryGateway categoryGateway;
-    private final GenreGateway genreGateway;
-    private final CastMemberGateway castMemberGateway;
+    private final VideoReferenceValidator referenceValidator;
     private final VideoGateway videoGateway;
-    private final MediaResourceGateway mediaResourceGateway;
+    private final MediaProcessingGateway mediaProcessingGateway;
 
     public DefaultUpdateVideoUseCase(
-            final CategoryGateway categoryGateway,
-            final GenreGateway genreGateway,
-            final CastMemberGateway castMemberGateway,
+            final VideoReferenceValidator referenceValidator,
             final VideoGateway videoGateway,
-            final MediaResourceGateway mediaResourceGateway
+            final MediaProcessingGateway mediaProcessingGateway
     ) {
-        this.categoryGateway = Objects.requireNonNull(categoryGateway);
-        this.genreGateway = Objects.requireNonNull(genreGateway);
-        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+        this.referenceValidator = Objects.requireNonNull(referenceValidator);
         this.videoGateway = Objects.requireNonNull(videoGateway);
-        this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+        this.mediaProcessingGateway = Objects.requireNonNull(mediaProcessingGateway);
     }
 
     @Override
@@ -54,12 +43,14 @@ public class DefaultUpdateVideoUseCase extends UpdateVideoUseCase{
         final Set<CastMemberID> castMemberIds = CollectionUtils.toSet(command.castMembers(), CastMemberID::load);
 
         final var notification = Notification.create();
-        notification.append(validateCategories(categoryIds));
-        notification.append(validateGenres(genreIds));
-        notification.append(validateCastMembers(castMemberIds));
-
-        final Video video = videoGateway.findById(videoId)
-                .orElseThrow(() -> NotFoundException.raise(Video.class, videoId));
+        final Video video = referenceValidator.validate(
+                categoryIds,
+                genreIds,
+                castMemberIds,
+                notification,
+                () -> videoGateway.findById(videoId)
+        ).orElseThrow(() -> NotFoundException.raise(Video.class, videoId));
+        final var previous = Video.from(video);
 
         video.update(
                 command.title(),
@@ -80,82 +71,54 @@ public class DefaultUpdateVideoUseCase extends UpdateVideoUseCase{
             throw new NotificationException("Could not update Aggregate video", notification);
         }
 
-        update(command, video);
+        update(command, video, previous);
 
         return UpdateVideoOutput.from(video);
     }
 
-    private ValidationHandler validateCategories(final Set<CategoryID> categoryIds) {
-        return validateAggregate("categories", categoryIds, categoryGateway::existsByIds);
-    }
-
-    private ValidationHandler validateGenres(final Set<GenreID> genreIds) {
-        return validateAggregate("genres", genreIds, genreGateway::existsByIds);
-    }
-
-    private ValidationHandler validateCastMembers(final Set<CastMemberID> castMemberIds) {
-        return validateAggregate("cast members", castMemberIds, castMemberGateway::existsByIds);
-    }
-
-    private Video update(final UpdateVideoCommand command, final Video aVideo) {
+    private Video update(final UpdateVideoCommand command, final Video aVideo, final Video previous) {
         final var videoId = aVideo.getId();
+        final var resources = Stream.of(
+                command.getVideo(),
+                command.getTrailer(),
+                command.getBanner(),
+                command.getThumbnail(),
+                command.getThumbnailHalf()
+        ).flatMap(Optional::stream).toList();
+
+        aVideo.setVideo(command.getVideo().map(it -> AudioVideoMedia.pending(it.getName())).orElse(null))
+                .setTrailer(command.getTrailer().map(it -> AudioVideoMedia.pending(it.getName())).orElse(null))
+                .setBanner(command.getBanner().map(it -> ImageMedia.pending(it.getName())).orElse(null))
+                .setThumbnail(command.getThumbnail().map(it -> ImageMedia.pending(it.getName())).orElse(null))
+                .setThumbnailHalf(command.getThumbnailHalf().map(it -> ImageMedia.pending(it.getName())).orElse(null));
+
+        final Video updated;
         try {
-
-            final var audioVideoMedia = command.getVideo()
-                    .map(it -> this.mediaResourceGateway.storeAudioVideo(videoId, it))
-                    .orElse(null);
-
-            final var trailerMedia = command.getTrailer()
-                    .map(it -> this.mediaResourceGateway.storeAudioVideo(videoId, it))
-                    .orElse(null);
-
-            final var bannerMedia = command.getBanner()
-                    .map(it -> this.mediaResourceGateway.storeImage(videoId, it))
-                    .orElse(null);
-
-            final var thumbnailMedia = command.getThumbnail()
-                    .map(it -> this.mediaResourceGateway.storeImage(videoId, it))
-                    .orElse(null);
-
-            final var thumbnailHalfMedia = command.getThumbnailHalf()
-                    .map(it -> this.mediaResourceGateway.storeImage(videoId, it))
-                    .orElse(null);
-
-            aVideo.setVideo(audioVideoMedia)
-                    .setTrailer(trailerMedia)
-                    .setBanner(bannerMedia)
-                    .setThumbnail(thumbnailMedia)
-                    .setThumbnailHalf(thumbnailHalfMedia);
-
-            return this.videoGateway.update(aVideo);
+            updated = this.videoGateway.update(aVideo);
+        } catch (final ConflictException e) {
+            throw e;
         } catch (final Throwable t) {
             throw InternalErrorException.with("An error on update video was observed [videoId:%s]".formatted(videoId.getValue()), t);
         }
-    }
 
-    private <T extends Identifier> ValidationHandler validateAggregate(
-            final String aggregateName,
-            final Set<T> ids,
-            final Function<Iterable<T>, List<T>> existsByIds
-    ){
-        final Notification notification = Notification.create();
-        if (ids == null || ids.isEmpty()) {
-            return notification;
+        if (resources.isEmpty()) {
+            return updated;
         }
 
-        final List<T> existingIds = existsByIds.apply(ids);
-
-        if (ids.size() != existingIds.size()) {
-            final List<T> missingIds = new ArrayList<>(ids);
-            missingIds.removeAll(existingIds);
-
-            final String missingIdsMessage = missingIds.stream()
-                    .map(Identifier::getValue)
-                    .collect(Collectors.joining(", "));
-
-            notification.append(new Error("Some %s could not be found: %s".formatted(aggregateName, missingIdsMessage)));
+        try {
+            this.mediaProcessingGateway.process(videoId, resources);
+            return updated;
+        } catch (final Throwable t) {
+            revert(previous.setVersion(updated.getVersion()));
+            throw InternalErrorException.with("An error on update video was observed [videoId:%s]".formatted(videoId.getValue()), t);
         }
+    }
 
-        return notification;
+    private void revert(final Video previous) {
+        try {
+            this.videoGateway.update(previous);
+        } catch (final ConflictException ignored) {
+            // a newer write already replaced the one being reverted
+        }
     }
 }
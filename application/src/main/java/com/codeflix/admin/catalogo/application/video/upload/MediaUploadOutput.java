@@ -0,0 +1,28 @@
+package com.codeflix.admin.catalogo.application.video.upload;
+
+import com.codeflix.admin.catalogo.domain.video.MediaUpload;
+
+import java.util.List;
+
+public record MediaUploadOutput(
+        String id,
+        String videoId,
+        String type,
+        long length,
+        long received,
+        boolean complete,
+        List<MediaUpload.ByteRange> ranges
+) {
+
+    public static MediaUploadOutput from(final MediaUpload anUpload) {
+        return new MediaUploadOutput(
+                anUpload.id(),
+                anUpload.videoId().getValue(),
+                anUpload.type().name(),
+                anUpload.length(),
+                anUpload.receivedBytes(),
+                anUpload.isComplete(),
+                anUpload.received()
+        );
+    }
+}
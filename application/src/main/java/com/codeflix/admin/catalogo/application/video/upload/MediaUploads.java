@@ -0,0 +1,17 @@
+package com.codeflix.admin.catalogo.application.video.upload;
+
+import com.codeflix.admin.catalogo.domain.exceptions.NotFoundException;
+import com.codeflix.admin.catalogo.domain.validation.Error;
+import com.codeflix.admin.catalogo.domain.video.MediaUpload;
+import com.codeflix.admin.catalogo.domain.video.MediaUploadGateway;
+
+public final class MediaUploads {
+
+    private MediaUploads() {
+    }
+
+    public static MediaUpload find(final MediaUploadGateway aGateway, final String anId) {
+        return aGateway.findById(anId)
+                .orElseThrow(() -> NotFoundException.with(new Error("Upload with ID %s was not found".formatted(anId))));
+    }
+}
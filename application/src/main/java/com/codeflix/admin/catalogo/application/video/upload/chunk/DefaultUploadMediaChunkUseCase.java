@@ -0,0 +1,40 @@
+package com.codeflix.admin.catalogo.application.video.upload.chunk;
+
+import com.codeflix.admin.catalogo.application.video.upload.MediaUploadOutput;
+import com.codeflix.admin.catalogo.application.video.upload.MediaUploads;
+import com.codeflix.admin.catalogo.domain.exceptions.DomainException;
+import com.codeflix.admin.catalogo.domain.validation.Error;
+import com.codeflix.admin.catalogo.domain.video.MediaUploadGateway;
+
+import java.util.Objects;
+
+public class DefaultUploadMediaChunkUseCase extends UploadMediaChunkUseCase {
+
+    private final MediaUploadGateway mediaUploadGateway;
+
+    public DefaultUploadMediaChunkUseCase(final MediaUploadGateway mediaUploadGateway) {
+        this.mediaUploadGateway = Objects.requireNonNull(mediaUploadGateway);
+    }
+
+    @Override
+    public MediaUploadOutput execute(final UploadMediaChunkCommand aCommand) {
+        final var anUpload = MediaUploads.find(this.mediaUploadGateway, aCommand.uploadId());
+
+        if (aCommand.offset() < 0 || aCommand.length() <= 0 || aCommand.offset() + aCommand.length() > anUpload.length()) {
+            throw DomainException.raise(new Error(
+                    "Chunk [%d, %d) is outside the upload of %d bytes".formatted(
+                            aCommand.offset(),
+                            aCommand.offset() + aCommand.length(),
+                            anUpload.length()
+                    )
+            ));
+        }
+
+        return MediaUploadOutput.from(this.mediaUploadGateway.write(
+                anUpload.id(),
+                aCommand.offset(),
+                aCommand.length(),
+                aCommand.content()
+        ));
+    }
+}
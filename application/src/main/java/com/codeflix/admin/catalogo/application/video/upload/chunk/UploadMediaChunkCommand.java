@@ -0,0 +1,20 @@
+package com.codeflix.admin.catalogo.application.video.upload.chunk;
+
+import com.codeflix.admin.catalogo.domain.video.Resource;
+
+public record UploadMediaChunkCommand(
+        String uploadId,
+        long offset,
+        long length,
+        Resource.Content content
+) {
+
+    public static UploadMediaChunkCommand with(
+            final String uploadId,
+            final long offset,
+            final long length,
+            final Resource.Content content
+    ) {
+        return new UploadMediaChunkCommand(uploadId, offset, length, content);
+    }
+}
@@ -0,0 +1,7 @@
+package com.codeflix.admin.catalogo.application.video.upload.chunk;
+
+import com.codeflix.admin.catalogo.application.UseCase;
+import com.codeflix.admin.catalogo.application.video.upload.MediaUploadOutput;
+
+public abstract class UploadMediaChunkUseCase extends UseCase<UploadMediaChunkCommand, MediaUploadOutput> {
+}
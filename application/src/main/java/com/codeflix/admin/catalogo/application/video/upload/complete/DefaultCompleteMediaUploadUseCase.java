@@ -0,0 +1,92 @@
+package com.codeflix.admin.catalogo.application.video.upload.complete;
+
+import com.codeflix.admin.catalogo.application.video.upload.MediaUploadOutput;
+import com.codeflix.admin.catalogo.application.video.upload.MediaUploads;
+import com.codeflix.admin.catalogo.domain.exceptions.ConflictException;
+import com.codeflix.admin.catalogo.domain.exceptions.DomainException;
+import com.codeflix.admin.catalogo.domain.exceptions.InternalErrorException;
+import com.codeflix.admin.catalogo.domain.exceptions.NotFoundException;
+import com.codeflix.admin.catalogo.domain.validation.Error;
+import com.codeflix.admin.catalogo.domain.video.AudioVideoMedia;
+import com.codeflix.admin.catalogo.domain.video.MediaProcessingGateway;
+import com.codeflix.admin.catalogo.domain.video.MediaUploadGateway;
+import com.codeflix.admin.catalogo.domain.video.Resource;
+import com.codeflix.admin.catalogo.domain.video.Video;
+import com.codeflix.admin.catalogo.domain.video.VideoGateway;
+
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultCompleteMediaUploadUseCase extends CompleteMediaUploadUseCase {
+
+    private final VideoGateway videoGateway;
+    private final MediaUploadGateway mediaUploadGateway;
+    private final MediaProcessingGateway mediaProcessingGateway;
+
+    public DefaultCompleteMediaUploadUseCase(
+            final VideoGateway videoGateway,
+            final MediaUploadGateway mediaUploadGateway,
+            final MediaProcessingGateway mediaProcessingGateway
+    ) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+        this.mediaUploadGateway = Objects.requireNonNull(mediaUploadGateway);
+        this.mediaProcessingGateway = Objects.requireNonNull(mediaProcessingGateway);
+    }
+
+    @Override
+    public MediaUploadOutput execute(final String anId) {
+        final var anUpload = MediaUploads.find(this.mediaUploadGateway, anId);
+
+        if (!anUpload.isComplete()) {
+            throw DomainException.raise(new Error(
+                    "Upload %s is missing %d bytes".formatted(anId, anUpload.length() - anUpload.receivedBytes())
+            ));
+        }
+
+        final var videoId = anUpload.videoId();
+        final var video = this.videoGateway.findById(videoId)
+                .orElseThrow(() -> NotFoundException.raise(Video.class, videoId));
+
+        if (!this.mediaUploadGateway.complete(anId)) {
+            throw DomainException.raise(new Error("Upload %s was already completed".formatted(anId)));
+        }
+
+        final var previous = Video.from(video);
+        final var pending = AudioVideoMedia.pending(anUpload.name());
+
+        if (anUpload.type() == Resource.Type.TRAILER) {
+            video.setTrailer(pending);
+        } else {
+            video.setVideo(pending);
+        }
+
+        Video updated = null;
+        try {
+            updated = this.videoGateway.update(video);
+            this.mediaProcessingGateway.process(
+                    videoId,
+                    List.of(this.mediaUploadGateway.open(anId)),
+                    () -> this.mediaUploadGateway.deleteById(anId)
+            );
+        } catch (final ConflictException e) {
+            this.mediaUploadGateway.reopen(anId);
+            throw e;
+        } catch (final Throwable t) {
+            if (updated != null) {
+                revert(previous.setVersion(updated.getVersion()));
+            }
+            this.mediaUploadGateway.reopen(anId);
+            throw InternalErrorException.with("An error on complete upload was observed [uploadId:%s]".formatted(anId), t);
+        }
+
+        return MediaUploadOutput.from(anUpload);
+    }
+
+    private void revert(final Video previous) {
+        try {
+            this.videoGateway.update(previous);
+        } catch (final ConflictException ignored) {
+            // a newer write already replaced the one being reverted
+        }
+    }
+}
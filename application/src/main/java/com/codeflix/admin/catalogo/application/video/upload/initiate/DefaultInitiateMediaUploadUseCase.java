@@ -0,0 +1,73 @@
+package com.codeflix.admin.catalogo.application.video.upload.initiate;
+
+import com.codeflix.admin.catalogo.application.video.upload.MediaUploadOutput;
+import com.codeflix.admin.catalogo.domain.exceptions.NotFoundException;
+import com.codeflix.admin.catalogo.domain.exceptions.NotificationException;
+import com.codeflix.admin.catalogo.domain.validation.Error;
+import com.codeflix.admin.catalogo.domain.validation.handlers.Notification;
+import com.codeflix.admin.catalogo.domain.video.MediaUploadGateway;
+import com.codeflix.admin.catalogo.domain.video.Resource;
+import com.codeflix.admin.catalogo.domain.video.Video;
+import com.codeflix.admin.catalogo.domain.video.VideoGateway;
+import com.codeflix.admin.catalogo.domain.video.VideoID;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+public class DefaultInitiateMediaUploadUseCase extends InitiateMediaUploadUseCase {
+
+    private static final Set<Resource.Type> RESUMABLE_TYPES = Set.of(Resource.Type.VIDEO, Resource.Type.TRAILER);
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+
+    private final VideoGateway videoGateway;
+    private final MediaUploadGateway mediaUploadGateway;
+
+    public DefaultInitiateMediaUploadUseCase(
+            final VideoGateway videoGateway,
+            final MediaUploadGateway mediaUploadGateway
+    ) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+        this.mediaUploadGateway = Objects.requireNonNull(mediaUploadGateway);
+    }
+
+    @Override
+    public MediaUploadOutput execute(final InitiateMediaUploadCommand aCommand) {
+        final var videoId = VideoID.from(aCommand.videoId());
+        final var notification = Notification.create();
+
+        final var aType = type(aCommand.type());
+        if (aType.isEmpty()) {
+            notification.append(new Error("'type' should be one of %s".formatted(RESUMABLE_TYPES)));
+        }
+        if (aCommand.name() == null || aCommand.name().isBlank()) {
+            notification.append(new Error("'name' should not be empty"));
+        }
+        if (aCommand.length() == null || aCommand.length() <= 0) {
+            notification.append(new Error("'length' should be greater than 0"));
+        }
+
+        if (notification.hasError()) {
+            throw new NotificationException("Could not initiate upload", notification);
+        }
+
+        this.videoGateway.findById(videoId)
+                .orElseThrow(() -> NotFoundException.raise(Video.class, videoId));
+
+        final var contentType = aCommand.contentType() == null || aCommand.contentType().isBlank()
+                ? DEFAULT_CONTENT_TYPE
+                : aCommand.contentType();
+
+        return MediaUploadOutput.from(
+                this.mediaUploadGateway.create(videoId, aType.get(), aCommand.name(), contentType, aCommand.length())
+        );
+    }
+
+    private static Optional<Resource.Type> type(final String aType) {
+        return Arrays.stream(Resource.Type.values())
+                .filter(RESUMABLE_TYPES::contains)
+                .filter(it -> it.name().equalsIgnoreCase(aType))
+                .findFirst();
+    }
+}
@@ -0,0 +1,20 @@
+package com.codeflix.admin.catalogo.application.video.upload.initiate;
+
+public record InitiateMediaUploadCommand(
+        String videoId,
+        String type,
+        String name,
+        String contentType,
+        Long length
+) {
+
+    public static InitiateMediaUploadCommand with(
+            final String videoId,
+            final String type,
+            final String name,
+            final String contentType,
+            final Long length
+    ) {
+        return new InitiateMediaUploadCommand(videoId, type, name, contentType, length);
+    }
+}
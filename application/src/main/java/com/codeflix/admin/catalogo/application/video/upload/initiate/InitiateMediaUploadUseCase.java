@@ -0,0 +1,7 @@
+package com.codeflix.admin.catalogo.application.video.upload.initiate;
+
+import com.codeflix.admin.catalogo.application.UseCase;
+import com.codeflix.admin.catalogo.application.video.upload.MediaUploadOutput;
+
+public abstract class InitiateMediaUploadUseCase extends UseCase<InitiateMediaUploadCommand, MediaUploadOutput> {
+}
@@ -0,0 +1,21 @@
+package com.codeflix.admin.catalogo.application.video.upload.retrieve;
+
+import com.codeflix.admin.catalogo.application.video.upload.MediaUploadOutput;
+import com.codeflix.admin.catalogo.application.video.upload.MediaUploads;
+import com.codeflix.admin.catalogo.domain.video.MediaUploadGateway;
+
+import java.util.Objects;
+
+public class DefaultGetMediaUploadUseCase extends GetMediaUploadUseCase {
+
+    private final MediaUploadGateway mediaUploadGateway;
+
+    public DefaultGetMediaUploadUseCase(final MediaUploadGateway mediaUploadGateway) {
+        this.mediaUploadGateway = Objects.requireNonNull(mediaUploadGateway);
+    }
+
+    @Override
+    public MediaUploadOutput execute(final String anId) {
+        return MediaUploadOutput.from(MediaUploads.find(this.mediaUploadGateway, anId));
+    }
+}
@@ -0,0 +1,7 @@
+package com.codeflix.admin.catalogo.application.video.upload.retrieve;
+
+import com.codeflix.admin.catalogo.application.UseCase;
+import com.codeflix.admin.catalogo.application.video.upload.MediaUploadOutput;
+
+public abstract class GetMediaUploadUseCase extends UseCase<String, MediaUploadOutput> {
+}
@@ -0,0 +1,105 @@
+package com.codeflix.admin.catalogo.application.castmember.bulk;
+
+import com.codeflix.admin.catalogo.application.UseCaseTest;
+import com.codeflix.admin.catalogo.application.bulk.BulkItemOutput;
+import com.codeflix.admin.catalogo.application.bulk.BulkItemStatus;
+import com.codeflix.admin.catalogo.application.bulk.BulkOperation;
+import com.codeflix.admin.catalogo.domain.castmember.CastMember;
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberID;
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+public class BulkCastMemberUseCaseTest extends UseCaseTest {
+
+    @Mock
+    private CastMemberGateway castMemberGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(castMemberGateway);
+    }
+
+    @Test
+    public void givenAMixedCommand_whenCallsBulk_shouldWriteEachOperationOnceAndReportEveryItem() {
+        final var aMember = CastMember.create("Vin Dizel", CastMemberType.ACTOR);
+        final var expectedUpdatedId = aMember.getId().getValue();
+        final var expectedDeletedId = CastMemberID.generateUnique().getValue();
+        final var expectedMissingId = CastMemberID.generateUnique().getValue();
+        final var expectedMissingDeleteId = CastMemberID.generateUnique().getValue();
+
+        final var aCommand = BulkCastMemberCommand.with(List.of(
+                BulkCastMemberItem.with(BulkOperation.CREATE, null, "Quentin Tarantino", CastMemberType.DIRECTOR),
+                BulkCastMemberItem.with(BulkOperation.CREATE, null, "Nameless", null),
+                BulkCastMemberItem.with(BulkOperation.UPDATE, expectedUpdatedId, "Vin Diesel", CastMemberType.ACTOR),
+                BulkCastMemberItem.with(BulkOperation.UPDATE, expectedMissingId, "Ghost", CastMemberType.ACTOR),
+                BulkCastMemberItem.with(BulkOperation.DELETE, expectedDeletedId, null, null),
+                BulkCastMemberItem.with(BulkOperation.DELETE, expectedMissingDeleteId, null, null),
+                BulkCastMemberItem.with(null, null, "Unknown", CastMemberType.ACTOR)
+        ));
+
+        Mockito.when(castMemberGateway.findAllByIds(Mockito.any())).thenReturn(List.of(aMember));
+        Mockito.when(castMemberGateway.existsByIds(Mockito.any())).thenReturn(List.of(CastMemberID.load(expectedDeletedId)));
+        Mockito.when(castMemberGateway.createAll(Mockito.any())).then(AdditionalAnswers.returnsFirstArg());
+        Mockito.when(castMemberGateway.updateAll(Mockito.any())).then(AdditionalAnswers.returnsFirstArg());
+
+        final var actualOutput = new DefaultBulkCastMemberUseCase(castMemberGateway).execute(aCommand);
+
+        final var statuses = actualOutput.items().stream().map(BulkItemOutput::status).toList();
+        Assertions.assertEquals(List.of(
+                BulkItemStatus.CREATED,
+                BulkItemStatus.INVALID,
+                BulkItemStatus.UPDATED,
+                BulkItemStatus.NOT_FOUND,
+                BulkItemStatus.DELETED,
+                BulkItemStatus.NOT_FOUND,
+                BulkItemStatus.INVALID
+        ), statuses);
+        Assertions.assertEquals("'type' should not be null", actualOutput.items().get(1).errors().get(0).message());
+        Assertions.assertEquals(expectedUpdatedId, actualOutput.items().get(2).id());
+        Assertions.assertEquals(expectedMissingDeleteId, actualOutput.items().get(5).id());
+
+        Mockito.verify(castMemberGateway, Mockito.times(1)).createAll(Mockito.argThat(it ->
+                it.size() == 1 && "Quentin Tarantino".equals(it.get(0).getName())
+        ));
+        Mockito.verify(castMemberGateway, Mockito.times(1)).updateAll(Mockito.argThat(it ->
+                it.size() == 1 && "Vin Diesel".equals(it.get(0).getName())
+        ));
+        Mockito.verify(castMemberGateway, Mockito.times(1)).deleteAllByIds(Mockito.eq(List.of(CastMemberID.load(expectedDeletedId))));
+    }
+
+    @Test
+    public void givenMoreUpdatesThanTheChunkSize_whenAChunkFails_shouldMarkOnlyThatChunkAsFailed() {
+        final var expectedErrorMessage = "Gateway error";
+        final var members = List.of(
+                CastMember.create("Actor One", CastMemberType.ACTOR),
+                CastMember.create("Actor Two", CastMemberType.ACTOR),
+                CastMember.create("Actor Three", CastMemberType.ACTOR)
+        );
+
+        final var aCommand = BulkCastMemberCommand.with(members.stream()
+                .map(it -> BulkCastMemberItem.with(BulkOperation.UPDATE, it.getId().getValue(), it.getName(), CastMemberType.DIRECTOR))
+                .toList());
+
+        Mockito.when(castMemberGateway.findAllByIds(Mockito.any())).thenReturn(members);
+        Mockito.when(castMemberGateway.updateAll(Mockito.any()))
+                .thenThrow(new IllegalStateException(expectedErrorMessage))
+                .then(AdditionalAnswers.returnsFirstArg());
+
+        final var actualOutput = new DefaultBulkCastMemberUseCase(castMemberGateway, 2).execute(aCommand);
+
+        Assertions.assertEquals(BulkItemStatus.FAILED, actualOutput.items().get(0).status());
+        Assertions.assertEquals(BulkItemStatus.FAILED, actualOutput.items().get(1).status());
+        Assertions.assertEquals(BulkItemStatus.UPDATED, actualOutput.items().get(2).status());
+        Assertions.assertEquals(expectedErrorMessage, actualOutput.items().get(0).errors().get(0).message());
+
+        Mockito.verify(castMemberGateway, Mockito.times(2)).updateAll(Mockito.any());
+        Mockito.verify(castMemberGateway, Mockito.never()).existsByIds(Mockito.any());
+    }
+}
@@ -0,0 +1,62 @@
+package com.codeflix.admin.catalogo.application.castmember.retrieve.list;
+
+import com.codeflix.admin.catalogo.application.Fixture;
+import com.codeflix.admin.catalogo.application.UseCaseTest;
+import com.codeflix.admin.catalogo.domain.castmember.CastMember;
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.codeflix.admin.catalogo.domain.pagination.CursorPagination;
+import com.codeflix.admin.catalogo.domain.pagination.CursorQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ListCastMembersByCursorUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultListCastMembersByCursorUseCase useCase;
+
+    @Mock
+    private CastMemberGateway castMemberGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(castMemberGateway);
+    }
+
+    @Test
+    public void givenAValidCursorQuery_whenCallsListCastMembersByCursor_shouldReturnCursorPage() {
+        // given
+        final var members = List.of(
+                CastMember.create(Fixture.name(), Fixture.CastMembers.type()),
+                CastMember.create(Fixture.name(), Fixture.CastMembers.type())
+        );
+
+        final var expectedPerPage = 2;
+        final var expectedCursor = "next";
+        final var expectedItems = members.stream()
+                .map(CastMemberListOutput::from)
+                .toList();
+
+        when(castMemberGateway.findAllByCursor(eq(new CursorQuery(null, expectedPerPage, "", "name", "asc", false))))
+                .thenReturn(new CursorPagination<>(expectedPerPage, expectedCursor, null, members));
+
+        final var aQuery = new CursorQuery(null, expectedPerPage, "", "name", "asc", false);
+
+        // when
+        final var actualOutput = useCase.execute(aQuery);
+
+        // then
+        Assertions.assertEquals(expectedPerPage, actualOutput.perPage());
+        Assertions.assertEquals(expectedCursor, actualOutput.nextCursor());
+        Assertions.assertEquals(expectedItems, actualOutput.items());
+
+        verify(castMemberGateway).findAllByCursor(eq(aQuery));
+    }
+}
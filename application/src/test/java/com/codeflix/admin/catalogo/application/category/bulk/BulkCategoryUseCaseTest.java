@@ -0,0 +1,122 @@
+package com.codeflix.admin.catalogo.application.category.bulk;
+
+import com.codeflix.admin.catalogo.application.UseCaseTest;
+import com.codeflix.admin.catalogo.application.bulk.BulkItemOutput;
+import com.codeflix.admin.catalogo.application.bulk.BulkItemStatus;
+import com.codeflix.admin.catalogo.application.bulk.BulkOperation;
+import com.codeflix.admin.catalogo.domain.category.Category;
+import com.codeflix.admin.catalogo.domain.category.CategoryGateway;
+import com.codeflix.admin.catalogo.domain.category.CategoryID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+public class BulkCategoryUseCaseTest extends UseCaseTest {
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(categoryGateway);
+    }
+
+    @Test
+    public void givenAMixedCommand_whenCallsBulk_shouldWriteEachOperationOnceAndReportEveryItem() {
+        final var aCategory = Category.createCategory("Film", null, true);
+        final var expectedUpdatedId = aCategory.getId().getValue();
+        final var expectedDeletedId = CategoryID.generateUnique().getValue();
+        final var expectedMissingId = CategoryID.generateUnique().getValue();
+        final var expectedMissingDeleteId = CategoryID.generateUnique().getValue();
+
+        final var aCommand = BulkCategoryCommand.with(List.of(
+                BulkCategoryItem.with(BulkOperation.CREATE, null, "Movies", "Best movies", true),
+                BulkCategoryItem.with(BulkOperation.CREATE, null, null, null, true),
+                BulkCategoryItem.with(BulkOperation.UPDATE, expectedUpdatedId, "Films", null, false),
+                BulkCategoryItem.with(BulkOperation.UPDATE, expectedMissingId, "Series", null, true),
+                BulkCategoryItem.with(BulkOperation.DELETE, expectedDeletedId, null, null, true),
+                BulkCategoryItem.with(BulkOperation.DELETE, expectedMissingDeleteId, null, null, true),
+                BulkCategoryItem.with(null, null, "Docs", null, true)
+        ));
+
+        Mockito.when(categoryGateway.findAllByIds(Mockito.any())).thenReturn(List.of(aCategory.clone()));
+        Mockito.when(categoryGateway.existsByIds(Mockito.any())).thenReturn(List.of(CategoryID.load(expectedDeletedId)));
+        Mockito.when(categoryGateway.createAll(Mockito.any())).then(AdditionalAnswers.returnsFirstArg());
+        Mockito.when(categoryGateway.updateAll(Mockito.any())).then(AdditionalAnswers.returnsFirstArg());
+
+        final var actualOutput = new DefaultBulkCategoryUseCase(categoryGateway).execute(aCommand);
+
+        final var statuses = actualOutput.items().stream().map(BulkItemOutput::status).toList();
+        Assertions.assertEquals(List.of(
+                BulkItemStatus.CREATED,
+                BulkItemStatus.INVALID,
+                BulkItemStatus.UPDATED,
+                BulkItemStatus.NOT_FOUND,
+                BulkItemStatus.DELETED,
+                BulkItemStatus.NOT_FOUND,
+                BulkItemStatus.INVALID
+        ), statuses);
+        Assertions.assertEquals("'name' should not be null", actualOutput.items().get(1).errors().get(0).message());
+        Assertions.assertEquals(expectedUpdatedId, actualOutput.items().get(2).id());
+        Assertions.assertEquals(expectedMissingDeleteId, actualOutput.items().get(5).id());
+
+        Mockito.verify(categoryGateway, Mockito.times(1)).createAll(Mockito.argThat(it ->
+                it.size() == 1 && "Movies".equals(it.get(0).getName())
+        ));
+        Mockito.verify(categoryGateway, Mockito.times(1)).updateAll(Mockito.argThat(it ->
+                it.size() == 1 && "Films".equals(it.get(0).getName()) && !it.get(0).isActive()
+        ));
+        Mockito.verify(categoryGateway, Mockito.times(1)).deleteAllByIds(Mockito.eq(List.of(CategoryID.load(expectedDeletedId))));
+    }
+
+    @Test
+    public void givenMoreCreatesThanTheChunkSize_whenAChunkFails_shouldMarkOnlyThatChunkAsFailed() {
+        final var expectedErrorMessage = "Gateway error";
+
+        final var aCommand = BulkCategoryCommand.with(List.of(
+                BulkCategoryItem.with(BulkOperation.CREATE, null, "Movies", null, true),
+                BulkCategoryItem.with(BulkOperation.CREATE, null, "Series", null, true),
+                BulkCategoryItem.with(BulkOperation.CREATE, null, "Docs", null, true)
+        ));
+
+        Mockito.when(categoryGateway.createAll(Mockito.any()))
+                .thenThrow(new IllegalStateException(expectedErrorMessage))
+                .then(AdditionalAnswers.returnsFirstArg());
+
+        final var actualOutput = new DefaultBulkCategoryUseCase(categoryGateway, 2).execute(aCommand);
+
+        Assertions.assertEquals(BulkItemStatus.FAILED, actualOutput.items().get(0).status());
+        Assertions.assertEquals(BulkItemStatus.FAILED, actualOutput.items().get(1).status());
+        Assertions.assertEquals(BulkItemStatus.CREATED, actualOutput.items().get(2).status());
+        Assertions.assertEquals(expectedErrorMessage, actualOutput.items().get(0).errors().get(0).message());
+
+        Mockito.verify(categoryGateway, Mockito.times(2)).createAll(Mockito.any());
+        Mockito.verify(categoryGateway, Mockito.never()).findAllByIds(Mockito.any());
+    }
+
+    @Test
+    public void givenAnUpdateWhoseRowWasDeletedMeanwhile_whenCallsBulk_shouldReportOnlyThatItemAsNotFound() {
+        final var films = Category.createCategory("Film", null, true);
+        final var series = Category.createCategory("Serie", null, true);
+
+        final var aCommand = BulkCategoryCommand.with(List.of(
+                BulkCategoryItem.with(BulkOperation.UPDATE, films.getId().getValue(), "Films", null, true),
+                BulkCategoryItem.with(BulkOperation.UPDATE, series.getId().getValue(), "Series", null, true)
+        ));
+
+        Mockito.when(categoryGateway.findAllByIds(Mockito.any())).thenReturn(List.of(films.clone(), series.clone()));
+        Mockito.when(categoryGateway.updateAll(Mockito.any())).then(it -> List.of(it.<List<Category>>getArgument(0).get(1)));
+
+        final var actualOutput = new DefaultBulkCategoryUseCase(categoryGateway).execute(aCommand);
+
+        Assertions.assertEquals(BulkItemStatus.NOT_FOUND, actualOutput.items().get(0).status());
+        Assertions.assertEquals(films.getId().getValue(), actualOutput.items().get(0).id());
+        Assertions.assertEquals(BulkItemStatus.UPDATED, actualOutput.items().get(1).status());
+
+        Mockito.verify(categoryGateway, Mockito.times(1)).updateAll(Mockito.any());
+    }
+}
@@ -0,0 +1,47 @@
+package com.codeflix.admin.catalogo.application.category.delete;
+
+import com.codeflix.admin.catalogo.application.UseCaseTest;
+import com.codeflix.admin.catalogo.domain.category.CategoryGateway;
+import com.codeflix.admin.catalogo.domain.category.CategoryID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+public class DeleteCategoriesUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultDeleteCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(categoryGateway);
+    }
+
+    @Test
+    public void givenValidIds_whenCallsDeleteCategories_shouldDeleteDistinctIdsOnceAndReturnTheCount() {
+        final var expectedIds = List.of(CategoryID.load("123"), CategoryID.load("456"));
+        final var expectedDeleted = 1;
+
+        Mockito.when(categoryGateway.deleteAllByIds(Mockito.eq(expectedIds))).thenReturn(expectedDeleted);
+
+        final var actualOutput = useCase.execute(List.of("123", "456", "123"));
+
+        Assertions.assertEquals(expectedDeleted, actualOutput.deleted());
+        Mockito.verify(categoryGateway, Mockito.times(1)).deleteAllByIds(Mockito.eq(expectedIds));
+    }
+
+    @Test
+    public void givenNoIds_whenCallsDeleteCategories_shouldNotCallTheGateway() {
+        final var actualOutput = useCase.execute(List.of());
+
+        Assertions.assertEquals(0, actualOutput.deleted());
+        Mockito.verify(categoryGateway, Mockito.never()).deleteAllByIds(Mockito.any());
+    }
+}
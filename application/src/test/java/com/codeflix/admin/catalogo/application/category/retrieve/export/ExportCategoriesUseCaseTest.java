@@ -0,0 +1,50 @@
+package com.codeflix.admin.catalogo.application.category.retrieve.export;
+
+import com.codeflix.admin.catalogo.application.UseCaseTest;
+import com.codeflix.admin.catalogo.application.category.retrieve.list.ListCategoriesOutput;
+import com.codeflix.admin.catalogo.domain.category.Category;
+import com.codeflix.admin.catalogo.domain.category.CategoryGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+public class ExportCategoriesUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultExportCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(categoryGateway);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void givenPersistedCategories_whenCallsExportCategories_shouldEmitEachOneAsAListOutput() {
+        final var categories = List.of(
+                Category.createCategory("Movies", null, true),
+                Category.createCategory("Series", null, false)
+        );
+
+        Mockito.doAnswer(invocation -> {
+            final Consumer<Category> consumer = invocation.getArgument(0);
+            categories.forEach(consumer);
+            return null;
+        }).when(categoryGateway).exportAll(Mockito.any());
+
+        final var actualOutputs = new ArrayList<ListCategoriesOutput>();
+        useCase.execute(actualOutputs::add);
+
+        Assertions.assertEquals(categories.stream().map(ListCategoriesOutput::create).toList(), actualOutputs);
+        Mockito.verify(categoryGateway, Mockito.times(1)).exportAll(Mockito.any());
+    }
+}
@@ -0,0 +1,49 @@
+package com.codeflix.admin.catalogo.application.category.retrieve.list;
+
+import com.codeflix.admin.catalogo.application.UseCaseTest;
+import com.codeflix.admin.catalogo.domain.category.Category;
+import com.codeflix.admin.catalogo.domain.category.CategoryGateway;
+import com.codeflix.admin.catalogo.domain.pagination.CursorPagination;
+import com.codeflix.admin.catalogo.domain.pagination.CursorQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+public class ListCategoriesByCursorUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultListCategoriesByCursorUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(categoryGateway);
+    }
+
+    @Test
+    public void givenAValidCursorQuery_whenCallsListCategoriesByCursor_shouldReturnCursorPage() {
+        final var categories = List.of(
+                Category.createCategory("Movies", null, true),
+                Category.createCategory("Series", null, true)
+        );
+        final var expectedPerPage = 2;
+        final var expectedCursor = "next";
+        final var aQuery = new CursorQuery(null, expectedPerPage, "", "name", "asc", false);
+
+        Mockito.when(categoryGateway.findAllByCursor(Mockito.eq(aQuery)))
+                .thenReturn(new CursorPagination<>(expectedPerPage, expectedCursor, null, categories));
+
+        final var actualOutput = useCase.execute(aQuery);
+
+        Assertions.assertEquals(expectedPerPage, actualOutput.perPage());
+        Assertions.assertEquals(expectedCursor, actualOutput.nextCursor());
+        Assertions.assertNull(actualOutput.total());
+        Assertions.assertEquals(categories.stream().map(ListCategoriesOutput::create).toList(), actualOutput.items());
+    }
+}
@@ -0,0 +1,112 @@
+package com.codeflix.admin.catalogo.application.genre.bulk;
+
+import com.codeflix.admin.catalogo.application.UseCaseTest;
+import com.codeflix.admin.catalogo.application.bulk.BulkItemOutput;
+import com.codeflix.admin.catalogo.application.bulk.BulkItemStatus;
+import com.codeflix.admin.catalogo.application.bulk.BulkOperation;
+import com.codeflix.admin.catalogo.domain.category.CategoryGateway;
+import com.codeflix.admin.catalogo.domain.category.CategoryID;
+import com.codeflix.admin.catalogo.domain.genre.Genre;
+import com.codeflix.admin.catalogo.domain.genre.GenreGateway;
+import com.codeflix.admin.catalogo.domain.genre.GenreID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+public class BulkGenreUseCaseTest extends UseCaseTest {
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(categoryGateway, genreGateway);
+    }
+
+    @Test
+    public void givenAMixedCommand_whenCallsBulk_shouldWriteEachOperationOnceAndReportEveryItem() {
+        final var aGenre = Genre.createGenre("Acton", true);
+        final var knownCategory = CategoryID.generateUnique();
+        final var unknownCategory = CategoryID.generateUnique();
+        final var expectedUpdatedId = aGenre.getId().getValue();
+        final var expectedDeletedId = GenreID.generateUnique().getValue();
+        final var expectedMissingId = GenreID.generateUnique().getValue();
+        final var expectedMissingDeleteId = GenreID.generateUnique().getValue();
+
+        final var aCommand = BulkGenreCommand.with(List.of(
+                BulkGenreItem.with(BulkOperation.CREATE, null, "Drama", true, List.of(knownCategory.getValue())),
+                BulkGenreItem.with(BulkOperation.CREATE, null, "Horror", true, List.of(unknownCategory.getValue())),
+                BulkGenreItem.with(BulkOperation.UPDATE, expectedUpdatedId, "Action", false, List.of(knownCategory.getValue())),
+                BulkGenreItem.with(BulkOperation.UPDATE, expectedMissingId, "Comedy", true, null),
+                BulkGenreItem.with(BulkOperation.DELETE, expectedDeletedId, null, null, null),
+                BulkGenreItem.with(BulkOperation.DELETE, expectedMissingDeleteId, null, null, null),
+                BulkGenreItem.with(BulkOperation.DELETE, " ", null, null, null)
+        ));
+
+        Mockito.when(genreGateway.findAllByIds(Mockito.any())).thenReturn(List.of(aGenre.clone()));
+        Mockito.when(genreGateway.existsByIds(Mockito.any())).thenReturn(List.of(GenreID.load(expectedDeletedId)));
+        Mockito.when(categoryGateway.existsByIds(Mockito.any())).thenReturn(List.of(knownCategory));
+        Mockito.when(genreGateway.createAll(Mockito.any())).then(AdditionalAnswers.returnsFirstArg());
+        Mockito.when(genreGateway.updateAll(Mockito.any())).then(AdditionalAnswers.returnsFirstArg());
+
+        final var actualOutput = new DefaultBulkGenreUseCase(categoryGateway, genreGateway).execute(aCommand);
+
+        final var statuses = actualOutput.items().stream().map(BulkItemOutput::status).toList();
+        Assertions.assertEquals(List.of(
+                BulkItemStatus.CREATED,
+                BulkItemStatus.INVALID,
+                BulkItemStatus.UPDATED,
+                BulkItemStatus.NOT_FOUND,
+                BulkItemStatus.DELETED,
+                BulkItemStatus.NOT_FOUND,
+                BulkItemStatus.INVALID
+        ), statuses);
+        Assertions.assertEquals(
+                "Some categories could not be found: %s".formatted(unknownCategory.getValue()),
+                actualOutput.items().get(1).errors().get(0).message()
+        );
+        Assertions.assertEquals(expectedMissingDeleteId, actualOutput.items().get(5).id());
+
+        Mockito.verify(categoryGateway, Mockito.times(1)).existsByIds(Mockito.any());
+        Mockito.verify(genreGateway, Mockito.times(1)).createAll(Mockito.argThat(it ->
+                it.size() == 1 && "Drama".equals(it.get(0).getName()) && it.get(0).getCategories().equals(List.of(knownCategory))
+        ));
+        Mockito.verify(genreGateway, Mockito.times(1)).updateAll(Mockito.argThat(it ->
+                it.size() == 1 && "Action".equals(it.get(0).getName()) && !it.get(0).isActive()
+        ));
+        Mockito.verify(genreGateway, Mockito.times(1)).deleteAllByIds(Mockito.eq(List.of(GenreID.load(expectedDeletedId))));
+    }
+
+    @Test
+    public void givenMoreDeletesThanTheChunkSize_whenAChunkFails_shouldMarkOnlyThatChunkAsFailed() {
+        final var expectedErrorMessage = "Gateway error";
+        final var ids = List.of(GenreID.generateUnique(), GenreID.generateUnique(), GenreID.generateUnique());
+
+        final var aCommand = BulkGenreCommand.with(ids.stream()
+                .map(it -> BulkGenreItem.with(BulkOperation.DELETE, it.getValue(), null, null, null))
+                .toList());
+
+        Mockito.when(genreGateway.existsByIds(Mockito.any())).thenReturn(ids);
+        Mockito.doThrow(new IllegalStateException(expectedErrorMessage))
+                .doReturn(1)
+                .when(genreGateway).deleteAllByIds(Mockito.any());
+
+        final var actualOutput = new DefaultBulkGenreUseCase(categoryGateway, genreGateway, 2).execute(aCommand);
+
+        Assertions.assertEquals(BulkItemStatus.FAILED, actualOutput.items().get(0).status());
+        Assertions.assertEquals(BulkItemStatus.FAILED, actualOutput.items().get(1).status());
+        Assertions.assertEquals(BulkItemStatus.DELETED, actualOutput.items().get(2).status());
+        Assertions.assertEquals(expectedErrorMessage, actualOutput.items().get(0).errors().get(0).message());
+
+        Mockito.verify(genreGateway, Mockito.times(2)).deleteAllByIds(Mockito.any());
+        Mockito.verify(genreGateway, Mockito.never()).findAllByIds(Mockito.any());
+        Mockito.verify(categoryGateway, Mockito.never()).existsByIds(Mockito.any());
+    }
+}
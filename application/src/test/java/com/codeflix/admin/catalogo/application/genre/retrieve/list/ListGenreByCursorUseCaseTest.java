@@ -0,0 +1,48 @@
+package com.codeflix.admin.catalogo.application.genre.retrieve.list;
+
+import com.codeflix.admin.catalogo.application.UseCaseTest;
+import com.codeflix.admin.catalogo.domain.genre.Genre;
+import com.codeflix.admin.catalogo.domain.genre.GenreGateway;
+import com.codeflix.admin.catalogo.domain.pagination.CursorPagination;
+import com.codeflix.admin.catalogo.domain.pagination.CursorQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+public class ListGenreByCursorUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultListGenreByCursorUseCase useCase;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(genreGateway);
+    }
+
+    @Test
+    public void givenAValidCursorQuery_whenCallsListGenreByCursor_shouldReturnLastPage() {
+        final var genres = List.of(
+                Genre.createGenre("Horror", true),
+                Genre.createGenre("Romance", true)
+        );
+        final var expectedPerPage = 10;
+        final var expectedTotal = 2L;
+        final var aQuery = new CursorQuery("abc", expectedPerPage, "", "name", "asc", true);
+
+        Mockito.when(genreGateway.findAllByCursor(Mockito.eq(aQuery)))
+                .thenReturn(new CursorPagination<>(expectedPerPage, null, expectedTotal, genres));
+
+        final var actualOutput = useCase.execute(aQuery);
+
+        Assertions.assertFalse(actualOutput.hasNext());
+        Assertions.assertEquals(expectedTotal, actualOutput.total());
+        Assertions.assertEquals(genres.stream().map(ListGenreOutput::create).toList(), actualOutput.items());
+    }
+}
@@ -0,0 +1,160 @@
+package com.codeflix.admin.catalogo.application.video;
+
+import com.codeflix.admin.catalogo.application.UseCaseTest;
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberID;
+import com.codeflix.admin.catalogo.domain.category.CategoryGateway;
+import com.codeflix.admin.catalogo.domain.category.CategoryID;
+import com.codeflix.admin.catalogo.domain.genre.GenreGateway;
+import com.codeflix.admin.catalogo.domain.genre.GenreID;
+import com.codeflix.admin.catalogo.domain.validation.Error;
+import com.codeflix.admin.catalogo.domain.validation.handlers.Notification;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.stubbing.Answer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class VideoReferenceValidatorTest extends UseCaseTest {
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @Mock
+    private CastMemberGateway castMemberGateway;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(3);
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(categoryGateway, genreGateway, castMemberGateway);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void givenMissingReferences_whenCallsValidate_shouldAppendOneErrorPerAggregateInOrder() {
+        // given
+        final var validator = new VideoReferenceValidator(categoryGateway, genreGateway, castMemberGateway, executor);
+        final var existingCategory = CategoryID.load("1");
+        final var missingCategory = CategoryID.load("2");
+        final var missingGenre = GenreID.load("3");
+        final var missingMember = CastMemberID.load("4");
+
+        final var expectedErrors = List.of(
+                "Some categories could not be found: 2",
+                "Some genres could not be found: 3",
+                "Some cast members could not be found: 4"
+        );
+
+        when(categoryGateway.existsByIds(any())).thenReturn(List.of(existingCategory));
+        when(genreGateway.existsByIds(any())).thenReturn(List.of());
+        when(castMemberGateway.existsByIds(any())).thenReturn(List.of());
+
+        final var notification = Notification.create();
+
+        // when
+        validator.validate(
+                Set.of(existingCategory, missingCategory),
+                Set.of(missingGenre),
+                Set.of(missingMember),
+                notification
+        );
+
+        // then
+        Assertions.assertEquals(
+                expectedErrors,
+                notification.getErrors().stream().map(Error::message).toList()
+        );
+    }
+
+    @Test
+    public void givenEmptyReferences_whenCallsValidate_shouldNotCallGateways() {
+        // given
+        final var validator = new VideoReferenceValidator(categoryGateway, genreGateway, castMemberGateway, executor);
+        final var notification = Notification.create();
+
+        // when
+        final var actualLoaded = validator.validate(Set.of(), Set.of(), Set.of(), notification, () -> "video");
+
+        // then
+        Assertions.assertEquals("video", actualLoaded);
+        Assertions.assertFalse(notification.hasError());
+        verify(categoryGateway, times(0)).existsByIds(any());
+        verify(genreGateway, times(0)).existsByIds(any());
+        verify(castMemberGateway, times(0)).existsByIds(any());
+    }
+
+    @Test
+    public void givenReferencesAndALoader_whenCallsValidate_shouldRunChecksConcurrently() throws Exception {
+        // given
+        final var validator = new VideoReferenceValidator(categoryGateway, genreGateway, castMemberGateway, executor);
+        final var allStarted = new CountDownLatch(4);
+        final var threads = new ArrayList<String>();
+
+        when(categoryGateway.existsByIds(any())).thenAnswer(awaitAll(allStarted, threads, List.of(CategoryID.load("1"))));
+        when(genreGateway.existsByIds(any())).thenAnswer(awaitAll(allStarted, threads, List.of(GenreID.load("2"))));
+        when(castMemberGateway.existsByIds(any())).thenAnswer(awaitAll(allStarted, threads, List.of(CastMemberID.load("3"))));
+
+        final var notification = Notification.create();
+
+        // when
+        final var actualLoaded = validator.validate(
+                Set.of(CategoryID.load("1")),
+                Set.of(GenreID.load("2")),
+                Set.of(CastMemberID.load("3")),
+                notification,
+                () -> {
+                    allStarted.countDown();
+                    await(allStarted);
+                    return "video";
+                }
+        );
+
+        // then
+        Assertions.assertEquals("video", actualLoaded);
+        Assertions.assertFalse(notification.hasError());
+        Assertions.assertEquals(3, threads.size());
+    }
+
+    private static <T> Answer<List<T>> awaitAll(
+            final CountDownLatch latch,
+            final List<String> threads,
+            final List<T> result
+    ) {
+        return invocation -> {
+            synchronized (threads) {
+                threads.add(Thread.currentThread().getName());
+            }
+            latch.countDown();
+            await(latch);
+            return result;
+        };
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS), "checks did not run concurrently");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
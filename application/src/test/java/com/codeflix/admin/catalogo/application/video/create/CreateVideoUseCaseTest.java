@@ -2,6 +2,7 @@ package com.codeflix.admin.catalogo.application.video.create;
 
 import com.codeflix.admin.catalogo.application.Fixture;
 import com.codeflix.admin.catalogo.application.UseCaseTest;
+import com.codeflix.admin.catalogo.application.video.VideoReferenceValidator;
 import com.codeflix.admin.catalogo.domain.castmember.CastMemberGateway;
 import com.codeflix.admin.catalogo.domain.castmember.CastMemberID;
 import com.codeflix.admin.catalogo.domain.category.CategoryGateway;
@@ -12,14 +13,15 @@ import com.codeflix.admin.catalogo.domain.genre.GenreGateway;
 import com.codeflix.admin.catalogo.domain.genre.GenreID;
 import com.codeflix.admin.catalogo.domain.video.*;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 
 import java.lang.reflect.Array;
 import java.time.Year;
 import java.util.*;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
@@ -28,7 +30,6 @@ import static org.mockito.Mockito.*;
 
 public class CreateVideoUseCaseTest extends UseCaseTest {
 
-    @InjectMocks
     private DefaultCreateVideoUseCase defaultCreateVideoUseCase;
 
     @Mock
@@ -44,11 +45,17 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
     private GenreGateway genreGateway;
 
     @Mock
-    private MediaResourceGateway mediaResourceGateway;
+    private MediaProcessingGateway mediaProcessingGateway;
 
     @Override
     protected List<Object> getMocks() {
-        return List.of(videoGateway, categoryGateway, castMemberGateway, genreGateway, mediaResourceGateway);
+        return List.of(videoGateway, categoryGateway, castMemberGateway, genreGateway, mediaProcessingGateway);
+    }
+
+    @BeforeEach
+    void setUp() {
+        final var referenceValidator = new VideoReferenceValidator(categoryGateway, genreGateway, castMemberGateway, Runnable::run);
+        defaultCreateVideoUseCase = new DefaultCreateVideoUseCase(referenceValidator, videoGateway, mediaProcessingGateway);
     }
 
     @Test
@@ -107,9 +114,6 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
         when(videoGateway.create(any()))
                 .thenAnswer(returnsFirstArg());
 
-        mockImageMedia();
-        mockAudioVideoMedia();
-
         //when
         final var output = defaultCreateVideoUseCase.execute(command);
 
@@ -132,7 +136,8 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
                     && expectedCastMembers.size() == videoArg.getCastMembers().size()
                     && expectedCastMembers.containsAll(videoArg.getCastMembers())
                     && videoArg.getVideo().isPresent()
-                    && Objects.equals(expectedVideo.getName(), videoArg.getVideo().get().getName())
+                    && MediaStatus.PENDING == videoArg.getVideo().get().getStatus()
+                        && Objects.equals(expectedVideo.getName(), videoArg.getVideo().get().getName())
                     && videoArg.getTrailer().isPresent()
                     && Objects.equals(expectedTrailer.getName(), videoArg.getTrailer().get().getName())
                     && videoArg.getBanner().isPresent()
@@ -186,9 +191,6 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
         when(videoGateway.create(any()))
                 .thenAnswer(returnsFirstArg());
 
-        mockImageMedia();
-        mockAudioVideoMedia();
-
         //when
         final var output = defaultCreateVideoUseCase.execute(command);
 
@@ -364,8 +366,7 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
         verify(categoryGateway, times(0)).existsByIds(any());
         verify(genreGateway, times(0)).existsByIds(any());
         verify(castMemberGateway, times(0)).existsByIds(any());
-        verify(mediaResourceGateway, times(0)).storeAudioVideo(any(), any());
-        verify(mediaResourceGateway, times(0)).storeImage(any(), any());
+        verify(mediaProcessingGateway, times(0)).process(any(), any());
         verify(videoGateway, times(0)).create(any());
     }
 
@@ -424,8 +425,7 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
         verify(categoryGateway, times(0)).existsByIds(any());
         verify(genreGateway, times(0)).existsByIds(any());
         verify(castMemberGateway, times(0)).existsByIds(any());
-        verify(mediaResourceGateway, times(0)).storeAudioVideo(any(), any());
-        verify(mediaResourceGateway, times(0)).storeImage(any(), any());
+        verify(mediaProcessingGateway, times(0)).process(any(), any());
         verify(videoGateway, times(0)).create(any());
     }
 
@@ -484,8 +484,7 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
         verify(categoryGateway, times(0)).existsByIds(any());
         verify(genreGateway, times(0)).existsByIds(any());
         verify(castMemberGateway, times(0)).existsByIds(any());
-        verify(mediaResourceGateway, times(0)).storeAudioVideo(any(), any());
-        verify(mediaResourceGateway, times(0)).storeImage(any(), any());
+        verify(mediaProcessingGateway, times(0)).process(any(), any());
         verify(videoGateway, times(0)).create(any());
     }
 
@@ -544,8 +543,7 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
         verify(categoryGateway, times(0)).existsByIds(any());
         verify(genreGateway, times(0)).existsByIds(any());
         verify(castMemberGateway, times(0)).existsByIds(any());
-        verify(mediaResourceGateway, times(0)).storeAudioVideo(any(), any());
-        verify(mediaResourceGateway, times(0)).storeImage(any(), any());
+        verify(mediaProcessingGateway, times(0)).process(any(), any());
         verify(videoGateway, times(0)).create(any());
     }
 
@@ -604,8 +602,7 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
         verify(categoryGateway, times(0)).existsByIds(any());
         verify(genreGateway, times(0)).existsByIds(any());
         verify(castMemberGateway, times(0)).existsByIds(any());
-        verify(mediaResourceGateway, times(0)).storeAudioVideo(any(), any());
-        verify(mediaResourceGateway, times(0)).storeImage(any(), any());
+        verify(mediaProcessingGateway, times(0)).process(any(), any());
         verify(videoGateway, times(0)).create(any());
     }
 
@@ -680,8 +677,7 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
         verify(categoryGateway, times(1)).existsByIds(any());
         verify(genreGateway, times(1)).existsByIds(any());
         verify(castMemberGateway, times(1)).existsByIds(any());
-        verify(mediaResourceGateway, times(0)).storeAudioVideo(any(), any());
-        verify(mediaResourceGateway, times(0)).storeImage(any(), any());
+        verify(mediaProcessingGateway, times(0)).process(any(), any());
         verify(videoGateway, times(0)).create(any());
 
     }
@@ -757,8 +753,7 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
         verify(categoryGateway, times(1)).existsByIds(any());
         verify(genreGateway, times(1)).existsByIds(any());
         verify(castMemberGateway, times(1)).existsByIds(any());
-        verify(mediaResourceGateway, times(0)).storeAudioVideo(any(), any());
-        verify(mediaResourceGateway, times(0)).storeImage(any(), any());
+        verify(mediaProcessingGateway, times(0)).process(any(), any());
         verify(videoGateway, times(0)).create(any());
 
     }
@@ -834,13 +829,12 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
         verify(categoryGateway, times(1)).existsByIds(any());
         verify(genreGateway, times(1)).existsByIds(any());
         verify(castMemberGateway, times(1)).existsByIds(any());
-        verify(mediaResourceGateway, times(0)).storeAudioVideo(any(), any());
-        verify(mediaResourceGateway, times(0)).storeImage(any(), any());
+        verify(mediaProcessingGateway, times(0)).process(any(), any());
         verify(videoGateway, times(0)).create(any());
     }
 
     @Test
-    public void givenAValidCommand_whenCallingCreateVideoThrowsException_shouldCallClearResources() {
+    public void givenAValidCommand_whenCallingCreateVideoThrowsException_shouldNotProcessMedia() {
         //given
         final var expectedTitle = Fixture.Videos.title();
         final var expectedDescription = Fixture.Videos.description();
@@ -894,9 +888,6 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
         when(castMemberGateway.existsByIds(any()))
                 .thenReturn(new ArrayList<>(expectedCastMembers));
 
-        mockImageMedia();
-        mockAudioVideoMedia();
-
         when(videoGateway.create(any()))
                 .thenThrow(new RuntimeException("error"));
 
@@ -913,24 +904,88 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
         verify(categoryGateway, times(1)).existsByIds(any());
         verify(genreGateway, times(1)).existsByIds(any());
         verify(castMemberGateway, times(1)).existsByIds(any());
-        verify(mediaResourceGateway, times(2)).storeAudioVideo(any(), any());
-        verify(mediaResourceGateway, times(3)).storeImage(any(), any());
         verify(videoGateway, times(1)).create(any());
-        verify(mediaResourceGateway, times(1)).clearResources(any());
+        verify(mediaProcessingGateway, times(0)).process(any(), any());
 
     }
 
-    private void mockImageMedia() {
-        when(mediaResourceGateway.storeImage(any(), any())).thenAnswer( t -> {
-            final var resource = t.getArgument(1, Resource.class);
-            return ImageMedia.with(UUID.randomUUID().toString(), resource.getName(), "/images");
-        });
-    }
+    @Test
+    public void givenAValidCommand_whenMediaProcessingRejects_shouldDeleteVideo() {
+        //given
+        final var expectedTitle = Fixture.Videos.title();
+        final var expectedDescription = Fixture.Videos.description();
+        final var launchYear = Year.of(Fixture.year());
+        final var expectedDuration = Fixture.Videos.duration();
+        final var expectedOpened = Fixture.bool();
+        final var expectedPublished = Fixture.bool();
+        final var expectedRating = Fixture.Videos.rating();
+        final var expectedCategories = Set.<CategoryID>of(
+                Fixture.Videos.category().getId()
+        );
+        final var expectedGenres = Set.<GenreID>of(
+                Fixture.Videos.genre().getId()
+        );
+        final var expectedCastMembers = Set.<CastMemberID>of(
+                Fixture.Videos.castMember().getId()
+        );
+
+        final Resource expectedVideo = Fixture.Videos.resource(Resource.Type.VIDEO);
+        final Resource expectedTrailer = Fixture.Videos.resource(Resource.Type.TRAILER);
+        final Resource expectedBanner = Fixture.Videos.resource(Resource.Type.BANNER);
+        final Resource expectedThumbnail = Fixture.Videos.resource(Resource.Type.THUMBNAIL);
+        final Resource expectedThumbnailHalf = Fixture.Videos.resource(Resource.Type.THUMBNAIL_HALF);
+
+        final var expectedErrorMessage = "An error on create video was observed [videoId:";
+
+        final var command = CreateVideoCommand.with(
+                expectedTitle,
+                expectedDescription,
+                launchYear.getValue(),
+                expectedDuration,
+                expectedOpened,
+                expectedPublished,
+                expectedRating.getName(),
+                asString(expectedCategories) ,
+                asString(expectedGenres),
+                asString(expectedCastMembers),
+                expectedVideo,
+                expectedTrailer,
+                expectedBanner,
+                expectedThumbnail,
+                expectedThumbnailHalf
+        );
+
+        when(categoryGateway.existsByIds(any()))
+                .thenReturn(new ArrayList<>(expectedCategories));
+
+        when(genreGateway.existsByIds(any()))
+                .thenReturn(new ArrayList<>(expectedGenres));
+
+        when(castMemberGateway.existsByIds(any()))
+                .thenReturn(new ArrayList<>(expectedCastMembers));
+
+        when(videoGateway.create(any()))
+                .thenAnswer(returnsFirstArg());
+
+        doThrow(new RejectedExecutionException("full"))
+                .when(mediaProcessingGateway).process(any(), any());
+
+        //when
+        final var output = Assertions.assertThrows(
+                InternalErrorException.class,
+                () -> defaultCreateVideoUseCase.execute(command)
+        );
+
+        //then
+        Assertions.assertNotNull(output);
+        Assertions.assertTrue(output.getMessage().startsWith(expectedErrorMessage));
+
+        verify(categoryGateway, times(1)).existsByIds(any());
+        verify(genreGateway, times(1)).existsByIds(any());
+        verify(castMemberGateway, times(1)).existsByIds(any());
+        verify(videoGateway, times(1)).create(any());
+        verify(mediaProcessingGateway, times(1)).process(any(), argThat(resources -> resources.size() == 5));
+        verify(videoGateway, times(1)).deleteById(any());
 
-    private void mockAudioVideoMedia() {
-        when(mediaResourceGateway.storeAudioVideo(any(), any())).thenAnswer( t -> {
-            final var resource = t.getArgument(1, Resource.class);
-            return AudioVideoMedia.with(UUID.randomUUID().toString(), resource.getName(), "/videos", "", MediaStatus.PENDING);
-        });
     }
 }
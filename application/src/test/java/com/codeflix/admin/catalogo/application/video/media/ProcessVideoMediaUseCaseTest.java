@@ -0,0 +1,263 @@
+package com.codeflix.admin.catalogo.application.video.media;
+
+import com.codeflix.admin.catalogo.application.Fixture;
+import com.codeflix.admin.catalogo.application.UseCaseTest;
+import com.codeflix.admin.catalogo.domain.exceptions.ConflictException;
+import com.codeflix.admin.catalogo.domain.exceptions.InternalErrorException;
+import com.codeflix.admin.catalogo.domain.video.*;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+
+import java.time.Duration;
+import java.time.Year;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class ProcessVideoMediaUseCaseTest extends UseCaseTest {
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Mock
+    private MediaResourceGateway mediaResourceGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(videoGateway, mediaResourceGateway);
+    }
+
+    private DefaultProcessVideoMediaUseCase newUseCase(final Executor anExecutor) {
+        return new DefaultProcessVideoMediaUseCase(videoGateway, mediaResourceGateway, anExecutor);
+    }
+
+    @Test
+    public void givenPendingMedia_whenCallsProcess_shouldStoreAndMoveThroughProcessingToCompleted() {
+        // given
+        final var expectedVideo = Fixture.Videos.resource(Resource.Type.VIDEO);
+        final var expectedTrailer = Fixture.Videos.resource(Resource.Type.TRAILER);
+        final var expectedBanner = Fixture.Videos.resource(Resource.Type.BANNER);
+        final var aVideo = newVideo()
+                .setVideo(AudioVideoMedia.pending(expectedVideo.getName()))
+                .setTrailer(AudioVideoMedia.pending(expectedTrailer.getName()))
+                .setBanner(ImageMedia.pending(expectedBanner.getName()));
+
+        when(videoGateway.findById(any()))
+                .thenAnswer(it -> Optional.of(Video.from(aVideo)));
+        when(videoGateway.update(any()))
+                .thenAnswer(returnsFirstArg());
+        when(mediaResourceGateway.storeAudioVideo(any(), any()))
+                .thenAnswer(it -> AudioVideoMedia.with(UUID.randomUUID().toString(), it.getArgument(1, Resource.class).getName(), "/videos", "", MediaStatus.PENDING));
+        when(mediaResourceGateway.storeImage(any(), any()))
+                .thenAnswer(it -> ImageMedia.with(UUID.randomUUID().toString(), it.getArgument(1, Resource.class).getName(), "/images"));
+
+        // when
+        newUseCase(Runnable::run).execute(ProcessVideoMediaCommand.with(
+                aVideo.getId().getValue(),
+                List.of(expectedVideo, expectedTrailer, expectedBanner)
+        ));
+
+        // then
+        final var captor = ArgumentCaptor.forClass(Video.class);
+        verify(videoGateway, times(2)).update(captor.capture());
+
+        final var processing = captor.getAllValues().get(0);
+        Assertions.assertEquals(MediaStatus.PROCESSING, processing.getVideo().get().getStatus());
+        Assertions.assertEquals(MediaStatus.PROCESSING, processing.getTrailer().get().getStatus());
+
+        final var completed = captor.getAllValues().get(1);
+        Assertions.assertEquals(MediaStatus.COMPLETED, completed.getVideo().get().getStatus());
+        Assertions.assertEquals("/videos", completed.getVideo().get().getRawLocation());
+        Assertions.assertEquals(MediaStatus.COMPLETED, completed.getTrailer().get().getStatus());
+        Assertions.assertEquals("/images", completed.getBanner().get().getLocation());
+
+        verify(mediaResourceGateway, times(2)).storeAudioVideo(any(), any());
+        verify(mediaResourceGateway, times(1)).storeImage(any(), any());
+        verify(mediaResourceGateway, times(0)).clearResources(any());
+    }
+
+    @Test
+    public void givenMediaRemovedWhileStoring_whenCallsProcess_shouldReleaseTheStoredFileInsteadOfApplyingIt() {
+        // given
+        final var expectedVideo = Fixture.Videos.resource(Resource.Type.VIDEO);
+        final var expectedBanner = Fixture.Videos.resource(Resource.Type.BANNER);
+        final var aVideo = newVideo()
+                .setVideo(AudioVideoMedia.pending(expectedVideo.getName()))
+                .setBanner(ImageMedia.pending(expectedBanner.getName()));
+        final var edited = Video.from(aVideo).setBanner(null);
+
+        when(videoGateway.findById(any()))
+                .thenAnswer(it -> Optional.of(Video.from(aVideo)))
+                .thenAnswer(it -> Optional.of(Video.from(edited)));
+        when(videoGateway.update(any()))
+                .thenAnswer(returnsFirstArg());
+        when(mediaResourceGateway.storeAudioVideo(any(), any()))
+                .thenAnswer(it -> AudioVideoMedia.with(UUID.randomUUID().toString(), expectedVideo.getName(), "/videos", "", MediaStatus.PENDING));
+        when(mediaResourceGateway.storeImage(any(), any()))
+                .thenAnswer(it -> ImageMedia.with(UUID.randomUUID().toString(), expectedBanner.getName(), "/images"));
+
+        // when
+        newUseCase(Runnable::run).execute(ProcessVideoMediaCommand.with(
+                aVideo.getId().getValue(),
+                List.of(expectedVideo, expectedBanner)
+        ));
+
+        // then
+        final var captor = ArgumentCaptor.forClass(Video.class);
+        verify(videoGateway, times(2)).update(captor.capture());
+
+        final var completed = captor.getAllValues().get(1);
+        Assertions.assertEquals(MediaStatus.COMPLETED, completed.getVideo().get().getStatus());
+        Assertions.assertTrue(completed.getBanner().isEmpty());
+
+        verify(mediaResourceGateway, times(1)).release(aVideo.getId(), Resource.Type.BANNER);
+        verify(mediaResourceGateway, times(0)).release(aVideo.getId(), Resource.Type.VIDEO);
+        verify(mediaResourceGateway, times(0)).clearResources(any());
+    }
+
+    @Test
+    public void givenAConcurrentEdit_whenCallsProcess_shouldReapplyTheMediaOnTopOfTheEdit() {
+        // given
+        final var expectedVideo = Fixture.Videos.resource(Resource.Type.VIDEO);
+        final var aVideo = newVideo()
+                .setVideo(AudioVideoMedia.pending(expectedVideo.getName()));
+        final var edited = Video.from(aVideo).setVersion(aVideo.getVersion() + 1);
+        edited.update("Edited", edited.getDescription(), edited.getLaunchedAt(), edited.getDuration(), edited.getRating(),
+                edited.isOpened(), edited.isPublished(), Set.of(), Set.of(), Set.of());
+
+        when(videoGateway.findById(any()))
+                .thenAnswer(it -> Optional.of(Video.from(aVideo)))
+                .thenAnswer(it -> Optional.of(Video.from(aVideo)))
+                .thenAnswer(it -> Optional.of(Video.from(edited)));
+        when(videoGateway.update(any()))
+                .thenAnswer(returnsFirstArg())
+                .thenThrow(ConflictException.raise(Video.class, aVideo.getId()))
+                .thenAnswer(returnsFirstArg());
+        when(mediaResourceGateway.storeAudioVideo(any(), any()))
+                .thenAnswer(it -> AudioVideoMedia.with(UUID.randomUUID().toString(), expectedVideo.getName(), "/videos", "", MediaStatus.PENDING));
+
+        // when
+        newUseCase(Runnable::run).execute(ProcessVideoMediaCommand.with(aVideo.getId().getValue(), List.of(expectedVideo)));
+
+        // then
+        final var captor = ArgumentCaptor.forClass(Video.class);
+        verify(videoGateway, times(3)).update(captor.capture());
+
+        final var completed = captor.getAllValues().get(2);
+        Assertions.assertEquals("Edited", completed.getTitle());
+        Assertions.assertEquals(edited.getVersion(), completed.getVersion());
+        Assertions.assertEquals(MediaStatus.COMPLETED, completed.getVideo().get().getStatus());
+        verify(mediaResourceGateway, times(0)).release(any(), any());
+    }
+
+    @Test
+    public void givenAStorageFailure_whenCallsProcess_shouldReleaseTheJobTypesAndDetachMedia() {
+        // given
+        final var expectedVideo = Fixture.Videos.resource(Resource.Type.VIDEO);
+        final var aVideo = newVideo()
+                .setVideo(AudioVideoMedia.pending(expectedVideo.getName()));
+        final var expectedErrorMessage = "An error on process video media was observed [videoId:%s]"
+                .formatted(aVideo.getId().getValue());
+
+        when(videoGateway.findById(any()))
+                .thenAnswer(it -> Optional.of(Video.from(aVideo)));
+        when(videoGateway.update(any()))
+                .thenAnswer(returnsFirstArg());
+        when(mediaResourceGateway.storeAudioVideo(any(), any()))
+                .thenThrow(new RuntimeException("disk full"));
+
+        // when
+        final var output = Assertions.assertThrows(
+                InternalErrorException.class,
+                () -> newUseCase(Runnable::run).execute(ProcessVideoMediaCommand.with(aVideo.getId().getValue(), List.of(expectedVideo)))
+        );
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, output.getMessage());
+
+        final var captor = ArgumentCaptor.forClass(Video.class);
+        verify(videoGateway, times(2)).update(captor.capture());
+        Assertions.assertTrue(captor.getAllValues().get(1).getVideo().isEmpty());
+
+        verify(mediaResourceGateway, times(1)).release(aVideo.getId(), Resource.Type.VIDEO);
+        verify(mediaResourceGateway, times(0)).release(aVideo.getId(), Resource.Type.BANNER);
+        verify(mediaResourceGateway, times(0)).clearResources(any());
+    }
+
+    @Test
+    public void givenOneFailingStore_whenCallsProcessInParallel_shouldCancelTheOthersAndReleaseEachTypeOnce() throws Exception {
+        // given
+        final var resources = List.of(
+                Fixture.Videos.resource(Resource.Type.VIDEO),
+                Fixture.Videos.resource(Resource.Type.TRAILER),
+                Fixture.Videos.resource(Resource.Type.BANNER),
+                Fixture.Videos.resource(Resource.Type.THUMBNAIL),
+                Fixture.Videos.resource(Resource.Type.THUMBNAIL_HALF)
+        );
+        final var aVideo = newVideo();
+        final var interrupted = new AtomicInteger();
+        final var executor = Executors.newFixedThreadPool(resources.size());
+
+        when(videoGateway.findById(any()))
+                .thenAnswer(it -> Optional.of(Video.from(aVideo)));
+        when(videoGateway.update(any()))
+                .thenAnswer(returnsFirstArg());
+        when(mediaResourceGateway.storeAudioVideo(any(), any()))
+                .thenThrow(new RuntimeException("disk full"));
+        when(mediaResourceGateway.storeImage(any(), any()))
+                .thenAnswer(it -> {
+                    try {
+                        Thread.sleep(Duration.ofMinutes(1).toMillis());
+                    } catch (InterruptedException e) {
+                        interrupted.incrementAndGet();
+                        throw e;
+                    }
+                    return ImageMedia.with(UUID.randomUUID().toString(), "image", "/images");
+                });
+
+        // when
+        try {
+            Assertions.assertTimeoutPreemptively(Duration.ofSeconds(10), () -> Assertions.assertThrows(
+                    InternalErrorException.class,
+                    () -> newUseCase(executor).execute(ProcessVideoMediaCommand.with(aVideo.getId().getValue(), resources))
+            ));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        resources.forEach(it -> verify(mediaResourceGateway, times(1)).release(aVideo.getId(), it.getType()));
+        verify(mediaResourceGateway, times(0)).clearResources(any());
+        Assertions.assertEquals(
+                (int) mockingDetails(mediaResourceGateway).getInvocations().stream()
+                        .filter(it -> it.getMethod().getName().equals("storeImage"))
+                        .count(),
+                interrupted.get()
+        );
+    }
+
+    private static Video newVideo() {
+        return Video.create(
+                Fixture.Videos.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.year()),
+                Fixture.Videos.duration(),
+                Fixture.Videos.rating(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Set.of(),
+                Set.of(),
+                Set.of()
+        );
+    }
+}
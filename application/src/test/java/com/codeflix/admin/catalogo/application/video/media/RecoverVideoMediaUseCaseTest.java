@@ -0,0 +1,88 @@
+package com.codeflix.admin.catalogo.application.video.media;
+
+import com.codeflix.admin.catalogo.application.Fixture;
+import com.codeflix.admin.catalogo.application.UseCaseTest;
+import com.codeflix.admin.catalogo.domain.video.*;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+
+import java.time.Year;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class RecoverVideoMediaUseCaseTest extends UseCaseTest {
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Mock
+    private MediaResourceGateway mediaResourceGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(videoGateway, mediaResourceGateway);
+    }
+
+    @Test
+    public void givenVideosWithUnfinishedMedia_whenCallsRecover_shouldDetachOnlyThatMediaAndReleaseIt() {
+        // given
+        final var completedTrailer = AudioVideoMedia.with("trailer", "trailer.mp4", "/trailers", "", MediaStatus.COMPLETED);
+        final var storedBanner = ImageMedia.with("banner", "banner.jpg", "/images");
+        final var aVideo = newVideo()
+                .setVideo(AudioVideoMedia.pending("video.mp4").processing())
+                .setTrailer(completedTrailer)
+                .setBanner(storedBanner)
+                .setThumbnail(ImageMedia.pending("thumbnail.jpg"));
+        final var finishedMeanwhile = newVideo();
+
+        when(videoGateway.findIdsWithPendingMedia())
+                .thenReturn(List.of(aVideo.getId(), finishedMeanwhile.getId()));
+        when(videoGateway.findById(aVideo.getId()))
+                .thenReturn(Optional.of(Video.from(aVideo)));
+        when(videoGateway.findById(finishedMeanwhile.getId()))
+                .thenReturn(Optional.of(Video.from(finishedMeanwhile)));
+        when(videoGateway.update(any()))
+                .thenAnswer(returnsFirstArg());
+
+        // when
+        final var actualRecovered = new DefaultRecoverVideoMediaUseCase(videoGateway, mediaResourceGateway).execute();
+
+        // then
+        Assertions.assertEquals(1, actualRecovered);
+
+        final var captor = ArgumentCaptor.forClass(Video.class);
+        verify(videoGateway, times(1)).update(captor.capture());
+
+        final var actualVideo = captor.getValue();
+        Assertions.assertTrue(actualVideo.getVideo().isEmpty());
+        Assertions.assertTrue(actualVideo.getThumbnail().isEmpty());
+        Assertions.assertEquals(completedTrailer, actualVideo.getTrailer().get());
+        Assertions.assertEquals(storedBanner, actualVideo.getBanner().get());
+
+        verify(mediaResourceGateway, times(1)).release(aVideo.getId(), Resource.Type.VIDEO);
+        verify(mediaResourceGateway, times(1)).release(aVideo.getId(), Resource.Type.THUMBNAIL);
+        verifyNoMoreInteractions(mediaResourceGateway);
+    }
+
+    private static Video newVideo() {
+        return Video.create(
+                Fixture.Videos.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.year()),
+                Fixture.Videos.duration(),
+                Fixture.Videos.rating(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Set.of(),
+                Set.of(),
+                Set.of()
+        );
+    }
+}
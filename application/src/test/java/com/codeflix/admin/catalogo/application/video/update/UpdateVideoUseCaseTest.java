@@ -2,6 +2,7 @@ package com.codeflix.admin.catalogo.application.video.update;
 
 import com.codeflix.admin.catalogo.application.Fixture;
 import com.codeflix.admin.catalogo.application.UseCaseTest;
+import com.codeflix.admin.catalogo.application.video.VideoReferenceValidator;
 
 import com.codeflix.admin.catalogo.application.video.create.CreateVideoCommand;
 import com.codeflix.admin.catalogo.domain.castmember.CastMemberGateway;
@@ -14,12 +15,13 @@ import com.codeflix.admin.catalogo.domain.genre.GenreGateway;
 import com.codeflix.admin.catalogo.domain.genre.GenreID;
 import com.codeflix.admin.catalogo.domain.video.*;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
 import java.time.Year;
 import java.util.*;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
@@ -29,7 +31,6 @@ import static org.mockito.Mockito.times;
 
 public class UpdateVideoUseCaseTest extends UseCaseTest {
 
-    @InjectMocks
     private DefaultUpdateVideoUseCase updateVideoUseCase;
 
     @Mock
@@ -45,11 +46,17 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
     private CastMemberGateway castMemberGateway;
 
     @Mock
-    private MediaResourceGateway mediaResourceGateway;
+    private MediaProcessingGateway mediaProcessingGateway;
 
     @Override
     protected List<Object> getMocks() {
-        return List.of(videoGateway, categoryGateway, genreGateway, castMemberGateway, mediaResourceGateway);
+        return List.of(videoGateway, categoryGateway, genreGateway, castMemberGateway, mediaProcessingGateway);
+    }
+
+    @BeforeEach
+    void setUp() {
+        final var referenceValidator = new VideoReferenceValidator(categoryGateway, genreGateway, castMemberGateway, Runnable::run);
+        updateVideoUseCase = new DefaultUpdateVideoUseCase(referenceValidator, videoGateway, mediaProcessingGateway);
     }
 
     @Test
@@ -126,9 +133,6 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
         when(videoGateway.update(any()))
                 .thenAnswer(returnsFirstArg());
 
-        mockImageMedia();
-        mockAudioVideoMedia();
-
         //when
         final var output = updateVideoUseCase.execute(command);
 
@@ -151,6 +155,7 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
                         && expectedCastMembers.size() == videoArg.getCastMembers().size()
                         && expectedCastMembers.containsAll(videoArg.getCastMembers())
                         && videoArg.getVideo().isPresent()
+                        && MediaStatus.PENDING == videoArg.getVideo().get().getStatus()
                         && Objects.equals(expectedVideo.getName(), videoArg.getVideo().get().getName())
                         && videoArg.getTrailer().isPresent()
                         && Objects.equals(expectedTrailer.getName(), videoArg.getTrailer().get().getName())
@@ -225,9 +230,6 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
         when(videoGateway.update(any()))
                 .thenAnswer(returnsFirstArg());
 
-        mockImageMedia();
-        mockAudioVideoMedia();
-
         //when
         final var output = updateVideoUseCase.execute(command);
 
@@ -439,8 +441,7 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
         verify(categoryGateway, times(0)).existsByIds(any());
         verify(genreGateway, times(0)).existsByIds(any());
         verify(castMemberGateway, times(0)).existsByIds(any());
-        verify(mediaResourceGateway, times(0)).storeAudioVideo(any(), any());
-        verify(mediaResourceGateway, times(0)).storeImage(any(), any());
+        verify(mediaProcessingGateway, times(0)).process(any(), any());
         verify(videoGateway, times(0)).update(any());
     }
 
@@ -517,8 +518,7 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
         verify(categoryGateway, times(0)).existsByIds(any());
         verify(genreGateway, times(0)).existsByIds(any());
         verify(castMemberGateway, times(0)).existsByIds(any());
-        verify(mediaResourceGateway, times(0)).storeAudioVideo(any(), any());
-        verify(mediaResourceGateway, times(0)).storeImage(any(), any());
+        verify(mediaProcessingGateway, times(0)).process(any(), any());
         verify(videoGateway, times(0)).update(any());
     }
 
@@ -594,8 +594,7 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
         verify(categoryGateway, times(0)).existsByIds(any());
         verify(genreGateway, times(0)).existsByIds(any());
         verify(castMemberGateway, times(0)).existsByIds(any());
-        verify(mediaResourceGateway, times(0)).storeAudioVideo(any(), any());
-        verify(mediaResourceGateway, times(0)).storeImage(any(), any());
+        verify(mediaProcessingGateway, times(0)).process(any(), any());
         verify(videoGateway, times(0)).update(any());
     }
 
@@ -672,8 +671,7 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
         verify(categoryGateway, times(0)).existsByIds(any());
         verify(genreGateway, times(0)).existsByIds(any());
         verify(castMemberGateway, times(0)).existsByIds(any());
-        verify(mediaResourceGateway, times(0)).storeAudioVideo(any(), any());
-        verify(mediaResourceGateway, times(0)).storeImage(any(), any());
+        verify(mediaProcessingGateway, times(0)).process(any(), any());
         verify(videoGateway, times(0)).update(any());
     }
 
@@ -750,8 +748,7 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
         verify(categoryGateway, times(0)).existsByIds(any());
         verify(genreGateway, times(0)).existsByIds(any());
         verify(castMemberGateway, times(0)).existsByIds(any());
-        verify(mediaResourceGateway, times(0)).storeAudioVideo(any(), any());
-        verify(mediaResourceGateway, times(0)).storeImage(any(), any());
+        verify(mediaProcessingGateway, times(0)).process(any(), any());
         verify(videoGateway, times(0)).update(any());
     }
 
@@ -845,8 +842,7 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
         verify(categoryGateway, times(1)).existsByIds(any());
         verify(genreGateway, times(1)).existsByIds(any());
         verify(castMemberGateway, times(1)).existsByIds(any());
-        verify(mediaResourceGateway, times(0)).storeAudioVideo(any(), any());
-        verify(mediaResourceGateway, times(0)).storeImage(any(), any());
+        verify(mediaProcessingGateway, times(0)).process(any(), any());
         verify(videoGateway, times(0)).update(any());
 
     }
@@ -940,8 +936,7 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
         verify(categoryGateway, times(1)).existsByIds(any());
         verify(genreGateway, times(1)).existsByIds(any());
         verify(castMemberGateway, times(1)).existsByIds(any());
-        verify(mediaResourceGateway, times(0)).storeAudioVideo(any(), any());
-        verify(mediaResourceGateway, times(0)).storeImage(any(), any());
+        verify(mediaProcessingGateway, times(0)).process(any(), any());
         verify(videoGateway, times(0)).update(any());
 
     }
@@ -1035,13 +1030,12 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
         verify(categoryGateway, times(1)).existsByIds(any());
         verify(genreGateway, times(1)).existsByIds(any());
         verify(castMemberGateway, times(1)).existsByIds(any());
-        verify(mediaResourceGateway, times(0)).storeAudioVideo(any(), any());
-        verify(mediaResourceGateway, times(0)).storeImage(any(), any());
+        verify(mediaProcessingGateway, times(0)).process(any(), any());
         verify(videoGateway, times(0)).update(any());
     }
 
     @Test
-    public void givenAValidCommand_whenCallingCreateVideoThrowsException_shouldCallClearResources() {
+    public void givenAValidCommand_whenCallingUpdateVideoThrowsException_shouldNotProcessMedia() {
         //given
         final var expectedTitle = Fixture.Videos.title();
         final var expectedDescription = Fixture.Videos.description();
@@ -1113,9 +1107,6 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
         when(castMemberGateway.existsByIds(any()))
                 .thenReturn(new ArrayList<>(expectedCastMembers));
 
-        mockImageMedia();
-        mockAudioVideoMedia();
-
         when(videoGateway.update(any()))
                 .thenThrow(new RuntimeException("error"));
 
@@ -1132,24 +1123,106 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
         verify(categoryGateway, times(1)).existsByIds(any());
         verify(genreGateway, times(1)).existsByIds(any());
         verify(castMemberGateway, times(1)).existsByIds(any());
-        verify(mediaResourceGateway, times(2)).storeAudioVideo(any(), any());
-        verify(mediaResourceGateway, times(3)).storeImage(any(), any());
         verify(videoGateway, times(1)).update(any());
-        verify(mediaResourceGateway, times(0)).clearResources(any());
+        verify(mediaProcessingGateway, times(0)).process(any(), any());
 
     }
 
-    private void mockImageMedia() {
-        when(mediaResourceGateway.storeImage(any(), any())).thenAnswer( t -> {
-            final var resource = t.getArgument(1, Resource.class);
-            return ImageMedia.with(UUID.randomUUID().toString(), resource.getName(), "/images");
-        });
-    }
+    @Test
+    public void givenAValidCommand_whenMediaProcessingRejects_shouldRestorePreviousVideo() {
+        //given
+        final var expectedTitle = Fixture.Videos.title();
+        final var expectedDescription = Fixture.Videos.description();
+        final var launchYear = Fixture.year();
+        final var expectedDuration = Fixture.Videos.duration();
+        final var expectedOpened = Fixture.bool();
+        final var expectedPublished = Fixture.bool();
+        final var expectedRating = Fixture.Videos.rating();
+        final var expectedCategories = Set.<CategoryID>of(
+                Fixture.Videos.category().getId()
+        );
+        final var expectedGenres = Set.<GenreID>of(
+                Fixture.Videos.genre().getId()
+        );
+        final var expectedCastMembers = Set.<CastMemberID>of(
+                Fixture.Videos.castMember().getId()
+        );
+
+        final Resource expectedVideo = Fixture.Videos.resource(Resource.Type.VIDEO);
+        final Resource expectedTrailer = Fixture.Videos.resource(Resource.Type.TRAILER);
+        final Resource expectedBanner = Fixture.Videos.resource(Resource.Type.BANNER);
+        final Resource expectedThumbnail = Fixture.Videos.resource(Resource.Type.THUMBNAIL);
+        final Resource expectedThumbnailHalf = Fixture.Videos.resource(Resource.Type.THUMBNAIL_HALF);
+
+        final var expectedErrorMessage = "An error on update video was observed [videoId:";
+
+        final var originalVideo = Video.create(
+                Fixture.Videos.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.year()),
+                Fixture.Videos.duration(),
+                Fixture.Videos.rating(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Set.of(Fixture.Videos.category().getId()),
+                Set.of(Fixture.Videos.genre().getId()),
+                Set.of(Fixture.Videos.castMember().getId())
+        );
+        final var videoId = originalVideo.getId();
+
+        final var command = UpdateVideoCommand.with(
+                videoId.getValue(),
+                expectedTitle,
+                expectedDescription,
+                launchYear,
+                expectedDuration,
+                expectedOpened,
+                expectedPublished,
+                expectedRating.getName(),
+                asString(expectedCategories) ,
+                asString(expectedGenres),
+                asString(expectedCastMembers),
+                expectedVideo,
+                expectedTrailer,
+                expectedBanner,
+                expectedThumbnail,
+                expectedThumbnailHalf
+        );
+
+        when(videoGateway.findById(any()))
+                .thenReturn(Optional.of(Video.from(originalVideo)));
+
+        when(categoryGateway.existsByIds(any()))
+                .thenReturn(new ArrayList<>(expectedCategories));
+
+        when(genreGateway.existsByIds(any()))
+                .thenReturn(new ArrayList<>(expectedGenres));
+
+        when(castMemberGateway.existsByIds(any()))
+                .thenReturn(new ArrayList<>(expectedCastMembers));
+
+        when(videoGateway.update(any()))
+                .thenAnswer(returnsFirstArg());
+
+        doThrow(new RejectedExecutionException("full"))
+                .when(mediaProcessingGateway).process(any(), any());
+
+        //when
+        final var output = Assertions.assertThrows(
+                InternalErrorException.class,
+                () -> updateVideoUseCase.execute(command)
+        );
+
+        //then
+        Assertions.assertNotNull(output);
+        Assertions.assertTrue(output.getMessage().startsWith(expectedErrorMessage));
+
+        verify(categoryGateway, times(1)).existsByIds(any());
+        verify(genreGateway, times(1)).existsByIds(any());
+        verify(castMemberGateway, times(1)).existsByIds(any());
+        verify(videoGateway, times(2)).update(any());
+        verify(mediaProcessingGateway, times(1)).process(any(), argThat(resources -> resources.size() == 5));
+        verify(videoGateway).update(argThat(videoArg -> Objects.equals(originalVideo.getTitle(), videoArg.getTitle())));
 
-    private void mockAudioVideoMedia() {
-        when(mediaResourceGateway.storeAudioVideo(any(), any())).thenAnswer( t -> {
-            final var resource = t.getArgument(1, Resource.class);
-            return AudioVideoMedia.with(UUID.randomUUID().toString(), resource.getName(), "/videos", "", MediaStatus.PENDING);
-        });
     }
 }
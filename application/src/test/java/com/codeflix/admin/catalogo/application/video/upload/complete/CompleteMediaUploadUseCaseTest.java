@@ -0,0 +1,244 @@
+package com.codeflix.admin.catalogo.application.video.upload.complete;
+
+import com.codeflix.admin.catalogo.application.Fixture;
+import com.codeflix.admin.catalogo.application.UseCaseTest;
+import com.codeflix.admin.catalogo.domain.exceptions.ConflictException;
+import com.codeflix.admin.catalogo.domain.exceptions.DomainException;
+import com.codeflix.admin.catalogo.domain.exceptions.InternalErrorException;
+import com.codeflix.admin.catalogo.domain.video.*;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.time.Year;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class CompleteMediaUploadUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultCompleteMediaUploadUseCase useCase;
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Mock
+    private MediaUploadGateway mediaUploadGateway;
+
+    @Mock
+    private MediaProcessingGateway mediaProcessingGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(videoGateway, mediaUploadGateway, mediaProcessingGateway);
+    }
+
+    @Test
+    public void givenAFullyReceivedUpload_whenCallsComplete_shouldMarkTrailerPendingAndProcessIt() {
+        // given
+        final var aVideo = newVideo();
+        final var expectedResource = Fixture.Videos.resource(Resource.Type.TRAILER);
+        final var anUpload = MediaUpload.with(
+                "upload-1",
+                aVideo.getId(),
+                Resource.Type.TRAILER,
+                "trailer.mp4",
+                "video/mp4",
+                10,
+                List.of(new MediaUpload.ByteRange(5, 10), new MediaUpload.ByteRange(0, 5))
+        );
+
+        when(mediaUploadGateway.findById(any()))
+                .thenReturn(Optional.of(anUpload));
+        when(videoGateway.findById(any()))
+                .thenReturn(Optional.of(Video.from(aVideo)));
+        when(mediaUploadGateway.complete(any()))
+                .thenReturn(true);
+        when(videoGateway.update(any()))
+                .thenAnswer(returnsFirstArg());
+        when(mediaUploadGateway.open(any()))
+                .thenReturn(expectedResource);
+
+        // when
+        final var output = useCase.execute(anUpload.id());
+
+        // then
+        Assertions.assertTrue(output.complete());
+        Assertions.assertEquals(10, output.received());
+
+        verify(videoGateway).update(argThat(it ->
+                it.getTrailer().isPresent()
+                        && MediaStatus.PENDING == it.getTrailer().get().getStatus()
+                        && "trailer.mp4".equals(it.getTrailer().get().getName())
+        ));
+        final var onFinished = ArgumentCaptor.forClass(Runnable.class);
+        verify(mediaUploadGateway).complete(eq(anUpload.id()));
+        verify(mediaProcessingGateway).process(eq(aVideo.getId()), eq(List.of(expectedResource)), onFinished.capture());
+        verify(mediaUploadGateway, times(0)).deleteById(any());
+
+        onFinished.getValue().run();
+        verify(mediaUploadGateway).deleteById(eq(anUpload.id()));
+    }
+
+    @Test
+    public void givenAnAlreadyCompletedUpload_whenCallsComplete_shouldReturnDomainException() {
+        // given
+        final var aVideo = newVideo();
+        final var anUpload = MediaUpload.with(
+                "upload-1",
+                aVideo.getId(),
+                Resource.Type.VIDEO,
+                "video.mp4",
+                "video/mp4",
+                10,
+                List.of(new MediaUpload.ByteRange(0, 10))
+        );
+        final var expectedErrorMessage = "Upload upload-1 was already completed";
+
+        when(mediaUploadGateway.findById(any()))
+                .thenReturn(Optional.of(anUpload));
+        when(videoGateway.findById(any()))
+                .thenReturn(Optional.of(Video.from(aVideo)));
+        when(mediaUploadGateway.complete(any()))
+                .thenReturn(false);
+
+        // when
+        final var output = Assertions.assertThrows(
+                DomainException.class,
+                () -> useCase.execute(anUpload.id())
+        );
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, output.getErrors().get(0).message());
+        verify(videoGateway, times(0)).update(any());
+        verify(mediaProcessingGateway, times(0)).process(any(), any(), any());
+    }
+
+    @Test
+    public void givenARejectedJob_whenCallsComplete_shouldRestoreTheVideoAndReopenTheUpload() {
+        // given
+        final var aVideo = newVideo();
+        final var anUpload = MediaUpload.with(
+                "upload-1",
+                aVideo.getId(),
+                Resource.Type.VIDEO,
+                "video.mp4",
+                "video/mp4",
+                10,
+                List.of(new MediaUpload.ByteRange(0, 10))
+        );
+
+        when(mediaUploadGateway.findById(any()))
+                .thenReturn(Optional.of(anUpload));
+        when(videoGateway.findById(any()))
+                .thenReturn(Optional.of(Video.from(aVideo)));
+        when(mediaUploadGateway.complete(any()))
+                .thenReturn(true);
+        when(videoGateway.update(any()))
+                .thenAnswer(returnsFirstArg());
+        when(mediaUploadGateway.open(any()))
+                .thenReturn(Fixture.Videos.resource(Resource.Type.VIDEO));
+        doThrow(new RuntimeException("Media processing queue is full"))
+                .when(mediaProcessingGateway).process(any(), any(), any());
+
+        // when
+        Assertions.assertThrows(
+                InternalErrorException.class,
+                () -> useCase.execute(anUpload.id())
+        );
+
+        // then
+        verify(videoGateway, times(2)).update(any());
+        verify(mediaUploadGateway).reopen(eq(anUpload.id()));
+        verify(mediaUploadGateway, times(0)).deleteById(any());
+    }
+
+    @Test
+    public void givenAConcurrentVideoWrite_whenCallsComplete_shouldRaiseConflictAndReopenTheUpload() {
+        // given
+        final var aVideo = newVideo();
+        final var anUpload = MediaUpload.with(
+                "upload-1",
+                aVideo.getId(),
+                Resource.Type.VIDEO,
+                "video.mp4",
+                "video/mp4",
+                10,
+                List.of(new MediaUpload.ByteRange(0, 10))
+        );
+
+        when(mediaUploadGateway.findById(any()))
+                .thenReturn(Optional.of(anUpload));
+        when(videoGateway.findById(any()))
+                .thenReturn(Optional.of(Video.from(aVideo)));
+        when(mediaUploadGateway.complete(any()))
+                .thenReturn(true);
+        when(videoGateway.update(any()))
+                .thenThrow(ConflictException.raise(Video.class, aVideo.getId()));
+
+        // when
+        Assertions.assertThrows(
+                ConflictException.class,
+                () -> useCase.execute(anUpload.id())
+        );
+
+        // then
+        verify(videoGateway, times(1)).update(any());
+        verify(mediaProcessingGateway, times(0)).process(any(), any(), any());
+        verify(mediaUploadGateway).reopen(eq(anUpload.id()));
+    }
+
+    @Test
+    public void givenAPartiallyReceivedUpload_whenCallsComplete_shouldReturnDomainException() {
+        // given
+        final var anUpload = MediaUpload.with(
+                "upload-1",
+                VideoID.generateUnique(),
+                Resource.Type.VIDEO,
+                "video.mp4",
+                "video/mp4",
+                10,
+                List.of(new MediaUpload.ByteRange(0, 4))
+        );
+        final var expectedErrorMessage = "Upload upload-1 is missing 6 bytes";
+
+        when(mediaUploadGateway.findById(any()))
+                .thenReturn(Optional.of(anUpload));
+
+        // when
+        final var output = Assertions.assertThrows(
+                DomainException.class,
+                () -> useCase.execute(anUpload.id())
+        );
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, output.getErrors().get(0).message());
+        verify(videoGateway, times(0)).update(any());
+        verify(mediaUploadGateway, times(0)).complete(any());
+        verify(mediaProcessingGateway, times(0)).process(any(), any(), any());
+    }
+
+    private static Video newVideo() {
+        return Video.create(
+                Fixture.Videos.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.year()),
+                Fixture.Videos.duration(),
+                Fixture.Videos.rating(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Set.of(),
+                Set.of(),
+                Set.of()
+        );
+    }
+}
@@ -0,0 +1,93 @@
+package com.codeflix.admin.catalogo.application.video.upload.initiate;
+
+import com.codeflix.admin.catalogo.application.UseCaseTest;
+import com.codeflix.admin.catalogo.domain.exceptions.NotificationException;
+import com.codeflix.admin.catalogo.domain.video.MediaUpload;
+import com.codeflix.admin.catalogo.domain.video.MediaUploadGateway;
+import com.codeflix.admin.catalogo.domain.video.Resource;
+import com.codeflix.admin.catalogo.domain.video.Video;
+import com.codeflix.admin.catalogo.domain.video.VideoGateway;
+import com.codeflix.admin.catalogo.domain.video.VideoID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class InitiateMediaUploadUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultInitiateMediaUploadUseCase useCase;
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Mock
+    private MediaUploadGateway mediaUploadGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(videoGateway, mediaUploadGateway);
+    }
+
+    @Test
+    public void givenAValidCommand_whenCallsInitiate_shouldCreateAnEmptyUpload() {
+        // given
+        final var expectedVideoId = VideoID.generateUnique();
+        final var expectedLength = 3L * 1024 * 1024 * 1024;
+        final var aCommand = InitiateMediaUploadCommand.with(expectedVideoId.getValue(), "video", "video.mp4", null, expectedLength);
+
+        when(videoGateway.findById(any()))
+                .thenReturn(Optional.of(mock(Video.class)));
+        when(mediaUploadGateway.create(any(), any(), any(), any(), anyLong()))
+                .thenAnswer(it -> MediaUpload.with(
+                        "upload-1",
+                        it.getArgument(0),
+                        it.getArgument(1),
+                        it.getArgument(2),
+                        it.getArgument(3),
+                        it.getArgument(4),
+                        List.of()
+                ));
+
+        // when
+        final var output = useCase.execute(aCommand);
+
+        // then
+        Assertions.assertEquals("upload-1", output.id());
+        Assertions.assertEquals(0, output.received());
+        Assertions.assertFalse(output.complete());
+
+        verify(mediaUploadGateway).create(
+                eq(expectedVideoId),
+                eq(Resource.Type.VIDEO),
+                eq("video.mp4"),
+                eq("application/octet-stream"),
+                eq(expectedLength)
+        );
+    }
+
+    @Test
+    public void givenAnImageType_whenCallsInitiate_shouldReturnNotificationException() {
+        // given
+        final var aCommand = InitiateMediaUploadCommand.with(VideoID.generateUnique().getValue(), "banner", "banner.jpg", "image/jpg", 10L);
+
+        // when
+        final var output = Assertions.assertThrows(
+                NotificationException.class,
+                () -> useCase.execute(aCommand)
+        );
+
+        // then
+        Assertions.assertEquals(1, output.getErrors().size());
+        Assertions.assertTrue(output.getErrors().get(0).message().startsWith("'type' should be one of"));
+        verify(mediaUploadGateway, times(0)).create(any(), any(), any(), any(), anyLong());
+    }
+}
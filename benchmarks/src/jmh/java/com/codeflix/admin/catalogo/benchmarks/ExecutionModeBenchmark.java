@@ -0,0 +1,125 @@
+package com.codeflix.admin.catalogo.benchmarks;
+
+import com.codeflix.admin.catalogo.infrastructure.sql.AdmissionControlDataSource;
+import com.codeflix.admin.catalogo.infrastructure.sql.AdmissionLimiter;
+import com.codeflix.admin.catalogo.infrastructure.utils.VirtualThreads;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.testcontainers.containers.MySQLContainer;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs each request as a {@code SELECT SLEEP(?)} through Hikari against MySQL, so the driver blocks on its
+ * socket inside its own {@code synchronized} blocks and virtual threads pin their carriers as they do in
+ * production. The pool settings mirror the application defaults.
+ */
+@State(Scope.Benchmark)
+public class ExecutionModeBenchmark {
+
+    private static final int WORKER_THREADS = 64;
+    private static final int POOL_SIZE = 20;
+    private static final long POOL_TIMEOUT_MILLIS = 250;
+
+    @Param({"1000"})
+    public int clients;
+
+    @Param({"5", "50"})
+    public long queryMillis;
+
+    @Param({"platform", "virtual"})
+    public String mode;
+
+    @Param({"false", "true"})
+    public boolean admission;
+
+    private MySQLContainer<?> mysql;
+    private HikariDataSource pool;
+    private DataSource dataSource;
+    private ExecutorService executor;
+
+    @Setup
+    public void setUp() {
+        mysql = new MySQLContainer<>("mysql:8.2.0");
+        mysql.start();
+
+        final var config = new HikariConfig();
+        config.setJdbcUrl(mysql.getJdbcUrl());
+        config.setUsername(mysql.getUsername());
+        config.setPassword(mysql.getPassword());
+        config.setMaximumPoolSize(POOL_SIZE);
+        config.setMinimumIdle(POOL_SIZE);
+        config.setConnectionTimeout(POOL_TIMEOUT_MILLIS);
+        pool = new HikariDataSource(config);
+
+        dataSource = admission
+                ? new AdmissionControlDataSource(pool, new AdmissionLimiter(POOL_SIZE, Duration.ofSeconds(30)))
+                : pool;
+        executor = "virtual".equals(mode)
+                ? VirtualThreads.newPerTaskExecutor()
+                : Executors.newFixedThreadPool(WORKER_THREADS);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+        pool.close();
+        mysql.stop();
+    }
+
+    @Benchmark
+    public void burst(final Outcomes outcomes) throws InterruptedException, ExecutionException {
+        final var requests = new ArrayList<Future<Boolean>>(clients);
+        for (int i = 0; i < clients; i++) {
+            requests.add(executor.submit(this::request));
+        }
+        for (final var request : requests) {
+            if (request.get()) {
+                outcomes.completed++;
+            } else {
+                outcomes.timedOut++;
+            }
+        }
+    }
+
+    private boolean request() throws SQLException {
+        try (final var connection = dataSource.getConnection();
+             final var statement = connection.prepareStatement("SELECT SLEEP(?)")) {
+            statement.setDouble(1, queryMillis / 1000.0);
+            statement.executeQuery().close();
+            return true;
+        } catch (final SQLTransientConnectionException e) {
+            return false;
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Outcomes {
+
+        public long completed;
+        public long timedOut;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            completed = 0;
+            timedOut = 0;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.codeflix.admin.catalogo.benchmarks;
+
+import com.codeflix.admin.catalogo.domain.category.CategoryID;
+import com.codeflix.admin.catalogo.domain.genre.Genre;
+import com.codeflix.admin.catalogo.domain.genre.GenreID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+public class GenreBenchmark {
+
+    @Param({"0", "10", "100"})
+    private int categoriesCount;
+
+    private GenreID id;
+    private List<CategoryID> categories;
+    private Instant now;
+
+    @Setup
+    public void setUp() {
+        id = GenreID.generateUnique();
+        categories = IntStream.range(0, categoriesCount).mapToObj(i -> CategoryID.generateUnique()).toList();
+        now = Instant.now();
+    }
+
+    @Benchmark
+    public Genre load() {
+        return Genre.load(id, "Action", true, new ArrayList<>(categories), now, now, null);
+    }
+}
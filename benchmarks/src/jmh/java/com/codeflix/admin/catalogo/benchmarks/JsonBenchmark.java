@@ -0,0 +1,44 @@
+package com.codeflix.admin.catalogo.benchmarks;
+
+import com.codeflix.admin.catalogo.domain.pagination.Pagination;
+import com.codeflix.admin.catalogo.infrastructure.category.models.CategoryListResponse;
+import com.codeflix.admin.catalogo.infrastructure.config.json.Json;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+public class JsonBenchmark {
+
+    @Param({"10", "50"})
+    private int perPage;
+
+    private Pagination<CategoryListResponse> page;
+
+    @Setup
+    public void setUp() {
+        final var now = Instant.now();
+        final var items = IntStream.range(0, perPage)
+                .mapToObj(i -> new CategoryListResponse(
+                        UUID.randomUUID().toString().replace("-", ""),
+                        "Category " + i,
+                        "The most watched category number " + i,
+                        true,
+                        now,
+                        null
+                ))
+                .toList();
+        page = new Pagination<>(0, perPage, 1_000, items);
+    }
+
+    @Benchmark
+    public String serializePage() {
+        return Json.writeValueAsString(page);
+    }
+}
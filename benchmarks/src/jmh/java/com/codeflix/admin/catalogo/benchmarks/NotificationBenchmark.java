@@ -0,0 +1,39 @@
+package com.codeflix.admin.catalogo.benchmarks;
+
+import com.codeflix.admin.catalogo.domain.exceptions.DomainException;
+import com.codeflix.admin.catalogo.domain.validation.Error;
+import com.codeflix.admin.catalogo.domain.validation.ValidationHandler;
+import com.codeflix.admin.catalogo.domain.validation.handlers.Notification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class NotificationBenchmark {
+
+    private static final Error AN_ERROR = new Error("'name' should not be null");
+
+    @Param({"1", "10"})
+    private int errorsCount;
+
+    @Benchmark
+    public ValidationHandler append() {
+        final var notification = Notification.create();
+        for (int i = 0; i < errorsCount; i++) {
+            notification.append(AN_ERROR);
+        }
+        return notification;
+    }
+
+    @Benchmark
+    public ValidationHandler validateThrowing() {
+        final var notification = Notification.create();
+        for (int i = 0; i < errorsCount; i++) {
+            notification.validate(() -> {
+                throw DomainException.raise(AN_ERROR);
+            });
+        }
+        return notification;
+    }
+}
@@ -0,0 +1,21 @@
+package com.codeflix.admin.catalogo.benchmarks;
+
+import com.codeflix.admin.catalogo.domain.video.Rating;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Optional;
+
+@State(Scope.Benchmark)
+public class RatingBenchmark {
+
+    @Param({"ER", "18", "unknown"})
+    private String label;
+
+    @Benchmark
+    public Optional<Rating> from() {
+        return Rating.from(label);
+    }
+}
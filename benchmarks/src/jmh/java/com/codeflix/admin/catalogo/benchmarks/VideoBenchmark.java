@@ -0,0 +1,52 @@
+package com.codeflix.admin.catalogo.benchmarks;
+
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberID;
+import com.codeflix.admin.catalogo.domain.category.CategoryID;
+import com.codeflix.admin.catalogo.domain.genre.GenreID;
+import com.codeflix.admin.catalogo.domain.video.Rating;
+import com.codeflix.admin.catalogo.domain.video.Video;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Year;
+import java.util.Set;
+
+@State(Scope.Benchmark)
+public class VideoBenchmark {
+
+    private Set<CategoryID> categories;
+    private Set<GenreID> genres;
+    private Set<CastMemberID> castMembers;
+    private Video video;
+
+    @Setup
+    public void setUp() {
+        categories = Set.of(CategoryID.generateUnique(), CategoryID.generateUnique());
+        genres = Set.of(GenreID.generateUnique(), GenreID.generateUnique());
+        castMembers = Set.of(CastMemberID.generateUnique(), CastMemberID.generateUnique(), CastMemberID.generateUnique());
+        video = create();
+    }
+
+    @Benchmark
+    public Video create() {
+        return Video.create(
+                "System Design Interviews",
+                "A video about system design",
+                Year.of(2022),
+                120.5,
+                Rating.L,
+                true,
+                true,
+                categories,
+                genres,
+                castMembers
+        );
+    }
+
+    @Benchmark
+    public Video from() {
+        return Video.from(video);
+    }
+}
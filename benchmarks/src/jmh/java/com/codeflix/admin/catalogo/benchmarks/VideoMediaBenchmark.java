@@ -0,0 +1,150 @@
+package com.codeflix.admin.catalogo.benchmarks;
+
+import com.codeflix.admin.catalogo.application.video.media.DefaultProcessVideoMediaUseCase;
+import com.codeflix.admin.catalogo.application.video.media.ProcessVideoMediaCommand;
+import com.codeflix.admin.catalogo.domain.pagination.Pagination;
+import com.codeflix.admin.catalogo.domain.video.AudioVideoMedia;
+import com.codeflix.admin.catalogo.domain.video.ImageMedia;
+import com.codeflix.admin.catalogo.domain.video.MediaResourceGateway;
+import com.codeflix.admin.catalogo.domain.video.MediaStatus;
+import com.codeflix.admin.catalogo.domain.video.Rating;
+import com.codeflix.admin.catalogo.domain.video.Resource;
+import com.codeflix.admin.catalogo.domain.video.Video;
+import com.codeflix.admin.catalogo.domain.video.VideoGateway;
+import com.codeflix.admin.catalogo.domain.video.VideoID;
+import com.codeflix.admin.catalogo.domain.video.VideoSearchQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.time.Year;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+@State(Scope.Benchmark)
+public class VideoMediaBenchmark {
+
+    @Param({"1", "10"})
+    public long latencyMillis;
+
+    @Param({"sequential", "parallel"})
+    public String storage;
+
+    private ExecutorService executor;
+    private DefaultProcessVideoMediaUseCase useCase;
+    private ProcessVideoMediaCommand command;
+
+    @Setup
+    public void setUp() {
+        final var video = Video.create(
+                "System Design Interviews",
+                "A video about system design",
+                Year.of(2022),
+                120.5,
+                Rating.L,
+                true,
+                true,
+                Set.of(),
+                Set.of(),
+                Set.of()
+        );
+
+        final var videoGateway = new InMemoryVideoGateway();
+        videoGateway.create(video);
+
+        executor = Executors.newFixedThreadPool(Resource.Type.values().length);
+        useCase = new DefaultProcessVideoMediaUseCase(
+                videoGateway,
+                new LatencyMediaResourceGateway(TimeUnit.MILLISECONDS.toNanos(latencyMillis)),
+                "parallel".equals(storage) ? executor : Runnable::run
+        );
+
+        final var content = new byte[1024];
+        command = ProcessVideoMediaCommand.with(
+                video.getId().getValue(),
+                Arrays.stream(Resource.Type.values())
+                        .map(type -> Resource.with(content, "application/octet-stream", type.name(), type))
+                        .toList()
+        );
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public void process() {
+        useCase.execute(command);
+    }
+
+    private record LatencyMediaResourceGateway(long latencyNanos) implements MediaResourceGateway {
+
+        @Override
+        public AudioVideoMedia storeAudioVideo(final VideoID anId, final Resource aResource) {
+            LockSupport.parkNanos(latencyNanos);
+            return AudioVideoMedia.with("checksum", aResource.getName(), "/videos", "", MediaStatus.PENDING);
+        }
+
+        @Override
+        public ImageMedia storeImage(final VideoID anId, final Resource aResource) {
+            LockSupport.parkNanos(latencyNanos);
+            return ImageMedia.with("checksum", aResource.getName(), "/images");
+        }
+
+        @Override
+        public void release(final VideoID anId, final Resource.Type aType) {
+        }
+
+        @Override
+        public void clearResources(final VideoID anId) {
+        }
+    }
+
+    private static class InMemoryVideoGateway implements VideoGateway {
+
+        private final Map<VideoID, Video> videos = new ConcurrentHashMap<>();
+
+        @Override
+        public Video create(final Video aVideo) {
+            videos.put(aVideo.getId(), Video.from(aVideo));
+            return aVideo;
+        }
+
+        @Override
+        public Video update(final Video aVideo) {
+            return create(aVideo);
+        }
+
+        @Override
+        public void deleteById(final VideoID anId) {
+            videos.remove(anId);
+        }
+
+        @Override
+        public Optional<Video> findById(final VideoID anId) {
+            return Optional.ofNullable(videos.get(anId)).map(Video::from);
+        }
+
+        @Override
+        public Pagination<Video> findAll(final VideoSearchQuery aQuery) {
+            return new Pagination<>(aQuery.page(), aQuery.perPage(), videos.size(), false, List.copyOf(videos.values()));
+        }
+
+        @Override
+        public List<VideoID> findIdsWithPendingMedia() {
+            return List.of();
+        }
+    }
+}
@@ -1,6 +1,55 @@
 package com.codeflix.admin.catalogo.domain;
 
+import com.codeflix.admin.catalogo.domain.utils.IdUtils;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Canonical UUID values are kept as their two halves, so the id sets held by aggregates compare two longs
+ * instead of 36 characters. Any other value is kept verbatim.
+ */
 public abstract class Identifier extends ValueObject {
 
-    public abstract String getValue();
+    private final long mostSigBits;
+    private final long leastSigBits;
+    private final String value;
+
+    protected Identifier(final String anId) {
+        if (IdUtils.isUUID(anId)) {
+            final var uuid = UUID.fromString(anId);
+            this.mostSigBits = uuid.getMostSignificantBits();
+            this.leastSigBits = uuid.getLeastSignificantBits();
+            this.value = null;
+        } else {
+            this.mostSigBits = 0L;
+            this.leastSigBits = 0L;
+            this.value = Objects.requireNonNull(anId);
+        }
+    }
+
+    protected Identifier(final UUID anId) {
+        this.mostSigBits = anId.getMostSignificantBits();
+        this.leastSigBits = anId.getLeastSignificantBits();
+        this.value = null;
+    }
+
+    public String getValue() {
+        return value != null ? value : new UUID(mostSigBits, leastSigBits).toString();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final Identifier that = (Identifier) o;
+        return mostSigBits == that.mostSigBits
+                && leastSigBits == that.leastSigBits
+                && Objects.equals(value, that.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return value != null ? value.hashCode() : Long.hashCode(mostSigBits ^ leastSigBits);
+    }
 }
@@ -1,23 +1,38 @@
 package com.codeflix.admin.catalogo.domain.castmember;
 
 import com.codeflix.admin.catalogo.domain.category.CategoryID;
+import com.codeflix.admin.catalogo.domain.pagination.CursorPagination;
+import com.codeflix.admin.catalogo.domain.pagination.CursorQuery;
 import com.codeflix.admin.catalogo.domain.pagination.Pagination;
 import com.codeflix.admin.catalogo.domain.pagination.SearchQuery;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface CastMemberGateway {
 
     CastMember create(CastMember aCastMember);
 
+    List<CastMember> createAll(List<CastMember> aggregates);
+
     void deleteById(CastMemberID anId);
 
+    int deleteAllByIds(Iterable<CastMemberID> ids);
+
     Optional<CastMember> findById(CastMemberID anId);
 
+    List<CastMember> findAllByIds(Iterable<CastMemberID> ids);
+
     CastMember update(CastMember aCastMember);
 
+    List<CastMember> updateAll(List<CastMember> aggregates);
+
     Pagination<CastMember> findAll(SearchQuery aQuery);
 
+    CursorPagination<CastMember> findAllByCursor(CursorQuery aQuery);
+
+    void exportAll(Consumer<CastMember> aConsumer);
+
     List<CastMemberID> existsByIds(Iterable<CastMemberID> castMemberIDS);
 }
\ No newline at end of file
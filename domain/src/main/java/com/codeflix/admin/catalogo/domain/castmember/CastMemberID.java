@@ -1,20 +1,22 @@
 package com.codeflix.admin.catalogo.domain.castmember;
 
 import com.codeflix.admin.catalogo.domain.Identifier;
+import com.codeflix.admin.catalogo.domain.utils.IdUtils;
 
-import java.util.Objects;
 import java.util.UUID;
 
 public class CastMemberID extends Identifier {
-    private final String value;
 
-    private CastMemberID(String value) {
-        Objects.requireNonNull(value);
-        this.value = value;
+    private CastMemberID(final String anId) {
+        super(anId);
+    }
+
+    private CastMemberID(final UUID anId) {
+        super(anId);
     }
 
     public static CastMemberID generateUnique() {
-        return CastMemberID.load(UUID.randomUUID());
+        return CastMemberID.load(IdUtils.uuid());
     }
 
     public static CastMemberID load(final String anId) {
@@ -22,24 +24,6 @@ public class CastMemberID extends Identifier {
     }
 
     public static CastMemberID load(final UUID anId) {
-        return new CastMemberID(anId.toString().toLowerCase());
-    }
-
-    @Override
-    public String getValue() {
-        return value;
-    }
-
-    @Override
-    public boolean equals(final Object o) {
-        if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
-        final CastMemberID that = (CastMemberID) o;
-        return Objects.equals(value, that.value);
-    }
-
-    @Override
-    public int hashCode() {
-        return Objects.hash(value);
+        return new CastMemberID(anId);
     }
 }
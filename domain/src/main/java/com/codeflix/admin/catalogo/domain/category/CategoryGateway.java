@@ -1,21 +1,36 @@
 package com.codeflix.admin.catalogo.domain.category;
 
 import com.codeflix.admin.catalogo.domain.pagination.SearchQuery;
+import com.codeflix.admin.catalogo.domain.pagination.CursorPagination;
+import com.codeflix.admin.catalogo.domain.pagination.CursorQuery;
 import com.codeflix.admin.catalogo.domain.pagination.Pagination;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface CategoryGateway {
     Category create(Category aCategory);
 
+    List<Category> createAll(List<Category> aggregates);
+
     void deleteById(CategoryID anCategoryID);
 
+    int deleteAllByIds(Iterable<CategoryID> ids);
+
     Optional<Category> findById(CategoryID anCategoryID);
 
+    List<Category> findAllByIds(Iterable<CategoryID> ids);
+
     Category update(Category aCategory);
 
+    List<Category> updateAll(List<Category> aggregates);
+
     Pagination<Category> findAll(SearchQuery sQuery);
 
+    CursorPagination<Category> findAllByCursor(CursorQuery aQuery);
+
+    void exportAll(Consumer<Category> aConsumer);
+
     List<CategoryID> existsByIds(Iterable<CategoryID> categoryIDS);
 }
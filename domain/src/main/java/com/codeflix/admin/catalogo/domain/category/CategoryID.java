@@ -1,20 +1,22 @@
 package com.codeflix.admin.catalogo.domain.category;
 
 import com.codeflix.admin.catalogo.domain.Identifier;
+import com.codeflix.admin.catalogo.domain.utils.IdUtils;
 
-import java.util.Objects;
 import java.util.UUID;
 
 public class CategoryID extends Identifier {
-    private final String value;
 
-    private CategoryID(String value) {
-        Objects.requireNonNull(value);
-        this.value = value;
+    private CategoryID(final String anId) {
+        super(anId);
+    }
+
+    private CategoryID(final UUID anId) {
+        super(anId);
     }
 
     public static CategoryID generateUnique() {
-        return CategoryID.load(UUID.randomUUID());
+        return CategoryID.load(IdUtils.uuid());
     }
 
     public static CategoryID load(final String anId) {
@@ -22,24 +24,6 @@ public class CategoryID extends Identifier {
     }
 
     public static CategoryID load(final UUID anId) {
-        return new CategoryID(anId.toString().toLowerCase());
-    }
-
-    @Override
-    public String getValue() {
-        return value;
-    }
-
-    @Override
-    public boolean equals(final Object o) {
-        if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
-        final CategoryID that = (CategoryID) o;
-        return Objects.equals(value, that.value);
-    }
-
-    @Override
-    public int hashCode() {
-        return Objects.hash(value);
+        return new CategoryID(anId);
     }
 }
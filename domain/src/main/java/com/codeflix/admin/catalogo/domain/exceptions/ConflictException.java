@@ -0,0 +1,21 @@
+package com.codeflix.admin.catalogo.domain.exceptions;
+
+import com.codeflix.admin.catalogo.domain.AggregateRoot;
+import com.codeflix.admin.catalogo.domain.Identifier;
+import com.codeflix.admin.catalogo.domain.validation.Error;
+
+import java.util.List;
+
+public class ConflictException extends DomainException {
+    protected ConflictException(final String aMessage, final List<Error> errors) {
+        super(aMessage, errors);
+    }
+
+    public static ConflictException raise(
+            final Class<? extends AggregateRoot<?>> anAggregateRoot,
+            final Identifier id
+    ) {
+        final var anError = "%s with ID %s was modified concurrently".formatted(anAggregateRoot.getSimpleName(), id.getValue());
+        return new ConflictException(anError, List.of(new Error(anError)));
+    }
+}
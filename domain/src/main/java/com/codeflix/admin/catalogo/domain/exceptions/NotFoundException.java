@@ -19,4 +19,8 @@ public class NotFoundException extends DomainException{
         final var anError = "%s with ID %s was not found".formatted(anAggregateRoot.getSimpleName(), id.getValue());
         return new NotFoundException(anError, List.of(new Error(anError)));
     }
+
+    public static NotFoundException with(final Error anError) {
+        return new NotFoundException(anError.message(), List.of(anError));
+    }
 }
@@ -1,24 +1,39 @@
 package com.codeflix.admin.catalogo.domain.genre;
 
 import com.codeflix.admin.catalogo.domain.category.CategoryID;
+import com.codeflix.admin.catalogo.domain.pagination.CursorPagination;
+import com.codeflix.admin.catalogo.domain.pagination.CursorQuery;
 import com.codeflix.admin.catalogo.domain.pagination.Pagination;
 import com.codeflix.admin.catalogo.domain.pagination.SearchQuery;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface GenreGateway {
 
     Genre create(Genre aGenre);
 
+    List<Genre> createAll(List<Genre> aggregates);
+
     void deleteById(GenreID anId);
 
+    int deleteAllByIds(Iterable<GenreID> ids);
+
     Optional<Genre> findById(GenreID anId);
 
+    List<Genre> findAllByIds(Iterable<GenreID> ids);
+
     Genre update(Genre aGenre);
 
+    List<Genre> updateAll(List<Genre> aggregates);
+
     Pagination<Genre> findAll(SearchQuery aQuery);
 
+    CursorPagination<Genre> findAllByCursor(CursorQuery aQuery);
+
+    void exportAll(Consumer<Genre> aConsumer);
+
     List<GenreID> existsByIds(Iterable<GenreID> genreIDS);
 }
 
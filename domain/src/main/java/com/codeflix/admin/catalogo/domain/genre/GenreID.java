@@ -1,20 +1,22 @@
 package com.codeflix.admin.catalogo.domain.genre;
 
 import com.codeflix.admin.catalogo.domain.Identifier;
+import com.codeflix.admin.catalogo.domain.utils.IdUtils;
 
-import java.util.Objects;
 import java.util.UUID;
 
 public class GenreID extends Identifier {
-    private final String value;
 
-    private GenreID(String value) {
-        Objects.requireNonNull(value);
-        this.value = value;
+    private GenreID(final String anId) {
+        super(anId);
+    }
+
+    private GenreID(final UUID anId) {
+        super(anId);
     }
 
     public static GenreID generateUnique() {
-        return GenreID.load(UUID.randomUUID());
+        return GenreID.load(IdUtils.uuid());
     }
 
     public static GenreID load(final String anId) {
@@ -22,24 +24,6 @@ public class GenreID extends Identifier {
     }
 
     public static GenreID load(final UUID anId) {
-        return new GenreID(anId.toString().toLowerCase());
-    }
-
-    @Override
-    public String getValue() {
-        return value;
-    }
-
-    @Override
-    public boolean equals(final Object o) {
-        if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
-        final GenreID that = (GenreID) o;
-        return Objects.equals(value, that.value);
-    }
-
-    @Override
-    public int hashCode() {
-        return Objects.hash(value);
+        return new GenreID(anId);
     }
 }
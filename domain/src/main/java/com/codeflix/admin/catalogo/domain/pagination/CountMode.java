@@ -0,0 +1,16 @@
+package com.codeflix.admin.catalogo.domain.pagination;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+public enum CountMode {
+    EXACT,
+    NONE,
+    ESTIMATED;
+
+    public static Optional<CountMode> from(final String label) {
+        return Arrays.stream(CountMode.values())
+                .filter(it -> it.name().equalsIgnoreCase(label))
+                .findFirst();
+    }
+}
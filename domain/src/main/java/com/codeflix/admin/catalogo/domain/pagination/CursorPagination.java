@@ -0,0 +1,25 @@
+package com.codeflix.admin.catalogo.domain.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record CursorPagination<T>(
+        int perPage,
+        String nextCursor,
+        Long total,
+        List<T> items
+) {
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public <R> CursorPagination<R> map(final Function<T, R> mapper) {
+        final List<R> aNewList = this.items.stream().map(mapper).toList();
+        return new CursorPagination<>(
+                perPage(),
+                nextCursor(),
+                total(),
+                aNewList
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package com.codeflix.admin.catalogo.domain.pagination;
+
+public record CursorQuery(
+        String cursor,
+        int perPage,
+        String terms,
+        String sort,
+        String direction,
+        boolean withTotal
+) {
+    public boolean isFirstPage() {
+        return cursor == null || cursor.isBlank();
+    }
+}
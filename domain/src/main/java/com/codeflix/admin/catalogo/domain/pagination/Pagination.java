@@ -7,14 +7,27 @@ public record Pagination<T>(
         int currentPage,
         int perPage,
         long total,
+        boolean hasNext,
         List<T> items
 ) {
+    public static final long UNKNOWN_TOTAL = -1;
+
+    public Pagination(
+            final int currentPage,
+            final int perPage,
+            final long total,
+            final List<T> items
+    ) {
+        this(currentPage, perPage, total, (long) (currentPage + 1) * perPage < total, items);
+    }
+
     public <R> Pagination<R> map(final Function<T, R> mapper) {
         final List<R> aNewList = this.items.stream().map(mapper).toList();
         return new Pagination<>(
                 currentPage(),
                 perPage(),
                 total(),
+                hasNext(),
                 aNewList
         );
     }
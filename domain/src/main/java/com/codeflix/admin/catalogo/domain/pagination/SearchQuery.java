@@ -5,6 +5,22 @@ public record SearchQuery(
         int perPage,
         String terms,
         String sort,
-        String direction
+        String direction,
+        CountMode countMode
 ) {
+    public SearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction
+    ) {
+        this(page, perPage, terms, sort, direction, CountMode.EXACT);
+    }
+
+    public SearchQuery {
+        if (countMode == null) {
+            countMode = CountMode.EXACT;
+        }
+    }
 }
@@ -0,0 +1,38 @@
+package com.codeflix.admin.catalogo.domain.utils;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class IdUtils {
+
+    private static final AtomicLong LAST_TIMESTAMP_AND_SEQUENCE = new AtomicLong();
+
+    private IdUtils() {}
+
+    public static UUID uuid() {
+        final long timestampAndSequence = LAST_TIMESTAMP_AND_SEQUENCE.updateAndGet(
+                last -> Math.max(last + 1, System.currentTimeMillis() << 12)
+        );
+        final long mostSigBits = (timestampAndSequence >>> 12) << 16 | 0x7000L | (timestampAndSequence & 0xFFFL);
+        final long leastSigBits = ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    public static boolean isUUID(final String value) {
+        if (value == null || value.length() != 36) {
+            return false;
+        }
+        for (int i = 0; i < 36; i++) {
+            final char c = value.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return false;
+                }
+            } else if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -34,6 +34,22 @@ public class AudioVideoMedia extends ValueObject {
         return new AudioVideoMedia(checksum, name, rawLocation, encodedLocation, status);
     }
 
+    public static AudioVideoMedia pending(final String name) {
+        return new AudioVideoMedia("", name, "", "", MediaStatus.PENDING);
+    }
+
+    public AudioVideoMedia processing() {
+        return new AudioVideoMedia(checksum, name, rawLocation, encodedLocation, MediaStatus.PROCESSING);
+    }
+
+    public AudioVideoMedia completed() {
+        return new AudioVideoMedia(checksum, name, rawLocation, encodedLocation, MediaStatus.COMPLETED);
+    }
+
+    public boolean isPending() {
+        return status != MediaStatus.COMPLETED;
+    }
+
     public String getChecksum() {
         return checksum;
     }
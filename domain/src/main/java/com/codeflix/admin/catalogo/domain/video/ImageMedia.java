@@ -20,6 +20,14 @@ public class ImageMedia extends ValueObject {
         return new ImageMedia(checksum, name, location);
     }
 
+    public static ImageMedia pending(final String name) {
+        return new ImageMedia("", name, "");
+    }
+
+    public boolean isPending() {
+        return checksum.isEmpty();
+    }
+
     public String getChecksum() {
         return checksum;
     }
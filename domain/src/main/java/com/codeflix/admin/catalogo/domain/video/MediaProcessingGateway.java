@@ -0,0 +1,17 @@
+package com.codeflix.admin.catalogo.domain.video;
+
+import java.util.List;
+
+public interface MediaProcessingGateway {
+
+    default void process(VideoID videoID, List<Resource> resources) {
+        process(videoID, resources, () -> {
+        });
+    }
+
+    /**
+     * @param onFinished runs after the job succeeded or failed; it does not run for a job that was rejected
+     *                   or dropped on shutdown
+     */
+    void process(VideoID videoID, List<Resource> resources, Runnable onFinished);
+}
@@ -6,5 +6,7 @@ public interface MediaResourceGateway {
 
     ImageMedia storeImage(VideoID videoID, Resource resource);
 
+    void release(VideoID videoID, Resource.Type type);
+
     void clearResources(VideoID videoID);
 }
@@ -0,0 +1,77 @@
+package com.codeflix.admin.catalogo.domain.video;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+public record MediaUpload(
+        String id,
+        VideoID videoId,
+        Resource.Type type,
+        String name,
+        String contentType,
+        long length,
+        List<ByteRange> received
+) {
+
+    public MediaUpload {
+        Objects.requireNonNull(id);
+        Objects.requireNonNull(videoId);
+        Objects.requireNonNull(type);
+        Objects.requireNonNull(name);
+        Objects.requireNonNull(contentType);
+        received = merge(received);
+    }
+
+    public static MediaUpload with(
+            final String id,
+            final VideoID videoId,
+            final Resource.Type type,
+            final String name,
+            final String contentType,
+            final long length,
+            final List<ByteRange> received
+    ) {
+        return new MediaUpload(id, videoId, type, name, contentType, length, received);
+    }
+
+    public MediaUpload receive(final ByteRange aRange) {
+        final var ranges = new ArrayList<>(this.received);
+        ranges.add(aRange);
+        return new MediaUpload(id, videoId, type, name, contentType, length, ranges);
+    }
+
+    public long receivedBytes() {
+        return this.received.stream().mapToLong(ByteRange::length).sum();
+    }
+
+    public boolean isComplete() {
+        return receivedBytes() == this.length;
+    }
+
+    private static List<ByteRange> merge(final List<ByteRange> ranges) {
+        final var sorted = ranges.stream()
+                .filter(it -> it.length() > 0)
+                .sorted(Comparator.comparingLong(ByteRange::start))
+                .toList();
+
+        final var merged = new ArrayList<ByteRange>(sorted.size());
+        for (final var it : sorted) {
+            final var last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+            if (last != null && it.start() <= last.end()) {
+                merged.set(merged.size() - 1, new ByteRange(last.start(), Math.max(last.end(), it.end())));
+            } else {
+                merged.add(it);
+            }
+        }
+        return List.copyOf(merged);
+    }
+
+    public record ByteRange(long start, long end) {
+
+        public long length() {
+            return end - start;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.codeflix.admin.catalogo.domain.video;
+
+import java.util.Optional;
+
+public interface MediaUploadGateway {
+
+    MediaUpload create(VideoID videoId, Resource.Type type, String name, String contentType, long length);
+
+    MediaUpload write(String uploadId, long offset, long length, Resource.Content content);
+
+    Optional<MediaUpload> findById(String uploadId);
+
+    Resource open(String uploadId);
+
+    /**
+     * Hands the upload over to processing. No more chunks are accepted afterwards.
+     *
+     * @return false when the upload was already completed
+     */
+    boolean complete(String uploadId);
+
+    /**
+     * Undoes {@link #complete(String)} when the processing job could not be queued, so the client can retry.
+     */
+    void reopen(String uploadId);
+
+    void deleteById(String uploadId);
+}
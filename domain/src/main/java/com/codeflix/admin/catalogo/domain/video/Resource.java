@@ -2,10 +2,16 @@ package com.codeflix.admin.catalogo.domain.video;
 
 import com.codeflix.admin.catalogo.domain.ValueObject;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 import java.util.Objects;
 
 public class Resource extends ValueObject {
-    private final byte[] content;
+    private final Content content;
+    private final long length;
     private final String contentType;
     private final String name;
     private final Type type;
@@ -18,15 +24,35 @@ public class Resource extends ValueObject {
         THUMBNAIL_HALF
     }
 
-    private Resource(final byte[] content, final String contentType, final String name, final Type type) {
+    @FunctionalInterface
+    public interface Content {
+        InputStream open() throws IOException;
+    }
+
+    private Resource(
+            final Content content,
+            final long length,
+            final String contentType,
+            final String name,
+            final Type type
+    ) {
         this.content = Objects.requireNonNull(content);
+        this.length = length;
         this.contentType = Objects.requireNonNull(contentType);
         this.name = Objects.requireNonNull(name);
         this.type = Objects.requireNonNull(type);
     }
 
-    public byte[] getContent() {
-        return content;
+    public InputStream openStream() throws IOException {
+        return content.open();
+    }
+
+    public ReadableByteChannel openChannel() throws IOException {
+        return Channels.newChannel(openStream());
+    }
+
+    public long getLength() {
+        return length;
     }
 
     public String getContentType() {
@@ -41,7 +67,18 @@ public class Resource extends ValueObject {
         return type;
     }
 
+    public static Resource with(
+            final Content content,
+            final long length,
+            final String contentType,
+            final String name,
+            final Type type
+    ) {
+        return new Resource(content, length, contentType, name, type);
+    }
+
     public static Resource with(final byte[] content, final String contentType, final String name, final Type type) {
-        return new Resource(content, contentType, name, type);
+        Objects.requireNonNull(content);
+        return new Resource(() -> new ByteArrayInputStream(content), content.length, contentType, name, type);
     }
 }
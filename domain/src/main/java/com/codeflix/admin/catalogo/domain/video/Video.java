@@ -38,6 +38,8 @@ public class Video extends AggregateRoot<VideoID> {
     private Set<GenreID> genres;
     private Set<CastMemberID> castMembers;
 
+    private long version;
+
     private Video(
             final VideoID identifier,
             final String title,
@@ -56,7 +58,8 @@ public class Video extends AggregateRoot<VideoID> {
             final AudioVideoMedia video,
             final Set<CategoryID> categories,
             final Set<GenreID> genres,
-            final Set<CastMemberID> castMembers
+            final Set<CastMemberID> castMembers,
+            final long version
     ) {
         super(identifier);
         this.title = title;
@@ -76,10 +79,9 @@ public class Video extends AggregateRoot<VideoID> {
         this.categories = categories;
         this.genres = genres;
         this.castMembers = castMembers;
+        this.version = version;
     }
 
-
-
     public String getTitle() {
         return title;
     }
@@ -148,6 +150,19 @@ public class Video extends AggregateRoot<VideoID> {
         return castMembers != null ? new HashSet<>(castMembers) : Collections.emptySet();
     }
 
+    /**
+     * The persisted revision this aggregate was read at. An update written from a stale revision is
+     * rejected instead of silently overwriting whatever was stored in between.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public Video setVersion(final long version) {
+        this.version = version;
+        return this;
+    }
+
     @Override
     public void validate(final ValidationHandler handler) {
         new VideoValidator(this, handler).validate();
@@ -183,6 +198,26 @@ public class Video extends AggregateRoot<VideoID> {
         return this;
     }
 
+    public boolean hasPendingMedia(final Resource.Type aType) {
+        return switch (aType) {
+            case VIDEO -> getVideo().filter(AudioVideoMedia::isPending).isPresent();
+            case TRAILER -> getTrailer().filter(AudioVideoMedia::isPending).isPresent();
+            case BANNER -> getBanner().filter(ImageMedia::isPending).isPresent();
+            case THUMBNAIL -> getThumbnail().filter(ImageMedia::isPending).isPresent();
+            case THUMBNAIL_HALF -> getThumbnailHalf().filter(ImageMedia::isPending).isPresent();
+        };
+    }
+
+    public Video removeMedia(final Resource.Type aType) {
+        return switch (aType) {
+            case VIDEO -> setVideo(null);
+            case TRAILER -> setTrailer(null);
+            case BANNER -> setBanner(null);
+            case THUMBNAIL -> setThumbnail(null);
+            case THUMBNAIL_HALF -> setThumbnailHalf(null);
+        };
+    }
+
     public Video update(
             final String title,
             final String description,
@@ -241,7 +276,52 @@ public class Video extends AggregateRoot<VideoID> {
                 null,
                 categories,
                 genres,
-                castMembers
+                castMembers,
+                0L
+        );
+    }
+
+    public static Video with(
+            final VideoID anId,
+            final String title,
+            final String description,
+            final Year launchedAt,
+            final double duration,
+            final Rating rating,
+            final boolean opened,
+            final boolean published,
+            final Instant createdAt,
+            final Instant updatedAt,
+            final ImageMedia banner,
+            final ImageMedia thumbnail,
+            final ImageMedia thumbnailHalf,
+            final AudioVideoMedia trailer,
+            final AudioVideoMedia video,
+            final Set<CategoryID> categories,
+            final Set<GenreID> genres,
+            final Set<CastMemberID> castMembers,
+            final long version
+    ) {
+        return new Video(
+                anId,
+                title,
+                description,
+                launchedAt,
+                duration,
+                rating,
+                opened,
+                published,
+                createdAt,
+                updatedAt,
+                banner,
+                thumbnail,
+                thumbnailHalf,
+                trailer,
+                video,
+                categories,
+                genres,
+                castMembers,
+                version
         );
     }
 
@@ -264,7 +344,8 @@ public class Video extends AggregateRoot<VideoID> {
                 aVideo.video,
                 new HashSet<>(aVideo.categories),
                 new HashSet<>(aVideo.genres),
-                new HashSet<>(aVideo.castMembers)
+                new HashSet<>(aVideo.castMembers),
+                aVideo.version
         );
     }
 }
@@ -3,6 +3,7 @@ package com.codeflix.admin.catalogo.domain.video;
 import com.codeflix.admin.catalogo.domain.pagination.Pagination;
 import com.codeflix.admin.catalogo.domain.pagination.SearchQuery;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface VideoGateway {
@@ -15,4 +16,6 @@ public interface VideoGateway {
     Optional<Video> findById(VideoID videoId);
 
     Pagination<Video> findAll(VideoSearchQuery searchQuery);
+
+    List<VideoID> findIdsWithPendingMedia();
 }
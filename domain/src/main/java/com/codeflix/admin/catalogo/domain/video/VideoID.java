@@ -1,19 +1,22 @@
 package com.codeflix.admin.catalogo.domain.video;
 
 import com.codeflix.admin.catalogo.domain.Identifier;
+import com.codeflix.admin.catalogo.domain.utils.IdUtils;
 
-import java.util.Objects;
 import java.util.UUID;
 
 public class VideoID extends Identifier {
-    private final String value;
 
-    private VideoID(String value) {
-        this.value = Objects.requireNonNull(value);
+    private VideoID(final String anId) {
+        super(anId);
+    }
+
+    private VideoID(final UUID anId) {
+        super(anId);
     }
 
     public static VideoID generateUnique() {
-        return VideoID.from(UUID.randomUUID());
+        return VideoID.from(IdUtils.uuid());
     }
 
     public static VideoID from(final String anId) {
@@ -21,24 +24,6 @@ public class VideoID extends Identifier {
     }
 
     public static VideoID from(final UUID anId) {
-        return new VideoID(anId.toString().toLowerCase());
-    }
-
-    @Override
-    public String getValue() {
-        return value;
-    }
-
-    @Override
-    public boolean equals(final Object o) {
-        if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
-        final VideoID that = (VideoID) o;
-        return Objects.equals(value, that.value);
-    }
-
-    @Override
-    public int hashCode() {
-        return Objects.hash(value);
+        return new VideoID(anId);
     }
 }
@@ -1,10 +1,13 @@
 package com.codeflix.admin.catalogo.domain.category;
 
 import com.codeflix.admin.catalogo.domain.exceptions.DomainException;
+import com.codeflix.admin.catalogo.domain.genre.GenreID;
 import com.codeflix.admin.catalogo.domain.validation.handlers.ThrowsValidationHandler;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.UUID;
+
 public class CategoryTest {
 
     @Test
@@ -251,4 +254,34 @@ public class CategoryTest {
         Assertions.assertTrue(category.getUpdatedAt().isAfter(updatedAt));
         Assertions.assertNotNull(category.getDeletedAt());
     }
+
+    @Test
+    public void givenTwoGeneratedIds_shouldBeTimeOrderedVersion7UUIDs() {
+        final var first = CategoryID.generateUnique();
+        final var second = CategoryID.generateUnique();
+
+        Assertions.assertEquals(7, UUID.fromString(first.getValue()).version());
+        Assertions.assertEquals(2, UUID.fromString(first.getValue()).variant());
+        Assertions.assertTrue(first.getValue().compareTo(second.getValue()) < 0);
+    }
+
+    @Test
+    public void givenAnIdValue_whenLoaded_shouldKeepItsValueAndEquality() {
+        final var expectedUUID = "0188e5f4-7a3b-7c2d-9e1f-0a1b2c3d4e5f";
+        final var expectedRaw = "movies";
+
+        Assertions.assertEquals(expectedUUID, CategoryID.load(expectedUUID).getValue());
+        Assertions.assertEquals(CategoryID.load(expectedUUID), CategoryID.load(UUID.fromString(expectedUUID)));
+        Assertions.assertEquals(CategoryID.load(expectedUUID).hashCode(), CategoryID.load(UUID.fromString(expectedUUID)).hashCode());
+        Assertions.assertEquals(expectedRaw, CategoryID.load(expectedRaw).getValue());
+        Assertions.assertEquals(CategoryID.load(expectedRaw), CategoryID.load(expectedRaw));
+        Assertions.assertNotEquals(CategoryID.load(expectedUUID), CategoryID.load(expectedUUID.toUpperCase()));
+    }
+
+    @Test
+    public void givenTheSameUUID_whenLoadedAsDifferentIdTypes_shouldNotBeEqual() {
+        final var expectedUUID = CategoryID.generateUnique().getValue();
+
+        Assertions.assertNotEquals(CategoryID.load(expectedUUID), GenreID.load(expectedUUID));
+    }
 }
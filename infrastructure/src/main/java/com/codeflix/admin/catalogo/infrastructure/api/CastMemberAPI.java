@@ -1,6 +1,10 @@
 package com.codeflix.admin.catalogo.infrastructure.api;
 
+import com.codeflix.admin.catalogo.application.bulk.BulkOutput;
+import com.codeflix.admin.catalogo.application.castmember.delete.DeleteCastMembersOutput;
+import com.codeflix.admin.catalogo.domain.pagination.CursorPagination;
 import com.codeflix.admin.catalogo.domain.pagination.Pagination;
+import com.codeflix.admin.catalogo.infrastructure.castmember.models.BulkCastMemberRequest;
 import com.codeflix.admin.catalogo.infrastructure.castmember.models.CastMemberListResponse;
 import com.codeflix.admin.catalogo.infrastructure.castmember.models.CastMemberResponse;
 import com.codeflix.admin.catalogo.infrastructure.castmember.models.CreateCastMemberRequest;
@@ -13,6 +17,9 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
 
 @RequestMapping(value = "cast_members")
 @Tag(name = "Cast Members")
@@ -30,6 +37,18 @@ public interface CastMemberAPI {
     })
     ResponseEntity<?> create(@RequestBody CreateCastMemberRequest input);
 
+    @PostMapping(
+            value = "bulk",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Create, update and delete cast members in bulk")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Processed, see the status of each item"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    BulkOutput bulk(@RequestBody BulkCastMemberRequest input);
+
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "List all cast members")
     @ApiResponses(value = {
@@ -41,9 +60,40 @@ public interface CastMemberAPI {
             @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
             @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
             @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "count", required = false, defaultValue = "exact") final String count
     );
 
+    @GetMapping(
+            value = "cursor",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "List all cast members using a cursor")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Listed successfully"),
+            @ApiResponse(responseCode = "422", description = "An invalid parameter was received"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    CursorPagination<CastMemberListResponse> listByCursor(
+            @RequestParam(name = "search", required = false, defaultValue = "") final String search,
+            @RequestParam(name = "cursor", required = false) final String cursor,
+            @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
+            @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "total", required = false, defaultValue = "false") final boolean withTotal
+    );
+
+    @GetMapping(
+            value = "export",
+            produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    @Operation(summary = "Export all cast members as newline-delimited JSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Exported successfully"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<StreamingResponseBody> export();
+
     @GetMapping(value = "{id}", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Get a cast member by it's identifier")
     @ApiResponses(value = {
@@ -75,4 +125,12 @@ public interface CastMemberAPI {
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
     void deleteById(@PathVariable String id);
-}
\ No newline at end of file
+
+    @DeleteMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Delete cast members by their ids")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Deleted successfully, missing ids are ignored"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    DeleteCastMembersOutput deleteAllByIds(@RequestParam(name = "ids") List<String> ids);
+}
@@ -1,6 +1,10 @@
 package com.codeflix.admin.catalogo.infrastructure.api;
 
+import com.codeflix.admin.catalogo.application.bulk.BulkOutput;
+import com.codeflix.admin.catalogo.application.category.delete.DeleteCategoriesOutput;
+import com.codeflix.admin.catalogo.domain.pagination.CursorPagination;
 import com.codeflix.admin.catalogo.domain.pagination.Pagination;
+import com.codeflix.admin.catalogo.infrastructure.category.models.BulkCategoryRequest;
 import com.codeflix.admin.catalogo.infrastructure.category.models.CategoryResponse;
 import com.codeflix.admin.catalogo.infrastructure.category.models.CategoryListResponse;
 import com.codeflix.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
@@ -13,6 +17,9 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
 
 @RequestMapping(value = "categories")
 @Tag(name = "Categories")
@@ -30,6 +37,18 @@ public interface CategoryAPI {
     })
     ResponseEntity<?> createCategory(@RequestBody CreateCategoryRequest input);
 
+    @PostMapping(
+            value = "bulk",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Create, update and delete categories in bulk")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Processed, see the status of each item"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    BulkOutput bulkCategories(@RequestBody BulkCategoryRequest input);
+
     @GetMapping
     @Operation(summary = "List all categories paginated")
     @ApiResponses(value = {
@@ -42,9 +61,40 @@ public interface CategoryAPI {
             @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
             @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
             @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "count", required = false, defaultValue = "exact") final String count
+    );
+
+    @GetMapping(
+            value = "cursor",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "List all categories using a cursor")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Listed successfully"),
+            @ApiResponse(responseCode = "422", description = "An invalid parameter was received"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    CursorPagination<CategoryListResponse> listCategoriesByCursor(
+            @RequestParam(name = "search", required = false, defaultValue = "") final String search,
+            @RequestParam(name = "cursor", required = false) final String cursor,
+            @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
+            @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "total", required = false, defaultValue = "false") final boolean withTotal
     );
 
+    @GetMapping(
+            value = "export",
+            produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    @Operation(summary = "Export all categories as newline-delimited JSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Exported successfully"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<StreamingResponseBody> exportCategories();
+
     @GetMapping(
             value = "{id}",
             consumes = MediaType.APPLICATION_JSON_VALUE,
@@ -90,4 +140,12 @@ public interface CategoryAPI {
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
     })
     void deleteById(@PathVariable(name = "id") String id);
+
+    @DeleteMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Delete categories by their ids")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Deleted successfully, missing ids are ignored"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    DeleteCategoriesOutput deleteAllByIds(@RequestParam(name = "ids") List<String> ids);
 }
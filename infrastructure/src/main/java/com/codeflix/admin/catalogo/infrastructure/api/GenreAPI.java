@@ -1,6 +1,10 @@
 package com.codeflix.admin.catalogo.infrastructure.api;
 
+import com.codeflix.admin.catalogo.application.bulk.BulkOutput;
+import com.codeflix.admin.catalogo.application.genre.delete.DeleteGenresOutput;
+import com.codeflix.admin.catalogo.domain.pagination.CursorPagination;
 import com.codeflix.admin.catalogo.domain.pagination.Pagination;
+import com.codeflix.admin.catalogo.infrastructure.genre.models.BulkGenreRequest;
 import com.codeflix.admin.catalogo.infrastructure.genre.models.CreateGenreRequest;
 import com.codeflix.admin.catalogo.infrastructure.genre.models.GenreListResponse;
 import com.codeflix.admin.catalogo.infrastructure.genre.models.GenreResponse;
@@ -12,6 +16,9 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
 
 @RequestMapping(value = "genres")
 @Tag(name = "Genre")
@@ -29,6 +36,18 @@ public interface GenreAPI {
     })
     ResponseEntity<?> create(@RequestBody final CreateGenreRequest input);
 
+    @PostMapping(
+            value = "bulk",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Create, update and delete genres in bulk")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Processed, see the status of each item"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    BulkOutput bulk(@RequestBody final BulkGenreRequest input);
+
     @GetMapping(
             produces = MediaType.APPLICATION_JSON_VALUE
     )
@@ -43,9 +62,40 @@ public interface GenreAPI {
             @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
             @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
             @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "count", required = false, defaultValue = "exact") final String count
+    );
+
+    @GetMapping(
+            value = "cursor",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "List all genres using a cursor")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Listed successfully"),
+            @ApiResponse(responseCode = "422", description = "An invalid parameter was received"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    CursorPagination<GenreListResponse> listByCursor(
+            @RequestParam(name = "search", required = false, defaultValue = "") final String search,
+            @RequestParam(name = "cursor", required = false) final String cursor,
+            @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
+            @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "total", required = false, defaultValue = "false") final boolean withTotal
     );
 
+    @GetMapping(
+            value = "export",
+            produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    @Operation(summary = "Export all genres as newline-delimited JSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Exported successfully"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<StreamingResponseBody> export();
+
     @GetMapping(
             value = "{id}",
             produces = MediaType.APPLICATION_JSON_VALUE
@@ -81,4 +131,12 @@ public interface GenreAPI {
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
     })
     ResponseEntity<Void> deleteById(@PathVariable(name = "id") final String anId);
+
+    @DeleteMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Delete genres by their ids")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Deleted successfully, missing ids are ignored"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    DeleteGenresOutput deleteAllByIds(@RequestParam(name = "ids") List<String> ids);
 }
@@ -0,0 +1,77 @@
+package com.codeflix.admin.catalogo.infrastructure.api;
+
+import com.codeflix.admin.catalogo.application.video.upload.MediaUploadOutput;
+import com.codeflix.admin.catalogo.infrastructure.video.models.InitiateMediaUploadRequest;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+
+@RequestMapping(value = "videos")
+@Tag(name = "Videos")
+public interface VideoAPI {
+
+    @PostMapping(
+            value = "{id}/uploads",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Start a resumable upload of a video or trailer")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Upload started"),
+            @ApiResponse(responseCode = "404", description = "Video was not found"),
+            @ApiResponse(responseCode = "422", description = "A validation error was thrown"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<?> initiateUpload(@PathVariable String id, @RequestBody InitiateMediaUploadRequest input);
+
+    @GetMapping(
+            value = "uploads/{uploadId}",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Get the received byte ranges of an upload")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Upload retrieved"),
+            @ApiResponse(responseCode = "404", description = "Upload was not found"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    MediaUploadOutput getUpload(@PathVariable String uploadId);
+
+    @PutMapping(
+            value = "uploads/{uploadId}",
+            consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Write a chunk of an upload at the given offset")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Chunk written"),
+            @ApiResponse(responseCode = "404", description = "Upload was not found"),
+            @ApiResponse(responseCode = "422", description = "The chunk is outside the upload"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    MediaUploadOutput uploadChunk(
+            @PathVariable String uploadId,
+            @RequestParam(name = "offset") long offset,
+            @RequestHeader(HttpHeaders.CONTENT_LENGTH) long length,
+            InputStream body
+    );
+
+    @PostMapping(
+            value = "uploads/{uploadId}/complete",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Complete an upload and start processing it")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Upload accepted for processing"),
+            @ApiResponse(responseCode = "404", description = "Upload or video was not found"),
+            @ApiResponse(responseCode = "422", description = "The upload is missing bytes"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<MediaUploadOutput> completeUpload(@PathVariable String uploadId);
+}
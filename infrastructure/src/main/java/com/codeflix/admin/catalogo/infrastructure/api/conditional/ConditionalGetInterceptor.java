@@ -0,0 +1,85 @@
+package com.codeflix.admin.catalogo.infrastructure.api.conditional;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.Objects;
+
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    private final VersionProbe probe;
+    private final EntityVersions entities;
+
+    public ConditionalGetInterceptor(final VersionProbe probe) {
+        this(probe, probe);
+    }
+
+    public ConditionalGetInterceptor(final VersionProbe probe, final EntityVersions entities) {
+        this.probe = Objects.requireNonNull(probe);
+        this.entities = Objects.requireNonNull(entities);
+    }
+
+    @Override
+    public boolean preHandle(final HttpServletRequest request, final HttpServletResponse response, final Object handler) {
+        if (!"GET".equals(request.getMethod()) && !"HEAD".equals(request.getMethod())) {
+            return true;
+        }
+        if (!(request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE) instanceof String pattern)) {
+            return true;
+        }
+
+        final var entity = VersionedResource.ofEntity(pattern);
+        if (entity.isPresent()) {
+            return checkEntity(request, response, entity.get());
+        }
+
+        final var collection = VersionedResource.ofCollection(pattern);
+        if (collection.isPresent()) {
+            final var version = this.probe.ofCollection(collection.get());
+            final var etag = "W/\"%s\"".formatted(hash(request.getQueryString(), version));
+            return proceed(new ServletWebRequest(request, response).checkNotModified(etag), response);
+        }
+
+        return true;
+    }
+
+    private boolean checkEntity(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final VersionedResource resource
+    ) {
+        final var variables = (Map<?, ?>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (variables == null || !(variables.get("id") instanceof String anId)) {
+            return true;
+        }
+
+        final var version = this.entities.ofEntity(resource, anId);
+        if (version.isEmpty()) {
+            return true;
+        }
+
+        final var etag = "\"%s\"".formatted(hash(anId, version.get()));
+        final var lastModified = version.get().lastModified().toEpochMilli();
+        return proceed(new ServletWebRequest(request, response).checkNotModified(etag, lastModified), response);
+    }
+
+    private static boolean proceed(final boolean notModified, final HttpServletResponse response) {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        return !notModified;
+    }
+
+    private static String hash(final String key, final Version version) {
+        final var micros = ChronoUnit.MICROS.between(Instant.EPOCH, version.lastModified());
+        final var value = "%s:%d:%d".formatted(key == null ? "" : key, micros, version.count());
+        return DigestUtils.md5DigestAsHex(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
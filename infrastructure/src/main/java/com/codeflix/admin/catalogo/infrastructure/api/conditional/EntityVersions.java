@@ -0,0 +1,13 @@
+package com.codeflix.admin.catalogo.infrastructure.api.conditional;
+
+import java.util.Optional;
+
+/**
+ * Source of the validator for a single aggregate. It must read from the same place the controller reads
+ * the body from, otherwise a fresh ETag can be issued next to a stale body and the client keeps that body
+ * through every 304 that follows.
+ */
+public interface EntityVersions {
+
+    Optional<Version> ofEntity(VersionedResource aResource, String anId);
+}
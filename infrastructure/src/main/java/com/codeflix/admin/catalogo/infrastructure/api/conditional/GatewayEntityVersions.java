@@ -0,0 +1,44 @@
+package com.codeflix.admin.catalogo.infrastructure.api.conditional;
+
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberID;
+import com.codeflix.admin.catalogo.domain.category.CategoryGateway;
+import com.codeflix.admin.catalogo.domain.category.CategoryID;
+import com.codeflix.admin.catalogo.domain.genre.GenreGateway;
+import com.codeflix.admin.catalogo.domain.genre.GenreID;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Versions aggregates through the cached gateways the controllers use, so a cache hit answers a poll
+ * without a query and a stale entry is tagged with its own, older version.
+ */
+public class GatewayEntityVersions implements EntityVersions {
+
+    private final CategoryGateway categoryGateway;
+    private final GenreGateway genreGateway;
+    private final CastMemberGateway castMemberGateway;
+
+    public GatewayEntityVersions(
+            final CategoryGateway categoryGateway,
+            final GenreGateway genreGateway,
+            final CastMemberGateway castMemberGateway
+    ) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+    }
+
+    @Override
+    public Optional<Version> ofEntity(final VersionedResource aResource, final String anId) {
+        return switch (aResource) {
+            case CATEGORIES -> this.categoryGateway.findById(CategoryID.load(anId))
+                    .map(it -> new Version(it.getUpdatedAt(), 0));
+            case GENRES -> this.genreGateway.findById(GenreID.load(anId))
+                    .map(it -> new Version(it.getUpdatedAt(), it.getCategories().size()));
+            case CAST_MEMBERS -> this.castMemberGateway.findById(CastMemberID.load(anId))
+                    .map(it -> new Version(it.getUpdatedAt(), 0));
+        };
+    }
+}
@@ -0,0 +1,6 @@
+package com.codeflix.admin.catalogo.infrastructure.api.conditional;
+
+import java.time.Instant;
+
+public record Version(Instant lastModified, long count) {
+}
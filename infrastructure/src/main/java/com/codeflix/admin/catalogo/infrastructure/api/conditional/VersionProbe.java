@@ -0,0 +1,40 @@
+package com.codeflix.admin.catalogo.infrastructure.api.conditional;
+
+import com.codeflix.admin.catalogo.infrastructure.sql.IdentifierColumns;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+
+public class VersionProbe implements EntityVersions {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IdentifierColumns identifierColumns;
+
+    public VersionProbe(final JdbcTemplate jdbcTemplate, final IdentifierColumns identifierColumns) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+        this.identifierColumns = Objects.requireNonNull(identifierColumns);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Version> ofEntity(final VersionedResource aResource, final String anId) {
+        return this.jdbcTemplate.query(aResource.entitySql(), (rs, rowNum) -> toVersion(rs), this.identifierColumns.bind(anId))
+                .stream()
+                .findFirst();
+    }
+
+    @Transactional(readOnly = true)
+    public Version ofCollection(final VersionedResource aResource) {
+        return this.jdbcTemplate.queryForObject(aResource.collectionSql(), (rs, rowNum) -> toVersion(rs));
+    }
+
+    private static Version toVersion(final ResultSet rs) throws SQLException {
+        final var updatedAt = rs.getTimestamp(1);
+        return new Version(updatedAt == null ? Instant.EPOCH : updatedAt.toInstant(), rs.getLong(2));
+    }
+}
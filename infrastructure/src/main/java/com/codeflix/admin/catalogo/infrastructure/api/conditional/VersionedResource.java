@@ -0,0 +1,58 @@
+package com.codeflix.admin.catalogo.infrastructure.api.conditional;
+
+import java.util.Optional;
+
+public enum VersionedResource {
+
+    CATEGORIES("/categories", "category", "0", "0"),
+    GENRES(
+            "/genres",
+            "genres",
+            "(SELECT COUNT(*) FROM genres_categories l WHERE l.genre_id = t.id)",
+            "(SELECT COUNT(*) FROM genres_categories)"
+    ),
+    CAST_MEMBERS("/cast_members", "cast_members", "0", "0");
+
+    private final String path;
+    private final String table;
+    private final String links;
+    private final String allLinks;
+
+    /**
+     * @param links    counts the links of one row; deleting a category removes genre links without touching
+     *                 the genre's {@code updated_at}
+     * @param allLinks the same count for the whole table, added to the collection's row count
+     */
+    VersionedResource(final String path, final String table, final String links, final String allLinks) {
+        this.path = path;
+        this.table = table;
+        this.links = links;
+        this.allLinks = allLinks;
+    }
+
+    public static Optional<VersionedResource> ofCollection(final String pattern) {
+        for (final var resource : values()) {
+            if (resource.path.equals(pattern)) {
+                return Optional.of(resource);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public static Optional<VersionedResource> ofEntity(final String pattern) {
+        for (final var resource : values()) {
+            if ((resource.path + "/{id}").equals(pattern)) {
+                return Optional.of(resource);
+            }
+        }
+        return Optional.empty();
+    }
+
+    String entitySql() {
+        return "SELECT t.updated_at, %s FROM %s t WHERE t.id = ?".formatted(this.links, this.table);
+    }
+
+    String collectionSql() {
+        return "SELECT MAX(updated_at), COUNT(*) + %s FROM %s".formatted(this.allLinks, this.table);
+    }
+}
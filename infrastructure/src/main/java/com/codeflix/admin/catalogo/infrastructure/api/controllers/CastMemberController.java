@@ -1,25 +1,41 @@
 package com.codeflix.admin.catalogo.infrastructure.api.controllers;
 
 
+import com.codeflix.admin.catalogo.application.bulk.BulkOperation;
+import com.codeflix.admin.catalogo.application.bulk.BulkOutput;
+import com.codeflix.admin.catalogo.application.castmember.bulk.BulkCastMemberCommand;
+import com.codeflix.admin.catalogo.application.castmember.bulk.BulkCastMemberItem;
+import com.codeflix.admin.catalogo.application.castmember.bulk.BulkCastMemberUseCase;
 import com.codeflix.admin.catalogo.application.castmember.create.CreateCastMemberCommand;
 import com.codeflix.admin.catalogo.application.castmember.create.CreateCastMemberUseCase;
 import com.codeflix.admin.catalogo.application.castmember.delete.DeleteCastMemberUseCase;
+import com.codeflix.admin.catalogo.application.castmember.delete.DeleteCastMembersOutput;
+import com.codeflix.admin.catalogo.application.castmember.delete.DeleteCastMembersUseCase;
+import com.codeflix.admin.catalogo.application.castmember.retrieve.export.ExportCastMembersUseCase;
 import com.codeflix.admin.catalogo.application.castmember.retrieve.get.GetCastMemberByIdUseCase;
+import com.codeflix.admin.catalogo.application.castmember.retrieve.list.ListCastMembersByCursorUseCase;
 import com.codeflix.admin.catalogo.application.castmember.retrieve.list.ListCastMembersUseCase;
 import com.codeflix.admin.catalogo.application.castmember.update.UpdateCastMemberCommand;
 import com.codeflix.admin.catalogo.application.castmember.update.UpdateCastMemberUseCase;
+import com.codeflix.admin.catalogo.domain.pagination.CursorPagination;
+import com.codeflix.admin.catalogo.domain.pagination.CursorQuery;
 import com.codeflix.admin.catalogo.domain.pagination.Pagination;
 import com.codeflix.admin.catalogo.domain.pagination.SearchQuery;
 import com.codeflix.admin.catalogo.infrastructure.api.CastMemberAPI;
+import com.codeflix.admin.catalogo.infrastructure.castmember.models.BulkCastMemberRequest;
 import com.codeflix.admin.catalogo.infrastructure.castmember.models.CastMemberListResponse;
 import com.codeflix.admin.catalogo.infrastructure.castmember.models.CastMemberResponse;
 import com.codeflix.admin.catalogo.infrastructure.castmember.models.CreateCastMemberRequest;
 import com.codeflix.admin.catalogo.infrastructure.castmember.models.UpdateCastMemberRequest;
 import com.codeflix.admin.catalogo.infrastructure.castmember.presenter.CastMemberPresenter;
+import com.codeflix.admin.catalogo.infrastructure.config.json.NdJsonWriter;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
+import java.util.List;
 import java.util.Objects;
 
 @RestController
@@ -30,19 +46,31 @@ public class CastMemberController implements CastMemberAPI {
     private final UpdateCastMemberUseCase updateCastMemberUseCase;
     private final DeleteCastMemberUseCase deleteCastMemberUseCase;
     private final ListCastMembersUseCase listCastMembersUseCase;
+    private final ListCastMembersByCursorUseCase listCastMembersByCursorUseCase;
+    private final ExportCastMembersUseCase exportCastMembersUseCase;
+    private final BulkCastMemberUseCase bulkCastMemberUseCase;
+    private final DeleteCastMembersUseCase deleteCastMembersUseCase;
 
     public CastMemberController(
             final CreateCastMemberUseCase createCastMemberUseCase,
             final GetCastMemberByIdUseCase getCastMemberByIdUseCase,
             final UpdateCastMemberUseCase updateCastMemberUseCase,
             final DeleteCastMemberUseCase deleteCastMemberUseCase,
-            final ListCastMembersUseCase listCastMembersUseCase
+            final ListCastMembersUseCase listCastMembersUseCase,
+            final ListCastMembersByCursorUseCase listCastMembersByCursorUseCase,
+            final ExportCastMembersUseCase exportCastMembersUseCase,
+            final BulkCastMemberUseCase bulkCastMemberUseCase,
+            final DeleteCastMembersUseCase deleteCastMembersUseCase
     ) {
         this.createCastMemberUseCase = Objects.requireNonNull(createCastMemberUseCase);
         this.getCastMemberByIdUseCase = Objects.requireNonNull(getCastMemberByIdUseCase);
         this.updateCastMemberUseCase = Objects.requireNonNull(updateCastMemberUseCase);
         this.deleteCastMemberUseCase = Objects.requireNonNull(deleteCastMemberUseCase);
         this.listCastMembersUseCase = Objects.requireNonNull(listCastMembersUseCase);
+        this.listCastMembersByCursorUseCase = Objects.requireNonNull(listCastMembersByCursorUseCase);
+        this.exportCastMembersUseCase = Objects.requireNonNull(exportCastMembersUseCase);
+        this.bulkCastMemberUseCase = Objects.requireNonNull(bulkCastMemberUseCase);
+        this.deleteCastMembersUseCase = Objects.requireNonNull(deleteCastMembersUseCase);
     }
 
     @Override
@@ -55,18 +83,56 @@ public class CastMemberController implements CastMemberAPI {
         return ResponseEntity.created(URI.create("/cast_members/" + output.id())).body(output);
     }
 
+    @Override
+    public BulkOutput bulk(final BulkCastMemberRequest input) {
+        final var items = input.items().stream()
+                .map(it -> BulkCastMemberItem.with(
+                        BulkOperation.from(it.operation()).orElse(null),
+                        it.id(),
+                        it.name(),
+                        it.type()
+                ))
+                .toList();
+
+        return this.bulkCastMemberUseCase.execute(BulkCastMemberCommand.with(items));
+    }
+
     @Override
     public Pagination<CastMemberListResponse> list(
             final String search,
             final int page,
             final int perPage,
             final String sort,
-            final String direction
+            final String direction,
+            final String count
+    ) {
+        return this.listCastMembersUseCase.execute(new SearchQuery(page, perPage, search, sort, direction, CountModes.parse(count)))
+                .map(CastMemberPresenter::present);
+    }
+
+    @Override
+    public CursorPagination<CastMemberListResponse> listByCursor(
+            final String search,
+            final String cursor,
+            final int perPage,
+            final String sort,
+            final String direction,
+            final boolean withTotal
     ) {
-        return this.listCastMembersUseCase.execute(new SearchQuery(page, perPage, search, sort, direction))
+        return this.listCastMembersByCursorUseCase.execute(new CursorQuery(cursor, perPage, search, sort, direction, withTotal))
                 .map(CastMemberPresenter::present);
     }
 
+    @Override
+    public ResponseEntity<StreamingResponseBody> export() {
+        final StreamingResponseBody body = out -> {
+            try (final var writer = new NdJsonWriter(out)) {
+                this.exportCastMembersUseCase.execute(it -> writer.write(CastMemberPresenter.present(it)));
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     @Override
     public CastMemberResponse getById(final String id) {
         return CastMemberPresenter.present(this.getCastMemberByIdUseCase.execute(id));
@@ -86,4 +152,9 @@ public class CastMemberController implements CastMemberAPI {
     public void deleteById(final String id) {
         this.deleteCastMemberUseCase.execute(id);
     }
+
+    @Override
+    public DeleteCastMembersOutput deleteAllByIds(final List<String> ids) {
+        return this.deleteCastMembersUseCase.execute(ids);
+    }
 }
@@ -1,27 +1,43 @@
 package com.codeflix.admin.catalogo.infrastructure.api.controllers;
 
+import com.codeflix.admin.catalogo.application.bulk.BulkOperation;
+import com.codeflix.admin.catalogo.application.bulk.BulkOutput;
+import com.codeflix.admin.catalogo.application.category.bulk.BulkCategoryCommand;
+import com.codeflix.admin.catalogo.application.category.bulk.BulkCategoryItem;
+import com.codeflix.admin.catalogo.application.category.bulk.BulkCategoryUseCase;
 import com.codeflix.admin.catalogo.application.category.create.CreateCategoryCommand;
 import com.codeflix.admin.catalogo.application.category.create.CreateCategoryOutput;
 import com.codeflix.admin.catalogo.application.category.create.CreateCategoryUseCase;
+import com.codeflix.admin.catalogo.application.category.delete.DeleteCategoriesOutput;
+import com.codeflix.admin.catalogo.application.category.delete.DeleteCategoriesUseCase;
 import com.codeflix.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
+import com.codeflix.admin.catalogo.application.category.retrieve.export.ExportCategoriesUseCase;
 import com.codeflix.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.codeflix.admin.catalogo.application.category.retrieve.list.ListCategoriesByCursorUseCase;
 import com.codeflix.admin.catalogo.application.category.retrieve.list.ListCategoriesUseCase;
 import com.codeflix.admin.catalogo.application.category.update.UpdateCategoryCommand;
 import com.codeflix.admin.catalogo.application.category.update.UpdateCategoryOutput;
 import com.codeflix.admin.catalogo.application.category.update.UpdateCategoryUseCase;
+import com.codeflix.admin.catalogo.domain.pagination.CursorPagination;
+import com.codeflix.admin.catalogo.domain.pagination.CursorQuery;
 import com.codeflix.admin.catalogo.domain.pagination.SearchQuery;
 import com.codeflix.admin.catalogo.domain.pagination.Pagination;
 import com.codeflix.admin.catalogo.domain.validation.handlers.Notification;
 import com.codeflix.admin.catalogo.infrastructure.api.CategoryAPI;
+import com.codeflix.admin.catalogo.infrastructure.category.models.BulkCategoryRequest;
 import com.codeflix.admin.catalogo.infrastructure.category.models.CategoryResponse;
 import com.codeflix.admin.catalogo.infrastructure.category.models.CategoryListResponse;
 import com.codeflix.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
 import com.codeflix.admin.catalogo.infrastructure.category.models.UpdateCategoryRequest;
 import com.codeflix.admin.catalogo.infrastructure.category.presenters.CategoryApiPresenter;
+import com.codeflix.admin.catalogo.infrastructure.config.json.NdJsonWriter;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 
@@ -33,19 +49,31 @@ public class CategoryController implements CategoryAPI {
     private final UpdateCategoryUseCase updateCategoryUseCase;
     private final DeleteCategoryUseCase deleteCategoryUseCase;
     private final ListCategoriesUseCase listCategoriesUseCase;
+    private final ListCategoriesByCursorUseCase listCategoriesByCursorUseCase;
+    private final ExportCategoriesUseCase exportCategoriesUseCase;
+    private final BulkCategoryUseCase bulkCategoryUseCase;
+    private final DeleteCategoriesUseCase deleteCategoriesUseCase;
 
     public CategoryController(
             final CreateCategoryUseCase createCategoryUseCase,
             final GetCategoryByIdUseCase getCategoryByIdUseCase,
             final UpdateCategoryUseCase updateCategoryUseCase,
             final DeleteCategoryUseCase deleteCategoryUseCase,
-            final ListCategoriesUseCase listCategoriesUseCase
+            final ListCategoriesUseCase listCategoriesUseCase,
+            final ListCategoriesByCursorUseCase listCategoriesByCursorUseCase,
+            final ExportCategoriesUseCase exportCategoriesUseCase,
+            final BulkCategoryUseCase bulkCategoryUseCase,
+            final DeleteCategoriesUseCase deleteCategoriesUseCase
     ) {
         this.createCategoryUseCase = Objects.requireNonNull(createCategoryUseCase);
         this.getCategoryByIdUseCase = Objects.requireNonNull(getCategoryByIdUseCase);
         this.updateCategoryUseCase = Objects.requireNonNull(updateCategoryUseCase);
         this.deleteCategoryUseCase = Objects.requireNonNull(deleteCategoryUseCase);
         this.listCategoriesUseCase = Objects.requireNonNull(listCategoriesUseCase);
+        this.listCategoriesByCursorUseCase = Objects.requireNonNull(listCategoriesByCursorUseCase);
+        this.exportCategoriesUseCase = Objects.requireNonNull(exportCategoriesUseCase);
+        this.bulkCategoryUseCase = Objects.requireNonNull(bulkCategoryUseCase);
+        this.deleteCategoriesUseCase = Objects.requireNonNull(deleteCategoriesUseCase);
     }
 
     @Override
@@ -65,15 +93,55 @@ public class CategoryController implements CategoryAPI {
         return this.createCategoryUseCase.execute(aCommand).fold(onError, onSuccess);
     }
 
+    @Override
+    public BulkOutput bulkCategories(final BulkCategoryRequest input) {
+        final var items = input.items().stream()
+                .map(it -> BulkCategoryItem.with(
+                        BulkOperation.from(it.operation()).orElse(null),
+                        it.id(),
+                        it.name(),
+                        it.description(),
+                        it.active() != null ? it.active() : true
+                ))
+                .toList();
+
+        return this.bulkCategoryUseCase.execute(BulkCategoryCommand.with(items));
+    }
+
     @Override
     public Pagination<CategoryListResponse> listCategories(
             final String search,
             final int page,
             final int perPage,
             final String sort,
-            final String direction
+            final String direction,
+            final String count
+    ) {
+        final var aQuery = new SearchQuery(page, perPage, search, sort, direction, CountModes.parse(count));
+        return this.listCategoriesUseCase.execute(aQuery).map(CategoryApiPresenter::present);
+    }
+
+    @Override
+    public CursorPagination<CategoryListResponse> listCategoriesByCursor(
+            final String search,
+            final String cursor,
+            final int perPage,
+            final String sort,
+            final String direction,
+            final boolean withTotal
     ) {
-        return this.listCategoriesUseCase.execute(new SearchQuery(page, perPage, search, sort, direction)).map(CategoryApiPresenter::present);
+        return this.listCategoriesByCursorUseCase.execute(new CursorQuery(cursor, perPage, search, sort, direction, withTotal))
+                .map(CategoryApiPresenter::present);
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportCategories() {
+        final StreamingResponseBody body = out -> {
+            try (final var writer = new NdJsonWriter(out)) {
+                this.exportCategoriesUseCase.execute(it -> writer.write(CategoryApiPresenter.present(it)));
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
     }
 
     @Override
@@ -102,4 +170,9 @@ public class CategoryController implements CategoryAPI {
     public void deleteById(String id) {
         this.deleteCategoryUseCase.execute(id);
     }
+
+    @Override
+    public DeleteCategoriesOutput deleteAllByIds(final List<String> ids) {
+        return this.deleteCategoriesUseCase.execute(ids);
+    }
 }
@@ -0,0 +1,16 @@
+package com.codeflix.admin.catalogo.infrastructure.api.controllers;
+
+import com.codeflix.admin.catalogo.domain.exceptions.DomainException;
+import com.codeflix.admin.catalogo.domain.pagination.CountMode;
+import com.codeflix.admin.catalogo.domain.validation.Error;
+
+public final class CountModes {
+
+    private CountModes() {
+    }
+
+    public static CountMode parse(final String count) {
+        return CountMode.from(count)
+                .orElseThrow(() -> DomainException.raise(new Error("'count' must be one of exact, none or estimated")));
+    }
+}
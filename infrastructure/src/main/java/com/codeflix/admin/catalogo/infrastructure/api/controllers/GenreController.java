@@ -1,28 +1,44 @@
 package com.codeflix.admin.catalogo.infrastructure.api.controllers;
 
+import com.codeflix.admin.catalogo.application.bulk.BulkOperation;
+import com.codeflix.admin.catalogo.application.bulk.BulkOutput;
+import com.codeflix.admin.catalogo.application.genre.bulk.BulkGenreCommand;
+import com.codeflix.admin.catalogo.application.genre.bulk.BulkGenreItem;
+import com.codeflix.admin.catalogo.application.genre.bulk.BulkGenreUseCase;
 import com.codeflix.admin.catalogo.application.genre.create.CreateGenreCommand;
 import com.codeflix.admin.catalogo.application.genre.create.CreateGenreOutput;
 import com.codeflix.admin.catalogo.application.genre.create.CreateGenreUseCase;
 import com.codeflix.admin.catalogo.application.genre.delete.DeleteGenreUseCase;
+import com.codeflix.admin.catalogo.application.genre.delete.DeleteGenresOutput;
+import com.codeflix.admin.catalogo.application.genre.delete.DeleteGenresUseCase;
+import com.codeflix.admin.catalogo.application.genre.retrieve.export.ExportGenresUseCase;
 import com.codeflix.admin.catalogo.application.genre.retrieve.get.GenreOutput;
 import com.codeflix.admin.catalogo.application.genre.retrieve.get.GetGenreByIdUseCase;
 import com.codeflix.admin.catalogo.application.genre.retrieve.list.ListGenreOutput;
+import com.codeflix.admin.catalogo.application.genre.retrieve.list.ListGenreByCursorUseCase;
 import com.codeflix.admin.catalogo.application.genre.retrieve.list.ListGenreUseCase;
 import com.codeflix.admin.catalogo.application.genre.update.UpdateGenreCommand;
 import com.codeflix.admin.catalogo.application.genre.update.UpdateGenreOutput;
 import com.codeflix.admin.catalogo.application.genre.update.UpdateGenreUseCase;
+import com.codeflix.admin.catalogo.domain.pagination.CursorPagination;
+import com.codeflix.admin.catalogo.domain.pagination.CursorQuery;
 import com.codeflix.admin.catalogo.domain.pagination.Pagination;
 import com.codeflix.admin.catalogo.domain.pagination.SearchQuery;
 import com.codeflix.admin.catalogo.infrastructure.api.GenreAPI;
+import com.codeflix.admin.catalogo.infrastructure.config.json.NdJsonWriter;
+import com.codeflix.admin.catalogo.infrastructure.genre.models.BulkGenreRequest;
 import com.codeflix.admin.catalogo.infrastructure.genre.models.CreateGenreRequest;
 import com.codeflix.admin.catalogo.infrastructure.genre.models.GenreListResponse;
 import com.codeflix.admin.catalogo.infrastructure.genre.models.GenreResponse;
 import com.codeflix.admin.catalogo.infrastructure.genre.models.UpdateGenreRequest;
 import com.codeflix.admin.catalogo.infrastructure.genre.presenter.GenreApiPresenter;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
+import java.util.List;
 
 @RestController
 public class GenreController implements GenreAPI {
@@ -31,19 +47,31 @@ public class GenreController implements GenreAPI {
     private final UpdateGenreUseCase updateGenreUseCase;
     private final DeleteGenreUseCase deleteGenreUseCase;
     private final ListGenreUseCase listGenreUseCase;
+    private final ListGenreByCursorUseCase listGenreByCursorUseCase;
+    private final ExportGenresUseCase exportGenresUseCase;
+    private final BulkGenreUseCase bulkGenreUseCase;
+    private final DeleteGenresUseCase deleteGenresUseCase;
 
     public GenreController(
             final CreateGenreUseCase createGenreUseCase,
             final GetGenreByIdUseCase getGenreByIdUseCase,
             final UpdateGenreUseCase updateGenreUseCase,
             final DeleteGenreUseCase deleteGenreUseCase,
-            final ListGenreUseCase listGenreUseCase
+            final ListGenreUseCase listGenreUseCase,
+            final ListGenreByCursorUseCase listGenreByCursorUseCase,
+            final ExportGenresUseCase exportGenresUseCase,
+            final BulkGenreUseCase bulkGenreUseCase,
+            final DeleteGenresUseCase deleteGenresUseCase
     ) {
         this.createGenreUseCase = createGenreUseCase;
         this.getGenreByIdUseCase = getGenreByIdUseCase;
         this.updateGenreUseCase = updateGenreUseCase;
         this.deleteGenreUseCase = deleteGenreUseCase;
         this.listGenreUseCase = listGenreUseCase;
+        this.listGenreByCursorUseCase = listGenreByCursorUseCase;
+        this.exportGenresUseCase = exportGenresUseCase;
+        this.bulkGenreUseCase = bulkGenreUseCase;
+        this.deleteGenresUseCase = deleteGenresUseCase;
     }
 
     @Override
@@ -54,12 +82,51 @@ public class GenreController implements GenreAPI {
     }
 
     @Override
-    public Pagination<GenreListResponse> list(String search, int page, int perPage, String sort, String direction) {
-        final SearchQuery query = new SearchQuery(page, perPage, search, sort, direction);
+    public BulkOutput bulk(final BulkGenreRequest input) {
+        final var items = input.items().stream()
+                .map(it -> BulkGenreItem.with(
+                        BulkOperation.from(it.operation()).orElse(null),
+                        it.id(),
+                        it.name(),
+                        it.active(),
+                        it.categories()
+                ))
+                .toList();
+
+        return this.bulkGenreUseCase.execute(BulkGenreCommand.with(items));
+    }
+
+    @Override
+    public Pagination<GenreListResponse> list(String search, int page, int perPage, String sort, String direction, String count) {
+        final SearchQuery query = new SearchQuery(page, perPage, search, sort, direction, CountModes.parse(count));
         final Pagination<ListGenreOutput> output = this.listGenreUseCase.execute(query);
         return output.map(GenreApiPresenter::present);
     }
 
+    @Override
+    public CursorPagination<GenreListResponse> listByCursor(
+            String search,
+            String cursor,
+            int perPage,
+            String sort,
+            String direction,
+            boolean withTotal
+    ) {
+        final CursorQuery query = new CursorQuery(cursor, perPage, search, sort, direction, withTotal);
+        final CursorPagination<ListGenreOutput> output = this.listGenreByCursorUseCase.execute(query);
+        return output.map(GenreApiPresenter::present);
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> export() {
+        final StreamingResponseBody body = out -> {
+            try (final var writer = new NdJsonWriter(out)) {
+                this.exportGenresUseCase.execute(it -> writer.write(GenreApiPresenter.present(it)));
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     @Override
     public GenreResponse getById(String anId) {
         GenreOutput output = this.getGenreByIdUseCase.execute(anId);
@@ -83,4 +150,9 @@ public class GenreController implements GenreAPI {
         this.deleteGenreUseCase.execute(anId);
         return ResponseEntity.noContent().build();
     }
+
+    @Override
+    public DeleteGenresOutput deleteAllByIds(final List<String> ids) {
+        return this.deleteGenresUseCase.execute(ids);
+    }
 }
@@ -1,5 +1,6 @@
 package com.codeflix.admin.catalogo.infrastructure.api.controllers;
 
+import com.codeflix.admin.catalogo.domain.exceptions.ConflictException;
 import com.codeflix.admin.catalogo.domain.exceptions.DomainException;
 import com.codeflix.admin.catalogo.domain.exceptions.NotFoundException;
 import com.codeflix.admin.catalogo.domain.validation.Error;
@@ -23,6 +24,11 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiError.create(ex));
     }
 
+    @ExceptionHandler(value = ConflictException.class)
+    public ResponseEntity<?> handleConflictException(final DomainException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(ApiError.create(ex));
+    }
+
     record ApiError(String message, List<Error> errors) {
         static ApiError create(final DomainException ex) {
             return new ApiError(ex.getMessage(), ex.getErrors());
@@ -0,0 +1,68 @@
+package com.codeflix.admin.catalogo.infrastructure.api.controllers;
+
+import com.codeflix.admin.catalogo.application.video.upload.MediaUploadOutput;
+import com.codeflix.admin.catalogo.application.video.upload.chunk.UploadMediaChunkCommand;
+import com.codeflix.admin.catalogo.application.video.upload.chunk.UploadMediaChunkUseCase;
+import com.codeflix.admin.catalogo.application.video.upload.complete.CompleteMediaUploadUseCase;
+import com.codeflix.admin.catalogo.application.video.upload.initiate.InitiateMediaUploadCommand;
+import com.codeflix.admin.catalogo.application.video.upload.initiate.InitiateMediaUploadUseCase;
+import com.codeflix.admin.catalogo.application.video.upload.retrieve.GetMediaUploadUseCase;
+import com.codeflix.admin.catalogo.infrastructure.api.VideoAPI;
+import com.codeflix.admin.catalogo.infrastructure.video.models.InitiateMediaUploadRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Objects;
+
+@RestController
+public class VideoController implements VideoAPI {
+
+    private final InitiateMediaUploadUseCase initiateMediaUploadUseCase;
+    private final GetMediaUploadUseCase getMediaUploadUseCase;
+    private final UploadMediaChunkUseCase uploadMediaChunkUseCase;
+    private final CompleteMediaUploadUseCase completeMediaUploadUseCase;
+
+    public VideoController(
+            final InitiateMediaUploadUseCase initiateMediaUploadUseCase,
+            final GetMediaUploadUseCase getMediaUploadUseCase,
+            final UploadMediaChunkUseCase uploadMediaChunkUseCase,
+            final CompleteMediaUploadUseCase completeMediaUploadUseCase
+    ) {
+        this.initiateMediaUploadUseCase = Objects.requireNonNull(initiateMediaUploadUseCase);
+        this.getMediaUploadUseCase = Objects.requireNonNull(getMediaUploadUseCase);
+        this.uploadMediaChunkUseCase = Objects.requireNonNull(uploadMediaChunkUseCase);
+        this.completeMediaUploadUseCase = Objects.requireNonNull(completeMediaUploadUseCase);
+    }
+
+    @Override
+    public ResponseEntity<?> initiateUpload(final String id, final InitiateMediaUploadRequest input) {
+        final var aCommand = InitiateMediaUploadCommand.with(
+                id,
+                input.type(),
+                input.name(),
+                input.contentType(),
+                input.length()
+        );
+
+        final var output = this.initiateMediaUploadUseCase.execute(aCommand);
+
+        return ResponseEntity.created(URI.create("/videos/uploads/" + output.id())).body(output);
+    }
+
+    @Override
+    public MediaUploadOutput getUpload(final String uploadId) {
+        return this.getMediaUploadUseCase.execute(uploadId);
+    }
+
+    @Override
+    public MediaUploadOutput uploadChunk(final String uploadId, final long offset, final long length, final InputStream body) {
+        return this.uploadMediaChunkUseCase.execute(UploadMediaChunkCommand.with(uploadId, offset, length, () -> body));
+    }
+
+    @Override
+    public ResponseEntity<MediaUploadOutput> completeUpload(final String uploadId) {
+        return ResponseEntity.accepted().body(this.completeMediaUploadUseCase.execute(uploadId));
+    }
+}
@@ -0,0 +1,143 @@
+package com.codeflix.admin.catalogo.infrastructure.api.reactive;
+
+import com.codeflix.admin.catalogo.application.castmember.retrieve.get.CastMemberOutput;
+import com.codeflix.admin.catalogo.application.castmember.retrieve.list.CastMemberListOutput;
+import com.codeflix.admin.catalogo.application.category.retrieve.get.GetCategoryByIdOutput;
+import com.codeflix.admin.catalogo.application.category.retrieve.list.ListCategoriesOutput;
+import com.codeflix.admin.catalogo.application.genre.retrieve.get.GenreOutput;
+import com.codeflix.admin.catalogo.application.genre.retrieve.list.ListGenreOutput;
+import com.codeflix.admin.catalogo.domain.castmember.CastMember;
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberID;
+import com.codeflix.admin.catalogo.domain.category.Category;
+import com.codeflix.admin.catalogo.domain.category.CategoryID;
+import com.codeflix.admin.catalogo.domain.exceptions.DomainException;
+import com.codeflix.admin.catalogo.domain.exceptions.NotFoundException;
+import com.codeflix.admin.catalogo.domain.genre.Genre;
+import com.codeflix.admin.catalogo.domain.genre.GenreID;
+import com.codeflix.admin.catalogo.domain.pagination.SearchQuery;
+import com.codeflix.admin.catalogo.domain.validation.Error;
+import com.codeflix.admin.catalogo.infrastructure.api.controllers.CountModes;
+import com.codeflix.admin.catalogo.infrastructure.castmember.CastMemberR2dbcGateway;
+import com.codeflix.admin.catalogo.infrastructure.castmember.presenter.CastMemberPresenter;
+import com.codeflix.admin.catalogo.infrastructure.category.CategoryR2dbcGateway;
+import com.codeflix.admin.catalogo.infrastructure.category.presenters.CategoryApiPresenter;
+import com.codeflix.admin.catalogo.infrastructure.genre.GenreR2dbcGateway;
+import com.codeflix.admin.catalogo.infrastructure.genre.presenter.GenreApiPresenter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+public class ReactiveReadHandler {
+
+    private final CategoryR2dbcGateway categoryGateway;
+    private final GenreR2dbcGateway genreGateway;
+    private final CastMemberR2dbcGateway castMemberGateway;
+
+    public ReactiveReadHandler(
+            final CategoryR2dbcGateway categoryGateway,
+            final GenreR2dbcGateway genreGateway,
+            final CastMemberR2dbcGateway castMemberGateway
+    ) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+    }
+
+    public RouterFunction<ServerResponse> routes(final String contextPath) {
+        return RouterFunctions.route()
+                .path(contextPath, builder -> builder
+                        .GET("/categories", this::listCategories)
+                        .GET("/categories/{id}", this::getCategoryById)
+                        .GET("/genres", this::listGenres)
+                        .GET("/genres/{id}", this::getGenreById)
+                        .GET("/cast_members", this::listCastMembers)
+                        .GET("/cast_members/{id}", this::getCastMemberById))
+                .onError(DomainException.class, (ex, request) -> error(HttpStatus.UNPROCESSABLE_ENTITY, ex))
+                .onError(NotFoundException.class, (ex, request) -> error(HttpStatus.NOT_FOUND, ex))
+                .build();
+    }
+
+    public Mono<ServerResponse> listCategories(final ServerRequest request) {
+        return ok(Mono.defer(() -> this.categoryGateway.findAll(searchQuery(request)))
+                .map(page -> page.map(ListCategoriesOutput::create).map(CategoryApiPresenter::present)));
+    }
+
+    public Mono<ServerResponse> getCategoryById(final ServerRequest request) {
+        final var anId = CategoryID.load(request.pathVariable("id"));
+        return ok(this.categoryGateway.findById(anId)
+                .switchIfEmpty(notFound(() -> NotFoundException.raise(Category.class, anId)))
+                .map(GetCategoryByIdOutput::create)
+                .map(CategoryApiPresenter::present));
+    }
+
+    public Mono<ServerResponse> listGenres(final ServerRequest request) {
+        return ok(Mono.defer(() -> this.genreGateway.findAll(searchQuery(request)))
+                .map(page -> page.map(ListGenreOutput::create).map(GenreApiPresenter::present)));
+    }
+
+    public Mono<ServerResponse> getGenreById(final ServerRequest request) {
+        final var anId = GenreID.load(request.pathVariable("id"));
+        return ok(this.genreGateway.findById(anId)
+                .switchIfEmpty(notFound(() -> NotFoundException.raise(Genre.class, anId)))
+                .map(GenreOutput::from)
+                .map(GenreApiPresenter::present));
+    }
+
+    public Mono<ServerResponse> listCastMembers(final ServerRequest request) {
+        return ok(Mono.defer(() -> this.castMemberGateway.findAll(searchQuery(request)))
+                .map(page -> page.map(CastMemberListOutput::from).map(CastMemberPresenter::present)));
+    }
+
+    public Mono<ServerResponse> getCastMemberById(final ServerRequest request) {
+        final var anId = CastMemberID.load(request.pathVariable("id"));
+        return ok(this.castMemberGateway.findById(anId)
+                .switchIfEmpty(notFound(() -> NotFoundException.raise(CastMember.class, anId)))
+                .map(CastMemberOutput::from)
+                .map(CastMemberPresenter::present));
+    }
+
+    private static SearchQuery searchQuery(final ServerRequest request) {
+        return new SearchQuery(
+                intParam(request, "page", 0),
+                intParam(request, "perPage", 10),
+                request.queryParam("search").orElse(""),
+                request.queryParam("sort").orElse("name"),
+                request.queryParam("dir").orElse("asc"),
+                CountModes.parse(request.queryParam("count").orElse("exact"))
+        );
+    }
+
+    private static int intParam(final ServerRequest request, final String name, final int defaultValue) {
+        final var value = request.queryParam(name);
+        if (value.isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.get());
+        } catch (NumberFormatException ex) {
+            throw DomainException.raise(new Error("'%s' must be a number".formatted(name)));
+        }
+    }
+
+    private static <T> Mono<T> notFound(final Supplier<NotFoundException> anException) {
+        return Mono.defer(() -> Mono.error(anException.get()));
+    }
+
+    private static Mono<ServerResponse> ok(final Mono<?> body) {
+        return body.flatMap(it -> ServerResponse.ok().bodyValue(it));
+    }
+
+    private static Mono<ServerResponse> error(final HttpStatus status, final DomainException ex) {
+        return ServerResponse.status(status).bodyValue(new ApiError(ex.getMessage(), ex.getErrors()));
+    }
+
+    record ApiError(String message, List<Error> errors) {
+    }
+}
@@ -0,0 +1,32 @@
+package com.codeflix.admin.catalogo.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+public class AggregateCache<T> {
+
+    private final Cache<String, T> cache;
+    private final UnaryOperator<T> copier;
+
+    public AggregateCache(final Cache<String, T> cache, final UnaryOperator<T> copier) {
+        this.cache = Objects.requireNonNull(cache);
+        this.copier = Objects.requireNonNull(copier);
+    }
+
+    public Optional<T> get(final String anId, final Supplier<Optional<T>> loader) {
+        final var cached = this.cache.get(anId, key -> loader.get().map(this.copier).orElse(null));
+        return Optional.ofNullable(cached).map(this.copier);
+    }
+
+    public void invalidate(final String anId) {
+        this.cache.invalidate(anId);
+    }
+
+    public void invalidateAll() {
+        this.cache.invalidateAll();
+    }
+}
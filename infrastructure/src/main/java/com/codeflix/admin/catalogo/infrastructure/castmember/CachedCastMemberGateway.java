@@ -0,0 +1,111 @@
+package com.codeflix.admin.catalogo.infrastructure.castmember;
+
+import com.codeflix.admin.catalogo.domain.castmember.CastMember;
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberID;
+import com.codeflix.admin.catalogo.domain.pagination.CursorPagination;
+import com.codeflix.admin.catalogo.domain.pagination.CursorQuery;
+import com.codeflix.admin.catalogo.domain.pagination.Pagination;
+import com.codeflix.admin.catalogo.domain.pagination.SearchQuery;
+import com.codeflix.admin.catalogo.infrastructure.cache.AggregateCache;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+public class CachedCastMemberGateway implements CastMemberGateway {
+
+    private final CastMemberGateway delegate;
+    private final AggregateCache<CastMember> cache;
+
+    private final List<AggregateCache<?>> dependents;
+
+    public CachedCastMemberGateway(
+            final CastMemberGateway delegate,
+            final AggregateCache<CastMember> cache,
+            final List<AggregateCache<?>> dependents
+    ) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.cache = Objects.requireNonNull(cache);
+        this.dependents = List.copyOf(dependents);
+    }
+
+    @Override
+    public CastMember create(final CastMember aCastMember) {
+        return this.delegate.create(aCastMember);
+    }
+
+    @Override
+    public List<CastMember> createAll(final List<CastMember> aggregates) {
+        return this.delegate.createAll(aggregates);
+    }
+
+    @Override
+    public void deleteById(final CastMemberID anId) {
+        try {
+            this.delegate.deleteById(anId);
+        } finally {
+            this.cache.invalidate(anId.getValue());
+            this.dependents.forEach(AggregateCache::invalidateAll);
+        }
+    }
+
+    @Override
+    public int deleteAllByIds(final Iterable<CastMemberID> ids) {
+        try {
+            return this.delegate.deleteAllByIds(ids);
+        } finally {
+            ids.forEach(it -> this.cache.invalidate(it.getValue()));
+            this.dependents.forEach(AggregateCache::invalidateAll);
+        }
+    }
+
+    @Override
+    public Optional<CastMember> findById(final CastMemberID anId) {
+        return this.cache.get(anId.getValue(), () -> this.delegate.findById(anId));
+    }
+
+    @Override
+    public List<CastMember> findAllByIds(final Iterable<CastMemberID> ids) {
+        return this.delegate.findAllByIds(ids);
+    }
+
+    @Override
+    public CastMember update(final CastMember aCastMember) {
+        try {
+            return this.delegate.update(aCastMember);
+        } finally {
+            this.cache.invalidate(aCastMember.getId().getValue());
+        }
+    }
+
+    @Override
+    public List<CastMember> updateAll(final List<CastMember> aggregates) {
+        try {
+            return this.delegate.updateAll(aggregates);
+        } finally {
+            aggregates.forEach(it -> this.cache.invalidate(it.getId().getValue()));
+        }
+    }
+
+    @Override
+    public Pagination<CastMember> findAll(final SearchQuery aQuery) {
+        return this.delegate.findAll(aQuery);
+    }
+
+    @Override
+    public CursorPagination<CastMember> findAllByCursor(final CursorQuery aQuery) {
+        return this.delegate.findAllByCursor(aQuery);
+    }
+
+    @Override
+    public void exportAll(final Consumer<CastMember> aConsumer) {
+        this.delegate.exportAll(aConsumer);
+    }
+
+    @Override
+    public List<CastMemberID> existsByIds(final Iterable<CastMemberID> ids) {
+        return this.delegate.existsByIds(ids);
+    }
+}
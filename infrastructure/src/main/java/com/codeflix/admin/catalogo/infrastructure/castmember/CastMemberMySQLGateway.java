@@ -3,27 +3,71 @@ package com.codeflix.admin.catalogo.infrastructure.castmember;
 import com.codeflix.admin.catalogo.domain.castmember.CastMember;
 import com.codeflix.admin.catalogo.domain.castmember.CastMemberGateway;
 import com.codeflix.admin.catalogo.domain.castmember.CastMemberID;
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberType;
+import com.codeflix.admin.catalogo.domain.exceptions.NotFoundException;
+import com.codeflix.admin.catalogo.domain.pagination.CursorPagination;
+import com.codeflix.admin.catalogo.domain.pagination.CursorQuery;
 import com.codeflix.admin.catalogo.domain.pagination.Pagination;
 import com.codeflix.admin.catalogo.domain.pagination.SearchQuery;
 import com.codeflix.admin.catalogo.infrastructure.castmember.persistence.CastMemberJpaEntity;
 import com.codeflix.admin.catalogo.infrastructure.castmember.persistence.CastMemberRepository;
-import com.codeflix.admin.catalogo.infrastructure.utils.SpecificationUtils;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import com.codeflix.admin.catalogo.infrastructure.search.CursorPaginator;
+import com.codeflix.admin.catalogo.infrastructure.search.OffsetPaginator;
+import com.codeflix.admin.catalogo.infrastructure.search.SearchSpecifications;
+import com.codeflix.admin.catalogo.infrastructure.search.StreamingCursor;
+import com.codeflix.admin.catalogo.infrastructure.sql.IdentifierColumns;
+import com.codeflix.admin.catalogo.infrastructure.sql.JdbcBatchWriter;
+import com.codeflix.admin.catalogo.infrastructure.utils.InClauseSplitter;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.StreamSupport;
 
 @Component
 public class CastMemberMySQLGateway implements CastMemberGateway {
 
-    private final CastMemberRepository castMemberRepository;
+    private static final String EXPORT_ALL = """
+            SELECT id, name, type, created_at, updated_at
+            FROM cast_members
+            ORDER BY id
+            """;
+
+    private static final String UPDATE = """
+            UPDATE cast_members
+            SET name = :name, type = :type, updated_at = :updatedAt
+            WHERE id = :id
+            """;
 
-    public CastMemberMySQLGateway(final CastMemberRepository castMemberRepository) {
+    private final CastMemberRepository castMemberRepository;
+    private final SearchSpecifications searchSpecifications;
+    private final CursorPaginator cursorPaginator;
+    private final OffsetPaginator offsetPaginator;
+    private final StreamingCursor streamingCursor;
+    private final JdbcBatchWriter batchWriter;
+    private final IdentifierColumns identifierColumns;
+
+    public CastMemberMySQLGateway(
+            final CastMemberRepository castMemberRepository,
+            final SearchSpecifications searchSpecifications,
+            final CursorPaginator cursorPaginator,
+            final OffsetPaginator offsetPaginator,
+            final StreamingCursor streamingCursor,
+            final JdbcBatchWriter batchWriter,
+            final IdentifierColumns identifierColumns
+    ) {
         this.castMemberRepository = Objects.requireNonNull(castMemberRepository);
+        this.searchSpecifications = Objects.requireNonNull(searchSpecifications);
+        this.cursorPaginator = Objects.requireNonNull(cursorPaginator);
+        this.offsetPaginator = Objects.requireNonNull(offsetPaginator);
+        this.streamingCursor = Objects.requireNonNull(streamingCursor);
+        this.batchWriter = Objects.requireNonNull(batchWriter);
+        this.identifierColumns = Objects.requireNonNull(identifierColumns);
     }
 
     @Override
@@ -32,11 +76,24 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
     }
 
     @Override
+    @Transactional
+    public List<CastMember> createAll(final List<CastMember> aggregates) {
+        return this.saveAll(aggregates);
+    }
+
+    @Override
+    @Transactional
     public void deleteById(final CastMemberID castMemberID) {
-        final var anId = castMemberID.getValue();
-        if (this.castMemberRepository.existsById(anId)) {
-            this.castMemberRepository.deleteById(anId);
-        }
+        this.castMemberRepository.removeById(castMemberID.getValue());
+    }
+
+    @Override
+    @Transactional
+    public int deleteAllByIds(final Iterable<CastMemberID> castMemberIDS) {
+        final var ids = StreamSupport.stream(castMemberIDS.spliterator(), false)
+                .map(CastMemberID::getValue)
+                .toList();
+        return InClauseSplitter.update(ids, this.castMemberRepository::removeAllByIds);
     }
 
     @Override
@@ -45,43 +102,88 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
     }
 
     @Override
+    public List<CastMember> findAllByIds(final Iterable<CastMemberID> castMemberIDS) {
+        final var ids = StreamSupport.stream(castMemberIDS.spliterator(), false)
+                .map(CastMemberID::getValue)
+                .toList();
+        return InClauseSplitter.query(ids, this.castMemberRepository::findAllById).stream()
+                .map(CastMemberJpaEntity::toAggregate)
+                .toList();
+    }
+
+    @Override
+    @Transactional
     public CastMember update(final CastMember aCastMember) {
-        return this.save(aCastMember);
+        final var updated = this.updateAll(List.of(aCastMember));
+        if (updated.isEmpty()) {
+            throw NotFoundException.raise(CastMember.class, aCastMember.getId());
+        }
+        return updated.get(0);
+    }
+
+    @Override
+    @Transactional
+    public List<CastMember> updateAll(final List<CastMember> aggregates) {
+        final var updated = this.batchWriter.update(UPDATE, aggregates, it -> new MapSqlParameterSource()
+                .addValue("id", this.identifierColumns.bind(it.getId().getValue()))
+                .addValue("name", it.getName())
+                .addValue("type", it.getType().name())
+                .addValue("updatedAt", JdbcBatchWriter.timestamp(it.getUpdatedAt())));
+
+        return updated;
     }
 
     @Override
     public Pagination<CastMember> findAll(final SearchQuery aQuery) {
-        final var page = PageRequest.of(
-                aQuery.page(),
-                aQuery.perPage(),
-                Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
-        );
-
-        final var where = Optional.ofNullable(aQuery.terms())
-                .filter(str -> !str.isBlank())
-                .map(this::assembleSpecification)
-                .orElse(null);
-
-        final var pageResult = this.castMemberRepository.findAll(where, page);
-
-        return new Pagination<>(
-                pageResult.getNumber(),
-                pageResult.getSize(),
-                pageResult.getTotalElements(),
-                pageResult.map(CastMemberJpaEntity::toAggregate).toList()
-        );
+        final var page = this.searchSpecifications.page(aQuery);
+
+        final Specification<CastMemberJpaEntity> where = this.searchSpecifications.where(aQuery, "name");
+
+        return this.offsetPaginator.find(CastMemberJpaEntity.class, this.castMemberRepository, where, page, aQuery)
+                .map(CastMemberJpaEntity::toAggregate);
+    }
+
+    @Override
+    public CursorPagination<CastMember> findAllByCursor(final CursorQuery aQuery) {
+        final Specification<CastMemberJpaEntity> where = this.searchSpecifications.where(aQuery, "name");
+
+        return this.cursorPaginator.find(CastMemberJpaEntity.class, where, aQuery)
+                .map(CastMemberJpaEntity::toAggregate);
     }
 
     @Override
-    public List<CastMemberID> existsByIds(Iterable<CastMemberID> castMemberIDS) {
-        throw new UnsupportedOperationException("Not supported yet.");
+    @Transactional(readOnly = true)
+    public void exportAll(final Consumer<CastMember> aConsumer) {
+        this.streamingCursor.forEach(EXPORT_ALL, rs -> aConsumer.accept(CastMember.with(
+                CastMemberID.load(this.identifierColumns.get(rs, "id")),
+                rs.getString("name"),
+                CastMemberType.valueOf(rs.getString("type")),
+                StreamingCursor.getInstant(rs, "created_at"),
+                StreamingCursor.getInstant(rs, "updated_at")
+        )));
+    }
+
+    @Override
+    public List<CastMemberID> existsByIds(final Iterable<CastMemberID> castMemberIDS) {
+        final var ids = StreamSupport.stream(castMemberIDS.spliterator(), false)
+                .map(CastMemberID::getValue)
+                .toList();
+        return InClauseSplitter.query(ids, this.castMemberRepository::existsByIds).stream()
+                .map(CastMemberID::load)
+                .toList();
     }
 
     private CastMember save(final CastMember aCastMember) {
         return this.castMemberRepository.save(CastMemberJpaEntity.from(aCastMember)).toAggregate();
     }
 
-    private Specification<CastMemberJpaEntity> assembleSpecification(final String terms) {
-        return SpecificationUtils.like("name", terms);
+    private List<CastMember> saveAll(final List<CastMember> aggregates) {
+        if (aggregates.isEmpty()) {
+            return List.of();
+        }
+
+        return this.castMemberRepository.saveAll(aggregates.stream().map(CastMemberJpaEntity::from).toList()).stream()
+                .map(CastMemberJpaEntity::toAggregate)
+                .toList();
     }
 }
\ No newline at end of file
@@ -0,0 +1,63 @@
+package com.codeflix.admin.catalogo.infrastructure.castmember;
+
+import com.codeflix.admin.catalogo.domain.castmember.CastMember;
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberID;
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberType;
+import com.codeflix.admin.catalogo.domain.pagination.Pagination;
+import com.codeflix.admin.catalogo.domain.pagination.SearchQuery;
+import com.codeflix.admin.catalogo.infrastructure.search.R2dbcSearch;
+import com.codeflix.admin.catalogo.infrastructure.sql.IdentifierColumns;
+import com.codeflix.admin.catalogo.infrastructure.utils.R2dbcRows;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+public class CastMemberR2dbcGateway {
+
+    private static final R2dbcSearch.Table TABLE = new R2dbcSearch.Table(
+            "cast_members",
+            "id, name, type, created_at, updated_at",
+            List.of("name"),
+            Set.of("id", "name", "type", "created_at", "updated_at")
+    );
+
+    private final DatabaseClient client;
+    private final R2dbcSearch search;
+    private final IdentifierColumns identifierColumns;
+
+    public CastMemberR2dbcGateway(
+            final DatabaseClient client,
+            final R2dbcSearch search,
+            final IdentifierColumns identifierColumns
+    ) {
+        this.client = Objects.requireNonNull(client);
+        this.search = Objects.requireNonNull(search);
+        this.identifierColumns = Objects.requireNonNull(identifierColumns);
+    }
+
+    public Mono<CastMember> findById(final CastMemberID anId) {
+        return this.client.sql("SELECT %s FROM cast_members WHERE id = :id".formatted(TABLE.columns()))
+                .bind("id", this.identifierColumns.bind(anId.getValue()))
+                .map(this::toAggregate)
+                .one();
+    }
+
+    public Mono<Pagination<CastMember>> findAll(final SearchQuery aQuery) {
+        return this.search.find(this.client, TABLE, aQuery, this::toAggregate);
+    }
+
+    private CastMember toAggregate(final Row row, final RowMetadata metadata) {
+        return CastMember.with(
+                CastMemberID.load(this.identifierColumns.get(row, "id")),
+                row.get("name", String.class),
+                CastMemberType.valueOf(row.get("type", String.class)),
+                R2dbcRows.getInstant(row, "created_at"),
+                R2dbcRows.getInstant(row, "updated_at")
+        );
+    }
+}
@@ -3,6 +3,10 @@ package com.codeflix.admin.catalogo.infrastructure.castmember.persistence;
 import com.codeflix.admin.catalogo.domain.castmember.CastMember;
 import com.codeflix.admin.catalogo.domain.castmember.CastMemberID;
 import com.codeflix.admin.catalogo.domain.castmember.CastMemberType;
+import com.codeflix.admin.catalogo.infrastructure.sql.IdentifierType;
+import org.hibernate.annotations.Type;
+
+import org.springframework.data.domain.Persistable;
 
 import javax.persistence.*;
 import java.time.Instant;
@@ -10,9 +14,10 @@ import java.time.Instant;
 
 @Entity(name = "CastMember")
 @Table(name = "cast_members")
-public class CastMemberJpaEntity {
+public class CastMemberJpaEntity implements Persistable<String> {
 
     @Id
+    @Type(type = IdentifierType.NAME)
     private String id;
 
     @Column(name = "name", nullable = false)
@@ -28,6 +33,9 @@ public class CastMemberJpaEntity {
     @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
     private Instant updatedAt;
 
+    @Transient
+    private boolean isNew;
+
     public CastMemberJpaEntity() {
     }
 
@@ -43,6 +51,7 @@ public class CastMemberJpaEntity {
         this.type = type;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
+        this.isNew = true;
     }
 
     public static CastMemberJpaEntity from(final CastMember aMember) {
@@ -65,6 +74,17 @@ public class CastMemberJpaEntity {
         );
     }
 
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
     public String getId() {
         return id;
     }
@@ -5,8 +5,25 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface CastMemberRepository extends JpaRepository<CastMemberJpaEntity, String> {
 
     Page<CastMemberJpaEntity> findAll(Specification<CastMemberJpaEntity> specification, Pageable page);
-}
\ No newline at end of file
+
+    @Query(value = "SELECT c.id from CastMember c where c.id in :ids")
+    List<String> existsByIds(@Param("ids") List<String> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM CastMember e WHERE e.id = :id")
+    int removeById(@Param("id") String id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM CastMember e WHERE e.id in :ids")
+    int removeAllByIds(@Param("ids") Collection<String> ids);
+}
@@ -0,0 +1,119 @@
+package com.codeflix.admin.catalogo.infrastructure.category;
+
+import com.codeflix.admin.catalogo.domain.category.Category;
+import com.codeflix.admin.catalogo.domain.category.CategoryGateway;
+import com.codeflix.admin.catalogo.domain.category.CategoryID;
+import com.codeflix.admin.catalogo.domain.pagination.CursorPagination;
+import com.codeflix.admin.catalogo.domain.pagination.CursorQuery;
+import com.codeflix.admin.catalogo.domain.pagination.Pagination;
+import com.codeflix.admin.catalogo.domain.pagination.SearchQuery;
+import com.codeflix.admin.catalogo.infrastructure.cache.AggregateCache;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+public class CachedCategoryGateway implements CategoryGateway {
+
+    private final CategoryGateway delegate;
+    private final AggregateCache<Category> cache;
+
+    /**
+     * Caches of aggregates that link to categories. Deleting a category removes those links on cascade in
+     * the schema, so their entries would keep listing a category that no longer exists.
+     */
+    private final List<AggregateCache<?>> dependents;
+
+    public CachedCategoryGateway(final CategoryGateway delegate, final AggregateCache<Category> cache) {
+        this(delegate, cache, List.of());
+    }
+
+    public CachedCategoryGateway(
+            final CategoryGateway delegate,
+            final AggregateCache<Category> cache,
+            final List<AggregateCache<?>> dependents
+    ) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.cache = Objects.requireNonNull(cache);
+        this.dependents = List.copyOf(dependents);
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        return this.delegate.create(aCategory);
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> aggregates) {
+        return this.delegate.createAll(aggregates);
+    }
+
+    @Override
+    public void deleteById(final CategoryID anId) {
+        try {
+            this.delegate.deleteById(anId);
+        } finally {
+            this.cache.invalidate(anId.getValue());
+            this.dependents.forEach(AggregateCache::invalidateAll);
+        }
+    }
+
+    @Override
+    public int deleteAllByIds(final Iterable<CategoryID> ids) {
+        try {
+            return this.delegate.deleteAllByIds(ids);
+        } finally {
+            ids.forEach(it -> this.cache.invalidate(it.getValue()));
+            this.dependents.forEach(AggregateCache::invalidateAll);
+        }
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        return this.cache.get(anId.getValue(), () -> this.delegate.findById(anId));
+    }
+
+    @Override
+    public List<Category> findAllByIds(final Iterable<CategoryID> ids) {
+        return this.delegate.findAllByIds(ids);
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        try {
+            return this.delegate.update(aCategory);
+        } finally {
+            this.cache.invalidate(aCategory.getId().getValue());
+        }
+    }
+
+    @Override
+    public List<Category> updateAll(final List<Category> aggregates) {
+        try {
+            return this.delegate.updateAll(aggregates);
+        } finally {
+            aggregates.forEach(it -> this.cache.invalidate(it.getId().getValue()));
+        }
+    }
+
+    @Override
+    public Pagination<Category> findAll(final SearchQuery aQuery) {
+        return this.delegate.findAll(aQuery);
+    }
+
+    @Override
+    public CursorPagination<Category> findAllByCursor(final CursorQuery aQuery) {
+        return this.delegate.findAllByCursor(aQuery);
+    }
+
+    @Override
+    public void exportAll(final Consumer<Category> aConsumer) {
+        this.delegate.exportAll(aConsumer);
+    }
+
+    @Override
+    public List<CategoryID> existsByIds(final Iterable<CategoryID> ids) {
+        return this.delegate.existsByIds(ids);
+    }
+}
@@ -3,27 +3,69 @@ package com.codeflix.admin.catalogo.infrastructure.category;
 import com.codeflix.admin.catalogo.domain.category.Category;
 import com.codeflix.admin.catalogo.domain.category.CategoryGateway;
 import com.codeflix.admin.catalogo.domain.category.CategoryID;
+import com.codeflix.admin.catalogo.domain.exceptions.NotFoundException;
+import com.codeflix.admin.catalogo.domain.pagination.CursorPagination;
+import com.codeflix.admin.catalogo.domain.pagination.CursorQuery;
 import com.codeflix.admin.catalogo.domain.pagination.SearchQuery;
 import com.codeflix.admin.catalogo.domain.pagination.Pagination;
 import com.codeflix.admin.catalogo.infrastructure.category.persistence.CategoryJPAEntity;
 import com.codeflix.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
-import com.codeflix.admin.catalogo.infrastructure.utils.SpecificationUtils;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import com.codeflix.admin.catalogo.infrastructure.search.CursorPaginator;
+import com.codeflix.admin.catalogo.infrastructure.search.OffsetPaginator;
+import com.codeflix.admin.catalogo.infrastructure.search.SearchSpecifications;
+import com.codeflix.admin.catalogo.infrastructure.search.StreamingCursor;
+import com.codeflix.admin.catalogo.infrastructure.sql.IdentifierColumns;
+import com.codeflix.admin.catalogo.infrastructure.sql.JdbcBatchWriter;
+import com.codeflix.admin.catalogo.infrastructure.utils.InClauseSplitter;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.StreamSupport;
 
 @Component
 public class CategoryMySQLGateway implements CategoryGateway {
+
+    private static final String EXPORT_ALL = """
+            SELECT id, name, description, active, created_at, updated_at, deleted_at
+            FROM category
+            ORDER BY id
+            """;
+
+    private static final String UPDATE = """
+            UPDATE category
+            SET name = :name, description = :description, active = :active, updated_at = :updatedAt, deleted_at = :deletedAt
+            WHERE id = :id
+            """;
+
     private final CategoryRepository repository;
+    private final SearchSpecifications searchSpecifications;
+    private final CursorPaginator cursorPaginator;
+    private final OffsetPaginator offsetPaginator;
+    private final StreamingCursor streamingCursor;
+    private final JdbcBatchWriter batchWriter;
+    private final IdentifierColumns identifierColumns;
 
-    public CategoryMySQLGateway(CategoryRepository repository) {
+    public CategoryMySQLGateway(
+            CategoryRepository repository,
+            SearchSpecifications searchSpecifications,
+            CursorPaginator cursorPaginator,
+            OffsetPaginator offsetPaginator,
+            StreamingCursor streamingCursor,
+            JdbcBatchWriter batchWriter,
+            IdentifierColumns identifierColumns
+    ) {
         this.repository = repository;
+        this.searchSpecifications = searchSpecifications;
+        this.cursorPaginator = cursorPaginator;
+        this.offsetPaginator = offsetPaginator;
+        this.streamingCursor = streamingCursor;
+        this.batchWriter = batchWriter;
+        this.identifierColumns = identifierColumns;
     }
 
     @Override
@@ -32,11 +74,24 @@ public class CategoryMySQLGateway implements CategoryGateway {
     }
 
     @Override
+    @Transactional
+    public List<Category> createAll(final List<Category> aggregates) {
+        return this.saveAll(aggregates);
+    }
+
+    @Override
+    @Transactional
     public void deleteById(CategoryID anCategoryID) {
-        final var idValue = anCategoryID.getValue();
-        if (this.repository.existsById(idValue)) {
-            this.repository.deleteById(idValue);
-        }
+        this.repository.removeById(anCategoryID.getValue());
+    }
+
+    @Override
+    @Transactional
+    public int deleteAllByIds(final Iterable<CategoryID> categoryIDs) {
+        final var ids = StreamSupport.stream(categoryIDs.spliterator(), false)
+                .map(CategoryID::getValue)
+                .toList();
+        return InClauseSplitter.update(ids, this.repository::removeAllByIds);
     }
 
     @Override
@@ -45,33 +100,70 @@ public class CategoryMySQLGateway implements CategoryGateway {
     }
 
     @Override
+    public List<Category> findAllByIds(final Iterable<CategoryID> categoryIDs) {
+        final var ids = StreamSupport.stream(categoryIDs.spliterator(), false)
+                .map(CategoryID::getValue)
+                .toList();
+        return InClauseSplitter.query(ids, this.repository::findAllById).stream()
+                .map(CategoryJPAEntity::toAggregate)
+                .toList();
+    }
+
+    @Override
+    @Transactional
     public Category update(final Category aCategory) {
-        return this.save(aCategory);
+        final var updated = this.updateAll(List.of(aCategory));
+        if (updated.isEmpty()) {
+            throw NotFoundException.raise(Category.class, aCategory.getId());
+        }
+        return updated.get(0);
+    }
+
+    @Override
+    @Transactional
+    public List<Category> updateAll(final List<Category> aggregates) {
+        final var updated = this.batchWriter.update(UPDATE, aggregates, it -> new MapSqlParameterSource()
+                .addValue("id", this.identifierColumns.bind(it.getId().getValue()))
+                .addValue("name", it.getName())
+                .addValue("description", it.getDescription())
+                .addValue("active", it.isActive())
+                .addValue("updatedAt", JdbcBatchWriter.timestamp(it.getUpdatedAt()))
+                .addValue("deletedAt", JdbcBatchWriter.timestamp(it.getDeletedAt())));
+
+        return updated;
     }
 
     @Override
     public Pagination<Category> findAll(final SearchQuery aQuery) {
-        final var page = PageRequest.of(
-                aQuery.page(),
-                aQuery.perPage(),
-                Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
-        );
-        final var specification = Optional.ofNullable(aQuery.terms())
-                .filter(str -> !str.isBlank())
-                .map(str -> {
-                    final Specification<CategoryJPAEntity> nameLike = SpecificationUtils.<CategoryJPAEntity>like("name", str);
-                    final Specification<CategoryJPAEntity> descriptionLike = SpecificationUtils.<CategoryJPAEntity>like("description", str);
-                    return nameLike.or(descriptionLike);
-                }).orElse(null);
-
-        final var pageResult = this.repository.findAll(Specification.where(specification), page);
-
-        return new Pagination<>(
-                pageResult.getNumber(),
-                pageResult.getSize(),
-                pageResult.getTotalElements(),
-                pageResult.map(CategoryJPAEntity::toAggregate).toList()
-        );
+        final var page = this.searchSpecifications.page(aQuery);
+        final Specification<CategoryJPAEntity> specification =
+                this.searchSpecifications.where(aQuery, "name", "description");
+
+        return this.offsetPaginator.find(CategoryJPAEntity.class, this.repository, specification, page, aQuery)
+                .map(CategoryJPAEntity::toAggregate);
+    }
+
+    @Override
+    public CursorPagination<Category> findAllByCursor(final CursorQuery aQuery) {
+        final Specification<CategoryJPAEntity> specification =
+                this.searchSpecifications.where(aQuery, "name", "description");
+
+        return this.cursorPaginator.find(CategoryJPAEntity.class, specification, aQuery)
+                .map(CategoryJPAEntity::toAggregate);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAll(final Consumer<Category> aConsumer) {
+        this.streamingCursor.forEach(EXPORT_ALL, rs -> aConsumer.accept(Category.loadCategory(
+                CategoryID.load(this.identifierColumns.get(rs, "id")),
+                rs.getString("name"),
+                rs.getString("description"),
+                rs.getBoolean("active"),
+                StreamingCursor.getInstant(rs, "created_at"),
+                StreamingCursor.getInstant(rs, "updated_at"),
+                StreamingCursor.getInstant(rs, "deleted_at")
+        )));
     }
 
     @Override
@@ -79,10 +171,20 @@ public class CategoryMySQLGateway implements CategoryGateway {
         final var ids = StreamSupport.stream(categoryIDs.spliterator(), false)
                 .map(CategoryID::getValue)
                 .toList();
-        return this.repository.existsByIds(ids).stream().map(CategoryID::load).toList();
+        return InClauseSplitter.query(ids, this.repository::existsByIds).stream().map(CategoryID::load).toList();
     }
 
     private Category save(final Category aCategory) {
         return this.repository.save(CategoryJPAEntity.create(aCategory)).toAggregate();
     }
+
+    private List<Category> saveAll(final List<Category> aggregates) {
+        if (aggregates.isEmpty()) {
+            return List.of();
+        }
+
+        return this.repository.saveAll(aggregates.stream().map(CategoryJPAEntity::create).toList()).stream()
+                .map(CategoryJPAEntity::toAggregate)
+                .toList();
+    }
 }
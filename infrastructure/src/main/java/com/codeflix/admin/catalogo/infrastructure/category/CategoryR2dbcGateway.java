@@ -0,0 +1,64 @@
+package com.codeflix.admin.catalogo.infrastructure.category;
+
+import com.codeflix.admin.catalogo.domain.category.Category;
+import com.codeflix.admin.catalogo.domain.category.CategoryID;
+import com.codeflix.admin.catalogo.domain.pagination.Pagination;
+import com.codeflix.admin.catalogo.domain.pagination.SearchQuery;
+import com.codeflix.admin.catalogo.infrastructure.search.R2dbcSearch;
+import com.codeflix.admin.catalogo.infrastructure.sql.IdentifierColumns;
+import com.codeflix.admin.catalogo.infrastructure.utils.R2dbcRows;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+public class CategoryR2dbcGateway {
+
+    private static final R2dbcSearch.Table TABLE = new R2dbcSearch.Table(
+            "category",
+            "id, name, description, active, created_at, updated_at, deleted_at",
+            List.of("name", "description"),
+            Set.of("id", "name", "description", "active", "created_at", "updated_at", "deleted_at")
+    );
+
+    private final DatabaseClient client;
+    private final R2dbcSearch search;
+    private final IdentifierColumns identifierColumns;
+
+    public CategoryR2dbcGateway(
+            final DatabaseClient client,
+            final R2dbcSearch search,
+            final IdentifierColumns identifierColumns
+    ) {
+        this.client = Objects.requireNonNull(client);
+        this.search = Objects.requireNonNull(search);
+        this.identifierColumns = Objects.requireNonNull(identifierColumns);
+    }
+
+    public Mono<Category> findById(final CategoryID anId) {
+        return this.client.sql("SELECT %s FROM category WHERE id = :id".formatted(TABLE.columns()))
+                .bind("id", this.identifierColumns.bind(anId.getValue()))
+                .map(this::toAggregate)
+                .one();
+    }
+
+    public Mono<Pagination<Category>> findAll(final SearchQuery aQuery) {
+        return this.search.find(this.client, TABLE, aQuery, this::toAggregate);
+    }
+
+    private Category toAggregate(final Row row, final RowMetadata metadata) {
+        return Category.loadCategory(
+                CategoryID.load(this.identifierColumns.get(row, "id")),
+                row.get("name", String.class),
+                row.get("description", String.class),
+                R2dbcRows.getBoolean(row, "active"),
+                R2dbcRows.getInstant(row, "created_at"),
+                R2dbcRows.getInstant(row, "updated_at"),
+                R2dbcRows.getInstant(row, "deleted_at")
+        );
+    }
+}
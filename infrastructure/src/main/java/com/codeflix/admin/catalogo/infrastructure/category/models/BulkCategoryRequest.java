@@ -0,0 +1,24 @@
+package com.codeflix.admin.catalogo.infrastructure.category.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Collections;
+import java.util.List;
+
+public record BulkCategoryRequest(
+        @JsonProperty("items") List<Item> items
+) {
+
+    public List<Item> items() {
+        return this.items != null ? this.items : Collections.emptyList();
+    }
+
+    public record Item(
+            @JsonProperty("operation") String operation,
+            @JsonProperty("id") String id,
+            @JsonProperty("name") String name,
+            @JsonProperty("description") String description,
+            @JsonProperty("is_active") Boolean active
+    ) {
+    }
+}
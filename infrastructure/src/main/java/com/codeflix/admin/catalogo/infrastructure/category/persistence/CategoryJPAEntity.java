@@ -2,18 +2,25 @@ package com.codeflix.admin.catalogo.infrastructure.category.persistence;
 
 import com.codeflix.admin.catalogo.domain.category.Category;
 import com.codeflix.admin.catalogo.domain.category.CategoryID;
+import com.codeflix.admin.catalogo.infrastructure.sql.IdentifierType;
+import org.hibernate.annotations.Type;
+import org.springframework.data.domain.Persistable;
+
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
+import javax.persistence.PostPersist;
 import javax.persistence.Table;
+import javax.persistence.Transient;
 
 import java.time.Instant;
 
 @Entity(name = "Category")
 @Table(name = "category")
-public class CategoryJPAEntity {
+public class CategoryJPAEntity implements Persistable<String> {
 
     @Id
+    @Type(type = IdentifierType.NAME)
     private String id;
 
     @Column(name = "name", nullable = false)
@@ -34,6 +41,9 @@ public class CategoryJPAEntity {
     @Column(name = "deleted_at", columnDefinition = "DATETIME(6)")
     private Instant deletedAt;
 
+    @Transient
+    private boolean isNew;
+
     public CategoryJPAEntity() {
     }
 
@@ -53,6 +63,7 @@ public class CategoryJPAEntity {
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
         this.deletedAt = deletedAt;
+        this.isNew = true;
     }
 
     public static CategoryJPAEntity create(final Category aCategory) {
@@ -80,6 +91,17 @@ public class CategoryJPAEntity {
     }
 
 
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
     public String getId() {
         return id;
     }
@@ -0,0 +1,141 @@
+package com.codeflix.admin.catalogo.infrastructure.config;
+
+import com.codeflix.admin.catalogo.domain.castmember.CastMember;
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.codeflix.admin.catalogo.domain.category.Category;
+import com.codeflix.admin.catalogo.domain.category.CategoryGateway;
+import com.codeflix.admin.catalogo.domain.genre.Genre;
+import com.codeflix.admin.catalogo.domain.genre.GenreGateway;
+import com.codeflix.admin.catalogo.domain.video.Video;
+import com.codeflix.admin.catalogo.domain.video.VideoGateway;
+import com.codeflix.admin.catalogo.infrastructure.cache.AggregateCache;
+import com.codeflix.admin.catalogo.infrastructure.castmember.CachedCastMemberGateway;
+import com.codeflix.admin.catalogo.infrastructure.castmember.CastMemberMySQLGateway;
+import com.codeflix.admin.catalogo.infrastructure.category.CachedCategoryGateway;
+import com.codeflix.admin.catalogo.infrastructure.category.CategoryMySQLGateway;
+import com.codeflix.admin.catalogo.infrastructure.genre.CachedGenreGateway;
+import com.codeflix.admin.catalogo.infrastructure.genre.GenreMySQLGateway;
+import com.codeflix.admin.catalogo.infrastructure.video.CachedVideoGateway;
+import com.codeflix.admin.catalogo.infrastructure.video.VideoMySQLGateway;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+@Configuration
+@ConditionalOnProperty(name = "cache.enabled", havingValue = "true")
+public class CacheConfig {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final boolean recordStats;
+
+    public CacheConfig(
+            final ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${cache.record-stats:true}") final boolean recordStats
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.recordStats = recordStats;
+    }
+
+    @Bean
+    public AggregateCache<Category> categoryCache(
+            @Value("${cache.category.max-size:10000}") final long maxSize,
+            @Value("${cache.category.ttl:60s}") final Duration ttl
+    ) {
+        return newCache("categories", maxSize, ttl, Category::clone);
+    }
+
+    @Bean
+    public AggregateCache<Genre> genreCache(
+            @Value("${cache.genre.max-size:10000}") final long maxSize,
+            @Value("${cache.genre.ttl:60s}") final Duration ttl
+    ) {
+        return newCache("genres", maxSize, ttl, Genre::clone);
+    }
+
+    @Bean
+    public AggregateCache<CastMember> castMemberCache(
+            @Value("${cache.cast-member.max-size:10000}") final long maxSize,
+            @Value("${cache.cast-member.ttl:60s}") final Duration ttl
+    ) {
+        return newCache("cast_members", maxSize, ttl, CastMember::from);
+    }
+
+    @Bean
+    public AggregateCache<Video> videoCache(
+            @Value("${cache.video.max-size:10000}") final long maxSize,
+            @Value("${cache.video.ttl:30s}") final Duration ttl
+    ) {
+        return newCache("videos", maxSize, ttl, Video::from);
+    }
+
+    @Bean
+    @Primary
+    public CategoryGateway cachedCategoryGateway(
+            final CategoryMySQLGateway categoryMySQLGateway,
+            final AggregateCache<Category> categoryCache,
+            final AggregateCache<Genre> genreCache,
+            final AggregateCache<Video> videoCache
+    ) {
+        return new CachedCategoryGateway(categoryMySQLGateway, categoryCache, List.of(genreCache, videoCache));
+    }
+
+    @Bean
+    @Primary
+    public GenreGateway cachedGenreGateway(
+            final GenreMySQLGateway genreMySQLGateway,
+            final AggregateCache<Genre> genreCache,
+            final AggregateCache<Video> videoCache
+    ) {
+        return new CachedGenreGateway(genreMySQLGateway, genreCache, List.of(videoCache));
+    }
+
+    @Bean
+    @Primary
+    public CastMemberGateway cachedCastMemberGateway(
+            final CastMemberMySQLGateway castMemberMySQLGateway,
+            final AggregateCache<CastMember> castMemberCache,
+            final AggregateCache<Video> videoCache
+    ) {
+        return new CachedCastMemberGateway(castMemberMySQLGateway, castMemberCache, List.of(videoCache));
+    }
+
+    @Bean
+    @Primary
+    public VideoGateway cachedVideoGateway(
+            final VideoMySQLGateway videoMySQLGateway,
+            final AggregateCache<Video> videoCache
+    ) {
+        return new CachedVideoGateway(videoMySQLGateway, videoCache);
+    }
+
+    private <T> AggregateCache<T> newCache(
+            final String name,
+            final long maxSize,
+            final Duration ttl,
+            final UnaryOperator<T> copier
+    ) {
+        final var builder = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl);
+
+        if (this.recordStats) {
+            builder.recordStats();
+        }
+
+        final Cache<String, T> cache = builder.build();
+        this.meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, name));
+
+        return new AggregateCache<>(cache, copier);
+    }
+}
@@ -0,0 +1,54 @@
+package com.codeflix.admin.catalogo.infrastructure.config;
+
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.codeflix.admin.catalogo.domain.category.CategoryGateway;
+import com.codeflix.admin.catalogo.domain.genre.GenreGateway;
+import com.codeflix.admin.catalogo.infrastructure.api.conditional.ConditionalGetInterceptor;
+import com.codeflix.admin.catalogo.infrastructure.api.conditional.EntityVersions;
+import com.codeflix.admin.catalogo.infrastructure.api.conditional.GatewayEntityVersions;
+import com.codeflix.admin.catalogo.infrastructure.api.conditional.VersionProbe;
+import com.codeflix.admin.catalogo.infrastructure.sql.IdentifierColumns;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@ConditionalOnProperty(name = "http.conditional.enabled", havingValue = "true")
+public class ConditionalRequestConfig {
+
+    @Bean
+    public VersionProbe versionProbe(final JdbcTemplate jdbcTemplate, final IdentifierColumns identifierColumns) {
+        return new VersionProbe(jdbcTemplate, identifierColumns);
+    }
+
+    /**
+     * With the aggregate caches on, single resources are versioned through the same cached gateways that
+     * serve their bodies. Without them both come from the database and the cheaper probe is enough.
+     */
+    @Bean
+    public EntityVersions entityVersions(
+            final VersionProbe versionProbe,
+            final CategoryGateway categoryGateway,
+            final GenreGateway genreGateway,
+            final CastMemberGateway castMemberGateway,
+            @Value("${cache.enabled:false}") final boolean cacheEnabled
+    ) {
+        return cacheEnabled
+                ? new GatewayEntityVersions(categoryGateway, genreGateway, castMemberGateway)
+                : versionProbe;
+    }
+
+    @Bean
+    public WebMvcConfigurer conditionalGetConfigurer(final VersionProbe versionProbe, final EntityVersions entityVersions) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(final InterceptorRegistry registry) {
+                registry.addInterceptor(new ConditionalGetInterceptor(versionProbe, entityVersions));
+            }
+        };
+    }
+}
@@ -0,0 +1,65 @@
+package com.codeflix.admin.catalogo.infrastructure.config;
+
+import com.codeflix.admin.catalogo.infrastructure.sql.QueryBudget;
+import com.codeflix.admin.catalogo.infrastructure.sql.QueryStatsFilter;
+import com.codeflix.admin.catalogo.infrastructure.sql.QueryStatsListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+@ConditionalOnProperty(name = "sql.stats.enabled", havingValue = "true")
+public class DataSourceProxyConfig {
+
+    @Bean
+    public static BeanPostProcessor queryStatsDataSourcePostProcessor(final Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+
+                final var listener = new QueryStatsListener();
+                final var slowQueryThreshold = environment.getProperty(
+                        "sql.stats.slow-query-threshold",
+                        Duration.class,
+                        Duration.ofMillis(200)
+                );
+
+                final var builder = ProxyDataSourceBuilder.create(dataSource)
+                        .name(beanName)
+                        .listener(listener)
+                        .logSlowQueryBySlf4j(slowQueryThreshold.toMillis(), TimeUnit.MILLISECONDS);
+
+                if (environment.getProperty("sql.stats.count-rows", Boolean.class, false)) {
+                    builder.methodListener(listener).proxyResultSet();
+                }
+
+                return builder.build();
+            }
+        };
+    }
+
+    @Bean
+    public QueryStatsFilter queryStatsFilter(
+            final ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${sql.budget.max-statements:20}") final long maxStatements,
+            @Value("${sql.budget.max-rows:10000}") final long maxRows,
+            @Value("${sql.budget.max-time:1s}") final Duration maxTime,
+            @Value("${sql.budget.on-exceed:log}") final String onExceed
+    ) {
+        return new QueryStatsFilter(QueryBudget.with(maxStatements, maxRows, maxTime, onExceed), meterRegistry);
+    }
+}
@@ -0,0 +1,62 @@
+package com.codeflix.admin.catalogo.infrastructure.config;
+
+import com.codeflix.admin.catalogo.infrastructure.sql.AdmissionControlDataSource;
+import com.codeflix.admin.catalogo.infrastructure.sql.AdmissionLimiter;
+import com.codeflix.admin.catalogo.infrastructure.utils.VirtualThreads;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+@Configuration
+public class ExecutionModeConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "execution.mode", havingValue = "virtual")
+    public WebServerFactoryCustomizer<UndertowServletWebServerFactory> virtualThreadRequestExecutor() {
+        return factory -> factory.addDeploymentInfoCustomizers(
+                deploymentInfo -> deploymentInfo.setExecutor(VirtualThreads.newPerTaskExecutor())
+        );
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "db.admission.enabled", havingValue = "true")
+    public static BeanPostProcessor admissionControlDataSourcePostProcessor(final Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof AdmissionControlDataSource) {
+                    return bean;
+                }
+
+                final var permits = environment.getProperty(
+                        "db.admission.permits",
+                        Integer.class,
+                        environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10)
+                );
+                final var timeout = environment.getProperty("db.admission.timeout", Duration.class, Duration.ofSeconds(30));
+
+                return new AdmissionControlDataSource(dataSource, new AdmissionLimiter(permits, timeout));
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "db.admission.enabled", havingValue = "true")
+    public MeterBinder admissionLimiterMetrics(final DataSource dataSource) throws SQLException {
+        final var limiter = dataSource.unwrap(AdmissionControlDataSource.class).limiter();
+        return registry -> {
+            Gauge.builder("db.admission.waiting", limiter, AdmissionLimiter::waiting).register(registry);
+            Gauge.builder("db.admission.available", limiter, AdmissionLimiter::available).register(registry);
+        };
+    }
+}
@@ -0,0 +1,24 @@
+package com.codeflix.admin.catalogo.infrastructure.config;
+
+import com.codeflix.admin.catalogo.infrastructure.sql.IdentifierColumns;
+import com.codeflix.admin.catalogo.infrastructure.sql.IdentifierType;
+import org.hibernate.boot.spi.MetadataBuilderContributor;
+import org.hibernate.jpa.boot.spi.JpaSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class IdentifierStorageConfig {
+
+    /**
+     * Registers the id type under the name used by the entity mappings, configured with the same storage as the
+     * native statements.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer identifierTypeCustomizer(final IdentifierColumns identifierColumns) {
+        final MetadataBuilderContributor contributor = builder ->
+                builder.applyBasicType(new IdentifierType(identifierColumns), IdentifierType.NAME);
+        return properties -> properties.put(JpaSettings.METADATA_BUILDER_CONTRIBUTOR, contributor);
+    }
+}
@@ -0,0 +1,116 @@
+package com.codeflix.admin.catalogo.infrastructure.config;
+
+import com.codeflix.admin.catalogo.infrastructure.api.reactive.ReactiveReadHandler;
+import com.codeflix.admin.catalogo.infrastructure.castmember.CastMemberR2dbcGateway;
+import com.codeflix.admin.catalogo.infrastructure.category.CategoryR2dbcGateway;
+import com.codeflix.admin.catalogo.infrastructure.config.json.Json;
+import com.codeflix.admin.catalogo.infrastructure.genre.GenreR2dbcGateway;
+import com.codeflix.admin.catalogo.infrastructure.search.CountCache;
+import com.codeflix.admin.catalogo.infrastructure.search.R2dbcSearch;
+import com.codeflix.admin.catalogo.infrastructure.sql.IdentifierColumns;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.undertow.UndertowReactiveWebServerFactory;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+
+import java.time.Duration;
+
+@Configuration
+@Profile("reactive")
+public class ReactiveReadConfig implements DisposableBean {
+
+    private final ConnectionPool connectionPool;
+
+    public ReactiveReadConfig(
+            @Value("${reactive.r2dbc.url}") final String url,
+            @Value("${reactive.r2dbc.username}") final String username,
+            @Value("${reactive.r2dbc.password}") final String password,
+            @Value("${reactive.r2dbc.pool.initial-size:10}") final int initialSize,
+            @Value("${reactive.r2dbc.pool.max-size:20}") final int maxSize,
+            @Value("${reactive.r2dbc.pool.max-acquire-time:250ms}") final Duration maxAcquireTime
+    ) {
+        final var options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+
+        this.connectionPool = new ConnectionPool(
+                ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                        .initialSize(initialSize)
+                        .maxSize(maxSize)
+                        .maxAcquireTime(maxAcquireTime)
+                        .build()
+        );
+    }
+
+    @Bean
+    public ReactiveReadHandler reactiveReadHandler(
+            @Value("${search.mode:like}") final String searchMode,
+            final CountCache countCache,
+            final IdentifierColumns identifierColumns
+    ) {
+        final var client = DatabaseClient.create(this.connectionPool);
+        final var search = new R2dbcSearch(searchMode, countCache);
+
+        return new ReactiveReadHandler(
+                new CategoryR2dbcGateway(client, search, identifierColumns),
+                new GenreR2dbcGateway(client, search, identifierColumns),
+                new CastMemberR2dbcGateway(client, search, identifierColumns)
+        );
+    }
+
+    @Bean
+    public SmartLifecycle reactiveReadServer(
+            final ReactiveReadHandler handler,
+            @Value("${reactive.server.port:8081}") final int port,
+            @Value("${server.servlet.context-path:}") final String contextPath
+    ) {
+        final var strategies = HandlerStrategies.builder()
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(Json.getMapper()));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(Json.getMapper()));
+                })
+                .build();
+        final WebServer server = new UndertowReactiveWebServerFactory(port)
+                .getWebServer(RouterFunctions.toHttpHandler(handler.routes(contextPath), strategies));
+
+        return new SmartLifecycle() {
+            private volatile boolean running;
+
+            @Override
+            public void start() {
+                server.start();
+                this.running = true;
+            }
+
+            @Override
+            public void stop() {
+                server.stop();
+                this.running = false;
+            }
+
+            @Override
+            public boolean isRunning() {
+                return this.running;
+            }
+        };
+    }
+
+    @Override
+    public void destroy() {
+        this.connectionPool.dispose();
+    }
+}
@@ -1,5 +1,7 @@
 package com.codeflix.admin.catalogo.infrastructure.config.json;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.*;
 import com.fasterxml.jackson.databind.util.StdDateFormat;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
@@ -7,6 +9,7 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 
+import java.io.OutputStream;
 import java.util.concurrent.Callable;
 
 public enum Json {
@@ -24,6 +27,10 @@ public enum Json {
         return invoke(() -> INSTANCE.mapper.readValue(json, tClass));
     }
 
+    public static JsonGenerator createGenerator(final OutputStream out) {
+        return invoke(() -> INSTANCE.mapper.createGenerator(out, JsonEncoding.UTF8));
+    }
+
     private final ObjectMapper mapper = new Jackson2ObjectMapperBuilder()
             .dateFormat(new StdDateFormat())
             .featuresToDisable(
@@ -0,0 +1,33 @@
+package com.codeflix.admin.catalogo.infrastructure.config.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+public class NdJsonWriter implements Closeable {
+
+    private final JsonGenerator generator;
+
+    public NdJsonWriter(final OutputStream out) {
+        this.generator = Json.createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .setRootValueSeparator(null);
+    }
+
+    public void write(final Object value) {
+        try {
+            this.generator.writeObject(value);
+            this.generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.generator.close();
+    }
+}
@@ -1,16 +1,25 @@
 package com.codeflix.admin.catalogo.infrastructure.config.usecases;
 
+import com.codeflix.admin.catalogo.application.castmember.bulk.BulkCastMemberUseCase;
+import com.codeflix.admin.catalogo.application.castmember.bulk.DefaultBulkCastMemberUseCase;
 import com.codeflix.admin.catalogo.application.castmember.create.CreateCastMemberUseCase;
 import com.codeflix.admin.catalogo.application.castmember.create.DefaultCreateCastMemberUseCase;
 import com.codeflix.admin.catalogo.application.castmember.delete.DefaultDeleteCastMemberUseCase;
+import com.codeflix.admin.catalogo.application.castmember.delete.DefaultDeleteCastMembersUseCase;
 import com.codeflix.admin.catalogo.application.castmember.delete.DeleteCastMemberUseCase;
+import com.codeflix.admin.catalogo.application.castmember.delete.DeleteCastMembersUseCase;
+import com.codeflix.admin.catalogo.application.castmember.retrieve.export.DefaultExportCastMembersUseCase;
+import com.codeflix.admin.catalogo.application.castmember.retrieve.export.ExportCastMembersUseCase;
 import com.codeflix.admin.catalogo.application.castmember.retrieve.get.DefaultGetCastMemberByIdUseCase;
 import com.codeflix.admin.catalogo.application.castmember.retrieve.get.GetCastMemberByIdUseCase;
 import com.codeflix.admin.catalogo.application.castmember.retrieve.list.DefaultListCastMembersUseCase;
+import com.codeflix.admin.catalogo.application.castmember.retrieve.list.DefaultListCastMembersByCursorUseCase;
+import com.codeflix.admin.catalogo.application.castmember.retrieve.list.ListCastMembersByCursorUseCase;
 import com.codeflix.admin.catalogo.application.castmember.retrieve.list.ListCastMembersUseCase;
 import com.codeflix.admin.catalogo.application.castmember.update.DefaultUpdateCastMemberUseCase;
 import com.codeflix.admin.catalogo.application.castmember.update.UpdateCastMemberUseCase;
 import com.codeflix.admin.catalogo.domain.castmember.CastMemberGateway;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -35,6 +44,11 @@ public class CastMemberUseCaseConfig {
         return new DefaultDeleteCastMemberUseCase(castMemberGateway);
     }
 
+    @Bean
+    public DeleteCastMembersUseCase deleteCastMembersUseCase() {
+        return new DefaultDeleteCastMembersUseCase(castMemberGateway);
+    }
+
     @Bean
     public UpdateCastMemberUseCase updateCastMemberUseCase() {
         return new DefaultUpdateCastMemberUseCase(castMemberGateway);
@@ -49,4 +63,19 @@ public class CastMemberUseCaseConfig {
     public ListCastMembersUseCase listCastMembersUseCase() {
         return new DefaultListCastMembersUseCase(castMemberGateway);
     }
+
+    @Bean
+    public ListCastMembersByCursorUseCase listCastMembersByCursorUseCase() {
+        return new DefaultListCastMembersByCursorUseCase(castMemberGateway);
+    }
+
+    @Bean
+    public ExportCastMembersUseCase exportCastMembersUseCase() {
+        return new DefaultExportCastMembersUseCase(castMemberGateway);
+    }
+
+    @Bean
+    public BulkCastMemberUseCase bulkCastMemberUseCase(@Value("${bulk.chunk-size:500}") final int chunkSize) {
+        return new DefaultBulkCastMemberUseCase(castMemberGateway, chunkSize);
+    }
 }
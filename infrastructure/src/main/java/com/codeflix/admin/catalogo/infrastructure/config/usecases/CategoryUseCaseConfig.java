@@ -1,16 +1,25 @@
 package com.codeflix.admin.catalogo.infrastructure.config.usecases;
 
+import com.codeflix.admin.catalogo.application.category.bulk.BulkCategoryUseCase;
+import com.codeflix.admin.catalogo.application.category.bulk.DefaultBulkCategoryUseCase;
 import com.codeflix.admin.catalogo.application.category.create.CreateCategoryUseCase;
 import com.codeflix.admin.catalogo.application.category.create.DefaultCreateCategoryUseCase;
+import com.codeflix.admin.catalogo.application.category.delete.DefaultDeleteCategoriesUseCase;
 import com.codeflix.admin.catalogo.application.category.delete.DefaultDeleteCategoryUseCase;
+import com.codeflix.admin.catalogo.application.category.delete.DeleteCategoriesUseCase;
 import com.codeflix.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
+import com.codeflix.admin.catalogo.application.category.retrieve.export.DefaultExportCategoriesUseCase;
+import com.codeflix.admin.catalogo.application.category.retrieve.export.ExportCategoriesUseCase;
 import com.codeflix.admin.catalogo.application.category.retrieve.get.DefaultGetCategoryByIdUseCase;
 import com.codeflix.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
 import com.codeflix.admin.catalogo.application.category.retrieve.list.DefaultListCategoriesUseCase;
+import com.codeflix.admin.catalogo.application.category.retrieve.list.DefaultListCategoriesByCursorUseCase;
+import com.codeflix.admin.catalogo.application.category.retrieve.list.ListCategoriesByCursorUseCase;
 import com.codeflix.admin.catalogo.application.category.retrieve.list.ListCategoriesUseCase;
 import com.codeflix.admin.catalogo.application.category.update.DefaultUpdateCategoryUseCase;
 import com.codeflix.admin.catalogo.application.category.update.UpdateCategoryUseCase;
 import com.codeflix.admin.catalogo.domain.category.CategoryGateway;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -43,8 +52,28 @@ public class CategoryUseCaseConfig {
         return new DefaultListCategoriesUseCase(this.categoryGateway);
     }
 
+    @Bean
+    public ListCategoriesByCursorUseCase listCategoriesByCursorUseCase() {
+        return new DefaultListCategoriesByCursorUseCase(this.categoryGateway);
+    }
+
+    @Bean
+    public ExportCategoriesUseCase exportCategoriesUseCase() {
+        return new DefaultExportCategoriesUseCase(this.categoryGateway);
+    }
+
     @Bean
     public DeleteCategoryUseCase deleteCategoryUseCase() {
         return new DefaultDeleteCategoryUseCase(this.categoryGateway);
     }
+
+    @Bean
+    public DeleteCategoriesUseCase deleteCategoriesUseCase() {
+        return new DefaultDeleteCategoriesUseCase(this.categoryGateway);
+    }
+
+    @Bean
+    public BulkCategoryUseCase bulkCategoryUseCase(@Value("${bulk.chunk-size:500}") final int chunkSize) {
+        return new DefaultBulkCategoryUseCase(this.categoryGateway, chunkSize);
+    }
 }
@@ -1,17 +1,26 @@
 package com.codeflix.admin.catalogo.infrastructure.config.usecases;
 
+import com.codeflix.admin.catalogo.application.genre.bulk.BulkGenreUseCase;
+import com.codeflix.admin.catalogo.application.genre.bulk.DefaultBulkGenreUseCase;
 import com.codeflix.admin.catalogo.application.genre.create.CreateGenreUseCase;
 import com.codeflix.admin.catalogo.application.genre.create.DefaultCreateGenreUseCase;
 import com.codeflix.admin.catalogo.application.genre.delete.DefaultDeleteGenreUseCase;
+import com.codeflix.admin.catalogo.application.genre.delete.DefaultDeleteGenresUseCase;
 import com.codeflix.admin.catalogo.application.genre.delete.DeleteGenreUseCase;
+import com.codeflix.admin.catalogo.application.genre.delete.DeleteGenresUseCase;
+import com.codeflix.admin.catalogo.application.genre.retrieve.export.DefaultExportGenresUseCase;
+import com.codeflix.admin.catalogo.application.genre.retrieve.export.ExportGenresUseCase;
 import com.codeflix.admin.catalogo.application.genre.retrieve.get.DefaultGetGenreByIdUseCase;
 import com.codeflix.admin.catalogo.application.genre.retrieve.get.GetGenreByIdUseCase;
 import com.codeflix.admin.catalogo.application.genre.retrieve.list.DefaultListGenreUseCase;
+import com.codeflix.admin.catalogo.application.genre.retrieve.list.DefaultListGenreByCursorUseCase;
+import com.codeflix.admin.catalogo.application.genre.retrieve.list.ListGenreByCursorUseCase;
 import com.codeflix.admin.catalogo.application.genre.retrieve.list.ListGenreUseCase;
 import com.codeflix.admin.catalogo.application.genre.update.DefaultUpdateGenreUseCase;
 import com.codeflix.admin.catalogo.application.genre.update.UpdateGenreUseCase;
 import com.codeflix.admin.catalogo.domain.category.CategoryGateway;
 import com.codeflix.admin.catalogo.domain.genre.GenreGateway;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -40,6 +49,11 @@ public class GenreUseCaseConfig {
         return new DefaultDeleteGenreUseCase(genreGateway);
     }
 
+    @Bean
+    public DeleteGenresUseCase deleteGenresUseCase() {
+        return new DefaultDeleteGenresUseCase(genreGateway);
+    }
+
     @Bean
     public GetGenreByIdUseCase getGenreByIdUseCase() {
         return new DefaultGetGenreByIdUseCase(genreGateway);
@@ -50,8 +64,23 @@ public class GenreUseCaseConfig {
         return new DefaultListGenreUseCase(genreGateway);
     }
 
+    @Bean
+    public ListGenreByCursorUseCase listGenreByCursorUseCase() {
+        return new DefaultListGenreByCursorUseCase(genreGateway);
+    }
+
+    @Bean
+    public ExportGenresUseCase exportGenresUseCase() {
+        return new DefaultExportGenresUseCase(genreGateway);
+    }
+
     @Bean
     public UpdateGenreUseCase updateGenreUseCase() {
         return new DefaultUpdateGenreUseCase(categoryGateway, genreGateway);
     }
+
+    @Bean
+    public BulkGenreUseCase bulkGenreUseCase(@Value("${bulk.chunk-size:500}") final int chunkSize) {
+        return new DefaultBulkGenreUseCase(categoryGateway, genreGateway, chunkSize);
+    }
 }
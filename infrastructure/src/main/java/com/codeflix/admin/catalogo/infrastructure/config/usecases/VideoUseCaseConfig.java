@@ -0,0 +1,139 @@
+package com.codeflix.admin.catalogo.infrastructure.config.usecases;
+
+import com.codeflix.admin.catalogo.application.video.VideoReferenceValidator;
+import com.codeflix.admin.catalogo.application.video.create.CreateVideoUseCase;
+import com.codeflix.admin.catalogo.application.video.create.DefaultCreateVideoUseCase;
+import com.codeflix.admin.catalogo.application.video.delete.DefaultDeleteVideoUseCase;
+import com.codeflix.admin.catalogo.application.video.delete.DeleteVideoUseCase;
+import com.codeflix.admin.catalogo.application.video.media.DefaultProcessVideoMediaUseCase;
+import com.codeflix.admin.catalogo.application.video.media.DefaultRecoverVideoMediaUseCase;
+import com.codeflix.admin.catalogo.application.video.media.ProcessVideoMediaUseCase;
+import com.codeflix.admin.catalogo.application.video.media.RecoverVideoMediaUseCase;
+import com.codeflix.admin.catalogo.application.video.retrieve.get.DefaultGetVideoByIdUseCase;
+import com.codeflix.admin.catalogo.application.video.retrieve.get.GetVideoByIdUseCase;
+import com.codeflix.admin.catalogo.application.video.update.DefaultUpdateVideoUseCase;
+import com.codeflix.admin.catalogo.application.video.update.UpdateVideoUseCase;
+import com.codeflix.admin.catalogo.application.video.upload.chunk.DefaultUploadMediaChunkUseCase;
+import com.codeflix.admin.catalogo.application.video.upload.chunk.UploadMediaChunkUseCase;
+import com.codeflix.admin.catalogo.application.video.upload.complete.CompleteMediaUploadUseCase;
+import com.codeflix.admin.catalogo.application.video.upload.complete.DefaultCompleteMediaUploadUseCase;
+import com.codeflix.admin.catalogo.application.video.upload.initiate.DefaultInitiateMediaUploadUseCase;
+import com.codeflix.admin.catalogo.application.video.upload.initiate.InitiateMediaUploadUseCase;
+import com.codeflix.admin.catalogo.application.video.upload.retrieve.DefaultGetMediaUploadUseCase;
+import com.codeflix.admin.catalogo.application.video.upload.retrieve.GetMediaUploadUseCase;
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.codeflix.admin.catalogo.domain.category.CategoryGateway;
+import com.codeflix.admin.catalogo.domain.genre.GenreGateway;
+import com.codeflix.admin.catalogo.domain.video.MediaProcessingGateway;
+import com.codeflix.admin.catalogo.domain.video.MediaResourceGateway;
+import com.codeflix.admin.catalogo.domain.video.MediaUploadGateway;
+import com.codeflix.admin.catalogo.domain.video.VideoGateway;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class VideoUseCaseConfig implements DisposableBean {
+    private final CategoryGateway categoryGateway;
+    private final GenreGateway genreGateway;
+    private final CastMemberGateway castMemberGateway;
+    private final VideoGateway videoGateway;
+    private final MediaResourceGateway mediaResourceGateway;
+    private final MediaUploadGateway mediaUploadGateway;
+    private final ExecutorService mediaStorageExecutor;
+    private final ExecutorService referenceValidationExecutor;
+    private final VideoReferenceValidator referenceValidator;
+
+    public VideoUseCaseConfig(
+            final CategoryGateway categoryGateway,
+            final GenreGateway genreGateway,
+            final CastMemberGateway castMemberGateway,
+            final VideoGateway videoGateway,
+            final MediaResourceGateway mediaResourceGateway,
+            final MediaUploadGateway mediaUploadGateway,
+            @Value("${media.processing.storage-threads:20}") final int storageThreads,
+            @Value("${video.reference-validation.threads:8}") final int referenceValidationThreads
+    ) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+        this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+        this.mediaUploadGateway = Objects.requireNonNull(mediaUploadGateway);
+        this.mediaStorageExecutor = newFixedExecutor(storageThreads, "media-storage-");
+        this.referenceValidationExecutor = newFixedExecutor(referenceValidationThreads, "video-reference-validation-");
+        this.referenceValidator = new VideoReferenceValidator(
+                categoryGateway,
+                genreGateway,
+                castMemberGateway,
+                referenceValidationExecutor
+        );
+    }
+
+    @Bean
+    public CreateVideoUseCase createVideoUseCase(final MediaProcessingGateway mediaProcessingGateway) {
+        return new DefaultCreateVideoUseCase(referenceValidator, videoGateway, mediaProcessingGateway);
+    }
+
+    @Bean
+    public UpdateVideoUseCase updateVideoUseCase(final MediaProcessingGateway mediaProcessingGateway) {
+        return new DefaultUpdateVideoUseCase(referenceValidator, videoGateway, mediaProcessingGateway);
+    }
+
+    @Bean
+    public DeleteVideoUseCase deleteVideoUseCase() {
+        return new DefaultDeleteVideoUseCase(videoGateway);
+    }
+
+    @Bean
+    public GetVideoByIdUseCase getVideoByIdUseCase() {
+        return new DefaultGetVideoByIdUseCase(videoGateway);
+    }
+
+    @Bean
+    public ProcessVideoMediaUseCase processVideoMediaUseCase() {
+        return new DefaultProcessVideoMediaUseCase(videoGateway, mediaResourceGateway, mediaStorageExecutor);
+    }
+
+    @Bean
+    public RecoverVideoMediaUseCase recoverVideoMediaUseCase() {
+        return new DefaultRecoverVideoMediaUseCase(videoGateway, mediaResourceGateway);
+    }
+
+    @Bean
+    public InitiateMediaUploadUseCase initiateMediaUploadUseCase() {
+        return new DefaultInitiateMediaUploadUseCase(videoGateway, mediaUploadGateway);
+    }
+
+    @Bean
+    public GetMediaUploadUseCase getMediaUploadUseCase() {
+        return new DefaultGetMediaUploadUseCase(mediaUploadGateway);
+    }
+
+    @Bean
+    public UploadMediaChunkUseCase uploadMediaChunkUseCase() {
+        return new DefaultUploadMediaChunkUseCase(mediaUploadGateway);
+    }
+
+    @Bean
+    public CompleteMediaUploadUseCase completeMediaUploadUseCase(final MediaProcessingGateway mediaProcessingGateway) {
+        return new DefaultCompleteMediaUploadUseCase(videoGateway, mediaUploadGateway, mediaProcessingGateway);
+    }
+
+    @Override
+    public void destroy() {
+        this.mediaStorageExecutor.shutdownNow();
+        this.referenceValidationExecutor.shutdownNow();
+    }
+
+    private static ExecutorService newFixedExecutor(final int threads, final String prefix) {
+        final var counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, task -> new Thread(task, prefix + counter.incrementAndGet()));
+    }
+}
@@ -0,0 +1,111 @@
+package com.codeflix.admin.catalogo.infrastructure.genre;
+
+import com.codeflix.admin.catalogo.domain.genre.Genre;
+import com.codeflix.admin.catalogo.domain.genre.GenreGateway;
+import com.codeflix.admin.catalogo.domain.genre.GenreID;
+import com.codeflix.admin.catalogo.domain.pagination.CursorPagination;
+import com.codeflix.admin.catalogo.domain.pagination.CursorQuery;
+import com.codeflix.admin.catalogo.domain.pagination.Pagination;
+import com.codeflix.admin.catalogo.domain.pagination.SearchQuery;
+import com.codeflix.admin.catalogo.infrastructure.cache.AggregateCache;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+public class CachedGenreGateway implements GenreGateway {
+
+    private final GenreGateway delegate;
+    private final AggregateCache<Genre> cache;
+
+    private final List<AggregateCache<?>> dependents;
+
+    public CachedGenreGateway(
+            final GenreGateway delegate,
+            final AggregateCache<Genre> cache,
+            final List<AggregateCache<?>> dependents
+    ) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.cache = Objects.requireNonNull(cache);
+        this.dependents = List.copyOf(dependents);
+    }
+
+    @Override
+    public Genre create(final Genre aGenre) {
+        return this.delegate.create(aGenre);
+    }
+
+    @Override
+    public List<Genre> createAll(final List<Genre> aggregates) {
+        return this.delegate.createAll(aggregates);
+    }
+
+    @Override
+    public void deleteById(final GenreID anId) {
+        try {
+            this.delegate.deleteById(anId);
+        } finally {
+            this.cache.invalidate(anId.getValue());
+            this.dependents.forEach(AggregateCache::invalidateAll);
+        }
+    }
+
+    @Override
+    public int deleteAllByIds(final Iterable<GenreID> ids) {
+        try {
+            return this.delegate.deleteAllByIds(ids);
+        } finally {
+            ids.forEach(it -> this.cache.invalidate(it.getValue()));
+            this.dependents.forEach(AggregateCache::invalidateAll);
+        }
+    }
+
+    @Override
+    public Optional<Genre> findById(final GenreID anId) {
+        return this.cache.get(anId.getValue(), () -> this.delegate.findById(anId));
+    }
+
+    @Override
+    public List<Genre> findAllByIds(final Iterable<GenreID> ids) {
+        return this.delegate.findAllByIds(ids);
+    }
+
+    @Override
+    public Genre update(final Genre aGenre) {
+        try {
+            return this.delegate.update(aGenre);
+        } finally {
+            this.cache.invalidate(aGenre.getId().getValue());
+        }
+    }
+
+    @Override
+    public List<Genre> updateAll(final List<Genre> aggregates) {
+        try {
+            return this.delegate.updateAll(aggregates);
+        } finally {
+            aggregates.forEach(it -> this.cache.invalidate(it.getId().getValue()));
+        }
+    }
+
+    @Override
+    public Pagination<Genre> findAll(final SearchQuery aQuery) {
+        return this.delegate.findAll(aQuery);
+    }
+
+    @Override
+    public CursorPagination<Genre> findAllByCursor(final CursorQuery aQuery) {
+        return this.delegate.findAllByCursor(aQuery);
+    }
+
+    @Override
+    public void exportAll(final Consumer<Genre> aConsumer) {
+        this.delegate.exportAll(aConsumer);
+    }
+
+    @Override
+    public List<GenreID> existsByIds(final Iterable<GenreID> ids) {
+        return this.delegate.existsByIds(ids);
+    }
+}
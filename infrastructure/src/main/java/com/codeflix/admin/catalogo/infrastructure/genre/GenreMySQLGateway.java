@@ -1,30 +1,87 @@
 package com.codeflix.admin.catalogo.infrastructure.genre;
 
+import com.codeflix.admin.catalogo.domain.category.CategoryID;
+import com.codeflix.admin.catalogo.domain.exceptions.NotFoundException;
 import com.codeflix.admin.catalogo.domain.genre.Genre;
 import com.codeflix.admin.catalogo.domain.genre.GenreGateway;
 import com.codeflix.admin.catalogo.domain.genre.GenreID;
+import com.codeflix.admin.catalogo.domain.pagination.CursorPagination;
+import com.codeflix.admin.catalogo.domain.pagination.CursorQuery;
 import com.codeflix.admin.catalogo.domain.pagination.Pagination;
 import com.codeflix.admin.catalogo.domain.pagination.SearchQuery;
+import com.codeflix.admin.catalogo.infrastructure.genre.persistence.GenreCategoryID;
 import com.codeflix.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
 import com.codeflix.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
-import com.codeflix.admin.catalogo.infrastructure.utils.SpecificationUtils;
+import com.codeflix.admin.catalogo.infrastructure.search.CursorPaginator;
+import com.codeflix.admin.catalogo.infrastructure.search.OffsetPaginator;
+import com.codeflix.admin.catalogo.infrastructure.search.SearchSpecifications;
+import com.codeflix.admin.catalogo.infrastructure.search.StreamingCursor;
+import com.codeflix.admin.catalogo.infrastructure.sql.IdentifierColumns;
+import com.codeflix.admin.catalogo.infrastructure.sql.JdbcBatchWriter;
+import com.codeflix.admin.catalogo.infrastructure.utils.InClauseSplitter;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 @Component
 public class GenreMySQLGateway implements GenreGateway {
 
+    private static final String EXPORT_ALL = """
+            SELECT g.id, g.name, g.active, g.created_at, g.updated_at, g.deleted_at, gc.category_id
+            FROM genres g
+            LEFT JOIN genres_categories gc ON gc.genre_id = g.id
+            ORDER BY g.id
+            """;
+
+    private static final String UPDATE = """
+            UPDATE genres
+            SET name = :name, active = :active, updated_at = :updatedAt, deleted_at = :deletedAt
+            WHERE id = :id
+            """;
+
+    private static final String INSERT_CATEGORY_LINK = """
+            INSERT INTO genres_categories (genre_id, category_id) VALUES (:genreId, :categoryId)
+            """;
+
     private final GenreRepository genreRepository;
+    private final SearchSpecifications searchSpecifications;
+    private final CursorPaginator cursorPaginator;
+    private final OffsetPaginator offsetPaginator;
+    private final StreamingCursor streamingCursor;
+    private final JdbcBatchWriter batchWriter;
+    private final IdentifierColumns identifierColumns;
 
-    public GenreMySQLGateway(GenreRepository genreRepository) {
+    public GenreMySQLGateway(
+            final GenreRepository genreRepository,
+            final SearchSpecifications searchSpecifications,
+            final CursorPaginator cursorPaginator,
+            final OffsetPaginator offsetPaginator,
+            final StreamingCursor streamingCursor,
+            final JdbcBatchWriter batchWriter,
+            final IdentifierColumns identifierColumns
+    ) {
         this.genreRepository = Objects.requireNonNull(genreRepository);
+        this.searchSpecifications = Objects.requireNonNull(searchSpecifications);
+        this.cursorPaginator = Objects.requireNonNull(cursorPaginator);
+        this.offsetPaginator = Objects.requireNonNull(offsetPaginator);
+        this.streamingCursor = Objects.requireNonNull(streamingCursor);
+        this.batchWriter = Objects.requireNonNull(batchWriter);
+        this.identifierColumns = Objects.requireNonNull(identifierColumns);
     }
 
     @Override
@@ -33,11 +90,24 @@ public class GenreMySQLGateway implements GenreGateway {
     }
 
     @Override
+    @Transactional
+    public List<Genre> createAll(final List<Genre> aggregates) {
+        return this.saveAll(aggregates);
+    }
+
+    @Override
+    @Transactional
     public void deleteById(final GenreID anId) {
-        final var aGenreId = anId.getValue();
-        if (this.genreRepository.existsById(aGenreId)) {
-            this.genreRepository.deleteById(aGenreId);
-        }
+        this.genreRepository.removeById(anId.getValue());
+    }
+
+    @Override
+    @Transactional
+    public int deleteAllByIds(final Iterable<GenreID> genreIDS) {
+        final var ids = StreamSupport.stream(genreIDS.spliterator(), false)
+                .map(GenreID::getValue)
+                .toList();
+        return InClauseSplitter.update(ids, this.genreRepository::removeAllByIds);
     }
 
     @Override
@@ -46,44 +116,202 @@ public class GenreMySQLGateway implements GenreGateway {
     }
 
     @Override
+    public List<Genre> findAllByIds(final Iterable<GenreID> genreIDS) {
+        final var ids = StreamSupport.stream(genreIDS.spliterator(), false)
+                .map(GenreID::getValue)
+                .toList();
+
+        final var genres = InClauseSplitter.query(ids, this.genreRepository::findAllById);
+
+        final var categoriesByGenre = findCategoryIDs(genres.stream().map(GenreJpaEntity::getId).toList());
+
+        return genres.stream()
+                .map(it -> it.toAggregate(categoriesByGenre.getOrDefault(it.getId(), List.of())))
+                .toList();
+    }
+
+    @Override
+    @Transactional
     public Genre update(final Genre aGenre) {
-        return this.save(aGenre);
+        final var updated = this.updateAll(List.of(aGenre));
+        if (updated.isEmpty()) {
+            throw NotFoundException.raise(Genre.class, aGenre.getId());
+        }
+        return updated.get(0);
+    }
+
+    @Override
+    @Transactional
+    public List<Genre> updateAll(final List<Genre> aggregates) {
+        if (aggregates.isEmpty()) {
+            return List.of();
+        }
+
+        final var updated = this.batchWriter.update(UPDATE, aggregates, it -> new MapSqlParameterSource()
+                .addValue("id", this.identifierColumns.bind(it.getId().getValue()))
+                .addValue("name", it.getName())
+                .addValue("active", it.isActive())
+                .addValue("updatedAt", JdbcBatchWriter.timestamp(it.getUpdatedAt()))
+                .addValue("deletedAt", JdbcBatchWriter.timestamp(it.getDeletedAt())));
+
+        if (updated.isEmpty()) {
+            return List.of();
+        }
+
+        final var currentCategories = findCategoryIDs(updated.stream().map(it -> it.getId().getValue()).toList());
+        final var insertedLinks = new ArrayList<GenreCategoryID>();
+        for (final var aGenre : updated) {
+            insertedLinks.addAll(syncCategories(aGenre, currentCategories.getOrDefault(aGenre.getId().getValue(), List.of())));
+        }
+
+        this.batchWriter.insert(INSERT_CATEGORY_LINK, insertedLinks, it -> new MapSqlParameterSource()
+                .addValue("genreId", this.identifierColumns.bind(it.getGenreId()))
+                .addValue("categoryId", this.identifierColumns.bind(it.getCategoryId())));
+
+        return updated;
     }
 
     @Override
     public Pagination<Genre> findAll(SearchQuery aQuery) {
-        final var page = PageRequest.of(
-                aQuery.page(),
-                aQuery.perPage(),
-                Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
-        );
+        final var page = this.searchSpecifications.page(aQuery);
 
-        final var where = Optional.ofNullable(aQuery.terms())
-                .filter(str -> !str.isBlank())
-                .map(this::assembleSpecification)
-                .orElse(null);
+        final Specification<GenreJpaEntity> where = this.searchSpecifications.where(aQuery, "name");
 
         final var results =
-                this.genreRepository.findAll(Specification.where(where), page);
+                this.offsetPaginator.find(GenreJpaEntity.class, this.genreRepository, where, page, aQuery);
+
+        final var categoriesByGenre = findCategoryIDs(results.items().stream().map(GenreJpaEntity::getId).toList());
 
-        return new Pagination<>(
-                results.getNumber(),
-                results.getSize(),
-                results.getTotalElements(),
-                results.map(GenreJpaEntity::toAggregate).toList()
-        );
+        return results.map(it -> it.toAggregate(categoriesByGenre.getOrDefault(it.getId(), List.of())));
     }
 
     @Override
-    public List<GenreID> existsByIds(Iterable<GenreID> genreIDS) {
-        throw new UnsupportedOperationException("Not supported yet.");
+    public CursorPagination<Genre> findAllByCursor(final CursorQuery aQuery) {
+        final Specification<GenreJpaEntity> where = this.searchSpecifications.where(aQuery, "name");
+
+        final var results = this.cursorPaginator.find(GenreJpaEntity.class, where, aQuery);
+
+        final var categoriesByGenre = findCategoryIDs(results.items().stream().map(GenreJpaEntity::getId).toList());
+
+        return results.map(it -> it.toAggregate(categoriesByGenre.getOrDefault(it.getId(), List.of())));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAll(final Consumer<Genre> aConsumer) {
+        final var exporter = new GenreExporter(aConsumer, this.identifierColumns);
+        this.streamingCursor.forEach(EXPORT_ALL, exporter);
+        exporter.flush();
+    }
+
+    @Override
+    public List<GenreID> existsByIds(final Iterable<GenreID> genreIDS) {
+        final var ids = StreamSupport.stream(genreIDS.spliterator(), false)
+                .map(GenreID::getValue)
+                .toList();
+        return InClauseSplitter.query(ids, this.genreRepository::existsByIds).stream()
+                .map(GenreID::load)
+                .toList();
+    }
+
+    private Map<String, List<CategoryID>> findCategoryIDs(final List<String> genreIds) {
+        if (genreIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return this.genreRepository.findCategoryLinks(genreIds).stream()
+                .collect(Collectors.groupingBy(
+                        GenreCategoryID::getGenreId,
+                        Collectors.mapping(it -> CategoryID.load(it.getCategoryId()), Collectors.toList())
+                ));
+    }
+
+    /**
+     * Deletes the links the genre no longer has and returns the ones still to be inserted, so every
+     * genre in a bulk update shares a single insert batch.
+     */
+    private List<GenreCategoryID> syncCategories(final Genre aGenre, final List<CategoryID> currentCategories) {
+        final var anId = aGenre.getId().getValue();
+        final var current = currentCategories.stream().map(CategoryID::getValue).collect(Collectors.toSet());
+        final var expected = aGenre.getCategories().stream().map(CategoryID::getValue).collect(Collectors.toSet());
+
+        final var removed = current.stream().filter(it -> !expected.contains(it)).toList();
+        if (!removed.isEmpty()) {
+            this.genreRepository.deleteCategoryLinks(anId, removed);
+        }
+
+        return expected.stream()
+                .filter(it -> !current.contains(it))
+                .map(it -> GenreCategoryID.create(anId, it))
+                .toList();
     }
 
     private Genre save(final Genre aGenre) {
         return this.genreRepository.save(GenreJpaEntity.load(aGenre)).toAggregate();
     }
 
-    private Specification<GenreJpaEntity> assembleSpecification(final String terms) {
-        return SpecificationUtils.like("name", terms);
+    private List<Genre> saveAll(final List<Genre> aggregates) {
+        if (aggregates.isEmpty()) {
+            return List.of();
+        }
+
+        return this.genreRepository.saveAll(aggregates.stream().map(GenreJpaEntity::load).toList()).stream()
+                .map(GenreJpaEntity::toAggregate)
+                .toList();
+    }
+
+    private static final class GenreExporter implements RowCallbackHandler {
+
+        private final Consumer<Genre> consumer;
+        private final IdentifierColumns identifierColumns;
+        private final List<CategoryID> categories = new ArrayList<>();
+        private String id;
+        private String name;
+        private boolean active;
+        private Instant createdAt;
+        private Instant updatedAt;
+        private Instant deletedAt;
+
+        private GenreExporter(final Consumer<Genre> consumer, final IdentifierColumns identifierColumns) {
+            this.consumer = consumer;
+            this.identifierColumns = identifierColumns;
+        }
+
+        @Override
+        public void processRow(final ResultSet rs) throws SQLException {
+            final var anId = this.identifierColumns.get(rs, "id");
+            if (!anId.equals(this.id)) {
+                flush();
+                this.id = anId;
+                this.name = rs.getString("name");
+                this.active = rs.getBoolean("active");
+                this.createdAt = StreamingCursor.getInstant(rs, "created_at");
+                this.updatedAt = StreamingCursor.getInstant(rs, "updated_at");
+                this.deletedAt = StreamingCursor.getInstant(rs, "deleted_at");
+            }
+
+            final var categoryId = this.identifierColumns.get(rs, "category_id");
+            if (categoryId != null) {
+                this.categories.add(CategoryID.load(categoryId));
+            }
+        }
+
+        private void flush() {
+            if (this.id == null) {
+                return;
+            }
+
+            this.consumer.accept(Genre.load(
+                    GenreID.load(this.id),
+                    this.name,
+                    this.active,
+                    new ArrayList<>(this.categories),
+                    this.createdAt,
+                    this.updatedAt,
+                    this.deletedAt
+            ));
+            this.categories.clear();
+            this.id = null;
+        }
     }
 }
@@ -0,0 +1,101 @@
+package com.codeflix.admin.catalogo.infrastructure.genre;
+
+import com.codeflix.admin.catalogo.domain.category.CategoryID;
+import com.codeflix.admin.catalogo.domain.genre.Genre;
+import com.codeflix.admin.catalogo.domain.genre.GenreID;
+import com.codeflix.admin.catalogo.domain.pagination.Pagination;
+import com.codeflix.admin.catalogo.domain.pagination.SearchQuery;
+import com.codeflix.admin.catalogo.infrastructure.search.R2dbcSearch;
+import com.codeflix.admin.catalogo.infrastructure.sql.IdentifierColumns;
+import com.codeflix.admin.catalogo.infrastructure.utils.R2dbcRows;
+import io.r2dbc.spi.Row;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+public class GenreR2dbcGateway {
+
+    private static final R2dbcSearch.Table TABLE = new R2dbcSearch.Table(
+            "genres",
+            "id, name, active, created_at, updated_at, deleted_at",
+            List.of("name"),
+            Set.of("id", "name", "active", "created_at", "updated_at", "deleted_at")
+    );
+
+    private final DatabaseClient client;
+    private final R2dbcSearch search;
+    private final IdentifierColumns identifierColumns;
+
+    public GenreR2dbcGateway(
+            final DatabaseClient client,
+            final R2dbcSearch search,
+            final IdentifierColumns identifierColumns
+    ) {
+        this.client = Objects.requireNonNull(client);
+        this.search = Objects.requireNonNull(search);
+        this.identifierColumns = Objects.requireNonNull(identifierColumns);
+    }
+
+    public Mono<Genre> findById(final GenreID anId) {
+        return this.client.sql("SELECT %s FROM genres WHERE id = :id".formatted(TABLE.columns()))
+                .bind("id", this.identifierColumns.bind(anId.getValue()))
+                .map((row, metadata) -> GenreRow.from(row, this.identifierColumns))
+                .one()
+                .flatMap(genre -> categoriesOf(List.of(genre.id()))
+                        .map(categories -> genre.toAggregate(categories.getOrDefault(genre.id(), List.of()))));
+    }
+
+    public Mono<Pagination<Genre>> findAll(final SearchQuery aQuery) {
+        return this.search.find(this.client, TABLE, aQuery, (row, metadata) -> GenreRow.from(row, this.identifierColumns))
+                .flatMap(page -> {
+                    if (page.items().isEmpty()) {
+                        return Mono.just(page.map(it -> it.toAggregate(List.of())));
+                    }
+                    return categoriesOf(page.items().stream().map(GenreRow::id).toList())
+                            .map(categories -> page.map(it -> it.toAggregate(categories.getOrDefault(it.id(), List.of()))));
+                });
+    }
+
+    private Mono<Map<String, List<CategoryID>>> categoriesOf(final List<String> genreIds) {
+        return this.client.sql("SELECT genre_id, category_id FROM genres_categories WHERE genre_id IN (:ids)")
+                .bind("ids", this.identifierColumns.bindAll(genreIds))
+                .map((row, metadata) -> Map.entry(
+                        Objects.requireNonNull(this.identifierColumns.get(row, "genre_id")),
+                        CategoryID.load(this.identifierColumns.get(row, "category_id"))
+                ))
+                .all()
+                .collect(HashMap::new, (map, link) -> map.computeIfAbsent(link.getKey(), key -> new ArrayList<>()).add(link.getValue()));
+    }
+
+    private record GenreRow(
+            String id,
+            String name,
+            boolean active,
+            Instant createdAt,
+            Instant updatedAt,
+            Instant deletedAt
+    ) {
+
+        static GenreRow from(final Row row, final IdentifierColumns identifierColumns) {
+            return new GenreRow(
+                    identifierColumns.get(row, "id"),
+                    row.get("name", String.class),
+                    R2dbcRows.getBoolean(row, "active"),
+                    R2dbcRows.getInstant(row, "created_at"),
+                    R2dbcRows.getInstant(row, "updated_at"),
+                    R2dbcRows.getInstant(row, "deleted_at")
+            );
+        }
+
+        Genre toAggregate(final List<CategoryID> categories) {
+            return Genre.load(GenreID.load(id), name, active, categories, createdAt, updatedAt, deletedAt);
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package com.codeflix.admin.catalogo.infrastructure.genre.persistence;
 
+import com.codeflix.admin.catalogo.infrastructure.sql.IdentifierType;
+import org.hibernate.annotations.Type;
+
 import javax.persistence.Column;
 import javax.persistence.Embeddable;
 import javax.persistence.Id;
@@ -10,9 +13,11 @@ import java.util.Objects;
 public class GenreCategoryID implements Serializable {
 
     @Column(name = "genre_id", nullable = false)
+    @Type(type = IdentifierType.NAME)
     private String genreId;
 
     @Column(name = "category_id", nullable = false)
+    @Type(type = IdentifierType.NAME)
     private String categoryId;
 
     public GenreCategoryID() {
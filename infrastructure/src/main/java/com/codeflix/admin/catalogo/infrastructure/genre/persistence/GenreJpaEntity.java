@@ -3,6 +3,10 @@ package com.codeflix.admin.catalogo.infrastructure.genre.persistence;
 import com.codeflix.admin.catalogo.domain.category.CategoryID;
 import com.codeflix.admin.catalogo.domain.genre.Genre;
 import com.codeflix.admin.catalogo.domain.genre.GenreID;
+import com.codeflix.admin.catalogo.infrastructure.sql.IdentifierType;
+import org.hibernate.annotations.Type;
+
+import org.springframework.data.domain.Persistable;
 
 import javax.persistence.*;
 import java.time.Instant;
@@ -12,10 +16,11 @@ import java.util.Set;
 
 @Entity
 @Table(name = "genres")
-public class GenreJpaEntity {
+public class GenreJpaEntity implements Persistable<String> {
 
     @Id
     @Column(name = "id", nullable = false)
+    @Type(type = IdentifierType.NAME)
     private String id;
 
     @Column(name = "name", nullable = false)
@@ -24,7 +29,7 @@ public class GenreJpaEntity {
     @Column(name = "active", nullable = false)
     private boolean active;
 
-    @OneToMany(mappedBy = "genre", cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    @OneToMany(mappedBy = "genre", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     private Set<GenreCategoryJpaEntity> categories;
 
     @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
@@ -36,6 +41,9 @@ public class GenreJpaEntity {
     @Column(name = "deleted_at", columnDefinition = "DATETIME(6)")
     private Instant deletedAt;
 
+    @Transient
+    private boolean isNew;
+
     public GenreJpaEntity() {
     }
 
@@ -54,6 +62,7 @@ public class GenreJpaEntity {
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
         this.deletedAt = deletedAt;
+        this.isNew = true;
     }
 
     public static GenreJpaEntity load(final Genre aGenre) {
@@ -72,11 +81,15 @@ public class GenreJpaEntity {
     }
 
     public Genre toAggregate() {
+        return toAggregate(getCategoryIDs());
+    }
+
+    public Genre toAggregate(final List<CategoryID> categoryIDs) {
         return Genre.load(
                 GenreID.load(getId()),
                 getName(),
                 isActive(),
-                getCategoryIDs(),
+                categoryIDs,
                 getCreatedAt(),
                 getUpdatedAt(),
                 getDeletedAt()
@@ -91,6 +104,17 @@ public class GenreJpaEntity {
         this.categories.remove(GenreCategoryJpaEntity.create(this, anId));
     }
 
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
     public String getId() {
         return id;
     }
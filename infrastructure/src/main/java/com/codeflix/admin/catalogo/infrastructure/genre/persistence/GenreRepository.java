@@ -3,9 +3,39 @@ package com.codeflix.admin.catalogo.infrastructure.genre.persistence;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface GenreRepository extends JpaRepository<GenreJpaEntity, String> {
+
+    @Override
+    @EntityGraph(attributePaths = "categories")
+    Optional<GenreJpaEntity> findById(String id);
+
     Page<GenreJpaEntity> findAll(Specification<GenreJpaEntity> whereClause, Pageable page);
 
+    @Query(value = "SELECT g.id from GenreJpaEntity g where g.id in :ids")
+    List<String> existsByIds(@Param("ids") List<String> ids);
+
+    @Query(value = "SELECT gc.id from GenreCategoryJpaEntity gc where gc.id.genreId in :ids")
+    List<GenreCategoryID> findCategoryLinks(@Param("ids") Collection<String> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM GenreCategoryJpaEntity gc WHERE gc.id.genreId = :genreId AND gc.id.categoryId in :ids")
+    int deleteCategoryLinks(@Param("genreId") String genreId, @Param("ids") Collection<String> categoryIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM GenreJpaEntity e WHERE e.id = :id")
+    int removeById(@Param("id") String id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM GenreJpaEntity e WHERE e.id in :ids")
+    int removeAllByIds(@Param("ids") Collection<String> ids);
 }
@@ -0,0 +1,124 @@
+package com.codeflix.admin.catalogo.infrastructure.metrics;
+
+import com.codeflix.admin.catalogo.domain.exceptions.DomainException;
+import com.codeflix.admin.catalogo.domain.exceptions.InternalErrorException;
+import com.codeflix.admin.catalogo.domain.pagination.CursorPagination;
+import com.codeflix.admin.catalogo.domain.pagination.Pagination;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Aspect
+@Component
+@ConditionalOnProperty(name = "metrics.instrumentation.enabled", havingValue = "true")
+public class InstrumentationAspect {
+
+    private final MeterRegistry registry;
+    private final Map<Key, Meters> meters = new ConcurrentHashMap<>();
+
+    public InstrumentationAspect(final ObjectProvider<MeterRegistry> meterRegistry) {
+        this.registry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+    }
+
+    @Around("execution(* com.codeflix.admin.catalogo.application.UseCase+.execute(..))"
+            + " || execution(* com.codeflix.admin.catalogo.application.UnitUseCase+.execute(..))"
+            + " || execution(* com.codeflix.admin.catalogo.application.NullaryUseCase+.execute())")
+    public Object aroundUseCase(final ProceedingJoinPoint joinPoint) throws Throwable {
+        return record("usecase", joinPoint);
+    }
+
+    @Around("execution(* com.codeflix.admin.catalogo.domain..*Gateway.*(..))")
+    public Object aroundGateway(final ProceedingJoinPoint joinPoint) throws Throwable {
+        return record("gateway", joinPoint);
+    }
+
+    private Object record(final String layer, final ProceedingJoinPoint joinPoint) throws Throwable {
+        final var method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        final var aMeters = this.meters.computeIfAbsent(
+                new Key(layer, joinPoint.getTarget().getClass(), method),
+                this::newMeters
+        );
+
+        final var sample = Timer.start(this.registry);
+        try {
+            final var result = joinPoint.proceed();
+            final var size = sizeOf(result);
+            if (size >= 0) {
+                aMeters.resultSize().record(size);
+            }
+            return result;
+        } catch (final DomainException e) {
+            aMeters.domainErrors().increment();
+            throw e;
+        } catch (final InternalErrorException e) {
+            aMeters.internalErrors().increment();
+            throw e;
+        } catch (final Throwable t) {
+            aMeters.unexpectedErrors().increment();
+            throw t;
+        } finally {
+            sample.stop(aMeters.latency());
+        }
+    }
+
+    private Meters newMeters(final Key aKey) {
+        final var tags = Tags.of("class", aKey.type().getSimpleName(), "method", aKey.method().getName());
+        return new Meters(
+                Timer.builder(aKey.layer() + ".execution")
+                        .tags(tags)
+                        .register(this.registry),
+                errorCounter(aKey.layer(), tags, "domain"),
+                errorCounter(aKey.layer(), tags, "internal"),
+                errorCounter(aKey.layer(), tags, "unexpected"),
+                DistributionSummary.builder(aKey.layer() + ".result.size")
+                        .tags(tags)
+                        .register(this.registry)
+        );
+    }
+
+    private Counter errorCounter(final String layer, final Tags tags, final String error) {
+        return Counter.builder(layer + ".errors")
+                .tags(tags.and("error", error))
+                .register(this.registry);
+    }
+
+    private static long sizeOf(final Object result) {
+        if (result instanceof Collection<?> items) {
+            return items.size();
+        }
+        if (result instanceof Pagination<?> page) {
+            return page.items().size();
+        }
+        if (result instanceof CursorPagination<?> page) {
+            return page.items().size();
+        }
+        return -1;
+    }
+
+    private record Key(String layer, Class<?> type, Method method) {
+    }
+
+    private record Meters(
+            Timer latency,
+            Counter domainErrors,
+            Counter internalErrors,
+            Counter unexpectedErrors,
+            DistributionSummary resultSize
+    ) {
+    }
+}
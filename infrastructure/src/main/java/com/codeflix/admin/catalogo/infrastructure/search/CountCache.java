@@ -0,0 +1,56 @@
+package com.codeflix.admin.catalogo.infrastructure.search;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Totals for {@code count=estimated} listings, keyed by table and normalized search terms. The servlet and
+ * the reactive search paths share one instance, so a total counted by either serves both until it expires.
+ */
+@Component
+public class CountCache {
+
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final Map<String, CachedCount> counts = new ConcurrentHashMap<>();
+
+    public CountCache(
+            @Value("${search.count-cache.ttl:30s}") final Duration ttl,
+            @Value("${search.count-cache.max-entries:1000}") final int maxEntries
+    ) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+    }
+
+    public static String key(final String aTable, final String terms) {
+        return aTable + ":" + (terms == null ? "" : terms.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT));
+    }
+
+    public OptionalLong get(final String aKey) {
+        final var cached = this.counts.get(aKey);
+        if (cached != null && cached.expiresAt() - System.nanoTime() > 0) {
+            return OptionalLong.of(cached.total());
+        }
+        return OptionalLong.empty();
+    }
+
+    public void put(final String aKey, final long total) {
+        if (this.counts.size() >= this.maxEntries) {
+            final var now = System.nanoTime();
+            this.counts.values().removeIf(it -> it.expiresAt() - now <= 0);
+            if (this.counts.size() >= this.maxEntries) {
+                this.counts.clear();
+            }
+        }
+        this.counts.put(aKey, new CachedCount(total, System.nanoTime() + this.ttlNanos));
+    }
+
+    private record CachedCount(long total, long expiresAt) {
+    }
+}
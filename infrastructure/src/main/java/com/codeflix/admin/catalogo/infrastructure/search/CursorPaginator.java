@@ -0,0 +1,206 @@
+package com.codeflix.admin.catalogo.infrastructure.search;
+
+import com.codeflix.admin.catalogo.domain.exceptions.DomainException;
+import com.codeflix.admin.catalogo.domain.pagination.CursorPagination;
+import com.codeflix.admin.catalogo.domain.pagination.CursorQuery;
+import com.codeflix.admin.catalogo.domain.validation.Error;
+import com.codeflix.admin.catalogo.infrastructure.config.json.Json;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+
+@Component
+public class CursorPaginator {
+
+    private static final String ID = "id";
+
+    private final EntityManager entityManager;
+
+    public CursorPaginator(final EntityManager entityManager) {
+        this.entityManager = Objects.requireNonNull(entityManager);
+    }
+
+    public <T> CursorPagination<T> find(
+            final Class<T> aType,
+            final Specification<T> where,
+            final CursorQuery aQuery
+    ) {
+        final var perPage = Math.max(1, aQuery.perPage());
+        final var ascending = !"desc".equalsIgnoreCase(aQuery.direction());
+
+        final CriteriaBuilder cb = this.entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        final Root<T> root = query.from(aType);
+        final Path<Object> sortPath = root.get(aQuery.sort());
+        final Path<String> idPath = root.get(ID);
+
+        final var predicates = new ArrayList<Predicate>();
+        final var filter = where == null ? null : where.toPredicate(root, query, cb);
+        if (filter != null) {
+            predicates.add(filter);
+        }
+        if (!aQuery.isFirstPage()) {
+            final var cursor = decode(aQuery);
+            predicates.add(seek(cb, sortPath, idPath, ascending, convert(cursor.value(), sortPath.getJavaType()), cursor.id()));
+        }
+
+        query.multiselect(root, sortPath, idPath)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(
+                        ascending ? cb.asc(sortPath) : cb.desc(sortPath),
+                        ascending ? cb.asc(idPath) : cb.desc(idPath)
+                );
+
+        final List<Tuple> rows = this.entityManager.createQuery(query)
+                .setMaxResults(perPage + 1)
+                .getResultList();
+
+        final var items = rows.stream()
+                .limit(perPage)
+                .map(row -> row.get(0, aType))
+                .toList();
+
+        String nextCursor = null;
+        if (rows.size() > perPage) {
+            final var last = rows.get(perPage - 1);
+            nextCursor = encode(new Cursor(aQuery.sort(), direction(ascending), stringify(last.get(1)), last.get(2, String.class)));
+        }
+
+        final Long total = aQuery.withTotal() ? count(aType, where) : null;
+
+        return new CursorPagination<>(perPage, nextCursor, total, items);
+    }
+
+    private <T> long count(final Class<T> aType, final Specification<T> where) {
+        final CriteriaBuilder cb = this.entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        final Root<T> root = query.from(aType);
+        final var filter = where == null ? null : where.toPredicate(root, query, cb);
+
+        query.select(cb.count(root));
+        if (filter != null) {
+            query.where(filter);
+        }
+        query.orderBy(List.of());
+
+        return this.entityManager.createQuery(query).getSingleResult();
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static Predicate seek(
+            final CriteriaBuilder cb,
+            final Path sortPath,
+            final Path<String> idPath,
+            final boolean ascending,
+            final Comparable value,
+            final String lastId
+    ) {
+        final var sameValueAfterId = cb.and(
+                value == null ? cb.isNull(sortPath) : cb.equal(sortPath, value),
+                ascending ? cb.greaterThan(idPath, lastId) : cb.lessThan(idPath, lastId)
+        );
+
+        if (value == null) {
+            return ascending ? cb.or(sameValueAfterId, cb.isNotNull(sortPath)) : sameValueAfterId;
+        }
+
+        return ascending
+                ? cb.or(cb.greaterThan(sortPath, value), sameValueAfterId)
+                : cb.or(cb.lessThan(sortPath, value), sameValueAfterId, cb.isNull(sortPath));
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static Comparable convert(final String value, final Class<?> aType) {
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            if (String.class.equals(aType)) {
+                return value;
+            }
+            if (Instant.class.equals(aType)) {
+                return Instant.parse(value);
+            }
+            if (aType.isEnum()) {
+                return Enum.valueOf((Class<? extends Enum>) aType, value);
+            }
+            if (Boolean.class.equals(aType) || boolean.class.equals(aType)) {
+                return Boolean.valueOf(value);
+            }
+            if (Integer.class.equals(aType) || int.class.equals(aType)) {
+                return Integer.valueOf(value);
+            }
+            if (Long.class.equals(aType) || long.class.equals(aType)) {
+                return Long.valueOf(value);
+            }
+            if (Double.class.equals(aType) || double.class.equals(aType)) {
+                return Double.valueOf(value);
+            }
+        } catch (RuntimeException e) {
+            throw invalidCursor();
+        }
+
+        throw DomainException.raise(new Error("Cursor pagination does not support sorting by this field"));
+    }
+
+    private static String stringify(final Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Enum<?> anEnum) {
+            return anEnum.name();
+        }
+        return value.toString();
+    }
+
+    private static String direction(final boolean ascending) {
+        return ascending ? "asc" : "desc";
+    }
+
+    private static String encode(final Cursor aCursor) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(Json.writeValueAsString(aCursor).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Cursor decode(final CursorQuery aQuery) {
+        final Cursor cursor;
+        try {
+            final var json = new String(Base64.getUrlDecoder().decode(aQuery.cursor()), StandardCharsets.UTF_8);
+            cursor = Json.readValue(json, Cursor.class);
+        } catch (RuntimeException e) {
+            throw invalidCursor();
+        }
+
+        final var ascending = !"desc".equalsIgnoreCase(aQuery.direction());
+        if (cursor == null
+                || cursor.id() == null
+                || !Objects.equals(cursor.sort(), aQuery.sort())
+                || !Objects.equals(cursor.direction(), direction(ascending))) {
+            throw invalidCursor();
+        }
+
+        return cursor;
+    }
+
+    private static DomainException invalidCursor() {
+        return DomainException.raise(new Error("'cursor' is invalid or does not match the requested sort"));
+    }
+
+    private record Cursor(String sort, String direction, String value, String id) {
+    }
+}
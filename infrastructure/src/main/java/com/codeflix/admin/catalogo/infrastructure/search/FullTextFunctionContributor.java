@@ -0,0 +1,12 @@
+package com.codeflix.admin.catalogo.infrastructure.search;
+
+import org.hibernate.boot.MetadataBuilder;
+import org.hibernate.boot.spi.MetadataBuilderContributor;
+
+public class FullTextFunctionContributor implements MetadataBuilderContributor {
+
+    @Override
+    public void contribute(final MetadataBuilder metadataBuilder) {
+        metadataBuilder.applySqlFunction(FullTextMatchFunction.NAME, new FullTextMatchFunction());
+    }
+}
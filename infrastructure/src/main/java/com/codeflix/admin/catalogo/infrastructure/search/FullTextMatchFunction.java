@@ -0,0 +1,43 @@
+package com.codeflix.admin.catalogo.infrastructure.search;
+
+import org.hibernate.QueryException;
+import org.hibernate.dialect.function.SQLFunction;
+import org.hibernate.engine.spi.Mapping;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.type.StandardBasicTypes;
+import org.hibernate.type.Type;
+
+import java.util.List;
+
+public class FullTextMatchFunction implements SQLFunction {
+
+    public static final String NAME = "fulltext_match";
+
+    @Override
+    public boolean hasArguments() {
+        return true;
+    }
+
+    @Override
+    public boolean hasParenthesesIfNoArguments() {
+        return false;
+    }
+
+    @Override
+    public Type getReturnType(final Type firstArgumentType, final Mapping mapping) throws QueryException {
+        return StandardBasicTypes.DOUBLE;
+    }
+
+    @Override
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public String render(final Type firstArgumentType, final List arguments, final SessionFactoryImplementor factory) {
+        if (arguments.size() < 2) {
+            throw new QueryException("%s requires at least one column and a search term".formatted(NAME));
+        }
+
+        final var columns = String.join(", ", arguments.subList(0, arguments.size() - 1));
+        final var term = arguments.get(arguments.size() - 1);
+
+        return "MATCH (%s) AGAINST (%s IN BOOLEAN MODE)".formatted(columns, term);
+    }
+}
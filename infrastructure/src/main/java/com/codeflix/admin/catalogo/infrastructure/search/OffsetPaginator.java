@@ -0,0 +1,143 @@
+package com.codeflix.admin.catalogo.infrastructure.search;
+
+import com.codeflix.admin.catalogo.domain.pagination.Pagination;
+import com.codeflix.admin.catalogo.domain.pagination.SearchQuery;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Table;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+import java.util.List;
+import java.util.Objects;
+
+@Component
+public class OffsetPaginator {
+
+    private final EntityManager entityManager;
+    private final CountCache counts;
+
+    public OffsetPaginator(final EntityManager entityManager, final CountCache counts) {
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.counts = Objects.requireNonNull(counts);
+    }
+
+    public <T> Pagination<T> find(
+            final Class<T> aType,
+            final JpaSpecificationExecutor<T> repository,
+            final Specification<T> where,
+            final Pageable page,
+            final SearchQuery aQuery
+    ) {
+        return switch (aQuery.countMode()) {
+            case EXACT -> {
+                final var result = repository.findAll(where, page);
+                yield new Pagination<>(
+                        result.getNumber(),
+                        result.getSize(),
+                        result.getTotalElements(),
+                        result.hasNext(),
+                        result.getContent()
+                );
+            }
+            case NONE -> {
+                final var slice = slice(aType, where, page);
+                yield new Pagination<>(
+                        page.getPageNumber(),
+                        page.getPageSize(),
+                        Pagination.UNKNOWN_TOTAL,
+                        slice.hasNext(),
+                        slice.items()
+                );
+            }
+            case ESTIMATED -> {
+                final var slice = slice(aType, where, page);
+                yield new Pagination<>(
+                        page.getPageNumber(),
+                        page.getPageSize(),
+                        estimate(aType, where, page, aQuery.terms(), slice),
+                        slice.hasNext(),
+                        slice.items()
+                );
+            }
+        };
+    }
+
+    private <T> Slice<T> slice(final Class<T> aType, final Specification<T> where, final Pageable page) {
+        final CriteriaBuilder cb = this.entityManager.getCriteriaBuilder();
+        final CriteriaQuery<T> query = cb.createQuery(aType);
+        final Root<T> root = query.from(aType);
+        final var filter = where == null ? null : where.toPredicate(root, query, cb);
+
+        query.select(root);
+        if (filter != null) {
+            query.where(filter);
+        }
+        if (page.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(page.getSort(), root, cb));
+        }
+
+        final List<T> rows = this.entityManager.createQuery(query)
+                .setFirstResult((int) page.getOffset())
+                .setMaxResults(page.getPageSize() + 1)
+                .getResultList();
+
+        final var hasNext = rows.size() > page.getPageSize();
+        return new Slice<>(hasNext ? rows.subList(0, page.getPageSize()) : rows, hasNext);
+    }
+
+    private <T> long estimate(
+            final Class<T> aType,
+            final Specification<T> where,
+            final Pageable page,
+            final String terms,
+            final Slice<T> slice
+    ) {
+        final var key = CountCache.key(tableOf(aType), terms);
+        final var seen = page.getOffset() + slice.items().size();
+
+        if (!slice.hasNext() && (!slice.items().isEmpty() || page.getOffset() == 0)) {
+            this.counts.put(key, seen);
+            return seen;
+        }
+
+        final var cached = this.counts.get(key);
+        final long total;
+        if (cached.isPresent()) {
+            total = cached.getAsLong();
+        } else {
+            total = count(aType, where);
+            this.counts.put(key, total);
+        }
+
+        return Math.max(total, slice.hasNext() ? seen + 1 : seen);
+    }
+
+    private <T> long count(final Class<T> aType, final Specification<T> where) {
+        final CriteriaBuilder cb = this.entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        final Root<T> root = query.from(aType);
+        final var filter = where == null ? null : where.toPredicate(root, query, cb);
+
+        query.select(cb.count(root));
+        if (filter != null) {
+            query.where(filter);
+        }
+        query.orderBy(List.of());
+
+        return this.entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static String tableOf(final Class<?> aType) {
+        final var table = aType.getAnnotation(Table.class);
+        return table != null ? table.name() : aType.getName();
+    }
+
+    private record Slice<T>(List<T> items, boolean hasNext) {
+    }
+}
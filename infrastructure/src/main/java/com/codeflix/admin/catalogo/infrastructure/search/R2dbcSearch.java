@@ -0,0 +1,150 @@
+package com.codeflix.admin.catalogo.infrastructure.search;
+
+import com.codeflix.admin.catalogo.domain.exceptions.DomainException;
+import com.codeflix.admin.catalogo.domain.pagination.CountMode;
+import com.codeflix.admin.catalogo.domain.pagination.Pagination;
+import com.codeflix.admin.catalogo.domain.pagination.SearchQuery;
+import com.codeflix.admin.catalogo.domain.validation.Error;
+import com.codeflix.admin.catalogo.infrastructure.utils.SpecificationUtils;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+public class R2dbcSearch {
+
+    private final boolean fullText;
+    private final CountCache counts;
+
+    public R2dbcSearch(final String mode, final CountCache counts) {
+        this.counts = Objects.requireNonNull(counts);
+        this.fullText = switch (Objects.requireNonNull(mode).toLowerCase(Locale.ROOT)) {
+            case "like" -> false;
+            case "fulltext" -> true;
+            default -> throw new IllegalArgumentException("Unknown search.mode: %s".formatted(mode));
+        };
+    }
+
+    public <T> Mono<Pagination<T>> find(
+            final DatabaseClient client,
+            final Table aTable,
+            final SearchQuery aQuery,
+            final BiFunction<Row, RowMetadata, T> mapper
+    ) {
+        final var exact = aQuery.countMode() == CountMode.EXACT;
+        final var statement = statement(aTable, aQuery, exact ? aQuery.perPage() : aQuery.perPage() + 1);
+        final var items = bind(client.sql(statement.select()), statement.binds()).map(mapper).all().collectList();
+
+        if (exact) {
+            return Mono.zip(items, count(client, statement))
+                    .map(it -> new Pagination<T>(aQuery.page(), aQuery.perPage(), it.getT2(), it.getT1()));
+        }
+
+        return items.flatMap(rows -> {
+            final var hasNext = rows.size() > aQuery.perPage();
+            final var page = hasNext ? rows.subList(0, aQuery.perPage()) : rows;
+            final var seen = (long) aQuery.page() * aQuery.perPage() + page.size();
+
+            if (aQuery.countMode() == CountMode.NONE) {
+                return Mono.just(new Pagination<T>(aQuery.page(), aQuery.perPage(), Pagination.UNKNOWN_TOTAL, hasNext, page));
+            }
+
+            final var key = CountCache.key(aTable.name(), aQuery.terms());
+            if (!hasNext) {
+                if (!page.isEmpty() || aQuery.page() == 0) {
+                    this.counts.put(key, seen);
+                }
+                return Mono.just(new Pagination<T>(aQuery.page(), aQuery.perPage(), seen, false, page));
+            }
+
+            final var cached = this.counts.get(key);
+            final var total = cached.isPresent()
+                    ? Mono.just(cached.getAsLong())
+                    : count(client, statement).doOnNext(it -> this.counts.put(key, it));
+            return total.map(it -> new Pagination<T>(aQuery.page(), aQuery.perPage(), Math.max(it, seen + 1), true, page));
+        });
+    }
+
+    public Statement statement(final Table aTable, final SearchQuery aQuery, final int limit) {
+        final var binds = new LinkedHashMap<String, Object>();
+        final var relevance = SearchSpecifications.isRelevanceSort(aQuery.sort());
+        final var terms = aQuery.terms() == null ? "" : aQuery.terms().trim();
+        final var searchColumns = aTable.searchColumns();
+        final var firstColumn = searchColumns.get(0);
+
+        String where = "";
+        String orderBy = relevance ? "%s ASC, id ASC".formatted(firstColumn) : sortOf(aTable, aQuery);
+
+        if (!terms.isEmpty()) {
+            final var fullTextTerms = this.fullText ? SearchSpecifications.fullTextTerms(terms) : "";
+
+            if (!fullTextTerms.isEmpty()) {
+                final var match = "MATCH (%s) AGAINST (:terms IN BOOLEAN MODE)".formatted(String.join(", ", searchColumns));
+                where = " WHERE %s > 0".formatted(match);
+                if (relevance) {
+                    orderBy = "%s DESC, id ASC".formatted(match);
+                }
+                binds.put("terms", fullTextTerms);
+            } else if (this.fullText) {
+                where = " WHERE " + anyOf(searchColumns, "%s LIKE :terms");
+                binds.put("terms", SpecificationUtils.escape(terms) + "%");
+            } else {
+                where = " WHERE " + anyOf(searchColumns, "UPPER(%s) LIKE :terms");
+                binds.put("terms", "%" + terms.toUpperCase() + "%");
+            }
+        }
+
+        final var countBinds = Map.copyOf(binds);
+        binds.put("limit", limit);
+        binds.put("offset", (long) aQuery.page() * aQuery.perPage());
+
+        return new Statement(
+                "SELECT %s FROM %s%s ORDER BY %s LIMIT :limit OFFSET :offset".formatted(aTable.columns(), aTable.name(), where, orderBy),
+                "SELECT COUNT(*) FROM %s%s".formatted(aTable.name(), where),
+                binds,
+                countBinds
+        );
+    }
+
+    private static Mono<Long> count(final DatabaseClient client, final Statement statement) {
+        return bind(client.sql(statement.count()), statement.countBinds())
+                .map(row -> ((Number) Objects.requireNonNull(row.get(0))).longValue())
+                .one();
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec spec, final Map<String, Object> binds) {
+        for (final var bind : binds.entrySet()) {
+            spec = spec.bind(bind.getKey(), bind.getValue());
+        }
+        return spec;
+    }
+
+    private static String sortOf(final Table aTable, final SearchQuery aQuery) {
+        final var column = aQuery.sort().replaceAll("([a-z])([A-Z])", "$1_$2").toLowerCase(Locale.ROOT);
+        if (!aTable.sortColumns().contains(column)) {
+            throw DomainException.raise(new Error("'sort' must be one of %s".formatted(aTable.sortColumns())));
+        }
+        return "%s %s".formatted(column, "desc".equalsIgnoreCase(aQuery.direction()) ? "DESC" : "ASC");
+    }
+
+    private static String anyOf(final List<String> columns, final String predicate) {
+        return columns.stream()
+                .map(predicate::formatted)
+                .collect(Collectors.joining(" OR ", "(", ")"));
+    }
+
+    public record Table(String name, String columns, List<String> searchColumns, Set<String> sortColumns) {
+    }
+
+    public record Statement(String select, String count, Map<String, Object> binds, Map<String, Object> countBinds) {
+    }
+}
@@ -0,0 +1,136 @@
+package com.codeflix.admin.catalogo.infrastructure.search;
+
+import com.codeflix.admin.catalogo.domain.exceptions.DomainException;
+import com.codeflix.admin.catalogo.domain.pagination.CursorQuery;
+import com.codeflix.admin.catalogo.domain.pagination.SearchQuery;
+import com.codeflix.admin.catalogo.domain.validation.Error;
+import com.codeflix.admin.catalogo.infrastructure.utils.SpecificationUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.criteria.Expression;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+@Component
+public class SearchSpecifications {
+
+    public static final String RELEVANCE = "relevance";
+
+    private static final int MIN_FULL_TEXT_TOKEN_SIZE = 3;
+    private static final String BOOLEAN_MODE_OPERATORS = "[+\\-<>()~*\"@]";
+
+    private final SearchMode mode;
+
+    public SearchSpecifications(@Value("${search.mode:like}") final String mode) {
+        this.mode = SearchMode.valueOf(Objects.requireNonNull(mode).toUpperCase());
+    }
+
+    public Pageable page(final SearchQuery aQuery) {
+        if (isRelevanceSort(aQuery.sort())) {
+            return PageRequest.of(aQuery.page(), aQuery.perPage());
+        }
+
+        return PageRequest.of(
+                aQuery.page(),
+                aQuery.perPage(),
+                Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
+        );
+    }
+
+    public <T> Specification<T> where(final SearchQuery aQuery, final String... properties) {
+        return where(aQuery.terms(), isRelevanceSort(aQuery.sort()), properties);
+    }
+
+    public <T> Specification<T> where(final CursorQuery aQuery, final String... properties) {
+        if (isRelevanceSort(aQuery.sort())) {
+            throw DomainException.raise(new Error("Cursor pagination does not support sorting by relevance"));
+        }
+        return where(aQuery.terms(), false, properties);
+    }
+
+    private <T> Specification<T> where(final String aTerms, final boolean relevance, final String... properties) {
+        final var terms = aTerms == null ? "" : aTerms.trim();
+
+        if (terms.isEmpty()) {
+            return relevance ? orderedBy(properties[0]) : null;
+        }
+
+        if (mode == SearchMode.LIKE) {
+            final Specification<T> like = anyOf(terms, properties, SpecificationUtils::like);
+            return relevance ? like.and(orderedBy(properties[0])) : like;
+        }
+
+        final var fullTextTerms = fullTextTerms(terms);
+        if (fullTextTerms.isEmpty()) {
+            final Specification<T> startsWith = anyOf(terms, properties, SpecificationUtils::startsWith);
+            return relevance ? startsWith.and(orderedBy(properties[0])) : startsWith;
+        }
+
+        return fullText(fullTextTerms, relevance, properties);
+    }
+
+    static boolean isRelevanceSort(final String sort) {
+        return RELEVANCE.equalsIgnoreCase(sort);
+    }
+
+    private static <T> Specification<T> fullText(final String terms, final boolean relevance, final String... properties) {
+        return (root, query, cb) -> {
+            final var arguments = new Expression<?>[properties.length + 1];
+            for (int i = 0; i < properties.length; i++) {
+                arguments[i] = root.get(properties[i]);
+            }
+            arguments[properties.length] = cb.literal(terms);
+
+            final var score = cb.function(FullTextMatchFunction.NAME, Double.class, arguments);
+
+            if (relevance) {
+                query.orderBy(cb.desc(score), cb.asc(root.get("id")));
+            }
+
+            return cb.greaterThan(score, 0.0);
+        };
+    }
+
+    private static <T> Specification<T> orderedBy(final String property) {
+        return (root, query, cb) -> {
+            query.orderBy(cb.asc(root.get(property)), cb.asc(root.get("id")));
+            return null;
+        };
+    }
+
+    private static <T> Specification<T> anyOf(
+            final String terms,
+            final String[] properties,
+            final TermSpecification factory
+    ) {
+        Specification<T> specification = null;
+        for (final var property : properties) {
+            final Specification<T> current = factory.create(property, terms);
+            specification = specification == null ? current : specification.or(current);
+        }
+        return specification;
+    }
+
+    static String fullTextTerms(final String terms) {
+        return Arrays.stream(terms.replaceAll(BOOLEAN_MODE_OPERATORS, " ").split("\\s+"))
+                .filter(word -> word.length() >= MIN_FULL_TEXT_TOKEN_SIZE)
+                .map(word -> "+" + word + "*")
+                .collect(Collectors.joining(" "));
+    }
+
+    @FunctionalInterface
+    private interface TermSpecification {
+        <T> Specification<T> create(String property, String term);
+    }
+
+    private enum SearchMode {
+        LIKE,
+        FULLTEXT
+    }
+}
@@ -0,0 +1,40 @@
+package com.codeflix.admin.catalogo.infrastructure.search;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Objects;
+
+@Component
+public class StreamingCursor {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+
+    public StreamingCursor(
+            final JdbcTemplate jdbcTemplate,
+            @Value("${export.fetch-size:-2147483648}") final int fetchSize
+    ) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+        this.fetchSize = fetchSize;
+    }
+
+    public void forEach(final String sql, final RowCallbackHandler handler) {
+        this.jdbcTemplate.query(connection -> {
+            final var statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(this.fetchSize);
+            return statement;
+        }, handler);
+    }
+
+    public static Instant getInstant(final ResultSet rs, final String column) throws SQLException {
+        final Timestamp timestamp = rs.getTimestamp(column);
+        return timestamp != null ? timestamp.toInstant() : null;
+    }
+}
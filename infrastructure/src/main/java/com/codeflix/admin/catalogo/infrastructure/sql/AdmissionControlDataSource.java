@@ -0,0 +1,84 @@
+package com.codeflix.admin.catalogo.infrastructure.sql;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class AdmissionControlDataSource extends DelegatingDataSource {
+
+    private final AdmissionLimiter limiter;
+
+    public AdmissionControlDataSource(final DataSource targetDataSource, final AdmissionLimiter limiter) {
+        super(targetDataSource);
+        this.limiter = limiter;
+    }
+
+    public AdmissionLimiter limiter() {
+        return this.limiter;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        admit();
+        try {
+            return released(obtainTargetDataSource().getConnection());
+        } catch (final SQLException | RuntimeException e) {
+            this.limiter.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        admit();
+        try {
+            return released(obtainTargetDataSource().getConnection(username, password));
+        } catch (final SQLException | RuntimeException e) {
+            this.limiter.release();
+            throw e;
+        }
+    }
+
+    private void admit() throws SQLException {
+        try {
+            if (!this.limiter.acquire()) {
+                throw new SQLTransientConnectionException(
+                        "Timed out waiting for a database admission permit [waiting:%d]".formatted(this.limiter.waiting())
+                );
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database admission permit", e);
+        }
+    }
+
+    private Connection released(final Connection target) {
+        final var closed = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if ("close".equals(method.getName()) && closed.compareAndSet(false, true)) {
+                        try {
+                            return method.invoke(target, args);
+                        } catch (final InvocationTargetException e) {
+                            throw e.getTargetException();
+                        } finally {
+                            this.limiter.release();
+                        }
+                    }
+                    try {
+                        return method.invoke(target, args);
+                    } catch (final InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                }
+        );
+    }
+}
@@ -0,0 +1,32 @@
+package com.codeflix.admin.catalogo.infrastructure.sql;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+public class AdmissionLimiter {
+
+    private final Semaphore permits;
+    private final long timeoutNanos;
+
+    public AdmissionLimiter(final int permits, final Duration timeout) {
+        this.permits = new Semaphore(permits, true);
+        this.timeoutNanos = timeout.toNanos();
+    }
+
+    public boolean acquire() throws InterruptedException {
+        return this.permits.tryAcquire(this.timeoutNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void release() {
+        this.permits.release();
+    }
+
+    public int available() {
+        return this.permits.availablePermits();
+    }
+
+    public int waiting() {
+        return this.permits.getQueueLength();
+    }
+}
@@ -0,0 +1,83 @@
+package com.codeflix.admin.catalogo.infrastructure.sql;
+
+import com.codeflix.admin.catalogo.domain.utils.IdUtils;
+import io.r2dbc.spi.Row;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Binds and reads identifier columns for the statements written outside JPA. With {@code identifiers.storage=binary}
+ * the columns hold the 16 bytes of the UUID, in the same order as its canonical string, so sorting and the id
+ * tie-breakers of the paginators behave as with the text columns.
+ */
+@Component
+public class IdentifierColumns {
+
+    private static final int UUID_BYTES = 16;
+
+    private final boolean binary;
+
+    public IdentifierColumns(@Value("${identifiers.storage:text}") final String storage) {
+        this.binary = switch (storage) {
+            case "text" -> false;
+            case "binary" -> true;
+            default -> throw new IllegalArgumentException("Unknown identifiers.storage '%s', expected text or binary".formatted(storage));
+        };
+    }
+
+    public boolean isBinary() {
+        return binary;
+    }
+
+    public Object bind(final String anId) {
+        return binary && anId != null ? toBytes(anId) : anId;
+    }
+
+    public List<Object> bindAll(final Collection<String> ids) {
+        return ids.stream().map(this::bind).toList();
+    }
+
+    public String get(final ResultSet rs, final String column) throws SQLException {
+        return binary ? fromBytes(rs.getBytes(column)) : rs.getString(column);
+    }
+
+    public String get(final Row row, final String column) {
+        return binary ? fromBytes(row.get(column, byte[].class)) : row.get(column, String.class);
+    }
+
+    /**
+     * Values that are not canonical UUIDs are encoded longer than a binary column, so lookups never match them
+     * and inserts fail instead of storing a truncated id.
+     */
+    public static byte[] toBytes(final String anId) {
+        if (IdUtils.isUUID(anId)) {
+            final var uuid = UUID.fromString(anId);
+            return ByteBuffer.allocate(UUID_BYTES)
+                    .putLong(uuid.getMostSignificantBits())
+                    .putLong(uuid.getLeastSignificantBits())
+                    .array();
+        }
+        final var bytes = anId.getBytes(StandardCharsets.UTF_8);
+        return Arrays.copyOf(bytes, Math.max(bytes.length, UUID_BYTES + 1));
+    }
+
+    public static String fromBytes(final byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        if (bytes.length != UUID_BYTES) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+        final var buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong()).toString();
+    }
+}
@@ -0,0 +1,100 @@
+package com.codeflix.admin.catalogo.infrastructure.sql;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.usertype.UserType;
+
+import java.io.Serializable;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Objects;
+
+/**
+ * Maps the String id attributes of the entities onto the columns described by {@link IdentifierColumns}.
+ * Hibernate only instantiates it through its type name when no configured instance was registered, which
+ * leaves the default text columns.
+ */
+public class IdentifierType implements UserType {
+
+    public static final String NAME = "com.codeflix.admin.catalogo.infrastructure.sql.IdentifierType";
+
+    private final IdentifierColumns columns;
+
+    public IdentifierType() {
+        this(new IdentifierColumns("text"));
+    }
+
+    public IdentifierType(final IdentifierColumns columns) {
+        this.columns = Objects.requireNonNull(columns);
+    }
+
+    @Override
+    public int[] sqlTypes() {
+        return new int[]{columns.isBinary() ? Types.BINARY : Types.VARCHAR};
+    }
+
+    @Override
+    public Class<String> returnedClass() {
+        return String.class;
+    }
+
+    @Override
+    public boolean equals(final Object x, final Object y) {
+        return Objects.equals(x, y);
+    }
+
+    @Override
+    public int hashCode(final Object x) {
+        return Objects.hashCode(x);
+    }
+
+    @Override
+    public Object nullSafeGet(
+            final ResultSet rs,
+            final String[] names,
+            final SharedSessionContractImplementor session,
+            final Object owner
+    ) throws SQLException {
+        return columns.get(rs, names[0]);
+    }
+
+    @Override
+    public void nullSafeSet(
+            final PreparedStatement st,
+            final Object value,
+            final int index,
+            final SharedSessionContractImplementor session
+    ) throws SQLException {
+        if (value == null) {
+            st.setNull(index, sqlTypes()[0]);
+        } else {
+            st.setObject(index, columns.bind((String) value), sqlTypes()[0]);
+        }
+    }
+
+    @Override
+    public Object deepCopy(final Object value) {
+        return value;
+    }
+
+    @Override
+    public boolean isMutable() {
+        return false;
+    }
+
+    @Override
+    public Serializable disassemble(final Object value) {
+        return (Serializable) value;
+    }
+
+    @Override
+    public Object assemble(final Serializable cached, final Object owner) {
+        return cached;
+    }
+
+    @Override
+    public Object replace(final Object original, final Object target, final Object owner) {
+        return original;
+    }
+}
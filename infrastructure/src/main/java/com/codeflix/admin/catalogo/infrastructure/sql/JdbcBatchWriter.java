@@ -0,0 +1,70 @@
+package com.codeflix.admin.catalogo.infrastructure.sql;
+
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManager;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Sends one statement per item as a single JDBC batch. Pending JPA changes are flushed before the batch
+ * and the persistence context is cleared after it, so entities loaded earlier in the transaction never
+ * shadow the rows written here.
+ */
+@Component
+public class JdbcBatchWriter {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    public JdbcBatchWriter(final NamedParameterJdbcTemplate jdbcTemplate, final EntityManager entityManager) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+        this.entityManager = Objects.requireNonNull(entityManager);
+    }
+
+    /**
+     * @return the items whose statement matched a row, in their original order
+     */
+    public <T> List<T> update(final String sql, final List<T> items, final Function<T, SqlParameterSource> params) {
+        if (items.isEmpty()) {
+            return List.of();
+        }
+
+        final var counts = execute(sql, items, params);
+
+        final var matched = new ArrayList<T>(items.size());
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] != 0) {
+                matched.add(items.get(i));
+            }
+        }
+        return matched;
+    }
+
+    public <T> void insert(final String sql, final List<T> items, final Function<T, SqlParameterSource> params) {
+        if (items.isEmpty()) {
+            return;
+        }
+
+        execute(sql, items, params);
+    }
+
+    public static Timestamp timestamp(final Instant anInstant) {
+        return anInstant != null ? Timestamp.from(anInstant) : null;
+    }
+
+    private <T> int[] execute(final String sql, final List<T> items, final Function<T, SqlParameterSource> params) {
+        this.entityManager.flush();
+        try {
+            return this.jdbcTemplate.batchUpdate(sql, items.stream().map(params).toArray(SqlParameterSource[]::new));
+        } finally {
+            this.entityManager.clear();
+        }
+    }
+}
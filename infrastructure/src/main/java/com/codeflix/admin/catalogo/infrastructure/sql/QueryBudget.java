@@ -0,0 +1,39 @@
+package com.codeflix.admin.catalogo.infrastructure.sql;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Optional;
+
+public record QueryBudget(long maxStatements, long maxRows, Duration maxTime, boolean failFast) {
+
+    public static final QueryBudget UNLIMITED =
+            new QueryBudget(Long.MAX_VALUE, Long.MAX_VALUE, Duration.ofSeconds(Long.MAX_VALUE), false);
+
+    public static QueryBudget with(
+            final long maxStatements,
+            final long maxRows,
+            final Duration maxTime,
+            final String onExceed
+    ) {
+        final var failFast = switch (onExceed) {
+            case "log" -> false;
+            case "fail" -> true;
+            default -> throw new IllegalArgumentException("Unknown sql.budget.on-exceed policy: %s".formatted(onExceed));
+        };
+        return new QueryBudget(maxStatements, maxRows, maxTime, failFast);
+    }
+
+    public Optional<String> violation(final QueryStats stats) {
+        final var violations = new ArrayList<String>(3);
+        if (stats.statements() > this.maxStatements) {
+            violations.add("%d statements > %d".formatted(stats.statements(), this.maxStatements));
+        }
+        if (stats.rows() > this.maxRows) {
+            violations.add("%d rows > %d".formatted(stats.rows(), this.maxRows));
+        }
+        if (stats.time().compareTo(this.maxTime) > 0) {
+            violations.add("%dms > %dms".formatted(stats.time().toMillis(), this.maxTime.toMillis()));
+        }
+        return violations.isEmpty() ? Optional.empty() : Optional.of(String.join(", ", violations));
+    }
+}
@@ -0,0 +1,8 @@
+package com.codeflix.admin.catalogo.infrastructure.sql;
+
+public class QueryBudgetExceededException extends IllegalStateException {
+
+    public QueryBudgetExceededException(final String aMessage) {
+        super(aMessage);
+    }
+}
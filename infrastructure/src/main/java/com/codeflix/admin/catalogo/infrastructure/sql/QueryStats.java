@@ -0,0 +1,85 @@
+package com.codeflix.admin.catalogo.infrastructure.sql;
+
+import java.time.Duration;
+
+public final class QueryStats implements AutoCloseable {
+
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+    private final QueryStats previous;
+    private final QueryBudget budget;
+    private long statements;
+    private long rows;
+    private long nanos;
+    private long statementStartedAt;
+
+    private QueryStats(final QueryStats previous, final QueryBudget budget) {
+        this.previous = previous;
+        this.budget = budget;
+    }
+
+    public static QueryStats start() {
+        return start(QueryBudget.UNLIMITED);
+    }
+
+    public static QueryStats start(final QueryBudget aBudget) {
+        final var stats = new QueryStats(CURRENT.get(), aBudget);
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static QueryStats current() {
+        return CURRENT.get();
+    }
+
+    public long statements() {
+        return this.statements;
+    }
+
+    public long rows() {
+        return this.rows;
+    }
+
+    public Duration time() {
+        return Duration.ofNanos(this.nanos);
+    }
+
+    public QueryBudget budget() {
+        return this.budget;
+    }
+
+    void beforeStatement() {
+        this.statements++;
+        checkBudget();
+        this.statementStartedAt = System.nanoTime();
+    }
+
+    void afterStatement() {
+        this.nanos += System.nanoTime() - this.statementStartedAt;
+        checkBudget();
+    }
+
+    void rowFetched() {
+        this.rows++;
+        checkBudget();
+    }
+
+    private void checkBudget() {
+        if (!this.budget.failFast()) {
+            return;
+        }
+        final var violation = this.budget.violation(this);
+        if (violation.isPresent()) {
+            throw new QueryBudgetExceededException("SQL budget exceeded: %s".formatted(violation.get()));
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(this.previous);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.codeflix.admin.catalogo.infrastructure.sql;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+public class QueryStatsFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS_HEADER = "X-Sql-Statements";
+    public static final String ROWS_HEADER = "X-Sql-Rows";
+    public static final String TIME_HEADER = "X-Sql-Time-Ms";
+
+    private static final Logger log = LoggerFactory.getLogger(QueryStatsFilter.class);
+
+    private final QueryBudget budget;
+    private final MeterRegistry registry;
+
+    public QueryStatsFilter(final QueryBudget budget, final ObjectProvider<MeterRegistry> meterRegistry) {
+        this.budget = budget;
+        this.registry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final FilterChain filterChain
+    ) throws ServletException, IOException {
+        try (final var stats = QueryStats.start(this.budget)) {
+            final var aResponse = new StatsHeaderResponse(response, stats);
+            try {
+                filterChain.doFilter(request, aResponse);
+            } finally {
+                aResponse.writeHeaders();
+                record(request, stats);
+            }
+        }
+    }
+
+    private void record(final HttpServletRequest request, final QueryStats stats) {
+        final var uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE) instanceof String pattern
+                ? pattern
+                : "UNKNOWN";
+        final var tags = Tags.of("method", request.getMethod(), "uri", uri);
+
+        DistributionSummary.builder("http.sql.statements").tags(tags).register(this.registry).record(stats.statements());
+        DistributionSummary.builder("http.sql.rows").tags(tags).register(this.registry).record(stats.rows());
+        Timer.builder("http.sql.time").tags(tags).register(this.registry).record(stats.time());
+
+        stats.budget().violation(stats).ifPresent(violation -> {
+            Counter.builder("http.sql.budget.exceeded").tags(tags).register(this.registry).increment();
+            log.warn("SQL budget exceeded [{} {}]: {}", request.getMethod(), uri, violation);
+        });
+    }
+
+    private static class StatsHeaderResponse extends HttpServletResponseWrapper {
+
+        private final QueryStats stats;
+        private boolean headersWritten;
+
+        private StatsHeaderResponse(final HttpServletResponse response, final QueryStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        private void writeHeaders() {
+            if (this.headersWritten || isCommitted()) {
+                return;
+            }
+            this.headersWritten = true;
+            setHeader(STATEMENTS_HEADER, Long.toString(this.stats.statements()));
+            setHeader(ROWS_HEADER, Long.toString(this.stats.rows()));
+            setHeader(TIME_HEADER, Long.toString(this.stats.time().toMillis()));
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(final int sc) throws IOException {
+            writeHeaders();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(final int sc, final String msg) throws IOException {
+            writeHeaders();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(final String location) throws IOException {
+            writeHeaders();
+            super.sendRedirect(location);
+        }
+    }
+}
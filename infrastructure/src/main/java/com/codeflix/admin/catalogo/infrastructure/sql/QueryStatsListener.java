@@ -0,0 +1,45 @@
+package com.codeflix.admin.catalogo.infrastructure.sql;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+public class QueryStatsListener implements QueryExecutionListener, MethodExecutionListener {
+
+    @Override
+    public void beforeQuery(final ExecutionInfo execInfo, final List<QueryInfo> queryInfoList) {
+        final var stats = QueryStats.current();
+        if (stats != null) {
+            stats.beforeStatement();
+        }
+    }
+
+    @Override
+    public void afterQuery(final ExecutionInfo execInfo, final List<QueryInfo> queryInfoList) {
+        final var stats = QueryStats.current();
+        if (stats != null) {
+            stats.afterStatement();
+        }
+    }
+
+    @Override
+    public void beforeMethod(final MethodExecutionContext executionContext) {
+    }
+
+    @Override
+    public void afterMethod(final MethodExecutionContext executionContext) {
+        if (executionContext.getTarget() instanceof ResultSet
+                && Boolean.TRUE.equals(executionContext.getResult())
+                && "next".equals(executionContext.getMethod().getName())) {
+            final var stats = QueryStats.current();
+            if (stats != null) {
+                stats.rowFetched();
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.codeflix.admin.catalogo.infrastructure.utils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+public final class InClauseSplitter {
+
+    public static final int MAX_IN_PARAMETERS = 1000;
+
+    private InClauseSplitter() {
+    }
+
+    public static <T> List<T> query(final Collection<String> ids, final Function<List<String>, List<T>> aQuery) {
+        return query(ids, MAX_IN_PARAMETERS, aQuery);
+    }
+
+    public static int update(final Collection<String> ids, final ToIntFunction<List<String>> aStatement) {
+        return update(ids, MAX_IN_PARAMETERS, aStatement);
+    }
+
+    public static int update(
+            final Collection<String> ids,
+            final int chunkSize,
+            final ToIntFunction<List<String>> aStatement
+    ) {
+        final var distinctIds = ids.stream().distinct().toList();
+
+        var affected = 0;
+        for (int start = 0; start < distinctIds.size(); start += chunkSize) {
+            affected += aStatement.applyAsInt(distinctIds.subList(start, Math.min(start + chunkSize, distinctIds.size())));
+        }
+        return affected;
+    }
+
+    public static <T> List<T> query(
+            final Collection<String> ids,
+            final int chunkSize,
+            final Function<List<String>, List<T>> aQuery
+    ) {
+        final var distinctIds = ids.stream().distinct().toList();
+        if (distinctIds.isEmpty()) {
+            return List.of();
+        }
+
+        final var result = new ArrayList<T>();
+        for (int start = 0; start < distinctIds.size(); start += chunkSize) {
+            result.addAll(aQuery.apply(distinctIds.subList(start, Math.min(start + chunkSize, distinctIds.size()))));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,26 @@
+package com.codeflix.admin.catalogo.infrastructure.utils;
+
+import io.r2dbc.spi.Row;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+public final class R2dbcRows {
+
+    private R2dbcRows() {
+    }
+
+    public static Instant getInstant(final Row row, final String column) {
+        final var value = row.get(column, LocalDateTime.class);
+        return value == null ? null : value.toInstant(ZoneOffset.UTC);
+    }
+
+    public static boolean getBoolean(final Row row, final String column) {
+        final var value = row.get(column);
+        if (value instanceof Boolean aBoolean) {
+            return aBoolean;
+        }
+        return value instanceof Number aNumber && aNumber.intValue() != 0;
+    }
+}
@@ -10,4 +10,12 @@ public final class SpecificationUtils {
     public static <T> Specification<T> like (final String property, final String term) {
         return (root, query, cb) -> cb.like(cb.upper(root.get(property)), "%"+term.toUpperCase()+"%");
     }
+
+    public static <T> Specification<T> startsWith(final String property, final String term) {
+        return (root, query, cb) -> cb.like(root.get(property), escape(term) + "%", '\\');
+    }
+
+    public static String escape(final String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
 }
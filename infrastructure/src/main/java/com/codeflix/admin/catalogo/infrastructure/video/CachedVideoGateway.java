@@ -0,0 +1,61 @@
+package com.codeflix.admin.catalogo.infrastructure.video;
+
+import com.codeflix.admin.catalogo.domain.pagination.Pagination;
+import com.codeflix.admin.catalogo.domain.video.Video;
+import com.codeflix.admin.catalogo.domain.video.VideoGateway;
+import com.codeflix.admin.catalogo.domain.video.VideoID;
+import com.codeflix.admin.catalogo.domain.video.VideoSearchQuery;
+import com.codeflix.admin.catalogo.infrastructure.cache.AggregateCache;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+public class CachedVideoGateway implements VideoGateway {
+
+    private final VideoGateway delegate;
+    private final AggregateCache<Video> cache;
+
+    public CachedVideoGateway(final VideoGateway delegate, final AggregateCache<Video> cache) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.cache = Objects.requireNonNull(cache);
+    }
+
+    @Override
+    public Video create(final Video aVideo) {
+        return this.delegate.create(aVideo);
+    }
+
+    @Override
+    public Video update(final Video aVideo) {
+        try {
+            return this.delegate.update(aVideo);
+        } finally {
+            this.cache.invalidate(aVideo.getId().getValue());
+        }
+    }
+
+    @Override
+    public void deleteById(final VideoID anId) {
+        try {
+            this.delegate.deleteById(anId);
+        } finally {
+            this.cache.invalidate(anId.getValue());
+        }
+    }
+
+    @Override
+    public Optional<Video> findById(final VideoID anId) {
+        return this.cache.get(anId.getValue(), () -> this.delegate.findById(anId));
+    }
+
+    @Override
+    public Pagination<Video> findAll(final VideoSearchQuery aQuery) {
+        return this.delegate.findAll(aQuery);
+    }
+
+    @Override
+    public List<VideoID> findIdsWithPendingMedia() {
+        return this.delegate.findIdsWithPendingMedia();
+    }
+}
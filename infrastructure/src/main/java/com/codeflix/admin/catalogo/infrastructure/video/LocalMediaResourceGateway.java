@@ -0,0 +1,238 @@
+package com.codeflix.admin.catalogo.infrastructure.video;
+
+import com.codeflix.admin.catalogo.domain.exceptions.InternalErrorException;
+import com.codeflix.admin.catalogo.domain.video.AudioVideoMedia;
+import com.codeflix.admin.catalogo.domain.video.ImageMedia;
+import com.codeflix.admin.catalogo.domain.video.MediaResourceGateway;
+import com.codeflix.admin.catalogo.domain.video.MediaStatus;
+import com.codeflix.admin.catalogo.domain.video.Resource;
+import com.codeflix.admin.catalogo.domain.video.VideoID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+@Component
+public class LocalMediaResourceGateway implements MediaResourceGateway {
+
+    private static final String CHECKSUM_ALGORITHM = "SHA-256";
+    private static final int LOCK_STRIPES = 64;
+
+    private final Path blobs;
+    private final Path refs;
+    private final Path videos;
+    private final Path staging;
+    private final int chunkSize;
+    private final List<ReentrantLock> locks;
+
+    public LocalMediaResourceGateway(
+            @Value("${storage.local.location}") final String location,
+            @Value("${storage.local.chunk-size:65536}") final int chunkSize
+    ) {
+        final var root = Path.of(location).toAbsolutePath();
+        this.blobs = root.resolve("blobs");
+        this.refs = root.resolve("refs");
+        this.videos = root.resolve("videos");
+        this.staging = root.resolve("staging");
+        this.chunkSize = chunkSize;
+        this.locks = IntStream.range(0, LOCK_STRIPES).mapToObj(it -> new ReentrantLock()).toList();
+    }
+
+    @Override
+    public AudioVideoMedia storeAudioVideo(final VideoID anId, final Resource aResource) {
+        final var stored = store(anId, aResource);
+        return AudioVideoMedia.with(stored.checksum(), aResource.getName(), stored.location(), "", MediaStatus.PENDING);
+    }
+
+    @Override
+    public ImageMedia storeImage(final VideoID anId, final Resource aResource) {
+        final var stored = store(anId, aResource);
+        return ImageMedia.with(stored.checksum(), aResource.getName(), stored.location());
+    }
+
+    @Override
+    public void release(final VideoID anId, final Resource.Type aType) {
+        final var type = aType.name().toLowerCase();
+        final var manifest = videoFolderOf(anId).resolve(type);
+        if (Files.notExists(manifest)) {
+            return;
+        }
+
+        try {
+            release(Files.readString(manifest, StandardCharsets.US_ASCII), referenceOf(anId, type));
+            Files.deleteIfExists(manifest);
+        } catch (IOException | UncheckedIOException e) {
+            throw InternalErrorException.with("An error on release resource was observed [videoId:%s]".formatted(anId.getValue()), e);
+        }
+    }
+
+    @Override
+    public void clearResources(final VideoID anId) {
+        final var folder = videoFolderOf(anId);
+        if (Files.notExists(folder)) {
+            return;
+        }
+
+        try (final Stream<Path> manifests = Files.list(folder)) {
+            for (final var manifest : manifests.toList()) {
+                if (manifest.getFileName().toString().endsWith(".part")) {
+                    Files.deleteIfExists(manifest);
+                    continue;
+                }
+                release(Files.readString(manifest, StandardCharsets.US_ASCII), referenceOf(anId, manifest.getFileName().toString()));
+                Files.deleteIfExists(manifest);
+            }
+            Files.deleteIfExists(folder);
+        } catch (IOException | UncheckedIOException e) {
+            throw InternalErrorException.with("An error on clear resources was observed [videoId:%s]".formatted(anId.getValue()), e);
+        }
+    }
+
+    private StoredFile store(final VideoID anId, final Resource aResource) {
+        final var type = aResource.getType().name().toLowerCase();
+
+        try {
+            Files.createDirectories(staging);
+            final var temp = Files.createTempFile(staging, type, ".part");
+            try {
+                final var checksum = write(aResource, temp);
+                final var blob = blobOf(checksum);
+                final Optional<String> previous;
+
+                final var lock = lockOf(checksum);
+                lock.lock();
+                try {
+                    if (Files.notExists(blob)) {
+                        Files.createDirectories(blob.getParent());
+                        Files.move(temp, blob, StandardCopyOption.ATOMIC_MOVE);
+                    }
+                    previous = reference(anId, type, checksum);
+                } finally {
+                    lock.unlock();
+                }
+
+                if (previous.isPresent() && !previous.get().equals(checksum)) {
+                    release(previous.get(), referenceOf(anId, type));
+                }
+
+                return new StoredFile(checksum, blob.toString());
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw InternalErrorException.with("An error on store resource was observed [videoId:%s]".formatted(anId.getValue()), e);
+        }
+    }
+
+    private Optional<String> reference(final VideoID anId, final String aType, final String checksum) throws IOException {
+        final var reference = refsOf(checksum).resolve(referenceOf(anId, aType));
+        Files.createDirectories(reference.getParent());
+        if (Files.notExists(reference)) {
+            Files.createFile(reference);
+        }
+
+        final var folder = videoFolderOf(anId);
+        final var manifest = folder.resolve(aType);
+        final var previous = Files.exists(manifest)
+                ? Optional.of(Files.readString(manifest, StandardCharsets.US_ASCII))
+                : Optional.<String>empty();
+
+        Files.createDirectories(folder);
+        final var temp = Files.createTempFile(folder, aType, ".part");
+        Files.writeString(temp, checksum, StandardCharsets.US_ASCII);
+        Files.move(temp, manifest, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        return previous;
+    }
+
+    private void release(final String checksum, final String aReference) throws IOException {
+        final var lock = lockOf(checksum);
+        lock.lock();
+        try {
+            final var references = refsOf(checksum);
+            Files.deleteIfExists(references.resolve(aReference));
+
+            final boolean unreferenced;
+            try (final Stream<Path> remaining = Files.exists(references) ? Files.list(references) : Stream.empty()) {
+                unreferenced = remaining.findAny().isEmpty();
+            }
+
+            if (unreferenced) {
+                Files.deleteIfExists(references);
+                Files.deleteIfExists(blobOf(checksum));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private String write(final Resource aResource, final Path aTarget) throws IOException {
+        final var digest = newDigest();
+        final var buffer = ByteBuffer.allocateDirect(chunkSize);
+
+        try (
+                final ReadableByteChannel source = aResource.openChannel();
+                final FileChannel target = FileChannel.open(aTarget, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)
+        ) {
+            while (source.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer.duplicate());
+                while (buffer.hasRemaining()) {
+                    target.write(buffer);
+                }
+                buffer.clear();
+            }
+            target.force(false);
+        }
+
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private Path blobOf(final String checksum) {
+        return blobs.resolve(checksum.substring(0, 2)).resolve(checksum);
+    }
+
+    private Path refsOf(final String checksum) {
+        return refs.resolve(checksum.substring(0, 2)).resolve(checksum);
+    }
+
+    private Path videoFolderOf(final VideoID anId) {
+        return videos.resolve(anId.getValue());
+    }
+
+    private ReentrantLock lockOf(final String checksum) {
+        return locks.get(Math.floorMod(checksum.hashCode(), LOCK_STRIPES));
+    }
+
+    private static String referenceOf(final VideoID anId, final String aType) {
+        return anId.getValue() + "." + aType;
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(CHECKSUM_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record StoredFile(String checksum, String location) {
+    }
+}
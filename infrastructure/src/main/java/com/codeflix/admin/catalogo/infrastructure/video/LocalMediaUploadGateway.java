@@ -0,0 +1,313 @@
+package com.codeflix.admin.catalogo.infrastructure.video;
+
+import com.codeflix.admin.catalogo.domain.exceptions.DomainException;
+import com.codeflix.admin.catalogo.domain.exceptions.InternalErrorException;
+import com.codeflix.admin.catalogo.domain.exceptions.NotFoundException;
+import com.codeflix.admin.catalogo.domain.utils.IdUtils;
+import com.codeflix.admin.catalogo.domain.validation.Error;
+import com.codeflix.admin.catalogo.domain.video.MediaUpload;
+import com.codeflix.admin.catalogo.domain.video.MediaUploadGateway;
+import com.codeflix.admin.catalogo.domain.video.Resource;
+import com.codeflix.admin.catalogo.domain.video.VideoID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+@Component
+public class LocalMediaUploadGateway implements MediaUploadGateway {
+
+    private static final String SESSION = "session.properties";
+    private static final String RANGES = "ranges";
+    private static final String DATA = "data";
+    private static final String COMPLETED = "completed";
+    private static final int LOCK_STRIPES = 64;
+
+    private final Path root;
+    private final int chunkSize;
+    private final Duration ttl;
+    private final List<ReentrantLock> locks;
+
+    public LocalMediaUploadGateway(
+            @Value("${storage.upload.location}") final String location,
+            @Value("${storage.local.chunk-size:65536}") final int chunkSize,
+            @Value("${storage.upload.ttl:24h}") final Duration ttl
+    ) {
+        this.root = Path.of(location).toAbsolutePath();
+        this.chunkSize = chunkSize;
+        this.ttl = ttl;
+        this.locks = IntStream.range(0, LOCK_STRIPES).mapToObj(it -> new ReentrantLock()).toList();
+    }
+
+    @Override
+    public MediaUpload create(
+            final VideoID videoId,
+            final Resource.Type type,
+            final String name,
+            final String contentType,
+            final long length
+    ) {
+        purgeExpired();
+
+        final var anUpload = MediaUpload.with(IdUtils.uuid().toString(), videoId, type, name, contentType, length, List.of());
+        final var folder = this.root.resolve(anUpload.id());
+
+        final var session = new Properties();
+        session.setProperty("videoId", videoId.getValue());
+        session.setProperty("type", type.name());
+        session.setProperty("name", name);
+        session.setProperty("contentType", contentType);
+        session.setProperty("length", Long.toString(length));
+
+        try {
+            Files.createDirectories(folder);
+            FileChannel.open(folder.resolve(DATA), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE, StandardOpenOption.SPARSE).close();
+            writeAtomically(folder.resolve(RANGES), "");
+            writeAtomically(folder.resolve(SESSION), toString(session));
+        } catch (IOException e) {
+            throw InternalErrorException.with("An error on create upload was observed [videoId:%s]".formatted(videoId.getValue()), e);
+        }
+
+        return anUpload;
+    }
+
+    @Override
+    public MediaUpload write(final String uploadId, final long offset, final long length, final Resource.Content content) {
+        final var folder = folderOf(uploadId)
+                .filter(it -> Files.exists(it.resolve(SESSION)))
+                .orElseThrow(() -> notFound(uploadId));
+
+        if (Files.exists(folder.resolve(COMPLETED))) {
+            throw alreadyCompleted(uploadId);
+        }
+
+        long written = 0;
+        IOException failure = null;
+
+        try (
+                final ReadableByteChannel source = Channels.newChannel(content.open());
+                final FileChannel target = FileChannel.open(folder.resolve(DATA), StandardOpenOption.WRITE)
+        ) {
+            final var buffer = ByteBuffer.allocateDirect(this.chunkSize);
+            while (written < length) {
+                buffer.clear().limit((int) Math.min(this.chunkSize, length - written));
+                if (source.read(buffer) == -1) {
+                    break;
+                }
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    written += target.write(buffer, offset + written);
+                }
+            }
+            target.force(false);
+        } catch (IOException e) {
+            failure = e;
+        }
+
+        final var updated = receive(uploadId, folder, new MediaUpload.ByteRange(offset, offset + written));
+
+        if (failure != null) {
+            throw InternalErrorException.with("An error on write upload chunk was observed [uploadId:%s]".formatted(uploadId), failure);
+        }
+        return updated;
+    }
+
+    @Override
+    public Optional<MediaUpload> findById(final String uploadId) {
+        return folderOf(uploadId)
+                .filter(it -> Files.exists(it.resolve(SESSION)))
+                .map(it -> read(uploadId, it));
+    }
+
+    @Override
+    public Resource open(final String uploadId) {
+        final var anUpload = findById(uploadId).orElseThrow(() -> notFound(uploadId));
+        final var data = this.root.resolve(uploadId).resolve(DATA);
+        return Resource.with(
+                () -> Files.newInputStream(data),
+                anUpload.length(),
+                anUpload.contentType(),
+                anUpload.name(),
+                anUpload.type()
+        );
+    }
+
+    @Override
+    public boolean complete(final String uploadId) {
+        final var folder = folderOf(uploadId)
+                .filter(it -> Files.exists(it.resolve(SESSION)))
+                .orElseThrow(() -> notFound(uploadId));
+
+        final var lock = lockOf(uploadId);
+        lock.lock();
+        try {
+            Files.createFile(folder.resolve(COMPLETED));
+            return true;
+        } catch (FileAlreadyExistsException e) {
+            return false;
+        } catch (IOException e) {
+            throw InternalErrorException.with("An error on complete upload was observed [uploadId:%s]".formatted(uploadId), e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void reopen(final String uploadId) {
+        folderOf(uploadId).ifPresent(it -> {
+            try {
+                Files.deleteIfExists(it.resolve(COMPLETED));
+            } catch (IOException e) {
+                throw InternalErrorException.with("An error on reopen upload was observed [uploadId:%s]".formatted(uploadId), e);
+            }
+        });
+    }
+
+    @Override
+    public void deleteById(final String uploadId) {
+        folderOf(uploadId).ifPresent(this::delete);
+    }
+
+    private MediaUpload receive(final String uploadId, final Path folder, final MediaUpload.ByteRange aRange) {
+        final var lock = lockOf(uploadId);
+        lock.lock();
+        try {
+            if (Files.exists(folder.resolve(COMPLETED))) {
+                throw alreadyCompleted(uploadId);
+            }
+            final var updated = read(uploadId, folder).receive(aRange);
+            writeAtomically(folder.resolve(RANGES), toString(updated.received()));
+            return updated;
+        } catch (IOException e) {
+            throw InternalErrorException.with("An error on write upload chunk was observed [uploadId:%s]".formatted(uploadId), e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private MediaUpload read(final String uploadId, final Path folder) {
+        try {
+            final var session = new Properties();
+            session.load(new StringReader(Files.readString(folder.resolve(SESSION), StandardCharsets.UTF_8)));
+
+            final var ranges = Files.readAllLines(folder.resolve(RANGES), StandardCharsets.US_ASCII).stream()
+                    .filter(it -> !it.isBlank())
+                    .map(it -> it.split("-"))
+                    .map(it -> new MediaUpload.ByteRange(Long.parseLong(it[0]), Long.parseLong(it[1])))
+                    .toList();
+
+            return MediaUpload.with(
+                    uploadId,
+                    VideoID.from(session.getProperty("videoId")),
+                    Resource.Type.valueOf(session.getProperty("type")),
+                    session.getProperty("name"),
+                    session.getProperty("contentType"),
+                    Long.parseLong(session.getProperty("length")),
+                    ranges
+            );
+        } catch (IOException e) {
+            throw InternalErrorException.with("An error on read upload was observed [uploadId:%s]".formatted(uploadId), e);
+        }
+    }
+
+    private void purgeExpired() {
+        if (Files.notExists(this.root)) {
+            return;
+        }
+
+        final var expiresBefore = Instant.now().minus(this.ttl);
+        try (final Stream<Path> folders = Files.list(this.root)) {
+            folders.filter(it -> lastActivity(it).isBefore(expiresBefore)).forEach(this::delete);
+        } catch (IOException | UncheckedIOException e) {
+            throw InternalErrorException.with("An error on purge uploads was observed", e);
+        }
+    }
+
+    /**
+     * A completed session is timed from its completion, so a job still waiting in the queue keeps its data
+     * for a full TTL even when the last chunk arrived long before.
+     */
+    private Instant lastActivity(final Path folder) {
+        final var completed = folder.resolve(COMPLETED);
+        try {
+            return Files.getLastModifiedTime(Files.exists(completed) ? completed : folder.resolve(RANGES)).toInstant();
+        } catch (IOException e) {
+            return Instant.EPOCH;
+        }
+    }
+
+    private void delete(final Path folder) {
+        try (final Stream<Path> paths = Files.walk(folder)) {
+            for (final var it : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(it);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Optional<Path> folderOf(final String uploadId) {
+        return Optional.ofNullable(uploadId)
+                .filter(IdUtils::isUUID)
+                .map(this.root::resolve);
+    }
+
+    private ReentrantLock lockOf(final String uploadId) {
+        return this.locks.get(Math.floorMod(uploadId.hashCode(), LOCK_STRIPES));
+    }
+
+    private static void writeAtomically(final Path aTarget, final String content) throws IOException {
+        final var temp = Files.createTempFile(aTarget.getParent(), aTarget.getFileName().toString(), ".part");
+        try {
+            Files.writeString(temp, content, StandardCharsets.UTF_8, StandardOpenOption.WRITE);
+            try (final FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            Files.move(temp, aTarget, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static String toString(final Properties session) throws IOException {
+        final var writer = new StringWriter();
+        session.store(writer, null);
+        return writer.toString();
+    }
+
+    private static String toString(final List<MediaUpload.ByteRange> ranges) {
+        final var builder = new StringBuilder();
+        ranges.forEach(it -> builder.append(it.start()).append('-').append(it.end()).append('\n'));
+        return builder.toString();
+    }
+
+    private static DomainException alreadyCompleted(final String uploadId) {
+        return DomainException.raise(new Error("Upload %s was already completed".formatted(uploadId)));
+    }
+
+    private static NotFoundException notFound(final String uploadId) {
+        return NotFoundException.with(new Error("Upload with ID %s was not found".formatted(uploadId)));
+    }
+}
@@ -0,0 +1,47 @@
+package com.codeflix.admin.catalogo.infrastructure.video;
+
+import com.codeflix.admin.catalogo.application.video.media.RecoverVideoMediaUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * Runs {@link RecoverVideoMediaUseCase} once every singleton is ready and before the web server accepts
+ * requests, so only media left behind by a previous run of the in-memory queue is failed.
+ */
+@Component
+public class MediaProcessingRecovery implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(MediaProcessingRecovery.class);
+
+    private final RecoverVideoMediaUseCase recoverVideoMediaUseCase;
+    private final boolean enabled;
+
+    public MediaProcessingRecovery(
+            final RecoverVideoMediaUseCase recoverVideoMediaUseCase,
+            @Value("${media.processing.recover-on-startup:true}") final boolean enabled
+    ) {
+        this.recoverVideoMediaUseCase = Objects.requireNonNull(recoverVideoMediaUseCase);
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!this.enabled) {
+            return;
+        }
+
+        try {
+            final var recovered = this.recoverVideoMediaUseCase.execute();
+            if (recovered > 0) {
+                log.warn("Failed the unfinished media of {} videos left by a previous run", recovered);
+            }
+        } catch (final Throwable t) {
+            log.error("Media processing recovery failed", t);
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.codeflix.admin.catalogo.infrastructure.video;
+
+import com.codeflix.admin.catalogo.application.video.media.ProcessVideoMediaCommand;
+import com.codeflix.admin.catalogo.application.video.media.ProcessVideoMediaUseCase;
+import com.codeflix.admin.catalogo.domain.video.MediaProcessingGateway;
+import com.codeflix.admin.catalogo.domain.video.Resource;
+import com.codeflix.admin.catalogo.domain.video.VideoID;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+public class QueuedMediaProcessingGateway implements MediaProcessingGateway, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(QueuedMediaProcessingGateway.class);
+
+    private final ProcessVideoMediaUseCase processVideoMediaUseCase;
+    private final ThreadPoolExecutor executor;
+    private final int queueCapacity;
+    private final boolean callerRuns;
+    private final Duration shutdownTimeout;
+
+    /**
+     * Jobs waiting for an earlier job of the same video, keyed by video id. A video with an entry has a job
+     * queued or running, and that job's worker runs the waiting ones in submission order, so an older job
+     * can never overwrite the media stored by a newer one. Waiting jobs count against the queue capacity
+     * together with the jobs in the executor queue.
+     */
+    private final Map<String, Queue<Job>> lanes = new HashMap<>();
+
+    public QueuedMediaProcessingGateway(
+            final ProcessVideoMediaUseCase processVideoMediaUseCase,
+            final ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${media.processing.workers:4}") final int workers,
+            @Value("${media.processing.queue-capacity:100}") final int queueCapacity,
+            @Value("${media.processing.on-full:reject}") final String onFull,
+            @Value("${media.processing.shutdown-timeout:30s}") final Duration shutdownTimeout
+    ) {
+        this.processVideoMediaUseCase = Objects.requireNonNull(processVideoMediaUseCase);
+        this.queueCapacity = queueCapacity;
+        this.callerRuns = callerRuns(onFull);
+        this.shutdownTimeout = Objects.requireNonNull(shutdownTimeout);
+        // unbounded on purpose: queueCapacity is enforced in process() over this queue and the lanes together
+        this.executor = new ThreadPoolExecutor(
+                workers,
+                workers,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                newThreadFactory()
+        );
+
+        meterRegistry.ifAvailable(registry -> {
+            Gauge.builder("media.processing.queue.depth", this, QueuedMediaProcessingGateway::queueDepth)
+                    .description("Media processing jobs waiting for a worker")
+                    .register(registry);
+            Gauge.builder("media.processing.active", this.executor, ThreadPoolExecutor::getActiveCount)
+                    .description("Media processing jobs currently running")
+                    .register(registry);
+        });
+    }
+
+    @Override
+    public void process(final VideoID anId, final List<Resource> resources, final Runnable onFinished) {
+        final var aJob = new Job(
+                ProcessVideoMediaCommand.with(anId.getValue(), List.copyOf(resources)),
+                Objects.requireNonNull(onFinished)
+        );
+
+        final boolean runOnCaller;
+        synchronized (this.lanes) {
+            if (this.executor.isShutdown()) {
+                throw new RejectedExecutionException("Media processing is shutting down");
+            }
+
+            final var lane = this.lanes.get(aJob.videoId());
+            final var full = waiting() >= this.queueCapacity;
+            if (full && (!this.callerRuns || lane != null)) {
+                throw new RejectedExecutionException("Media processing queue is full");
+            }
+            if (lane != null) {
+                lane.add(aJob);
+                return;
+            }
+            this.lanes.put(aJob.videoId(), new ArrayDeque<>());
+            runOnCaller = full;
+        }
+
+        if (runOnCaller) {
+            runOnCaller(aJob);
+        } else {
+            handOff(aJob);
+        }
+    }
+
+    public int queueDepth() {
+        synchronized (this.lanes) {
+            return waiting();
+        }
+    }
+
+    @Override
+    public void close() {
+        this.executor.shutdown();
+        try {
+            if (!this.executor.awaitTermination(this.shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                this.executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            this.executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Runs only the caller's own job. Jobs queued behind it for the same video meanwhile go to the workers,
+     * so a request thread never drains a whole lane.
+     */
+    private void runOnCaller(final Job aJob) {
+        run(aJob);
+
+        final Job next;
+        synchronized (this.lanes) {
+            next = this.lanes.get(aJob.videoId()).poll();
+            if (next == null) {
+                this.lanes.remove(aJob.videoId());
+                return;
+            }
+        }
+
+        try {
+            handOff(next);
+        } catch (final RuntimeException e) {
+            log.error("Media processing job dropped [videoId:{}]", next.videoId(), e);
+        }
+    }
+
+    private void handOff(final Job aJob) {
+        try {
+            this.executor.execute(() -> drain(aJob));
+        } catch (final RuntimeException e) {
+            final Queue<Job> dropped;
+            synchronized (this.lanes) {
+                dropped = this.lanes.remove(aJob.videoId());
+            }
+            dropped.forEach(it -> log.error("Media processing job dropped [videoId:{}]", it.videoId()));
+            throw e;
+        }
+    }
+
+    private int waiting() {
+        return this.executor.getQueue().size() + this.lanes.values().stream().mapToInt(Queue::size).sum();
+    }
+
+    private void drain(final Job aJob) {
+        var next = aJob;
+        while (true) {
+            run(next);
+
+            synchronized (this.lanes) {
+                final var lane = this.lanes.get(aJob.videoId());
+                if (!lane.isEmpty() && !Thread.currentThread().isInterrupted()) {
+                    next = lane.poll();
+                    continue;
+                }
+                this.lanes.remove(aJob.videoId());
+                lane.forEach(it -> log.error("Media processing job dropped [videoId:{}]", it.videoId()));
+                return;
+            }
+        }
+    }
+
+    private void run(final Job aJob) {
+        try {
+            this.processVideoMediaUseCase.execute(aJob.command());
+        } catch (final Throwable t) {
+            log.error("Media processing failed [videoId:{}]", aJob.videoId(), t);
+        }
+
+        try {
+            aJob.onFinished().run();
+        } catch (final Throwable t) {
+            log.error("Media processing cleanup failed [videoId:{}]", aJob.videoId(), t);
+        }
+    }
+
+    private static ThreadFactory newThreadFactory() {
+        final var counter = new AtomicInteger();
+        return task -> {
+            final var thread = new Thread(task, "media-processing-" + counter.incrementAndGet());
+            thread.setDaemon(false);
+            return thread;
+        };
+    }
+
+    /**
+     * {@code caller-runs} only applies to a video without a job in flight: running a later job of that video
+     * on the caller would overtake the earlier one, so such jobs are rejected like under {@code reject}.
+     */
+    private static boolean callerRuns(final String onFull) {
+        return switch (onFull) {
+            case "caller-runs" -> true;
+            case "reject" -> false;
+            default -> throw new IllegalArgumentException("Unknown media.processing.on-full policy: %s".formatted(onFull));
+        };
+    }
+
+    private record Job(ProcessVideoMediaCommand command, Runnable onFinished) {
+
+        private String videoId() {
+            return this.command.videoId();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.codeflix.admin.catalogo.infrastructure.video;
+
+import com.codeflix.admin.catalogo.domain.exceptions.ConflictException;
+import com.codeflix.admin.catalogo.domain.pagination.Pagination;
+import com.codeflix.admin.catalogo.domain.video.MediaStatus;
+import com.codeflix.admin.catalogo.domain.video.Video;
+import com.codeflix.admin.catalogo.domain.video.VideoGateway;
+import com.codeflix.admin.catalogo.domain.video.VideoID;
+import com.codeflix.admin.catalogo.domain.video.VideoSearchQuery;
+import com.codeflix.admin.catalogo.infrastructure.utils.SpecificationUtils;
+import com.codeflix.admin.catalogo.infrastructure.video.persistence.VideoJpaEntity;
+import com.codeflix.admin.catalogo.infrastructure.video.persistence.VideoRelations;
+import com.codeflix.admin.catalogo.infrastructure.video.persistence.VideoRelationsRepository;
+import com.codeflix.admin.catalogo.infrastructure.video.persistence.VideoRepository;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+@Component
+public class VideoMySQLGateway implements VideoGateway {
+
+    private final VideoRepository videoRepository;
+    private final VideoRelationsRepository videoRelationsRepository;
+
+    public VideoMySQLGateway(
+            final VideoRepository videoRepository,
+            final VideoRelationsRepository videoRelationsRepository
+    ) {
+        this.videoRepository = Objects.requireNonNull(videoRepository);
+        this.videoRelationsRepository = Objects.requireNonNull(videoRelationsRepository);
+    }
+
+    @Override
+    @Transactional
+    public Video create(final Video aVideo) {
+        this.videoRepository.saveAndFlush(VideoJpaEntity.from(aVideo));
+        this.videoRelationsRepository.insert(aVideo);
+        return Video.from(aVideo);
+    }
+
+    @Override
+    @Transactional
+    public Video update(final Video aVideo) {
+        final VideoJpaEntity saved;
+        try {
+            saved = this.videoRepository.saveAndFlush(VideoJpaEntity.from(aVideo));
+        } catch (final OptimisticLockingFailureException e) {
+            throw ConflictException.raise(Video.class, aVideo.getId());
+        }
+        this.videoRelationsRepository.update(aVideo);
+        return Video.from(aVideo).setVersion(saved.getVersion());
+    }
+
+    @Override
+    @Transactional
+    public void deleteById(final VideoID anId) {
+        final var aVideoId = anId.getValue();
+        if (this.videoRepository.removeById(aVideoId) > 0) {
+            this.videoRepository.removeAudioVideoMediaByIds(VideoJpaEntity.audioVideoMediaIds(aVideoId));
+            this.videoRepository.removeImageMediaByIds(VideoJpaEntity.imageMediaIds(aVideoId));
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Video> findById(final VideoID anId) {
+        final var aVideoId = anId.getValue();
+        return this.videoRepository.findById(aVideoId)
+                .map(it -> it.toAggregate(this.videoRelationsRepository.findByVideoId(aVideoId)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Pagination<Video> findAll(final VideoSearchQuery aQuery) {
+        final var page = PageRequest.of(
+                aQuery.page(),
+                aQuery.perPage(),
+                Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
+        );
+
+        final var where = Optional.ofNullable(aQuery.terms())
+                .filter(str -> !str.isBlank())
+                .map(this::assembleSpecification)
+                .orElse(null);
+
+        final var results =
+                this.videoRepository.findAll(Specification.where(where), page);
+
+        final var relations = this.videoRelationsRepository.findByVideoIds(
+                results.map(VideoJpaEntity::getId).toList()
+        );
+
+        return new Pagination<>(
+                results.getNumber(),
+                results.getSize(),
+                results.getTotalElements(),
+                results.map(it -> it.toAggregate(relations.getOrDefault(it.getId(), VideoRelations.empty()))).toList()
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<VideoID> findIdsWithPendingMedia() {
+        return this.videoRepository.findIdsWithPendingMedia(List.of(MediaStatus.PENDING, MediaStatus.PROCESSING)).stream()
+                .map(VideoID::from)
+                .toList();
+    }
+
+    private Specification<VideoJpaEntity> assembleSpecification(final String terms) {
+        final Specification<VideoJpaEntity> titleLike = SpecificationUtils.like("title", terms);
+        final Specification<VideoJpaEntity> descriptionLike = SpecificationUtils.like("description", terms);
+        return titleLike.or(descriptionLike);
+    }
+}
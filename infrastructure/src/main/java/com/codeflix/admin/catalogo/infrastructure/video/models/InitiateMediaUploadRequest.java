@@ -0,0 +1,9 @@
+package com.codeflix.admin.catalogo.infrastructure.video.models;
+
+public record InitiateMediaUploadRequest(
+        String type,
+        String name,
+        String contentType,
+        Long length
+) {
+}
@@ -0,0 +1,127 @@
+package com.codeflix.admin.catalogo.infrastructure.video.persistence;
+
+import com.codeflix.admin.catalogo.domain.video.AudioVideoMedia;
+import com.codeflix.admin.catalogo.domain.video.MediaStatus;
+import com.codeflix.admin.catalogo.infrastructure.sql.IdentifierType;
+import org.hibernate.annotations.Type;
+
+import javax.persistence.*;
+
+@Entity(name = "AudioVideoMedia")
+@Table(name = "videos_video_media")
+public class AudioVideoMediaJpaEntity {
+
+    @Id
+    @Type(type = IdentifierType.NAME)
+    private String id;
+
+    @Column(name = "checksum", nullable = false)
+    private String checksum;
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Column(name = "file_path", nullable = false)
+    private String filePath;
+
+    @Column(name = "encoded_path", nullable = false)
+    private String encodedPath;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "media_status", nullable = false)
+    private MediaStatus status;
+
+    public AudioVideoMediaJpaEntity() {
+    }
+
+    private AudioVideoMediaJpaEntity(
+            final String id,
+            final String checksum,
+            final String name,
+            final String filePath,
+            final String encodedPath,
+            final MediaStatus status
+    ) {
+        this.id = id;
+        this.checksum = checksum;
+        this.name = name;
+        this.filePath = filePath;
+        this.encodedPath = encodedPath;
+        this.status = status;
+    }
+
+    public static AudioVideoMediaJpaEntity from(final String anId, final AudioVideoMedia media) {
+        return new AudioVideoMediaJpaEntity(
+                anId,
+                media.getChecksum(),
+                media.getName(),
+                media.getRawLocation(),
+                media.getEncodedLocation(),
+                media.getStatus()
+        );
+    }
+
+    public AudioVideoMedia toDomain() {
+        return AudioVideoMedia.with(
+                getChecksum(),
+                getName(),
+                getFilePath(),
+                getEncodedPath(),
+                getStatus()
+        );
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public AudioVideoMediaJpaEntity setId(String id) {
+        this.id = id;
+        return this;
+    }
+
+    public String getChecksum() {
+        return checksum;
+    }
+
+    public AudioVideoMediaJpaEntity setChecksum(String checksum) {
+        this.checksum = checksum;
+        return this;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public AudioVideoMediaJpaEntity setName(String name) {
+        this.name = name;
+        return this;
+    }
+
+    public String getFilePath() {
+        return filePath;
+    }
+
+    public AudioVideoMediaJpaEntity setFilePath(String filePath) {
+        this.filePath = filePath;
+        return this;
+    }
+
+    public String getEncodedPath() {
+        return encodedPath;
+    }
+
+    public AudioVideoMediaJpaEntity setEncodedPath(String encodedPath) {
+        this.encodedPath = encodedPath;
+        return this;
+    }
+
+    public MediaStatus getStatus() {
+        return status;
+    }
+
+    public AudioVideoMediaJpaEntity setStatus(MediaStatus status) {
+        this.status = status;
+        return this;
+    }
+}
@@ -0,0 +1,327 @@
+package com.codeflix.admin.catalogo.infrastructure.video.persistence;
+
+import com.codeflix.admin.catalogo.domain.video.AudioVideoMedia;
+import com.codeflix.admin.catalogo.domain.video.ImageMedia;
+import com.codeflix.admin.catalogo.domain.video.Rating;
+import com.codeflix.admin.catalogo.domain.video.Resource;
+import com.codeflix.admin.catalogo.domain.video.Video;
+import com.codeflix.admin.catalogo.domain.video.VideoID;
+import com.codeflix.admin.catalogo.infrastructure.sql.IdentifierType;
+import org.hibernate.annotations.Type;
+
+import javax.persistence.*;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.Year;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Entity(name = "Video")
+@Table(name = "videos")
+public class VideoJpaEntity {
+
+    @Id
+    @Type(type = IdentifierType.NAME)
+    private String id;
+
+    @Column(name = "title", nullable = false)
+    private String title;
+
+    @Column(name = "description", length = 4000)
+    private String description;
+
+    @Column(name = "year_launched", nullable = false)
+    private int yearLaunched;
+
+    @Column(name = "opened", nullable = false)
+    private boolean opened;
+
+    @Column(name = "published", nullable = false)
+    private boolean published;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "rating")
+    private Rating rating;
+
+    @Column(name = "duration", nullable = false)
+    private double duration;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant updatedAt;
+
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    @JoinColumn(name = "video_id")
+    private AudioVideoMediaJpaEntity video;
+
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    @JoinColumn(name = "trailer_id")
+    private AudioVideoMediaJpaEntity trailer;
+
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    @JoinColumn(name = "banner_id")
+    private ImageMediaJpaEntity banner;
+
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    @JoinColumn(name = "thumbnail_id")
+    private ImageMediaJpaEntity thumbnail;
+
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    @JoinColumn(name = "thumbnail_half_id")
+    private ImageMediaJpaEntity thumbnailHalf;
+
+    // boxed: Hibernate would take a primitive 0 as the unsaved value and insert the merged row again
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    public VideoJpaEntity() {
+    }
+
+    private VideoJpaEntity(
+            final String id,
+            final String title,
+            final String description,
+            final int yearLaunched,
+            final boolean opened,
+            final boolean published,
+            final Rating rating,
+            final double duration,
+            final Instant createdAt,
+            final Instant updatedAt,
+            final AudioVideoMediaJpaEntity video,
+            final AudioVideoMediaJpaEntity trailer,
+            final ImageMediaJpaEntity banner,
+            final ImageMediaJpaEntity thumbnail,
+            final ImageMediaJpaEntity thumbnailHalf,
+            final Long version
+    ) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.yearLaunched = yearLaunched;
+        this.opened = opened;
+        this.published = published;
+        this.rating = rating;
+        this.duration = duration;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.video = video;
+        this.trailer = trailer;
+        this.banner = banner;
+        this.thumbnail = thumbnail;
+        this.thumbnailHalf = thumbnailHalf;
+        this.version = version;
+    }
+
+    public static VideoJpaEntity from(final Video aVideo) {
+        final var anId = aVideo.getId().getValue();
+        return new VideoJpaEntity(
+                anId,
+                aVideo.getTitle(),
+                aVideo.getDescription(),
+                aVideo.getLaunchedAt().getValue(),
+                aVideo.isOpened(),
+                aVideo.isPublished(),
+                aVideo.getRating(),
+                aVideo.getDuration(),
+                aVideo.getCreatedAt(),
+                aVideo.getUpdatedAt(),
+                aVideo.getVideo().map(it -> AudioVideoMediaJpaEntity.from(mediaId(anId, Resource.Type.VIDEO), it)).orElse(null),
+                aVideo.getTrailer().map(it -> AudioVideoMediaJpaEntity.from(mediaId(anId, Resource.Type.TRAILER), it)).orElse(null),
+                aVideo.getBanner().map(it -> ImageMediaJpaEntity.from(mediaId(anId, Resource.Type.BANNER), it)).orElse(null),
+                aVideo.getThumbnail().map(it -> ImageMediaJpaEntity.from(mediaId(anId, Resource.Type.THUMBNAIL), it)).orElse(null),
+                aVideo.getThumbnailHalf().map(it -> ImageMediaJpaEntity.from(mediaId(anId, Resource.Type.THUMBNAIL_HALF), it)).orElse(null),
+                aVideo.getVersion()
+        );
+    }
+
+    public Video toAggregate(final VideoRelations relations) {
+        return Video.with(
+                VideoID.from(getId()),
+                getTitle(),
+                getDescription(),
+                Year.of(getYearLaunched()),
+                getDuration(),
+                getRating(),
+                isOpened(),
+                isPublished(),
+                getCreatedAt(),
+                getUpdatedAt(),
+                Optional.ofNullable(getBanner()).map(ImageMediaJpaEntity::toDomain).orElse(null),
+                Optional.ofNullable(getThumbnail()).map(ImageMediaJpaEntity::toDomain).orElse(null),
+                Optional.ofNullable(getThumbnailHalf()).map(ImageMediaJpaEntity::toDomain).orElse(null),
+                Optional.ofNullable(getTrailer()).map(AudioVideoMediaJpaEntity::toDomain).orElse(null),
+                Optional.ofNullable(getVideo()).map(AudioVideoMediaJpaEntity::toDomain).orElse(null),
+                relations.categories(),
+                relations.genres(),
+                relations.castMembers(),
+                getVersion()
+        );
+    }
+
+    public static List<String> audioVideoMediaIds(final String aVideoId) {
+        return List.of(mediaId(aVideoId, Resource.Type.VIDEO), mediaId(aVideoId, Resource.Type.TRAILER));
+    }
+
+    public static List<String> imageMediaIds(final String aVideoId) {
+        return List.of(
+                mediaId(aVideoId, Resource.Type.BANNER),
+                mediaId(aVideoId, Resource.Type.THUMBNAIL),
+                mediaId(aVideoId, Resource.Type.THUMBNAIL_HALF)
+        );
+    }
+
+    private static String mediaId(final String aVideoId, final Resource.Type aType) {
+        return UUID.nameUUIDFromBytes((aVideoId + ":" + aType.name()).getBytes(StandardCharsets.UTF_8))
+                .toString()
+                .toLowerCase();
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public VideoJpaEntity setId(String id) {
+        this.id = id;
+        return this;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public VideoJpaEntity setTitle(String title) {
+        this.title = title;
+        return this;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public VideoJpaEntity setDescription(String description) {
+        this.description = description;
+        return this;
+    }
+
+    public int getYearLaunched() {
+        return yearLaunched;
+    }
+
+    public VideoJpaEntity setYearLaunched(int yearLaunched) {
+        this.yearLaunched = yearLaunched;
+        return this;
+    }
+
+    public boolean isOpened() {
+        return opened;
+    }
+
+    public VideoJpaEntity setOpened(boolean opened) {
+        this.opened = opened;
+        return this;
+    }
+
+    public boolean isPublished() {
+        return published;
+    }
+
+    public VideoJpaEntity setPublished(boolean published) {
+        this.published = published;
+        return this;
+    }
+
+    public Rating getRating() {
+        return rating;
+    }
+
+    public VideoJpaEntity setRating(Rating rating) {
+        this.rating = rating;
+        return this;
+    }
+
+    public double getDuration() {
+        return duration;
+    }
+
+    public VideoJpaEntity setDuration(double duration) {
+        this.duration = duration;
+        return this;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public VideoJpaEntity setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+        return this;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public VideoJpaEntity setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+        return this;
+    }
+
+    public AudioVideoMediaJpaEntity getVideo() {
+        return video;
+    }
+
+    public VideoJpaEntity setVideo(AudioVideoMediaJpaEntity video) {
+        this.video = video;
+        return this;
+    }
+
+    public AudioVideoMediaJpaEntity getTrailer() {
+        return trailer;
+    }
+
+    public VideoJpaEntity setTrailer(AudioVideoMediaJpaEntity trailer) {
+        this.trailer = trailer;
+        return this;
+    }
+
+    public ImageMediaJpaEntity getBanner() {
+        return banner;
+    }
+
+    public VideoJpaEntity setBanner(ImageMediaJpaEntity banner) {
+        this.banner = banner;
+        return this;
+    }
+
+    public ImageMediaJpaEntity getThumbnail() {
+        return thumbnail;
+    }
+
+    public VideoJpaEntity setThumbnail(ImageMediaJpaEntity thumbnail) {
+        this.thumbnail = thumbnail;
+        return this;
+    }
+
+    public ImageMediaJpaEntity getThumbnailHalf() {
+        return thumbnailHalf;
+    }
+
+    public VideoJpaEntity setThumbnailHalf(ImageMediaJpaEntity thumbnailHalf) {
+        this.thumbnailHalf = thumbnailHalf;
+        return this;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public VideoJpaEntity setVersion(Long version) {
+        this.version = version;
+        return this;
+    }
+}
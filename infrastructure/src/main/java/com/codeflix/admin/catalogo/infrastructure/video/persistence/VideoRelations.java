@@ -0,0 +1,19 @@
+package com.codeflix.admin.catalogo.infrastructure.video.persistence;
+
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberID;
+import com.codeflix.admin.catalogo.domain.category.CategoryID;
+import com.codeflix.admin.catalogo.domain.genre.GenreID;
+
+import java.util.HashSet;
+import java.util.Set;
+
+public record VideoRelations(
+        Set<CategoryID> categories,
+        Set<GenreID> genres,
+        Set<CastMemberID> castMembers
+) {
+
+    public static VideoRelations empty() {
+        return new VideoRelations(new HashSet<>(), new HashSet<>(), new HashSet<>());
+    }
+}
@@ -0,0 +1,141 @@
+package com.codeflix.admin.catalogo.infrastructure.video.persistence;
+
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberID;
+import com.codeflix.admin.catalogo.domain.category.CategoryID;
+import com.codeflix.admin.catalogo.domain.genre.GenreID;
+import com.codeflix.admin.catalogo.domain.video.Video;
+import com.codeflix.admin.catalogo.infrastructure.sql.IdentifierColumns;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+public class VideoRelationsRepository {
+
+    private static final String SELECT_RELATIONS = """
+            SELECT video_id, 'CATEGORY' AS relation, category_id AS related_id FROM videos_categories WHERE video_id IN (:ids)
+            UNION ALL
+            SELECT video_id, 'GENRE' AS relation, genre_id AS related_id FROM videos_genres WHERE video_id IN (:ids)
+            UNION ALL
+            SELECT video_id, 'CAST_MEMBER' AS relation, cast_member_id AS related_id FROM videos_cast_members WHERE video_id IN (:ids)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final IdentifierColumns identifierColumns;
+
+    public VideoRelationsRepository(
+            final NamedParameterJdbcTemplate jdbcTemplate,
+            final IdentifierColumns identifierColumns
+    ) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+        this.identifierColumns = Objects.requireNonNull(identifierColumns);
+    }
+
+    public VideoRelations findByVideoId(final String aVideoId) {
+        return findByVideoIds(Set.of(aVideoId)).getOrDefault(aVideoId, VideoRelations.empty());
+    }
+
+    public Map<String, VideoRelations> findByVideoIds(final Collection<String> videoIds) {
+        final var relations = new HashMap<String, VideoRelations>();
+        if (videoIds.isEmpty()) {
+            return relations;
+        }
+
+        this.jdbcTemplate.query(SELECT_RELATIONS, Map.of("ids", this.identifierColumns.bindAll(videoIds)), rs -> {
+            final var videoRelations = relations.computeIfAbsent(this.identifierColumns.get(rs, "video_id"), id -> VideoRelations.empty());
+            final var relatedId = this.identifierColumns.get(rs, "related_id");
+            switch (Relation.valueOf(rs.getString("relation"))) {
+                case CATEGORY -> videoRelations.categories().add(CategoryID.load(relatedId));
+                case GENRE -> videoRelations.genres().add(GenreID.load(relatedId));
+                case CAST_MEMBER -> videoRelations.castMembers().add(CastMemberID.load(relatedId));
+            }
+        });
+
+        return relations;
+    }
+
+    public void insert(final Video aVideo) {
+        final var anId = aVideo.getId().getValue();
+        insert(Relation.CATEGORY, anId, ids(aVideo.getCategories(), CategoryID::getValue));
+        insert(Relation.GENRE, anId, ids(aVideo.getGenres(), GenreID::getValue));
+        insert(Relation.CAST_MEMBER, anId, ids(aVideo.getCastMembers(), CastMemberID::getValue));
+    }
+
+    public void update(final Video aVideo) {
+        final var anId = aVideo.getId().getValue();
+        final var current = findByVideoId(anId);
+        sync(Relation.CATEGORY, anId, ids(current.categories(), CategoryID::getValue), ids(aVideo.getCategories(), CategoryID::getValue));
+        sync(Relation.GENRE, anId, ids(current.genres(), GenreID::getValue), ids(aVideo.getGenres(), GenreID::getValue));
+        sync(Relation.CAST_MEMBER, anId, ids(current.castMembers(), CastMemberID::getValue), ids(aVideo.getCastMembers(), CastMemberID::getValue));
+    }
+
+    private void sync(final Relation aRelation, final String aVideoId, final Set<String> current, final Set<String> desired) {
+        final var toInsert = new HashSet<>(desired);
+        toInsert.removeAll(current);
+
+        final var toDelete = new HashSet<>(current);
+        toDelete.removeAll(desired);
+
+        delete(aRelation, aVideoId, toDelete);
+        insert(aRelation, aVideoId, toInsert);
+    }
+
+    private void insert(final Relation aRelation, final String aVideoId, final Set<String> relatedIds) {
+        if (relatedIds.isEmpty()) {
+            return;
+        }
+
+        final var sql = "INSERT INTO %s (video_id, %s) VALUES (:videoId, :relatedId)"
+                .formatted(aRelation.table, aRelation.column);
+
+        final var batch = relatedIds.stream()
+                .map(relatedId -> new MapSqlParameterSource()
+                        .addValue("videoId", this.identifierColumns.bind(aVideoId))
+                        .addValue("relatedId", this.identifierColumns.bind(relatedId)))
+                .toArray(SqlParameterSource[]::new);
+
+        this.jdbcTemplate.batchUpdate(sql, batch);
+    }
+
+    private void delete(final Relation aRelation, final String aVideoId, final Set<String> relatedIds) {
+        if (relatedIds.isEmpty()) {
+            return;
+        }
+
+        final var sql = "DELETE FROM %s WHERE video_id = :videoId AND %s IN (:relatedIds)"
+                .formatted(aRelation.table, aRelation.column);
+
+        this.jdbcTemplate.update(sql, Map.of(
+                "videoId", this.identifierColumns.bind(aVideoId),
+                "relatedIds", this.identifierColumns.bindAll(relatedIds)
+        ));
+    }
+
+    private static <T> Set<String> ids(final Set<T> values, final Function<T, String> mapper) {
+        return values.stream().map(mapper).collect(Collectors.toSet());
+    }
+
+    private enum Relation {
+        CATEGORY("videos_categories", "category_id"),
+        GENRE("videos_genres", "genre_id"),
+        CAST_MEMBER("videos_cast_members", "cast_member_id");
+
+        private final String table;
+        private final String column;
+
+        Relation(final String table, final String column) {
+            this.table = table;
+            this.column = column;
+        }
+    }
+}
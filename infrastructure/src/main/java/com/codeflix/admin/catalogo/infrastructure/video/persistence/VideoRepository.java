@@ -0,0 +1,52 @@
+package com.codeflix.admin.catalogo.infrastructure.video.persistence;
+
+import com.codeflix.admin.catalogo.domain.video.MediaStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface VideoRepository extends JpaRepository<VideoJpaEntity, String> {
+
+    @Override
+    @EntityGraph(attributePaths = {"video", "trailer", "banner", "thumbnail", "thumbnailHalf"})
+    Optional<VideoJpaEntity> findById(String id);
+
+    @EntityGraph(attributePaths = {"video", "trailer", "banner", "thumbnail", "thumbnailHalf"})
+    Page<VideoJpaEntity> findAll(Specification<VideoJpaEntity> whereClause, Pageable page);
+
+    @Query(value = """
+            SELECT v.id FROM Video v
+            LEFT JOIN v.video vm
+            LEFT JOIN v.trailer tm
+            LEFT JOIN v.banner b
+            LEFT JOIN v.thumbnail t
+            LEFT JOIN v.thumbnailHalf th
+            WHERE vm.status IN :statuses
+               OR tm.status IN :statuses
+               OR b.checksum = ''
+               OR t.checksum = ''
+               OR th.checksum = ''
+            """)
+    List<String> findIdsWithPendingMedia(@Param("statuses") Collection<MediaStatus> statuses);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM Video v WHERE v.id = :id")
+    int removeById(@Param("id") String id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM AudioVideoMedia m WHERE m.id IN :ids")
+    int removeAudioVideoMediaByIds(@Param("ids") Collection<String> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM ImageMedia m WHERE m.id IN :ids")
+    int removeImageMediaByIds(@Param("ids") Collection<String> ids);
+}
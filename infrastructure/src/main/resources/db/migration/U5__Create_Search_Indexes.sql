@@ -0,0 +1,3 @@
+DROP INDEX idx_cast_members_name ON cast_members;
+DROP INDEX idx_genres_name ON genres;
+DROP INDEX idx_category_name ON category;
@@ -0,0 +1,7 @@
+ALTER TABLE videos_cast_members ADD INDEX fk_vcms_cast_member_id (cast_member_id), DROP INDEX idx_vcms_cast_member_video;
+ALTER TABLE videos_genres ADD INDEX fk_vgs_genre_id (genre_id), DROP INDEX idx_vgs_genre_video;
+ALTER TABLE videos_categories ADD INDEX fk_vcs_category_id (category_id), DROP INDEX idx_vcs_category_video;
+ALTER TABLE genres_categories ADD INDEX fk_category_id (category_id), DROP INDEX idx_genres_categories_category;
+DROP INDEX idx_cast_members_created_at ON cast_members;
+DROP INDEX idx_genres_created_at ON genres;
+DROP INDEX idx_category_created_at ON category;
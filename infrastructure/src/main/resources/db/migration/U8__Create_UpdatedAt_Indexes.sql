@@ -0,0 +1,3 @@
+DROP INDEX idx_cast_members_updated_at ON cast_members;
+DROP INDEX idx_genres_updated_at ON genres;
+DROP INDEX idx_category_updated_at ON category;
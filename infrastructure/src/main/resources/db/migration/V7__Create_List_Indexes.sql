@@ -0,0 +1,7 @@
+CREATE INDEX idx_category_created_at ON category (created_at);
+CREATE INDEX idx_genres_created_at ON genres (created_at);
+CREATE INDEX idx_cast_members_created_at ON cast_members (created_at);
+CREATE INDEX idx_genres_categories_category ON genres_categories (category_id, genre_id);
+CREATE INDEX idx_vcs_category_video ON videos_categories (category_id, video_id);
+CREATE INDEX idx_vgs_genre_video ON videos_genres (genre_id, video_id);
+CREATE INDEX idx_vcms_cast_member_video ON videos_cast_members (cast_member_id, video_id);
@@ -0,0 +1,3 @@
+CREATE INDEX idx_category_updated_at ON category (updated_at);
+CREATE INDEX idx_genres_updated_at ON genres (updated_at);
+CREATE INDEX idx_cast_members_updated_at ON cast_members (updated_at);
@@ -0,0 +1,143 @@
+ALTER TABLE genres_categories
+    DROP FOREIGN KEY fk_genre_id,
+    DROP FOREIGN KEY fk_category_id;
+
+ALTER TABLE videos
+    DROP FOREIGN KEY fk_v_video_id,
+    DROP FOREIGN KEY fk_v_trailer_id,
+    DROP FOREIGN KEY fk_v_banner_id,
+    DROP FOREIGN KEY fk_v_thumbnail_id,
+    DROP FOREIGN KEY fk_v_thumbnail_half_id;
+
+ALTER TABLE videos_categories
+    DROP FOREIGN KEY fk_vcs_video_id,
+    DROP FOREIGN KEY fk_vcs_category_id;
+
+ALTER TABLE videos_genres
+    DROP FOREIGN KEY fk_vgs_video_id,
+    DROP FOREIGN KEY fk_vgs_genre_id;
+
+ALTER TABLE videos_cast_members
+    DROP FOREIGN KEY fk_vcms_video_id,
+    DROP FOREIGN KEY fk_vcms_cast_member_id;
+
+ALTER TABLE category
+    MODIFY id VARBINARY(36) NOT NULL;
+
+UPDATE category SET id = BIN_TO_UUID(id);
+
+ALTER TABLE category
+    MODIFY id VARCHAR(36) NOT NULL;
+
+ALTER TABLE genres
+    MODIFY id VARBINARY(36) NOT NULL;
+
+UPDATE genres SET id = BIN_TO_UUID(id);
+
+ALTER TABLE genres
+    MODIFY id VARCHAR(36) NOT NULL;
+
+ALTER TABLE genres_categories
+    MODIFY genre_id VARBINARY(36) NOT NULL,
+    MODIFY category_id VARBINARY(36) NOT NULL;
+
+UPDATE genres_categories SET genre_id = BIN_TO_UUID(genre_id), category_id = BIN_TO_UUID(category_id);
+
+ALTER TABLE genres_categories
+    MODIFY genre_id VARCHAR(36) NOT NULL,
+    MODIFY category_id VARCHAR(36) NOT NULL;
+
+ALTER TABLE cast_members
+    MODIFY id VARBINARY(36) NOT NULL;
+
+UPDATE cast_members SET id = BIN_TO_UUID(id);
+
+ALTER TABLE cast_members
+    MODIFY id VARCHAR(36) NOT NULL;
+
+ALTER TABLE videos_video_media
+    MODIFY id VARBINARY(36) NOT NULL;
+
+UPDATE videos_video_media SET id = BIN_TO_UUID(id);
+
+ALTER TABLE videos_video_media
+    MODIFY id VARCHAR(36) NOT NULL;
+
+ALTER TABLE videos_image_media
+    MODIFY id VARBINARY(36) NOT NULL;
+
+UPDATE videos_image_media SET id = BIN_TO_UUID(id);
+
+ALTER TABLE videos_image_media
+    MODIFY id VARCHAR(36) NOT NULL;
+
+ALTER TABLE videos
+    MODIFY id VARBINARY(36) NOT NULL,
+    MODIFY video_id VARBINARY(36) NULL,
+    MODIFY trailer_id VARBINARY(36) NULL,
+    MODIFY banner_id VARBINARY(36) NULL,
+    MODIFY thumbnail_id VARBINARY(36) NULL,
+    MODIFY thumbnail_half_id VARBINARY(36) NULL;
+
+UPDATE videos SET id = BIN_TO_UUID(id), video_id = BIN_TO_UUID(video_id), trailer_id = BIN_TO_UUID(trailer_id), banner_id = BIN_TO_UUID(banner_id), thumbnail_id = BIN_TO_UUID(thumbnail_id), thumbnail_half_id = BIN_TO_UUID(thumbnail_half_id);
+
+ALTER TABLE videos
+    MODIFY id VARCHAR(36) NOT NULL,
+    MODIFY video_id VARCHAR(36) NULL,
+    MODIFY trailer_id VARCHAR(36) NULL,
+    MODIFY banner_id VARCHAR(36) NULL,
+    MODIFY thumbnail_id VARCHAR(36) NULL,
+    MODIFY thumbnail_half_id VARCHAR(36) NULL;
+
+ALTER TABLE videos_categories
+    MODIFY video_id VARBINARY(36) NOT NULL,
+    MODIFY category_id VARBINARY(36) NOT NULL;
+
+UPDATE videos_categories SET video_id = BIN_TO_UUID(video_id), category_id = BIN_TO_UUID(category_id);
+
+ALTER TABLE videos_categories
+    MODIFY video_id VARCHAR(36) NOT NULL,
+    MODIFY category_id VARCHAR(36) NOT NULL;
+
+ALTER TABLE videos_genres
+    MODIFY video_id VARBINARY(36) NOT NULL,
+    MODIFY genre_id VARBINARY(36) NOT NULL;
+
+UPDATE videos_genres SET video_id = BIN_TO_UUID(video_id), genre_id = BIN_TO_UUID(genre_id);
+
+ALTER TABLE videos_genres
+    MODIFY video_id VARCHAR(36) NOT NULL,
+    MODIFY genre_id VARCHAR(36) NOT NULL;
+
+ALTER TABLE videos_cast_members
+    MODIFY video_id VARBINARY(36) NOT NULL,
+    MODIFY cast_member_id VARBINARY(36) NOT NULL;
+
+UPDATE videos_cast_members SET video_id = BIN_TO_UUID(video_id), cast_member_id = BIN_TO_UUID(cast_member_id);
+
+ALTER TABLE videos_cast_members
+    MODIFY video_id VARCHAR(36) NOT NULL,
+    MODIFY cast_member_id VARCHAR(36) NOT NULL;
+
+ALTER TABLE genres_categories
+    ADD CONSTRAINT fk_genre_id FOREIGN KEY (genre_id) REFERENCES genres (id) ON DELETE CASCADE,
+    ADD CONSTRAINT fk_category_id FOREIGN KEY (category_id) REFERENCES category (id) ON DELETE CASCADE;
+
+ALTER TABLE videos
+    ADD CONSTRAINT fk_v_video_id FOREIGN KEY (video_id) REFERENCES videos_video_media (id),
+    ADD CONSTRAINT fk_v_trailer_id FOREIGN KEY (trailer_id) REFERENCES videos_video_media (id),
+    ADD CONSTRAINT fk_v_banner_id FOREIGN KEY (banner_id) REFERENCES videos_image_media (id),
+    ADD CONSTRAINT fk_v_thumbnail_id FOREIGN KEY (thumbnail_id) REFERENCES videos_image_media (id),
+    ADD CONSTRAINT fk_v_thumbnail_half_id FOREIGN KEY (thumbnail_half_id) REFERENCES videos_image_media (id);
+
+ALTER TABLE videos_categories
+    ADD CONSTRAINT fk_vcs_video_id FOREIGN KEY (video_id) REFERENCES videos (id) ON DELETE CASCADE,
+    ADD CONSTRAINT fk_vcs_category_id FOREIGN KEY (category_id) REFERENCES category (id) ON DELETE CASCADE;
+
+ALTER TABLE videos_genres
+    ADD CONSTRAINT fk_vgs_video_id FOREIGN KEY (video_id) REFERENCES videos (id) ON DELETE CASCADE,
+    ADD CONSTRAINT fk_vgs_genre_id FOREIGN KEY (genre_id) REFERENCES genres (id) ON DELETE CASCADE;
+
+ALTER TABLE videos_cast_members
+    ADD CONSTRAINT fk_vcms_video_id FOREIGN KEY (video_id) REFERENCES videos (id) ON DELETE CASCADE,
+    ADD CONSTRAINT fk_vcms_cast_member_id FOREIGN KEY (cast_member_id) REFERENCES cast_members (id) ON DELETE CASCADE;
\ No newline at end of file
@@ -3,11 +3,13 @@ package com.codeflix.admin.catalogo.e2e.category;
 import com.codeflix.admin.catalogo.E2ETest;
 import com.codeflix.admin.catalogo.e2e.MockDsl;
 import com.codeflix.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.codeflix.admin.catalogo.infrastructure.sql.QueryStatsFilter;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
@@ -72,6 +74,44 @@ public class CategoryE2ETest implements MockDsl {
         Assertions.assertNull(actualCategory.getDeletedAt());
     }
 
+    @Test
+    public void givenAListRequest_whenItHitsTheDatabase_shouldReportItsSqlUsageInHeaders() throws Exception {
+        Assertions.assertTrue(MY_SQL_CONTAINER.isRunning());
+
+        givenACategory("Movies", null, true);
+
+        listCategories(0, 10)
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().exists(QueryStatsFilter.STATEMENTS_HEADER))
+                .andExpect(MockMvcResultMatchers.header().exists(QueryStatsFilter.ROWS_HEADER))
+                .andExpect(MockMvcResultMatchers.header().exists(QueryStatsFilter.TIME_HEADER));
+    }
+
+    @Test
+    public void givenAnUnchangedCategory_whenRetrievedWithItsETag_shouldReturnNotModified() throws Exception {
+        Assertions.assertTrue(MY_SQL_CONTAINER.isRunning());
+
+        final var actualId = givenACategory("Movies", null, true);
+
+        final var etag = this.mvc.perform(MockMvcRequestBuilders.get("/categories/" + actualId.getValue()))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        this.mvc.perform(MockMvcRequestBuilders.get("/categories/" + actualId.getValue()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.content().string(""));
+
+        updateCategory(actualId, "Movies", "Now with a description", true)
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        this.mvc.perform(MockMvcRequestBuilders.get("/categories/" + actualId.getValue()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, Matchers.not(etag)));
+    }
+
     @Test
     public void shouldBeAbleToNavigateThroughAllCategories () throws Exception {
         Assertions.assertTrue(MY_SQL_CONTAINER.isRunning());
@@ -0,0 +1,149 @@
+package com.codeflix.admin.catalogo.e2e.reactive;
+
+import com.codeflix.admin.catalogo.MySQLCleanUpExtension;
+import com.codeflix.admin.catalogo.domain.castmember.CastMember;
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberType;
+import com.codeflix.admin.catalogo.domain.category.Category;
+import com.codeflix.admin.catalogo.domain.category.CategoryGateway;
+import com.codeflix.admin.catalogo.domain.genre.Genre;
+import com.codeflix.admin.catalogo.domain.genre.GenreGateway;
+import com.codeflix.admin.catalogo.infrastructure.config.WebServerConfig;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.skyscreamer.jsonassert.JSONAssert;
+import org.skyscreamer.jsonassert.JSONCompareMode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Runs the servlet API and the reactive read server side by side on one MySQL schema and checks that every
+ * read route answers with the same JSON, so the R2DBC gateways and their row mapping cannot drift from JPA.
+ */
+@ActiveProfiles({"test-e2e", "reactive"})
+@SpringBootTest(classes = WebServerConfig.class)
+@AutoConfigureMockMvc
+@ExtendWith(MySQLCleanUpExtension.class)
+@Testcontainers
+public class ReactiveReadE2ETest {
+
+    private static final int REACTIVE_PORT = freePort();
+
+    @Container
+    private static final MySQLContainer MY_SQL_CONTAINER = new MySQLContainer("mysql:8.2.0")
+            .withUsername("root")
+            .withPassword("123456")
+            .withDatabaseName("adm_videos");
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private GenreGateway genreGateway;
+
+    @Autowired
+    private CastMemberGateway castMemberGateway;
+
+    @DynamicPropertySource
+    public static void setDatasourceProperties(final DynamicPropertyRegistry registry) {
+        registry.add("mysql.port", () -> MY_SQL_CONTAINER.getMappedPort(3306));
+        registry.add("reactive.server.port", () -> REACTIVE_PORT);
+    }
+
+    @Test
+    public void givenACatalog_whenReadsItFromBothServers_shouldAnswerWithTheSameJson() throws Exception {
+        // given
+        final var movies = categoryGateway.create(Category.createCategory("Movies", "Universe's best movies", true));
+        final var series = categoryGateway.create(Category.createCategory("Series", null, false));
+        final var action = genreGateway.create(
+                Genre.createGenre("Action", true).addCategories(List.of(movies.getId(), series.getId()))
+        );
+        genreGateway.create(Genre.createGenre("Drama", false));
+        final var actor = castMemberGateway.create(CastMember.create("Vin Diesel", CastMemberType.ACTOR));
+        castMemberGateway.create(CastMember.create("Martin Scorsese", CastMemberType.DIRECTOR));
+
+        final var paths = List.of(
+                "/categories?page=0&perPage=10&sort=name&dir=asc",
+                "/categories?page=0&perPage=1&search=mov&sort=createdAt&dir=desc",
+                "/categories/" + movies.getId().getValue(),
+                "/categories/" + series.getId().getValue(),
+                "/genres?page=0&perPage=10&sort=name&dir=asc",
+                "/genres/" + action.getId().getValue(),
+                "/cast_members?page=0&perPage=10&sort=name&dir=desc",
+                "/cast_members/" + actor.getId().getValue()
+        );
+
+        for (final var path : paths) {
+            // when
+            final var servlet = mvc.perform(MockMvcRequestBuilders.get(path))
+                    .andReturn()
+                    .getResponse();
+            final var reactive = httpClient.send(
+                    HttpRequest.newBuilder(URI.create("http://localhost:%d/api%s".formatted(REACTIVE_PORT, path))).GET().build(),
+                    HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8)
+            );
+
+            // then
+            Assertions.assertEquals(200, servlet.getStatus(), path);
+            Assertions.assertEquals(200, reactive.statusCode(), path);
+            JSONAssert.assertEquals(
+                    path,
+                    servlet.getContentAsString(StandardCharsets.UTF_8),
+                    reactive.body(),
+                    JSONCompareMode.STRICT
+            );
+        }
+    }
+
+    @Test
+    public void givenAnUnknownId_whenReadsItFromBothServers_shouldAnswerNotFound() throws Exception {
+        // given
+        final var path = "/genres/123";
+
+        // when
+        final var servlet = mvc.perform(MockMvcRequestBuilders.get(path))
+                .andReturn()
+                .getResponse();
+        final var reactive = httpClient.send(
+                HttpRequest.newBuilder(URI.create("http://localhost:%d/api%s".formatted(REACTIVE_PORT, path))).GET().build(),
+                HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8)
+        );
+
+        // then
+        Assertions.assertEquals(404, servlet.getStatus());
+        Assertions.assertEquals(404, reactive.statusCode());
+    }
+
+    private static int freePort() {
+        try (final var socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.codeflix.admin.catalogo.e2e.search;
+
+import com.codeflix.admin.catalogo.E2ETest;
+import com.codeflix.admin.catalogo.domain.category.Category;
+import com.codeflix.admin.catalogo.domain.pagination.SearchQuery;
+import com.codeflix.admin.catalogo.infrastructure.category.CategoryMySQLGateway;
+import com.codeflix.admin.catalogo.infrastructure.category.persistence.CategoryJPAEntity;
+import com.codeflix.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.codeflix.admin.catalogo.infrastructure.search.SearchSpecifications;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+@E2ETest
+@Testcontainers
+@TestPropertySource(properties = "search.mode=fulltext")
+public class FullTextSearchE2ETest {
+
+    @Container
+    private static final MySQLContainer MY_SQL_CONTAINER = new MySQLContainer("mysql:8.2.0")
+            .withUsername("root")
+            .withPassword("123456")
+            .withDatabaseName("adm_videos");
+
+    @Autowired
+    private CategoryMySQLGateway categoryGateway;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    public static void setDatasourceProperties(final DynamicPropertyRegistry registry) {
+        registry.add("mysql.port", () -> MY_SQL_CONTAINER.getMappedPort(3306));
+    }
+
+    @BeforeEach
+    void setUp() {
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJPAEntity.create(Category.createCategory("Movies", "Universe's best movies", true)),
+                CategoryJPAEntity.create(Category.createCategory("Documentaries", "Real stories told in movies", true)),
+                CategoryJPAEntity.create(Category.createCategory("Dramas", null, true))
+        ));
+    }
+
+    @Test
+    public void givenTheMySQLVendorMigrations_whenInspectsCategory_shouldHaveAFullTextIndex() {
+        final var indexes = jdbcTemplate.queryForList("""
+                SELECT INDEX_NAME FROM information_schema.STATISTICS
+                WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'category' AND INDEX_TYPE = 'FULLTEXT'
+                """, String.class);
+
+        Assertions.assertTrue(indexes.contains("ftx_category_name_description"));
+    }
+
+    @Test
+    public void givenAWord_whenCallsFindAllInFullTextMode_shouldMatchNameOrDescription() {
+        final var query = new SearchQuery(0, 10, "movies", "name", "asc");
+
+        final var actualResult = categoryGateway.findAll(query);
+
+        Assertions.assertEquals(2, actualResult.total());
+        Assertions.assertEquals(
+                List.of("Documentaries", "Movies"),
+                actualResult.items().stream().map(Category::getName).toList()
+        );
+    }
+
+    @Test
+    public void givenAPrefix_whenCallsFindAllInFullTextMode_shouldMatchWordsStartingWithIt() {
+        final var query = new SearchQuery(0, 10, "docu", "name", "asc");
+
+        final var actualResult = categoryGateway.findAll(query);
+
+        Assertions.assertEquals(1, actualResult.total());
+        Assertions.assertEquals("Documentaries", actualResult.items().get(0).getName());
+    }
+
+    @Test
+    public void givenRelevanceSort_whenCallsFindAllInFullTextMode_shouldOrderByMatchScore() {
+        final var query = new SearchQuery(0, 10, "movies", SearchSpecifications.RELEVANCE, "desc");
+
+        final var actualResult = categoryGateway.findAll(query);
+
+        Assertions.assertEquals(
+                List.of("Movies", "Documentaries"),
+                actualResult.items().stream().map(Category::getName).toList()
+        );
+    }
+
+    @Test
+    public void givenAShortTerm_whenCallsFindAllInFullTextMode_shouldFallbackToPrefixMatch() {
+        final var query = new SearchQuery(0, 10, "Do", "name", "asc");
+
+        final var actualResult = categoryGateway.findAll(query);
+
+        Assertions.assertEquals(1, actualResult.total());
+        Assertions.assertEquals("Documentaries", actualResult.items().get(0).getName());
+    }
+
+    @Test
+    public void givenAnInfixShortTerm_whenCallsFindAllInFullTextMode_shouldNotMatch() {
+        final var query = new SearchQuery(0, 10, "ov", "name", "asc");
+
+        final var actualResult = categoryGateway.findAll(query);
+
+        Assertions.assertEquals(0, actualResult.total());
+    }
+}
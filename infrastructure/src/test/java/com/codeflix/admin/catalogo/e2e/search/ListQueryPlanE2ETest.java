@@ -0,0 +1,171 @@
+package com.codeflix.admin.catalogo.e2e.search;
+
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.codeflix.admin.catalogo.domain.category.CategoryGateway;
+import com.codeflix.admin.catalogo.domain.genre.GenreGateway;
+import com.codeflix.admin.catalogo.domain.pagination.CountMode;
+import com.codeflix.admin.catalogo.domain.pagination.CursorPagination;
+import com.codeflix.admin.catalogo.domain.pagination.CursorQuery;
+import com.codeflix.admin.catalogo.domain.pagination.SearchQuery;
+import com.codeflix.admin.catalogo.infrastructure.config.WebServerConfig;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+@ActiveProfiles("test-e2e")
+@SpringBootTest(classes = WebServerConfig.class)
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class ListQueryPlanE2ETest {
+
+    private static final String DIGITS = "(SELECT 0 AS d UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 "
+            + "UNION ALL SELECT 4 UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9)";
+
+    private static final String ONE_MILLION_ROWS = """
+            (SELECT a.d + b.d * 10 + c.d * 100 + d.d * 1000 + e.d * 10000 + f.d * 100000 AS n
+             FROM %1$s a CROSS JOIN %1$s b CROSS JOIN %1$s c CROSS JOIN %1$s d CROSS JOIN %1$s e CROSS JOIN %1$s f) numbers
+            """.formatted(DIGITS);
+
+    private static final List<String> SORTS = List.of("name", "createdAt");
+    private static final List<String> DIRECTIONS = List.of("asc", "desc");
+
+    @Container
+    private static final MySQLContainer MY_SQL_CONTAINER = new MySQLContainer("mysql:8.2.0")
+            .withUsername("root")
+            .withPassword("123456")
+            .withDatabaseName("adm_videos");
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private GenreGateway genreGateway;
+
+    @Autowired
+    private CastMemberGateway castMemberGateway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @DynamicPropertySource
+    public static void setDatasourceProperties(final DynamicPropertyRegistry registry) {
+        registry.add("mysql.port", () -> MY_SQL_CONTAINER.getMappedPort(3306));
+    }
+
+    @BeforeAll
+    void seed() {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("""
+                    INSERT INTO category (id, name, description, active, created_at, updated_at, deleted_at)
+                    SELECT LPAD(n, 36, '0'), CONCAT('Category ', n), NULL, n %% 2 = 0,
+                           TIMESTAMP('2020-01-01') + INTERVAL n SECOND, TIMESTAMP('2020-01-01') + INTERVAL n SECOND, NULL
+                    FROM %s
+                    """.formatted(ONE_MILLION_ROWS));
+            jdbcTemplate.execute("""
+                    INSERT INTO genres (id, name, active, created_at, updated_at, deleted_at)
+                    SELECT LPAD(n, 36, '0'), CONCAT('Genre ', n), n %% 2 = 0,
+                           TIMESTAMP('2020-01-01') + INTERVAL n SECOND, TIMESTAMP('2020-01-01') + INTERVAL n SECOND, NULL
+                    FROM %s
+                    """.formatted(ONE_MILLION_ROWS));
+            jdbcTemplate.execute("""
+                    INSERT INTO genres_categories (genre_id, category_id)
+                    SELECT LPAD(n, 36, '0'), LPAD((n * 7) %% 1000000, 36, '0')
+                    FROM %s
+                    """.formatted(ONE_MILLION_ROWS));
+            jdbcTemplate.execute("""
+                    INSERT INTO cast_members (id, name, type, created_at, updated_at)
+                    SELECT LPAD(n, 36, '0'), CONCAT('Member ', n), IF(n %% 2 = 0, 'ACTOR', 'DIRECTOR'),
+                           TIMESTAMP('2020-01-01') + INTERVAL n SECOND, TIMESTAMP('2020-01-01') + INTERVAL n SECOND
+                    FROM %s
+                    """.formatted(ONE_MILLION_ROWS));
+        });
+
+        jdbcTemplate.execute("ANALYZE TABLE category, genres, genres_categories, cast_members");
+        jdbcTemplate.execute(
+                "UPDATE performance_schema.setup_consumers SET ENABLED = 'YES' WHERE NAME = 'events_statements_history_long'"
+        );
+    }
+
+    @Test
+    public void givenASeededCatalog_whenListsCategories_shouldNotScanOrFilesort() {
+        assertListQueriesUseIndexes(categoryGateway::findAll, categoryGateway::findAllByCursor);
+    }
+
+    @Test
+    public void givenASeededCatalog_whenListsGenres_shouldNotScanOrFilesort() {
+        assertListQueriesUseIndexes(genreGateway::findAll, genreGateway::findAllByCursor);
+    }
+
+    @Test
+    public void givenASeededCatalog_whenListsCastMembers_shouldNotScanOrFilesort() {
+        assertListQueriesUseIndexes(castMemberGateway::findAll, castMemberGateway::findAllByCursor);
+    }
+
+    @Test
+    public void givenASeededCatalog_whenLooksUpGenresByCategory_shouldUseAnIndex() {
+        assertIndexed("SELECT genre_id FROM genres_categories WHERE category_id = '%s'".formatted("0".repeat(36)));
+    }
+
+    private void assertListQueriesUseIndexes(
+            final Function<SearchQuery, ?> findAll,
+            final Function<CursorQuery, ? extends CursorPagination<?>> findAllByCursor
+    ) {
+        final var statements = new ArrayList<String>();
+
+        for (final var sort : SORTS) {
+            for (final var direction : DIRECTIONS) {
+                statements.addAll(capture(() -> findAll.apply(new SearchQuery(0, 10, "", sort, direction, CountMode.NONE))));
+                statements.addAll(capture(() -> findAll.apply(new SearchQuery(0, 10, "", sort, direction, CountMode.EXACT))));
+
+                final var firstPage = findAllByCursor.apply(new CursorQuery(null, 10, "", sort, direction, false));
+                statements.addAll(capture(() -> findAllByCursor.apply(
+                        new CursorQuery(firstPage.nextCursor(), 10, "", sort, direction, false)
+                )));
+            }
+        }
+
+        Assertions.assertFalse(statements.isEmpty());
+        statements.forEach(this::assertIndexed);
+    }
+
+    private List<String> capture(final Runnable aCall) {
+        return transactionTemplate.execute(status -> {
+            jdbcTemplate.execute("TRUNCATE TABLE performance_schema.events_statements_history_long");
+            aCall.run();
+            return jdbcTemplate.queryForList("""
+                    SELECT SQL_TEXT FROM performance_schema.events_statements_history_long
+                    WHERE THREAD_ID = PS_CURRENT_THREAD_ID() AND SQL_TEXT LIKE 'select%'
+                    ORDER BY EVENT_ID
+                    """, String.class);
+        });
+    }
+
+    private void assertIndexed(final String sql) {
+        for (final var row : jdbcTemplate.queryForList("EXPLAIN " + sql)) {
+            final var table = row.get("table");
+            Assertions.assertNotEquals("ALL", row.get("type"), () -> "Full scan on " + table + ": " + sql);
+            Assertions.assertFalse(
+                    String.valueOf(row.get("Extra")).contains("Using filesort"),
+                    () -> "Filesort on " + table + ": " + sql
+            );
+        }
+    }
+}
@@ -2,12 +2,16 @@ package com.codeflix.admin.catalogo.infrastructure.api;
 
 import com.codeflix.admin.catalogo.ControllerTest;
 import com.codeflix.admin.catalogo.Fixture;
+import com.codeflix.admin.catalogo.application.castmember.bulk.DefaultBulkCastMemberUseCase;
 import com.codeflix.admin.catalogo.application.castmember.create.CreateCastMemberOutput;
 import com.codeflix.admin.catalogo.application.castmember.create.DefaultCreateCastMemberUseCase;
 import com.codeflix.admin.catalogo.application.castmember.delete.DefaultDeleteCastMemberUseCase;
+import com.codeflix.admin.catalogo.application.castmember.delete.DefaultDeleteCastMembersUseCase;
+import com.codeflix.admin.catalogo.application.castmember.retrieve.export.DefaultExportCastMembersUseCase;
 import com.codeflix.admin.catalogo.application.castmember.retrieve.get.CastMemberOutput;
 import com.codeflix.admin.catalogo.application.castmember.retrieve.get.DefaultGetCastMemberByIdUseCase;
 import com.codeflix.admin.catalogo.application.castmember.retrieve.list.CastMemberListOutput;
+import com.codeflix.admin.catalogo.application.castmember.retrieve.list.DefaultListCastMembersByCursorUseCase;
 import com.codeflix.admin.catalogo.application.castmember.retrieve.list.DefaultListCastMembersUseCase;
 import com.codeflix.admin.catalogo.application.castmember.update.DefaultUpdateCastMemberUseCase;
 import com.codeflix.admin.catalogo.application.castmember.update.UpdateCastMemberOutput;
@@ -58,9 +62,21 @@ public class CastMemberAPITest {
     @MockBean
     private DefaultListCastMembersUseCase listCastMembersUseCase;
 
+    @MockBean
+    private DefaultListCastMembersByCursorUseCase listCastMembersByCursorUseCase;
+
+    @MockBean
+    private DefaultBulkCastMemberUseCase bulkCastMemberUseCase;
+
+    @MockBean
+    private DefaultDeleteCastMembersUseCase deleteCastMembersUseCase;
+
     @MockBean
     private DefaultUpdateCastMemberUseCase updateCastMemberUseCase;
 
+    @MockBean
+    private DefaultExportCastMembersUseCase exportCastMembersUseCase;
+
     @Test
     public void givenAValidCommand_whenCallsCreateCastMember_shouldReturnItsIdentifier() throws Exception {
         // given
@@ -1,11 +1,20 @@
 package com.codeflix.admin.catalogo.infrastructure.api;
 
 import com.codeflix.admin.catalogo.ControllerTest;
+import com.codeflix.admin.catalogo.application.bulk.BulkItemOutput;
+import com.codeflix.admin.catalogo.application.bulk.BulkItemStatus;
+import com.codeflix.admin.catalogo.application.bulk.BulkOperation;
+import com.codeflix.admin.catalogo.application.bulk.BulkOutput;
+import com.codeflix.admin.catalogo.application.category.bulk.BulkCategoryUseCase;
 import com.codeflix.admin.catalogo.application.category.create.CreateCategoryOutput;
 import com.codeflix.admin.catalogo.application.category.create.CreateCategoryUseCase;
+import com.codeflix.admin.catalogo.application.category.delete.DeleteCategoriesOutput;
+import com.codeflix.admin.catalogo.application.category.delete.DeleteCategoriesUseCase;
 import com.codeflix.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
+import com.codeflix.admin.catalogo.application.category.retrieve.export.ExportCategoriesUseCase;
 import com.codeflix.admin.catalogo.application.category.retrieve.get.GetCategoryByIdOutput;
 import com.codeflix.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.codeflix.admin.catalogo.application.category.retrieve.list.ListCategoriesByCursorUseCase;
 import com.codeflix.admin.catalogo.application.category.retrieve.list.ListCategoriesOutput;
 import com.codeflix.admin.catalogo.application.category.retrieve.list.ListCategoriesUseCase;
 import com.codeflix.admin.catalogo.application.category.update.UpdateCategoryOutput;
@@ -14,14 +23,17 @@ import com.codeflix.admin.catalogo.domain.category.Category;
 import com.codeflix.admin.catalogo.domain.category.CategoryID;
 import com.codeflix.admin.catalogo.domain.exceptions.DomainException;
 import com.codeflix.admin.catalogo.domain.exceptions.NotFoundException;
+import com.codeflix.admin.catalogo.domain.pagination.CursorPagination;
 import com.codeflix.admin.catalogo.domain.pagination.Pagination;
 import com.codeflix.admin.catalogo.domain.validation.Error;
 import com.codeflix.admin.catalogo.domain.validation.handlers.Notification;
+import com.codeflix.admin.catalogo.infrastructure.category.models.BulkCategoryRequest;
 import com.codeflix.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
 import com.codeflix.admin.catalogo.infrastructure.category.models.UpdateCategoryRequest;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.vavr.API;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -34,6 +46,7 @@ import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 @ControllerTest(controllers = CategoryAPI.class)
 public class CategoryAPITest {
@@ -59,6 +72,18 @@ public class CategoryAPITest {
     @MockBean
     private ListCategoriesUseCase listCategoriesUseCase;
 
+    @MockBean
+    private ListCategoriesByCursorUseCase listCategoriesByCursorUseCase;
+
+    @MockBean
+    private BulkCategoryUseCase bulkCategoryUseCase;
+
+    @MockBean
+    private DeleteCategoriesUseCase deleteCategoriesUseCase;
+
+    @MockBean
+    private ExportCategoriesUseCase exportCategoriesUseCase;
+
     @Test
     public void shouldCreateACategoryWhenAllInputsAreValid() throws Exception {
         final var expectedName = "Movies";
@@ -184,6 +209,59 @@ public class CategoryAPITest {
                 .execute(Mockito.eq(expectedId));
     }
 
+    @Test
+    public void shouldReturnDeletedCountWhenCallsDeleteAllByIds() throws Exception {
+        final var expectedIds = List.of("123", "456");
+        final var expectedDeleted = 2;
+
+        Mockito.when(deleteCategoriesUseCase.execute(Mockito.any()))
+                .thenReturn(DeleteCategoriesOutput.from(expectedDeleted));
+
+        final var request = MockMvcRequestBuilders.delete("/categories")
+                .queryParam("ids", "123", "456");
+
+        final var response = this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.deleted", Matchers.equalTo(expectedDeleted)));
+
+        Mockito.verify(deleteCategoriesUseCase, Mockito.times(1)).execute(Mockito.eq(expectedIds));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldStreamNdJsonWhenCallsExportCategories() throws Exception {
+        final var movies = Category.createCategory("Movies", "The best movies", true);
+        final var series = Category.createCategory("Series", null, false);
+
+        Mockito.doAnswer(invocation -> {
+            final Consumer<ListCategoriesOutput> consumer = invocation.getArgument(0);
+            consumer.accept(ListCategoriesOutput.create(movies));
+            consumer.accept(ListCategoriesOutput.create(series));
+            return null;
+        }).when(exportCategoriesUseCase).execute(Mockito.any());
+
+        final var request = MockMvcRequestBuilders.get("/categories/export");
+
+        final var asyncResult = this.mvc.perform(request)
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(MockMvcRequestBuilders.asyncDispatch(asyncResult))
+                .andDo(MockMvcResultHandlers.print());
+
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string("Content-Type", MediaType.APPLICATION_NDJSON_VALUE));
+
+        final var lines = response.andReturn().getResponse().getContentAsString().split("\n");
+
+        Assertions.assertEquals(2, lines.length);
+        Assertions.assertEquals(movies.getId().getValue(), mapper.readTree(lines[0]).get("id").asText());
+        Assertions.assertEquals(series.getId().getValue(), mapper.readTree(lines[1]).get("id").asText());
+        Assertions.assertFalse(mapper.readTree(lines[1]).get("is_active").asBoolean());
+    }
+
     @Test
     public void shouldReturnANotFoundErrorWhenCategoryIsNotFound() throws Exception {
         final var expectedErrorMessage = "Category with ID 123 was not found";
@@ -375,4 +453,79 @@ public class CategoryAPITest {
         ));
 
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldReturnCategoriesAndNextCursorWhenCallsListByCursor() throws Exception {
+        final var aCategory = Category.createCategory("Movies", "Universe's best movies", true);
+        final var expectedCursor = "eyJzb3J0IjoibmFtZSJ9";
+        final var expectedNextCursor = "bmV4dA";
+        final var expectedPerPage = 1;
+        final var expectedSort = "name";
+        final var expectedDirection = "asc";
+
+        Mockito.when(listCategoriesByCursorUseCase.execute(Mockito.any())).thenReturn(new CursorPagination<>(
+                expectedPerPage,
+                expectedNextCursor,
+                null,
+                List.of(ListCategoriesOutput.create(aCategory))
+        ));
+
+        final var request = MockMvcRequestBuilders.get("/categories/cursor")
+                .queryParam("cursor", expectedCursor)
+                .queryParam("perPage", String.valueOf(expectedPerPage))
+                .queryParam("sort", expectedSort)
+                .queryParam("dir", expectedDirection)
+                .contentType(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.per_page", Matchers.equalTo(expectedPerPage)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.next_cursor", Matchers.equalTo(expectedNextCursor)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.total", Matchers.nullValue()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items", Matchers.hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].id", Matchers.equalTo(aCategory.getId().getValue())));
+
+        Mockito.verify(listCategoriesByCursorUseCase, Mockito.times(1)).execute(Mockito.argThat(query ->
+            Objects.equals(expectedCursor, query.cursor())
+            && Objects.equals(expectedPerPage, query.perPage())
+            && Objects.equals(expectedSort, query.sort())
+            && Objects.equals(expectedDirection, query.direction())
+            && !query.withTotal()
+        ));
+    }
+
+    @Test
+    public void shouldReturnItemStatusesWhenCallsBulk() throws Exception {
+        final var expectedId = "123";
+        final var aInput = new BulkCategoryRequest(List.of(
+                new BulkCategoryRequest.Item("create", null, "Movies", null, true),
+                new BulkCategoryRequest.Item("rename", expectedId, "Series", null, true)
+        ));
+
+        Mockito.when(bulkCategoryUseCase.execute(Mockito.any())).thenReturn(new BulkOutput(List.of(
+                BulkItemOutput.success(0, expectedId, BulkItemStatus.CREATED),
+                BulkItemOutput.failure(1, expectedId, BulkItemStatus.INVALID, List.of(new Error("'operation' should be one of create, update or delete")))
+        )));
+
+        final var request = MockMvcRequestBuilders.post("/categories/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(aInput));
+
+        final var response = this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items", Matchers.hasSize(2)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].status", Matchers.equalTo("CREATED")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[1].status", Matchers.equalTo("INVALID")));
+
+        Mockito.verify(bulkCategoryUseCase, Mockito.times(1)).execute(Mockito.argThat(cmd ->
+            cmd.items().size() == 2
+            && BulkOperation.CREATE == cmd.items().get(0).operation()
+            && cmd.items().get(1).operation() == null
+            && Objects.equals(expectedId, cmd.items().get(1).id())
+        ));
+    }
+}
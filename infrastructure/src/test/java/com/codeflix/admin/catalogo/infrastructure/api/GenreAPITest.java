@@ -1,11 +1,15 @@
 package com.codeflix.admin.catalogo.infrastructure.api;
 
 import com.codeflix.admin.catalogo.ControllerTest;
+import com.codeflix.admin.catalogo.application.genre.bulk.BulkGenreUseCase;
 import com.codeflix.admin.catalogo.application.genre.create.CreateGenreOutput;
 import com.codeflix.admin.catalogo.application.genre.create.CreateGenreUseCase;
 import com.codeflix.admin.catalogo.application.genre.delete.DeleteGenreUseCase;
+import com.codeflix.admin.catalogo.application.genre.delete.DeleteGenresUseCase;
+import com.codeflix.admin.catalogo.application.genre.retrieve.export.ExportGenresUseCase;
 import com.codeflix.admin.catalogo.application.genre.retrieve.get.GenreOutput;
 import com.codeflix.admin.catalogo.application.genre.retrieve.get.GetGenreByIdUseCase;
+import com.codeflix.admin.catalogo.application.genre.retrieve.list.ListGenreByCursorUseCase;
 import com.codeflix.admin.catalogo.application.genre.retrieve.list.ListGenreOutput;
 import com.codeflix.admin.catalogo.application.genre.retrieve.list.ListGenreUseCase;
 import com.codeflix.admin.catalogo.application.genre.update.UpdateGenreOutput;
@@ -59,6 +63,18 @@ public class GenreAPITest {
     @MockBean
     private ListGenreUseCase listGenreUseCase;
 
+    @MockBean
+    private ListGenreByCursorUseCase listGenreByCursorUseCase;
+
+    @MockBean
+    private BulkGenreUseCase bulkGenreUseCase;
+
+    @MockBean
+    private DeleteGenresUseCase deleteGenresUseCase;
+
+    @MockBean
+    private ExportGenresUseCase exportGenresUseCase;
+
     @Test
     public void shouldReturnGenreIdWhenCallingCreateGenreGivenAValidCommand() throws Exception {
         final var expectedName = "Action";
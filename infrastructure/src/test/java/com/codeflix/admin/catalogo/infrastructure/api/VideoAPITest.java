@@ -0,0 +1,142 @@
+package com.codeflix.admin.catalogo.infrastructure.api;
+
+import com.codeflix.admin.catalogo.ControllerTest;
+import com.codeflix.admin.catalogo.application.video.upload.MediaUploadOutput;
+import com.codeflix.admin.catalogo.application.video.upload.chunk.DefaultUploadMediaChunkUseCase;
+import com.codeflix.admin.catalogo.application.video.upload.complete.DefaultCompleteMediaUploadUseCase;
+import com.codeflix.admin.catalogo.application.video.upload.initiate.DefaultInitiateMediaUploadUseCase;
+import com.codeflix.admin.catalogo.application.video.upload.retrieve.DefaultGetMediaUploadUseCase;
+import com.codeflix.admin.catalogo.domain.exceptions.DomainException;
+import com.codeflix.admin.catalogo.domain.validation.Error;
+import com.codeflix.admin.catalogo.domain.video.MediaUpload;
+import com.codeflix.admin.catalogo.domain.video.VideoID;
+import com.codeflix.admin.catalogo.infrastructure.video.models.InitiateMediaUploadRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Objects;
+
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ControllerTest(controllers = VideoAPI.class)
+public class VideoAPITest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    @MockBean
+    private DefaultInitiateMediaUploadUseCase initiateMediaUploadUseCase;
+
+    @MockBean
+    private DefaultGetMediaUploadUseCase getMediaUploadUseCase;
+
+    @MockBean
+    private DefaultUploadMediaChunkUseCase uploadMediaChunkUseCase;
+
+    @MockBean
+    private DefaultCompleteMediaUploadUseCase completeMediaUploadUseCase;
+
+    @Test
+    public void givenAValidCommand_whenCallsInitiateUpload_shouldReturnCreatedWithLocation() throws Exception {
+        // given
+        final var expectedVideoId = VideoID.generateUnique().getValue();
+        final var expectedUploadId = "123";
+        final var aRequest = new InitiateMediaUploadRequest("VIDEO", "video.mp4", "video/mp4", 1024L);
+
+        when(initiateMediaUploadUseCase.execute(any()))
+                .thenReturn(new MediaUploadOutput(expectedUploadId, expectedVideoId, "VIDEO", 1024, 0, false, List.of()));
+
+        // when
+        final var request = post("/videos/{id}/uploads", expectedVideoId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(aRequest));
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isCreated())
+                .andExpect(header().string("Location", "/videos/uploads/" + expectedUploadId))
+                .andExpect(jsonPath("$.id", equalTo(expectedUploadId)))
+                .andExpect(jsonPath("$.complete", equalTo(false)));
+
+        verify(initiateMediaUploadUseCase).execute(argThat(cmd ->
+                Objects.equals(expectedVideoId, cmd.videoId())
+                        && Objects.equals("VIDEO", cmd.type())
+                        && Objects.equals(1024L, cmd.length())
+        ));
+    }
+
+    @Test
+    public void givenAChunk_whenCallsUploadChunk_shouldWriteItAtTheOffset() throws Exception {
+        // given
+        final var expectedUploadId = "123";
+        final var expectedContent = "chunk".getBytes();
+
+        when(uploadMediaChunkUseCase.execute(any()))
+                .thenReturn(new MediaUploadOutput(
+                        expectedUploadId,
+                        VideoID.generateUnique().getValue(),
+                        "VIDEO",
+                        1024,
+                        5,
+                        false,
+                        List.of(new MediaUpload.ByteRange(100, 105))
+                ));
+
+        // when
+        final var request = put("/videos/uploads/{uploadId}", expectedUploadId)
+                .queryParam("offset", "100")
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_LENGTH, expectedContent.length)
+                .content(expectedContent);
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.received", equalTo(5)))
+                .andExpect(jsonPath("$.ranges[0].start", equalTo(100)))
+                .andExpect(jsonPath("$.ranges[0].end", equalTo(105)));
+
+        verify(uploadMediaChunkUseCase).execute(argThat(cmd ->
+                Objects.equals(expectedUploadId, cmd.uploadId())
+                        && cmd.offset() == 100
+                        && cmd.length() == expectedContent.length
+        ));
+    }
+
+    @Test
+    public void givenAnIncompleteUpload_whenCallsCompleteUpload_shouldReturnUnprocessableEntity() throws Exception {
+        // given
+        final var expectedUploadId = "123";
+        final var expectedErrorMessage = "Upload 123 is missing 10 bytes";
+
+        when(completeMediaUploadUseCase.execute(any()))
+                .thenThrow(DomainException.raise(new Error(expectedErrorMessage)));
+
+        // when
+        final var response = this.mvc.perform(post("/videos/uploads/{uploadId}/complete", expectedUploadId))
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors", hasSize(1)))
+                .andExpect(jsonPath("$.errors[0].message", equalTo(expectedErrorMessage)));
+    }
+}
@@ -0,0 +1,150 @@
+package com.codeflix.admin.catalogo.infrastructure.api.conditional;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+
+public class ConditionalGetInterceptorTest {
+
+    private static final Version VERSION = new Version(Instant.parse("2022-05-01T10:15:30.123456Z"), 0);
+
+    @Test
+    public void givenAnUnchangedCategory_whenGetsItWithItsETag_shouldAnswerNotModifiedBeforeTheController() {
+        // given
+        final var probe = Mockito.mock(VersionProbe.class);
+        Mockito.when(probe.ofEntity(VersionedResource.CATEGORIES, "123")).thenReturn(Optional.of(VERSION));
+
+        final var interceptor = new ConditionalGetInterceptor(probe);
+        final var firstResponse = new MockHttpServletResponse();
+        Assertions.assertTrue(interceptor.preHandle(getById("123"), firstResponse, new Object()));
+        final var etag = firstResponse.getHeader(HttpHeaders.ETAG);
+
+        final var aRequest = getById("123");
+        aRequest.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        final var aResponse = new MockHttpServletResponse();
+
+        // when
+        final var proceed = interceptor.preHandle(aRequest, aResponse, new Object());
+
+        // then
+        Assertions.assertTrue(etag.startsWith("\""));
+        Assertions.assertNotNull(firstResponse.getHeader(HttpHeaders.LAST_MODIFIED));
+        Assertions.assertFalse(proceed);
+        Assertions.assertEquals(304, aResponse.getStatus());
+        Assertions.assertEquals(etag, aResponse.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    public void givenAnUpdatedCategory_whenGetsItWithAnOldETag_shouldProceedToTheController() {
+        // given
+        final var probe = Mockito.mock(VersionProbe.class);
+        Mockito.when(probe.ofEntity(VersionedResource.CATEGORIES, "123")).thenReturn(Optional.of(VERSION));
+
+        final var aRequest = getById("123");
+        aRequest.addHeader(HttpHeaders.IF_NONE_MATCH, "\"stale\"");
+        final var aResponse = new MockHttpServletResponse();
+
+        // when
+        final var proceed = new ConditionalGetInterceptor(probe).preHandle(aRequest, aResponse, new Object());
+
+        // then
+        Assertions.assertTrue(proceed);
+        Assertions.assertEquals(200, aResponse.getStatus());
+        Assertions.assertNotEquals("\"stale\"", aResponse.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    public void givenASeparateEntitySource_whenGetsById_shouldTagFromItInsteadOfTheProbe() {
+        // given
+        final var probe = Mockito.mock(VersionProbe.class);
+        final var entities = Mockito.mock(EntityVersions.class);
+        Mockito.when(entities.ofEntity(VersionedResource.CATEGORIES, "123")).thenReturn(Optional.of(VERSION));
+
+        final var interceptor = new ConditionalGetInterceptor(probe, entities);
+        final var firstResponse = new MockHttpServletResponse();
+        interceptor.preHandle(getById("123"), firstResponse, new Object());
+
+        Mockito.when(entities.ofEntity(VersionedResource.CATEGORIES, "123"))
+                .thenReturn(Optional.of(new Version(VERSION.lastModified().plusSeconds(1), 0)));
+
+        final var aRequest = getById("123");
+        aRequest.addHeader(HttpHeaders.IF_NONE_MATCH, firstResponse.getHeader(HttpHeaders.ETAG));
+        final var aResponse = new MockHttpServletResponse();
+
+        // when
+        final var proceed = interceptor.preHandle(aRequest, aResponse, new Object());
+
+        // then
+        Assertions.assertTrue(proceed);
+        Assertions.assertNotEquals(firstResponse.getHeader(HttpHeaders.ETAG), aResponse.getHeader(HttpHeaders.ETAG));
+        Mockito.verifyNoInteractions(probe);
+    }
+
+    @Test
+    public void givenAnUnknownId_whenGetsIt_shouldLeaveTheNotFoundToTheController() {
+        // given
+        final var probe = Mockito.mock(VersionProbe.class);
+        Mockito.when(probe.ofEntity(VersionedResource.GENRES, "123")).thenReturn(Optional.empty());
+
+        final var aRequest = new MockHttpServletRequest("GET", "/genres/123");
+        aRequest.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/genres/{id}");
+        aRequest.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("id", "123"));
+        final var aResponse = new MockHttpServletResponse();
+
+        // when
+        final var proceed = new ConditionalGetInterceptor(probe).preHandle(aRequest, aResponse, new Object());
+
+        // then
+        Assertions.assertTrue(proceed);
+        Assertions.assertNull(aResponse.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    public void givenAListPage_whenGetsIt_shouldTagItWithAWeakETagPerQuery() {
+        // given
+        final var probe = Mockito.mock(VersionProbe.class);
+        Mockito.when(probe.ofCollection(VersionedResource.CAST_MEMBERS)).thenReturn(new Version(VERSION.lastModified(), 42));
+
+        final var interceptor = new ConditionalGetInterceptor(probe);
+        final var firstPage = new MockHttpServletResponse();
+        final var secondPage = new MockHttpServletResponse();
+
+        // when
+        interceptor.preHandle(list("page=0"), firstPage, new Object());
+        interceptor.preHandle(list("page=1"), secondPage, new Object());
+
+        final var aRequest = list("page=0");
+        aRequest.addHeader(HttpHeaders.IF_NONE_MATCH, firstPage.getHeader(HttpHeaders.ETAG));
+        final var aResponse = new MockHttpServletResponse();
+        final var proceed = interceptor.preHandle(aRequest, aResponse, new Object());
+
+        // then
+        Assertions.assertTrue(firstPage.getHeader(HttpHeaders.ETAG).startsWith("W/\""));
+        Assertions.assertNotEquals(firstPage.getHeader(HttpHeaders.ETAG), secondPage.getHeader(HttpHeaders.ETAG));
+        Assertions.assertNull(firstPage.getHeader(HttpHeaders.LAST_MODIFIED));
+        Assertions.assertFalse(proceed);
+        Assertions.assertEquals(304, aResponse.getStatus());
+    }
+
+    private static MockHttpServletRequest getById(final String anId) {
+        final var aRequest = new MockHttpServletRequest("GET", "/categories/" + anId);
+        aRequest.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/categories/{id}");
+        aRequest.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("id", anId));
+        return aRequest;
+    }
+
+    private static MockHttpServletRequest list(final String queryString) {
+        final var aRequest = new MockHttpServletRequest("GET", "/cast_members");
+        aRequest.setQueryString(queryString);
+        aRequest.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/cast_members");
+        return aRequest;
+    }
+}
@@ -0,0 +1,37 @@
+package com.codeflix.admin.catalogo.infrastructure.api.conditional;
+
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.codeflix.admin.catalogo.domain.category.CategoryGateway;
+import com.codeflix.admin.catalogo.domain.category.CategoryID;
+import com.codeflix.admin.catalogo.domain.genre.Genre;
+import com.codeflix.admin.catalogo.domain.genre.GenreGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Optional;
+
+public class GatewayEntityVersionsTest {
+
+    @Test
+    public void givenACachedGenre_whenCallsOfEntity_shouldVersionItByUpdatedAtAndCategoryCount() {
+        // given
+        final var genreGateway = Mockito.mock(GenreGateway.class);
+        final var aGenre = Genre.createGenre("Action", true)
+                .addCategories(List.of(CategoryID.generateUnique(), CategoryID.generateUnique()));
+        Mockito.when(genreGateway.findById(aGenre.getId())).thenReturn(Optional.of(aGenre));
+
+        final var versions = new GatewayEntityVersions(
+                Mockito.mock(CategoryGateway.class),
+                genreGateway,
+                Mockito.mock(CastMemberGateway.class)
+        );
+
+        // when
+        final var actualVersion = versions.ofEntity(VersionedResource.GENRES, aGenre.getId().getValue());
+
+        // then
+        Assertions.assertEquals(Optional.of(new Version(aGenre.getUpdatedAt(), 2)), actualVersion);
+    }
+}
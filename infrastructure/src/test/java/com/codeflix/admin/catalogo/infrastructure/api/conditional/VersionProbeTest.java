@@ -0,0 +1,55 @@
+package com.codeflix.admin.catalogo.infrastructure.api.conditional;
+
+import com.codeflix.admin.catalogo.MySQLGatewayTest;
+import com.codeflix.admin.catalogo.domain.category.Category;
+import com.codeflix.admin.catalogo.domain.genre.Genre;
+import com.codeflix.admin.catalogo.infrastructure.category.CategoryMySQLGateway;
+import com.codeflix.admin.catalogo.infrastructure.genre.GenreMySQLGateway;
+import com.codeflix.admin.catalogo.infrastructure.sql.IdentifierColumns;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+@MySQLGatewayTest
+public class VersionProbeTest {
+
+    @Autowired
+    private CategoryMySQLGateway categoryGateway;
+
+    @Autowired
+    private GenreMySQLGateway genreGateway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private IdentifierColumns identifierColumns;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    public void givenACategoryLinkedToAGenre_whenTheCategoryIsDeleted_shouldChangeTheGenresCollectionVersion() {
+        // given
+        final var probe = new VersionProbe(jdbcTemplate, identifierColumns);
+        final var movies = categoryGateway.create(Category.createCategory("Movies", null, true));
+        final var series = categoryGateway.create(Category.createCategory("Series", null, true));
+        genreGateway.create(Genre.createGenre("Action", true).addCategories(List.of(movies.getId(), series.getId())));
+        entityManager.flush();
+
+        final var before = probe.ofCollection(VersionedResource.GENRES);
+
+        // when
+        categoryGateway.deleteById(series.getId());
+        entityManager.flush();
+
+        // then
+        final var after = probe.ofCollection(VersionedResource.GENRES);
+        Assertions.assertEquals(before.lastModified(), after.lastModified());
+        Assertions.assertNotEquals(before, after);
+    }
+}
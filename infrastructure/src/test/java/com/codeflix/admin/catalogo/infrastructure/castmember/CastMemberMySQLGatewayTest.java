@@ -7,11 +7,16 @@ import com.codeflix.admin.catalogo.domain.castmember.CastMemberType;
 import com.codeflix.admin.catalogo.domain.pagination.SearchQuery;
 import com.codeflix.admin.catalogo.infrastructure.castmember.persistence.CastMemberJpaEntity;
 import com.codeflix.admin.catalogo.infrastructure.castmember.persistence.CastMemberRepository;
+import com.codeflix.admin.catalogo.infrastructure.sql.QueryStats;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.TestPropertySource;
 
 import java.util.List;
 
@@ -19,6 +24,7 @@ import static com.codeflix.admin.catalogo.Fixture.CastMember.type;
 import static com.codeflix.admin.catalogo.Fixture.name;
 
 @MySQLGatewayTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 public class CastMemberMySQLGatewayTest {
 
     @Autowired
@@ -27,6 +33,9 @@ public class CastMemberMySQLGatewayTest {
     @Autowired
     private CastMemberRepository castMemberRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     @Test
     public void testDependencies() {
         Assertions.assertNotNull(castMemberGateway);
@@ -308,6 +317,26 @@ public class CastMemberMySQLGatewayTest {
         }
     }
 
+    @Test
+    public void givenPersistedMembers_whenCallsExistsByIds_shouldReturnOnlyExistingIds() {
+        // given
+        final var aMember = CastMember.create("Vin Diesel", CastMemberType.ACTOR);
+        final var anotherMember = CastMember.create("Martin Scorsese", CastMemberType.DIRECTOR);
+
+        castMemberRepository.saveAllAndFlush(List.of(
+                CastMemberJpaEntity.from(aMember),
+                CastMemberJpaEntity.from(anotherMember)
+        ));
+
+        final var expectedIds = List.of(aMember.getId());
+
+        // when
+        final var actualIds = castMemberGateway.existsByIds(List.of(aMember.getId(), CastMemberID.load("123")));
+
+        // then
+        Assertions.assertEquals(expectedIds, actualIds);
+    }
+
     private void mockMembers() {
         castMemberRepository.saveAllAndFlush(List.of(
                 CastMemberJpaEntity.from(CastMember.create("Kit Harington", CastMemberType.ACTOR)),
@@ -317,4 +346,45 @@ public class CastMemberMySQLGatewayTest {
                 CastMemberJpaEntity.from(CastMember.create("Martin Scorsese", CastMemberType.DIRECTOR))
         ));
     }
+
+    @Test
+    public void givenANewCastMember_whenCallsCreate_shouldIssueOnlyAnInsert() {
+        final var statistics = statistics();
+
+        castMemberGateway.create(CastMember.create(name(), type()));
+        entityManager.flush();
+
+        Assertions.assertEquals(1, statistics.getEntityInsertCount());
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void givenAPersistedCastMember_whenCallsUpdate_shouldIssueOnlyAnUpdate() {
+        final var aMember = CastMember.create("vin", CastMemberType.DIRECTOR);
+        castMemberRepository.saveAndFlush(CastMemberJpaEntity.from(aMember));
+        entityManager.clear();
+
+        final var statistics = statistics();
+
+        try (final var stats = QueryStats.start()) {
+            castMemberGateway.update(CastMember.from(aMember).update("Vin Diesel", CastMemberType.ACTOR));
+
+            Assertions.assertEquals(1, stats.statements());
+        }
+
+        Assertions.assertEquals(0, statistics.getEntityLoadCount());
+
+        final var persistedMember = castMemberRepository.findById(aMember.getId().getValue()).get();
+        Assertions.assertEquals("Vin Diesel", persistedMember.getName());
+        Assertions.assertEquals(CastMemberType.ACTOR, persistedMember.getType());
+    }
+
+    private Statistics statistics() {
+        final var statistics = entityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+        return statistics;
+    }
 }
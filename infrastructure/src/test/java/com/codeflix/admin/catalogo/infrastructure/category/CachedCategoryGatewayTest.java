@@ -0,0 +1,122 @@
+package com.codeflix.admin.catalogo.infrastructure.category;
+
+import com.codeflix.admin.catalogo.domain.category.Category;
+import com.codeflix.admin.catalogo.domain.category.CategoryGateway;
+import com.codeflix.admin.catalogo.domain.genre.Genre;
+import com.codeflix.admin.catalogo.infrastructure.cache.AggregateCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class CachedCategoryGatewayTest {
+
+    private CategoryGateway delegate;
+    private CachedCategoryGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        delegate = Mockito.mock(CategoryGateway.class);
+        gateway = new CachedCategoryGateway(
+                delegate,
+                new AggregateCache<>(Caffeine.newBuilder().maximumSize(10).<String, Category>build(), Category::clone)
+        );
+    }
+
+    @Test
+    public void givenACachedCategory_whenCallsFindByIdTwice_shouldHitDelegateOnce() {
+        final var aCategory = Category.createCategory("Movies", "Universe's best movies", true);
+        final var expectedId = aCategory.getId();
+
+        when(delegate.findById(expectedId)).thenReturn(Optional.of(aCategory));
+
+        final var first = gateway.findById(expectedId).orElseThrow();
+        final var second = gateway.findById(expectedId).orElseThrow();
+
+        Assertions.assertEquals(expectedId, first.getId());
+        Assertions.assertEquals(aCategory.getName(), second.getName());
+        Assertions.assertNotSame(first, second);
+        verify(delegate, times(1)).findById(expectedId);
+    }
+
+    @Test
+    public void givenAMutatedCopy_whenCallsFindByIdAgain_shouldReturnCachedState() {
+        final var aCategory = Category.createCategory("Movies", "Universe's best movies", true);
+        final var expectedId = aCategory.getId();
+
+        when(delegate.findById(expectedId)).thenReturn(Optional.of(aCategory));
+
+        gateway.findById(expectedId).orElseThrow().update("Changed", "Changed", false);
+
+        final var actualCategory = gateway.findById(expectedId).orElseThrow();
+
+        Assertions.assertEquals("Movies", actualCategory.getName());
+        Assertions.assertTrue(actualCategory.isActive());
+    }
+
+    @Test
+    public void givenACachedCategory_whenCallsUpdateOrDelete_shouldInvalidateEntry() {
+        final var aCategory = Category.createCategory("Movies", "Universe's best movies", true);
+        final var expectedId = aCategory.getId();
+
+        when(delegate.findById(expectedId)).thenReturn(Optional.of(aCategory));
+        when(delegate.update(any())).thenAnswer(returnsFirstArg());
+
+        gateway.findById(expectedId);
+        gateway.update(aCategory);
+        gateway.findById(expectedId);
+        gateway.deleteById(expectedId);
+        gateway.findById(expectedId);
+
+        verify(delegate, times(3)).findById(expectedId);
+        verify(delegate, times(1)).deleteById(expectedId);
+    }
+
+    @Test
+    public void givenACachedGenre_whenCallsDeleteById_shouldInvalidateTheGenreCache() {
+        final var aCategory = Category.createCategory("Movies", "Universe's best movies", true);
+        final var aGenre = Genre.createGenre("Action", true).addCategories(List.of(aCategory.getId()));
+        final var genreCache = new AggregateCache<>(Caffeine.newBuilder().maximumSize(10).<String, Genre>build(), Genre::clone);
+        final var aGateway = new CachedCategoryGateway(
+                delegate,
+                new AggregateCache<>(Caffeine.newBuilder().maximumSize(10).<String, Category>build(), Category::clone),
+                List.of(genreCache)
+        );
+        final var loads = new AtomicInteger();
+
+        genreCache.get(aGenre.getId().getValue(), () -> {
+            loads.incrementAndGet();
+            return Optional.of(aGenre);
+        });
+
+        aGateway.deleteById(aCategory.getId());
+
+        genreCache.get(aGenre.getId().getValue(), () -> {
+            loads.incrementAndGet();
+            return Optional.of(aGenre.clone().removeCategory(aCategory.getId()));
+        });
+
+        Assertions.assertEquals(2, loads.get());
+        verify(delegate, times(1)).deleteById(aCategory.getId());
+    }
+
+    @Test
+    public void givenAMissingCategory_whenCallsFindById_shouldNotCacheAbsence() {
+        final var aCategory = Category.createCategory("Movies", "Universe's best movies", true);
+        final var expectedId = aCategory.getId();
+
+        when(delegate.findById(expectedId)).thenReturn(Optional.empty(), Optional.of(aCategory));
+
+        Assertions.assertTrue(gateway.findById(expectedId).isEmpty());
+        Assertions.assertTrue(gateway.findById(expectedId).isPresent());
+    }
+}
@@ -3,16 +3,29 @@ package com.codeflix.admin.catalogo.infrastructure.category;
 import com.codeflix.admin.catalogo.MySQLGatewayTest;
 import com.codeflix.admin.catalogo.domain.category.Category;
 import com.codeflix.admin.catalogo.domain.category.CategoryID;
+import com.codeflix.admin.catalogo.domain.exceptions.DomainException;
+import com.codeflix.admin.catalogo.domain.exceptions.NotFoundException;
+import com.codeflix.admin.catalogo.domain.pagination.CountMode;
+import com.codeflix.admin.catalogo.domain.pagination.CursorQuery;
+import com.codeflix.admin.catalogo.domain.pagination.Pagination;
 import com.codeflix.admin.catalogo.domain.pagination.SearchQuery;
 import com.codeflix.admin.catalogo.infrastructure.category.persistence.CategoryJPAEntity;
 import com.codeflix.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.codeflix.admin.catalogo.infrastructure.sql.QueryStats;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.TestPropertySource;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Stream;
 
 @MySQLGatewayTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 public class CategoryMySQLGatewayTest {
 
     @Autowired
@@ -21,6 +34,9 @@ public class CategoryMySQLGatewayTest {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     @BeforeEach
     void cleanUp() {
         categoryRepository.deleteAll();
@@ -140,6 +156,40 @@ public class CategoryMySQLGatewayTest {
         Assertions.assertEquals(1, categoryRepository.count());
     }
 
+    @Test
+    void shouldIssueASingleDeleteWhenCallsDeleteById() {
+        final var aCategory = Category.createCategory("Movies", "", true);
+        categoryRepository.saveAndFlush(CategoryJPAEntity.create(aCategory));
+        entityManager.clear();
+
+        final var statistics = statistics();
+
+        categoryGateway.deleteById(aCategory.getId());
+
+        Assertions.assertEquals(0, statistics.getEntityLoadCount());
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(0, categoryRepository.count());
+    }
+
+    @Test
+    void shouldDeleteOnlyPersistedCategoriesWhenCallsDeleteAllByIds() {
+        final var movies = Category.createCategory("Movies", "", true);
+        final var series = Category.createCategory("Series", "", true);
+        final var animes = Category.createCategory("Animes", "", true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJPAEntity.create(movies),
+                CategoryJPAEntity.create(series),
+                CategoryJPAEntity.create(animes)
+        ));
+
+        final var actualDeleted = categoryGateway.deleteAllByIds(List.of(movies.getId(), series.getId(), CategoryID.load("123")));
+
+        Assertions.assertEquals(2, actualDeleted);
+        Assertions.assertEquals(1, categoryRepository.count());
+        Assertions.assertTrue(categoryRepository.existsById(animes.getId().getValue()));
+    }
+
     @Test
     @DisplayName("Should return a category when calls findByID with valid ID")
     void shouldReturnACategoryWhenCallsFindByIDWithValidID () {
@@ -377,4 +427,236 @@ public class CategoryMySQLGatewayTest {
 
         Assertions.assertTrue(actualResult.containsAll(expectedIds));
     }
+
+    @Test
+    void shouldWalkAllPagesWhenCallsFindAllByCursor() {
+        final var moviesCategory = Category.createCategory("Movies", "Direct from the big screen", true);
+        final var seriesCategory = Category.createCategory("Series", "Series to all family", true);
+        final var animesCategory = Category.createCategory("Animes", "The best of animation", true);
+        final var anotherAnimesCategory = Category.createCategory("Animes", "Same name, different id", true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJPAEntity.create(moviesCategory),
+                CategoryJPAEntity.create(seriesCategory),
+                CategoryJPAEntity.create(animesCategory),
+                CategoryJPAEntity.create(anotherAnimesCategory)
+        ));
+
+        final var expectedNames = List.of("Animes", "Animes", "Movies", "Series");
+
+        final var firstPage = categoryGateway.findAllByCursor(new CursorQuery(null, 3, "", "name", "asc", true));
+
+        Assertions.assertEquals(4L, firstPage.total());
+        Assertions.assertEquals(3, firstPage.items().size());
+        Assertions.assertTrue(firstPage.hasNext());
+
+        final var secondPage = categoryGateway.findAllByCursor(
+                new CursorQuery(firstPage.nextCursor(), 3, "", "name", "asc", false)
+        );
+
+        Assertions.assertNull(secondPage.total());
+        Assertions.assertEquals(1, secondPage.items().size());
+        Assertions.assertFalse(secondPage.hasNext());
+
+        final var actualNames = new ArrayList<String>();
+        firstPage.items().forEach(it -> actualNames.add(it.getName()));
+        secondPage.items().forEach(it -> actualNames.add(it.getName()));
+
+        Assertions.assertEquals(expectedNames, actualNames);
+        Assertions.assertEquals(4, Stream.concat(firstPage.items().stream(), secondPage.items().stream())
+                .map(Category::getId)
+                .distinct()
+                .count());
+    }
+
+    @Test
+    void shouldRejectCursorWhenSortDoesNotMatch() {
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJPAEntity.create(Category.createCategory("Movies", "", true)),
+                CategoryJPAEntity.create(Category.createCategory("Series", "", true))
+        ));
+
+        final var firstPage = categoryGateway.findAllByCursor(new CursorQuery(null, 1, "", "name", "asc", false));
+
+        Assertions.assertThrows(DomainException.class, () -> categoryGateway.findAllByCursor(
+                new CursorQuery(firstPage.nextCursor(), 1, "", "createdAt", "asc", false)
+        ));
+    }
+
+    @Test
+    void shouldSkipTotalWhenCallsFindAllWithoutCount() {
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJPAEntity.create(Category.createCategory("Movies", "", true)),
+                CategoryJPAEntity.create(Category.createCategory("Series", "", true)),
+                CategoryJPAEntity.create(Category.createCategory("Animes", "", true))
+        ));
+
+        final var firstPage = categoryGateway.findAll(new SearchQuery(0, 2, "", "name", "asc", CountMode.NONE));
+
+        Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, firstPage.total());
+        Assertions.assertTrue(firstPage.hasNext());
+        Assertions.assertEquals(2, firstPage.items().size());
+
+        final var lastPage = categoryGateway.findAll(new SearchQuery(1, 2, "", "name", "asc", CountMode.NONE));
+
+        Assertions.assertFalse(lastPage.hasNext());
+        Assertions.assertEquals(1, lastPage.items().size());
+        Assertions.assertEquals("Series", lastPage.items().get(0).getName());
+    }
+
+    @Test
+    void shouldReturnEstimatedTotalWhenCallsFindAllWithEstimatedCount() {
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJPAEntity.create(Category.createCategory("Movies", "", true)),
+                CategoryJPAEntity.create(Category.createCategory("Series", "", true)),
+                CategoryJPAEntity.create(Category.createCategory("Animes", "", true))
+        ));
+
+        final var actualResult = categoryGateway.findAll(new SearchQuery(0, 1, "", "name", "asc", CountMode.ESTIMATED));
+
+        Assertions.assertEquals(3, actualResult.total());
+        Assertions.assertTrue(actualResult.hasNext());
+        Assertions.assertEquals("Animes", actualResult.items().get(0).getName());
+    }
+
+    @Test
+    void shouldPersistEveryCategoryWhenCallsCreateAll() {
+        final var categories = List.of(
+                Category.createCategory("Movies", "", true),
+                Category.createCategory("Series", "", true),
+                Category.createCategory("Animes", "", false)
+        );
+
+        final var actualCategories = categoryGateway.createAll(categories);
+
+        Assertions.assertEquals(3, categoryRepository.count());
+        Assertions.assertEquals(
+                categories.stream().map(Category::getId).toList(),
+                actualCategories.stream().map(Category::getId).toList()
+        );
+    }
+
+    @Test
+    void shouldUpdateEveryCategoryWhenCallsUpdateAll() {
+        final var movies = Category.createCategory("Film", "", true);
+        final var series = Category.createCategory("Serie", "", true);
+
+        categoryRepository.saveAllAndFlush(List.of(CategoryJPAEntity.create(movies), CategoryJPAEntity.create(series)));
+
+        final var loaded = categoryGateway.findAllByIds(List.of(movies.getId(), series.getId(), CategoryID.load("123")));
+
+        Assertions.assertEquals(2, loaded.size());
+
+        categoryGateway.updateAll(loaded.stream()
+                .map(it -> it.update(it.getName() + "s", it.getDescription(), false))
+                .toList());
+
+        final var actualNames = categoryRepository.findAll().stream()
+                .filter(it -> !it.isActive())
+                .map(CategoryJPAEntity::getName)
+                .sorted()
+                .toList();
+
+        Assertions.assertEquals(List.of("Films", "Series"), actualNames);
+    }
+
+    @Test
+    void shouldSendOneBatchAndSkipMissingCategoriesWhenCallsUpdateAll() {
+        final var movies = Category.createCategory("Film", "", true);
+        final var series = Category.createCategory("Serie", "", true);
+        final var missing = Category.createCategory("Documentary", "", true);
+
+        categoryRepository.saveAllAndFlush(List.of(CategoryJPAEntity.create(movies), CategoryJPAEntity.create(series)));
+
+        final List<Category> actualCategories;
+        try (final var stats = QueryStats.start()) {
+            actualCategories = categoryGateway.updateAll(List.of(
+                    movies.clone().update("Films", "", true),
+                    missing,
+                    series.clone().update("Series", "", true)
+            ));
+
+            Assertions.assertEquals(1, stats.statements());
+        }
+
+        Assertions.assertEquals(List.of(movies.getId(), series.getId()), actualCategories.stream().map(Category::getId).toList());
+        Assertions.assertEquals("Films", categoryRepository.findById(movies.getId().getValue()).get().getName());
+        Assertions.assertEquals("Series", categoryRepository.findById(series.getId().getValue()).get().getName());
+        Assertions.assertEquals(2, categoryRepository.count());
+    }
+
+    @Test
+    void shouldIssueOnlyAnInsertWhenCallsCreate() {
+        final var statistics = statistics();
+
+        categoryGateway.create(Category.createCategory("Movies", "", true));
+        entityManager.flush();
+
+        Assertions.assertEquals(1, statistics.getEntityInsertCount());
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void shouldIssueOnlyAnUpdateWhenCallsUpdate() {
+        final var aCategory = Category.createCategory("Film", "", true);
+        categoryRepository.saveAndFlush(CategoryJPAEntity.create(aCategory));
+        entityManager.clear();
+
+        final var statistics = statistics();
+
+        try (final var stats = QueryStats.start()) {
+            categoryGateway.update(aCategory.clone().update("Movies", "", false));
+
+            Assertions.assertEquals(1, stats.statements());
+        }
+
+        Assertions.assertEquals(0, statistics.getEntityLoadCount());
+        Assertions.assertEquals("Movies", categoryRepository.findById(aCategory.getId().getValue()).get().getName());
+    }
+
+    @Test
+    void shouldThrowNotFoundWhenCallsUpdateWithAMissingCategory() {
+        final var aCategory = Category.createCategory("Movies", "", true);
+
+        Assertions.assertThrows(NotFoundException.class, () -> categoryGateway.update(aCategory));
+        Assertions.assertEquals(0, categoryRepository.count());
+    }
+
+    @Test
+    void givenPersistedCategories_whenCallsExportAll_shouldStreamEveryCategory() {
+        final var movies = Category.createCategory("Movies", "Direct from the big screen", true);
+        final var series = Category.createCategory("Series", null, false);
+
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJPAEntity.create(movies),
+                CategoryJPAEntity.create(series)
+        ));
+
+        final var actualCategories = new ArrayList<Category>();
+        categoryGateway.exportAll(actualCategories::add);
+
+        Assertions.assertEquals(2, actualCategories.size());
+
+        final var actualMovies = actualCategories.stream().filter(it -> it.getId().equals(movies.getId())).findFirst().get();
+        final var actualSeries = actualCategories.stream().filter(it -> it.getId().equals(series.getId())).findFirst().get();
+
+        Assertions.assertEquals(movies.getName(), actualMovies.getName());
+        Assertions.assertEquals(movies.getDescription(), actualMovies.getDescription());
+        Assertions.assertTrue(actualMovies.isActive());
+        Assertions.assertEquals(movies.getCreatedAt(), actualMovies.getCreatedAt());
+        Assertions.assertEquals(movies.getUpdatedAt(), actualMovies.getUpdatedAt());
+        Assertions.assertNull(actualMovies.getDeletedAt());
+        Assertions.assertNull(actualSeries.getDescription());
+        Assertions.assertFalse(actualSeries.isActive());
+        Assertions.assertEquals(series.getDeletedAt(), actualSeries.getDeletedAt());
+    }
+
+    private Statistics statistics() {
+        final var statistics = entityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+        return statistics;
+    }
 }
@@ -11,16 +11,24 @@ import com.codeflix.admin.catalogo.infrastructure.category.CategoryMySQLGateway;
 
 import com.codeflix.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
 import com.codeflix.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import com.codeflix.admin.catalogo.infrastructure.sql.QueryStats;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.TestPropertySource;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.stream.IntStream;
 
 @MySQLGatewayTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 public class GenreMySQLGatewayTest {
 
     @Autowired
@@ -32,6 +40,9 @@ public class GenreMySQLGatewayTest {
     @Autowired
     private GenreRepository genreRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     @Test
     public void testDependenciesInjected() {
         Assertions.assertNotNull(categoryGateway);
@@ -320,6 +331,38 @@ public class GenreMySQLGatewayTest {
         Assertions.assertEquals(1, genreRepository.count());
     }
 
+    @Test
+    public void givenAGenreWithCategories_whenCallsDeleteById_shouldIssueASingleDelete() {
+        final var movies = categoryGateway.create(Category.createCategory("Movies", null, true));
+        final var aGenre = Genre.createGenre("Horror", true);
+        aGenre.addCategories(List.of(movies.getId()));
+
+        genreRepository.saveAndFlush(GenreJpaEntity.load(aGenre));
+        entityManager.clear();
+
+        final var statistics = statistics();
+
+        genreGateway.deleteById(aGenre.getId());
+
+        Assertions.assertEquals(0, statistics.getEntityLoadCount());
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(0, genreRepository.count());
+        Assertions.assertTrue(genreRepository.findCategoryLinks(List.of(aGenre.getId().getValue())).isEmpty());
+    }
+
+    @Test
+    public void givenPersistedGenres_whenCallsDeleteAllByIds_shouldReturnTheDeletedCount() {
+        final var horror = Genre.createGenre("Horror", true);
+        final var drama = Genre.createGenre("Drama", true);
+
+        genreRepository.saveAllAndFlush(List.of(GenreJpaEntity.load(horror), GenreJpaEntity.load(drama)));
+
+        final var actualDeleted = genreGateway.deleteAllByIds(List.of(horror.getId(), drama.getId(), GenreID.load("123")));
+
+        Assertions.assertEquals(2, actualDeleted);
+        Assertions.assertEquals(0, genreRepository.count());
+    }
+
     @Test
     public void shouldReturnGenreWhenCallFindById() {
         final var movies = Category.createCategory("Movies", null, true);
@@ -475,6 +518,111 @@ public class GenreMySQLGatewayTest {
         }
     }
 
+    @Test
+    public void shouldReturnOnlyExistingIdsWhenCallExistsByIds() {
+        final var drama = Genre.createGenre("Drama", true);
+        final var comedy = Genre.createGenre("Comedy", true);
+
+        genreRepository.saveAllAndFlush(List.of(
+                GenreJpaEntity.load(drama),
+                GenreJpaEntity.load(comedy)
+        ));
+
+        final var expectedIds = List.of(comedy.getId());
+
+        final var actualIds = genreGateway.existsByIds(List.of(comedy.getId(), GenreID.load("123")));
+
+        Assertions.assertEquals(expectedIds, actualIds);
+    }
+
+    @Test
+    public void shouldLoadAPageOfGenresAndTheirCategoriesWithoutNPlusOneQueries() {
+        final var movies = categoryGateway.create(Category.createCategory("Movies", null, true));
+        final var series = categoryGateway.create(Category.createCategory("Series", null, true));
+
+        genreRepository.saveAllAndFlush(IntStream.range(0, 100)
+                .mapToObj(i -> {
+                    final var aGenre = Genre.createGenre("Genre " + i, true);
+                    aGenre.addCategories(List.of(movies.getId(), series.getId()));
+                    return GenreJpaEntity.load(aGenre);
+                })
+                .toList());
+
+        entityManager.clear();
+
+        final var statistics = entityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        final var expectedPageQueries = 2;
+        final var expectedCountQueries = 1;
+
+        final var actualPage = genreGateway.findAll(new SearchQuery(0, 100, "", "name", "asc"));
+
+        Assertions.assertEquals(100, actualPage.items().size());
+        Assertions.assertTrue(actualPage.items().stream().allMatch(it -> it.getCategories().size() == 2));
+        Assertions.assertEquals(0, statistics.getCollectionFetchCount());
+        Assertions.assertEquals(expectedPageQueries + expectedCountQueries, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void givenAPageOfGenres_whenCallsFindAll_shouldStayWithinTheStatementAndRowBudget() {
+        final var movies = categoryGateway.create(Category.createCategory("Movies", null, true));
+        final var series = categoryGateway.create(Category.createCategory("Series", null, true));
+
+        genreRepository.saveAllAndFlush(IntStream.range(0, 100)
+                .mapToObj(i -> {
+                    final var aGenre = Genre.createGenre("Genre " + i, true);
+                    aGenre.addCategories(List.of(movies.getId(), series.getId()));
+                    return GenreJpaEntity.load(aGenre);
+                })
+                .toList());
+
+        entityManager.clear();
+
+        final var expectedStatements = 3;
+        final var expectedRows = 100 + 200 + 1;
+
+        try (final var stats = QueryStats.start()) {
+            genreGateway.findAll(new SearchQuery(0, 100, "", "name", "asc"));
+
+            Assertions.assertEquals(expectedStatements, stats.statements());
+            Assertions.assertEquals(expectedRows, stats.rows());
+        }
+    }
+
+    @Test
+    public void givenPersistedGenres_whenCallsExportAll_shouldStreamEachGenreWithItsCategories() {
+        final var movies = Category.createCategory("Movies", null, true);
+        final var series = Category.createCategory("Series", null, true);
+        categoryGateway.createAll(List.of(movies, series));
+
+        final var horror = Genre.createGenre("Horror", true);
+        horror.addCategories(List.of(movies.getId(), series.getId()));
+        final var drama = Genre.createGenre("Drama", false);
+
+        genreGateway.createAll(List.of(horror, drama));
+        entityManager.flush();
+
+        final var actualGenres = new ArrayList<Genre>();
+        genreGateway.exportAll(actualGenres::add);
+
+        Assertions.assertEquals(2, actualGenres.size());
+
+        final var actualHorror = actualGenres.stream().filter(it -> it.getId().equals(horror.getId())).findFirst().get();
+        final var actualDrama = actualGenres.stream().filter(it -> it.getId().equals(drama.getId())).findFirst().get();
+
+        Assertions.assertEquals(horror.getName(), actualHorror.getName());
+        Assertions.assertEquals(sortCategoriesIds(horror.getCategories()), sortCategoriesIds(actualHorror.getCategories()));
+        Assertions.assertEquals(horror.getCreatedAt(), actualHorror.getCreatedAt());
+        Assertions.assertEquals(drama.getName(), actualDrama.getName());
+        Assertions.assertFalse(actualDrama.isActive());
+        Assertions.assertTrue(actualDrama.getCategories().isEmpty());
+        Assertions.assertEquals(drama.getDeletedAt(), actualDrama.getDeletedAt());
+    }
+
     private void mockGenres() {
         genreRepository.saveAllAndFlush(
                 List.of(
@@ -490,4 +638,93 @@ public class GenreMySQLGatewayTest {
     private static List<CategoryID> sortCategoriesIds(List<CategoryID> expectedCategories) {
         return expectedCategories.stream().sorted(Comparator.comparing(CategoryID::getValue)).toList();
     }
+
+    @Test
+    public void givenANewGenre_whenCallsCreate_shouldIssueOnlyInserts() {
+        final var statistics = statistics();
+
+        genreGateway.create(Genre.createGenre("Action", true));
+        entityManager.flush();
+
+        Assertions.assertEquals(1, statistics.getEntityInsertCount());
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void givenAPersistedGenre_whenCallsUpdate_shouldUpdateTheRowWithoutLoadingIt() {
+        final var movies = categoryGateway.create(Category.createCategory("Movies", null, true));
+        final var aGenre = Genre.createGenre("action", true);
+        genreRepository.saveAndFlush(GenreJpaEntity.load(aGenre));
+        entityManager.clear();
+
+        final var statistics = statistics();
+
+        final var expectedUpdates = 1;
+        final var expectedLinkLookups = 1;
+        final var expectedLinkInserts = 1;
+
+        try (final var stats = QueryStats.start()) {
+            genreGateway.update(Genre.load(
+                    aGenre.getId(),
+                    aGenre.getName(),
+                    aGenre.isActive(),
+                    aGenre.getCategories(),
+                    aGenre.getCreatedAt(),
+                    aGenre.getUpdatedAt(),
+                    aGenre.getDeletedAt()
+            ).update("Action", false, List.of(movies.getId())));
+
+            Assertions.assertEquals(expectedUpdates + expectedLinkLookups + expectedLinkInserts, stats.statements());
+        }
+
+        Assertions.assertEquals(0, statistics.getEntityLoadCount());
+
+        final var persistedGenre = genreRepository.findById(aGenre.getId().getValue()).get();
+        Assertions.assertEquals("Action", persistedGenre.getName());
+        Assertions.assertFalse(persistedGenre.isActive());
+        Assertions.assertEquals(List.of(movies.getId()), persistedGenre.getCategoryIDs());
+    }
+
+    @Test
+    public void givenPersistedAndMissingGenres_whenCallsUpdateAll_shouldBatchTheUpdatesAndLinksAndSkipTheMissingOnes() {
+        final var movies = categoryGateway.create(Category.createCategory("Movies", null, true));
+        final var series = categoryGateway.create(Category.createCategory("Series", null, true));
+        final var action = Genre.createGenre("Action", true);
+        final var drama = Genre.createGenre("Drama", true);
+        final var missing = Genre.createGenre("Horror", true);
+        genreRepository.saveAllAndFlush(List.of(GenreJpaEntity.load(action), GenreJpaEntity.load(drama)));
+        entityManager.clear();
+
+        final var expectedUpdates = 1;
+        final var expectedLinkLookups = 1;
+        final var expectedLinkInserts = 1;
+
+        final List<Genre> actualGenres;
+        try (final var stats = QueryStats.start()) {
+            actualGenres = genreGateway.updateAll(List.of(
+                    action.update("Action", true, List.of(movies.getId(), series.getId())),
+                    missing.update("Horror", true, List.of(movies.getId())),
+                    drama.update("Drama", true, List.of(series.getId()))
+            ));
+
+            Assertions.assertEquals(expectedUpdates + expectedLinkLookups + expectedLinkInserts, stats.statements());
+        }
+
+        Assertions.assertEquals(List.of(action.getId(), drama.getId()), actualGenres.stream().map(Genre::getId).toList());
+        Assertions.assertEquals(
+                sortCategoriesIds(List.of(movies.getId(), series.getId())),
+                sortCategoriesIds(genreRepository.findById(action.getId().getValue()).get().getCategoryIDs())
+        );
+        Assertions.assertEquals(List.of(series.getId()), genreRepository.findById(drama.getId().getValue()).get().getCategoryIDs());
+        Assertions.assertTrue(genreRepository.findById(missing.getId().getValue()).isEmpty());
+    }
+
+    private Statistics statistics() {
+        final var statistics = entityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+        return statistics;
+    }
 }
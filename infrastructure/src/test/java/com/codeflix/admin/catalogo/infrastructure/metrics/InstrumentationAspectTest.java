@@ -0,0 +1,82 @@
+package com.codeflix.admin.catalogo.infrastructure.metrics;
+
+import com.codeflix.admin.catalogo.application.category.retrieve.get.DefaultGetCategoryByIdUseCase;
+import com.codeflix.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.codeflix.admin.catalogo.application.category.retrieve.list.DefaultListCategoriesUseCase;
+import com.codeflix.admin.catalogo.application.category.retrieve.list.ListCategoriesUseCase;
+import com.codeflix.admin.catalogo.domain.category.Category;
+import com.codeflix.admin.catalogo.domain.category.CategoryGateway;
+import com.codeflix.admin.catalogo.domain.exceptions.NotFoundException;
+import com.codeflix.admin.catalogo.domain.pagination.Pagination;
+import com.codeflix.admin.catalogo.domain.pagination.SearchQuery;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+
+public class InstrumentationAspectTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final InstrumentationAspect aspect = new InstrumentationAspect(
+            new StaticListableBeanFactory(Map.of("meterRegistry", registry)).getBeanProvider(MeterRegistry.class)
+    );
+
+    @Test
+    public void givenAListUseCase_whenCallsExecute_shouldRecordLatencyAndResultSizeOfUseCaseAndGateway() {
+        // given
+        final var categories = List.of(
+                Category.createCategory("Movies", null, true),
+                Category.createCategory("Series", null, true)
+        );
+        final var gateway = Mockito.mock(CategoryGateway.class);
+        Mockito.when(gateway.findAll(any()))
+                .thenReturn(new Pagination<>(0, 10, 2, categories));
+
+        final ListCategoriesUseCase useCase = proxy(new DefaultListCategoriesUseCase(proxy(gateway)));
+
+        // when
+        useCase.execute(new SearchQuery(0, 10, "", "name", "asc"));
+
+        // then
+        final var latency = registry.get("usecase.execution")
+                .tags("class", "DefaultListCategoriesUseCase", "method", "execute")
+                .timer();
+        Assertions.assertEquals(1, latency.count());
+        Assertions.assertEquals(2.0, registry.get("usecase.result.size").summary().totalAmount());
+        Assertions.assertEquals(1, registry.get("gateway.execution").tags("method", "findAll").timer().count());
+        Assertions.assertEquals(2.0, registry.get("gateway.result.size").tags("method", "findAll").summary().totalAmount());
+    }
+
+    @Test
+    public void givenAMissingCategory_whenCallsExecute_shouldCountADomainError() {
+        // given
+        final var gateway = Mockito.mock(CategoryGateway.class);
+        Mockito.when(gateway.findById(any()))
+                .thenReturn(Optional.empty());
+
+        final GetCategoryByIdUseCase useCase = proxy(new DefaultGetCategoryByIdUseCase(gateway));
+
+        // when
+        Assertions.assertThrows(NotFoundException.class, () -> useCase.execute("123"));
+
+        // then
+        Assertions.assertEquals(1.0, registry.get("usecase.errors").tags("error", "domain").counter().count());
+        Assertions.assertEquals(0.0, registry.get("usecase.errors").tags("error", "internal").counter().count());
+        Assertions.assertEquals(1, registry.get("usecase.execution").timer().count());
+    }
+
+    private <T> T proxy(final T target) {
+        final var factory = new AspectJProxyFactory(target);
+        factory.addAspect(this.aspect);
+        return factory.getProxy();
+    }
+}
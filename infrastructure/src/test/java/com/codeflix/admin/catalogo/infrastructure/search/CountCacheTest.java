@@ -0,0 +1,46 @@
+package com.codeflix.admin.catalogo.infrastructure.search;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+public class CountCacheTest {
+
+    @Test
+    public void givenTermsWithDifferentCaseAndSpacing_whenBuildsKey_shouldShareTheSameEntry() {
+        Assertions.assertEquals(CountCache.key("category", "best  Movies "), CountCache.key("category", "best movies"));
+        Assertions.assertEquals(CountCache.key("category", null), CountCache.key("category", ""));
+        Assertions.assertNotEquals(CountCache.key("category", "a"), CountCache.key("genres", "a"));
+    }
+
+    @Test
+    public void givenARememberedTotal_whenGets_shouldReturnItUntilItExpires() {
+        // given
+        final var live = new CountCache(Duration.ofMinutes(1), 10);
+        final var expired = new CountCache(Duration.ZERO, 10);
+
+        // when
+        live.put("category:", 42);
+        expired.put("category:", 42);
+
+        // then
+        Assertions.assertEquals(42, live.get("category:").getAsLong());
+        Assertions.assertTrue(expired.get("category:").isEmpty());
+    }
+
+    @Test
+    public void givenAFullCache_whenPuts_shouldStayWithinMaxEntries() {
+        // given
+        final var cache = new CountCache(Duration.ofMinutes(1), 2);
+
+        // when
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+
+        // then
+        Assertions.assertEquals(3, cache.get("c").getAsLong());
+        Assertions.assertTrue(cache.get("a").isEmpty());
+    }
+}
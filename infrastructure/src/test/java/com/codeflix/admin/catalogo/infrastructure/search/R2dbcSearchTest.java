@@ -0,0 +1,80 @@
+package com.codeflix.admin.catalogo.infrastructure.search;
+
+import com.codeflix.admin.catalogo.domain.exceptions.DomainException;
+import com.codeflix.admin.catalogo.domain.pagination.SearchQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class R2dbcSearchTest {
+
+    private static final CountCache COUNTS = new CountCache(Duration.ofSeconds(30), 100);
+
+    private static final R2dbcSearch.Table CATEGORIES = new R2dbcSearch.Table(
+            "category",
+            "id, name, description",
+            List.of("name", "description"),
+            Set.of("id", "name", "description", "created_at")
+    );
+
+    @Test
+    public void givenLikeMode_whenBuildsStatement_shouldMatchAnyColumnCaseInsensitively() {
+        final var statement = new R2dbcSearch("like", COUNTS)
+                .statement(CATEGORIES, new SearchQuery(2, 10, "mov", "createdAt", "desc"), 11);
+
+        Assertions.assertEquals(
+                "SELECT id, name, description FROM category WHERE (UPPER(name) LIKE :terms OR UPPER(description) LIKE :terms) "
+                        + "ORDER BY created_at DESC LIMIT :limit OFFSET :offset",
+                statement.select()
+        );
+        Assertions.assertEquals(
+                "SELECT COUNT(*) FROM category WHERE (UPPER(name) LIKE :terms OR UPPER(description) LIKE :terms)",
+                statement.count()
+        );
+        Assertions.assertEquals(Map.of("terms", "%MOV%", "limit", 11, "offset", 20L), statement.binds());
+        Assertions.assertEquals(Map.of("terms", "%MOV%"), statement.countBinds());
+    }
+
+    @Test
+    public void givenFullTextModeAndRelevanceSort_whenBuildsStatement_shouldOrderByMatchScore() {
+        final var statement = new R2dbcSearch("fulltext", COUNTS)
+                .statement(CATEGORIES, new SearchQuery(0, 10, "best movies", "relevance", "desc"), 11);
+
+        Assertions.assertEquals(
+                "SELECT id, name, description FROM category WHERE MATCH (name, description) AGAINST (:terms IN BOOLEAN MODE) > 0 "
+                        + "ORDER BY MATCH (name, description) AGAINST (:terms IN BOOLEAN MODE) DESC, id ASC LIMIT :limit OFFSET :offset",
+                statement.select()
+        );
+        Assertions.assertEquals("+best* +movies*", statement.binds().get("terms"));
+    }
+
+    @Test
+    public void givenFullTextModeAndAShortTerm_whenBuildsStatement_shouldFallbackToEscapedPrefixMatch() {
+        final var statement = new R2dbcSearch("fulltext", COUNTS)
+                .statement(CATEGORIES, new SearchQuery(0, 10, "d_", "name", "asc"), 11);
+
+        Assertions.assertEquals(
+                "SELECT id, name, description FROM category WHERE (name LIKE :terms OR description LIKE :terms) "
+                        + "ORDER BY name ASC LIMIT :limit OFFSET :offset",
+                statement.select()
+        );
+        Assertions.assertEquals("d\\_%", statement.binds().get("terms"));
+    }
+
+    @Test
+    public void givenAnUnknownSort_whenBuildsStatement_shouldRaiseDomainException() {
+        final var search = new R2dbcSearch("like", COUNTS);
+        final var query = new SearchQuery(0, 10, "", "name; DROP TABLE category", "asc");
+
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> search.statement(CATEGORIES, query, 11)
+        );
+
+        Assertions.assertTrue(actualException.getErrors().get(0).message().startsWith("'sort' must be one of"));
+    }
+}
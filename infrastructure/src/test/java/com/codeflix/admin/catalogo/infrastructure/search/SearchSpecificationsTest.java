@@ -0,0 +1,67 @@
+package com.codeflix.admin.catalogo.infrastructure.search;
+
+import com.codeflix.admin.catalogo.MySQLGatewayTest;
+import com.codeflix.admin.catalogo.domain.category.Category;
+import com.codeflix.admin.catalogo.domain.pagination.SearchQuery;
+import com.codeflix.admin.catalogo.infrastructure.category.CategoryMySQLGateway;
+import com.codeflix.admin.catalogo.infrastructure.category.persistence.CategoryJPAEntity;
+import com.codeflix.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+@MySQLGatewayTest
+@TestPropertySource(properties = "search.mode=fulltext")
+public class SearchSpecificationsTest {
+
+    @Autowired
+    private CategoryMySQLGateway categoryGateway;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @BeforeEach
+    void setUp() {
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJPAEntity.create(Category.createCategory("Movies", "Universe's best movies", true)),
+                CategoryJPAEntity.create(Category.createCategory("Documentaries", "Real stories", true)),
+                CategoryJPAEntity.create(Category.createCategory("Dramas", null, true))
+        ));
+    }
+
+    @Test
+    public void givenAShortTerm_whenCallsFindAllInFullTextMode_shouldFallbackToPrefixMatch() {
+        final var query = new SearchQuery(0, 10, "Do", "name", "asc");
+
+        final var actualResult = categoryGateway.findAll(query);
+
+        Assertions.assertEquals(1, actualResult.total());
+        Assertions.assertEquals("Documentaries", actualResult.items().get(0).getName());
+    }
+
+    @Test
+    public void givenAnInfixShortTerm_whenCallsFindAllInFullTextMode_shouldNotMatch() {
+        final var query = new SearchQuery(0, 10, "ov", "name", "asc");
+
+        final var actualResult = categoryGateway.findAll(query);
+
+        Assertions.assertEquals(0, actualResult.total());
+    }
+
+    @Test
+    public void givenRelevanceSortWithoutTerms_whenCallsFindAll_shouldOrderByFirstProperty() {
+        final var query = new SearchQuery(0, 10, "", SearchSpecifications.RELEVANCE, "desc");
+
+        final var actualResult = categoryGateway.findAll(query);
+
+        Assertions.assertEquals(3, actualResult.total());
+        Assertions.assertEquals(
+                List.of("Documentaries", "Dramas", "Movies"),
+                actualResult.items().stream().map(Category::getName).toList()
+        );
+    }
+}
@@ -0,0 +1,68 @@
+package com.codeflix.admin.catalogo.infrastructure.sql;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+public class AdmissionControlDataSourceTest {
+
+    @Test
+    public void givenAllPermitsInUse_whenCallsGetConnection_shouldTimeOutWithoutTouchingThePool() throws SQLException {
+        // given
+        final var pool = Mockito.mock(DataSource.class);
+        Mockito.when(pool.getConnection()).thenAnswer(it -> Mockito.mock(Connection.class));
+
+        final var dataSource = new AdmissionControlDataSource(pool, new AdmissionLimiter(1, Duration.ofMillis(10)));
+        final var first = dataSource.getConnection();
+
+        // when
+        Assertions.assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+
+        // then
+        Mockito.verify(pool, Mockito.times(1)).getConnection();
+        Assertions.assertEquals(0, dataSource.limiter().available());
+
+        first.close();
+        Assertions.assertEquals(1, dataSource.limiter().available());
+    }
+
+    @Test
+    public void givenAClosedConnection_whenClosedAgain_shouldReleaseItsPermitOnce() throws SQLException {
+        // given
+        final var target = Mockito.mock(Connection.class);
+        final var pool = Mockito.mock(DataSource.class);
+        Mockito.when(pool.getConnection()).thenReturn(target);
+
+        final var dataSource = new AdmissionControlDataSource(pool, new AdmissionLimiter(2, Duration.ofMillis(10)));
+        final var aConnection = dataSource.getConnection();
+
+        // when
+        aConnection.close();
+        aConnection.close();
+
+        // then
+        Assertions.assertEquals(2, dataSource.limiter().available());
+        Mockito.verify(target, Mockito.times(2)).close();
+    }
+
+    @Test
+    public void givenAPoolFailure_whenCallsGetConnection_shouldReturnThePermit() throws SQLException {
+        // given
+        final var pool = Mockito.mock(DataSource.class);
+        Mockito.when(pool.getConnection()).thenThrow(new SQLException("pool is down"));
+
+        final var dataSource = new AdmissionControlDataSource(pool, new AdmissionLimiter(1, Duration.ofMillis(10)));
+
+        // when
+        Assertions.assertThrows(SQLException.class, dataSource::getConnection);
+
+        // then
+        Assertions.assertEquals(1, dataSource.limiter().available());
+    }
+}
@@ -0,0 +1,69 @@
+package com.codeflix.admin.catalogo.infrastructure.sql;
+
+import com.codeflix.admin.catalogo.domain.utils.IdUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+public class IdentifierColumnsTest {
+
+    @Test
+    public void givenBinaryStorage_whenBindsAUUID_shouldReadBackTheSameId() {
+        // given
+        final var columns = new IdentifierColumns("binary");
+        final var expectedId = IdUtils.uuid();
+
+        // when
+        final var bytes = (byte[]) columns.bind(expectedId);
+
+        // then
+        Assertions.assertEquals(16, bytes.length);
+        Assertions.assertEquals(expectedId, IdentifierColumns.fromBytes(bytes));
+    }
+
+    @Test
+    public void givenTwoUUIDs_whenEncoded_shouldKeepTheirStringOrder() {
+        // given
+        final var first = "0189a1b2-0000-7000-8000-00000000000f";
+        final var second = "0189a1b2-0000-7000-8000-0000000000f0";
+
+        // when
+        final var actual = Arrays.compareUnsigned(IdentifierColumns.toBytes(first), IdentifierColumns.toBytes(second));
+
+        // then
+        Assertions.assertTrue(first.compareTo(second) < 0);
+        Assertions.assertTrue(actual < 0);
+    }
+
+    @Test
+    public void givenANonUUIDId_whenEncoded_shouldNotFitABinaryColumn() {
+        // given
+        final var anId = "0123456789abcdef";
+
+        // when
+        final var actual = IdentifierColumns.toBytes(anId);
+
+        // then
+        Assertions.assertTrue(actual.length > 16);
+    }
+
+    @Test
+    public void givenTextStorage_whenBindsAnId_shouldKeepTheString() {
+        // given
+        final var columns = new IdentifierColumns("text");
+        final var expectedId = IdUtils.uuid();
+
+        // when
+        final var actual = columns.bind(expectedId);
+
+        // then
+        Assertions.assertFalse(columns.isBinary());
+        Assertions.assertEquals(expectedId, actual);
+    }
+
+    @Test
+    public void givenAnUnknownStorage_whenCreated_shouldFail() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new IdentifierColumns("char"));
+    }
+}
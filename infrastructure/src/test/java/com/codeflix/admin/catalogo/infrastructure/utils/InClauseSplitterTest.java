@@ -0,0 +1,69 @@
+package com.codeflix.admin.catalogo.infrastructure.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+public class InClauseSplitterTest {
+
+    @Test
+    public void givenMoreIdsThanChunkSize_whenCallsQuery_shouldRunBoundedChunksInOrderOnTheCallingThread() {
+        // given
+        final var ids = IntStream.range(0, 2_501).mapToObj(String::valueOf).toList();
+        final var calls = new AtomicInteger();
+        final var caller = Thread.currentThread();
+
+        // when
+        final var actualIds = InClauseSplitter.query(ids, 1_000, chunk -> {
+            Assertions.assertTrue(chunk.size() <= 1_000);
+            Assertions.assertSame(caller, Thread.currentThread());
+            calls.incrementAndGet();
+            return chunk;
+        });
+
+        // then
+        Assertions.assertEquals(3, calls.get());
+        Assertions.assertEquals(ids, actualIds);
+    }
+
+    @Test
+    public void givenDuplicatedIds_whenCallsQuery_shouldQueryEachIdOnce() {
+        // when
+        final var actualIds = InClauseSplitter.query(List.of("1", "2", "1"), chunk -> chunk);
+
+        // then
+        Assertions.assertEquals(List.of("1", "2"), actualIds);
+    }
+
+    @Test
+    public void givenNoIds_whenCallsQuery_shouldNotRunAnyQuery() {
+        // when
+        final var actualIds = InClauseSplitter.<String>query(List.of(), chunk -> {
+            throw new IllegalStateException("should not be called");
+        });
+
+        // then
+        Assertions.assertTrue(actualIds.isEmpty());
+    }
+
+    @Test
+    public void givenMoreIdsThanChunkSize_whenCallsUpdate_shouldRunChunksInOrderAndSumAffectedRows() {
+        // given
+        final var ids = IntStream.range(0, 2_501).mapToObj(String::valueOf).toList();
+        final var firstIds = new ArrayList<String>();
+
+        // when
+        final var actualAffected = InClauseSplitter.update(ids, 1_000, chunk -> {
+            firstIds.add(chunk.get(0));
+            return chunk.size();
+        });
+
+        // then
+        Assertions.assertEquals(2_501, actualAffected);
+        Assertions.assertEquals(List.of("0", "1000", "2000"), firstIds);
+    }
+}
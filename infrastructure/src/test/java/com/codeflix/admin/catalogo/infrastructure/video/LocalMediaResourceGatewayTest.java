@@ -0,0 +1,141 @@
+package com.codeflix.admin.catalogo.infrastructure.video;
+
+import com.codeflix.admin.catalogo.domain.video.MediaStatus;
+import com.codeflix.admin.catalogo.domain.video.Resource;
+import com.codeflix.admin.catalogo.domain.video.VideoID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Random;
+
+public class LocalMediaResourceGatewayTest {
+
+    @TempDir
+    private Path root;
+
+    @Test
+    public void givenAStreamedResource_whenCallsStoreAudioVideo_shouldWriteItInChunksAndComputeChecksum() throws Exception {
+        // given
+        final var gateway = new LocalMediaResourceGateway(root.toString(), 1024);
+        final var expectedId = VideoID.generateUnique();
+        final var content = new byte[10 * 1024 + 7];
+        new Random(42).nextBytes(content);
+
+        final var expectedChecksum = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+
+        final var aResource = Resource.with(
+                () -> new ByteArrayInputStream(content),
+                content.length,
+                "video/mp4",
+                "video.mp4",
+                Resource.Type.VIDEO
+        );
+
+        // when
+        final var actualMedia = gateway.storeAudioVideo(expectedId, aResource);
+
+        // then
+        Assertions.assertEquals(expectedChecksum, actualMedia.getChecksum());
+        Assertions.assertEquals("video.mp4", actualMedia.getName());
+        Assertions.assertEquals(MediaStatus.PENDING, actualMedia.getStatus());
+        Assertions.assertArrayEquals(content, Files.readAllBytes(Path.of(actualMedia.getRawLocation())));
+    }
+
+    @Test
+    public void givenAStoredImage_whenCallsClearResources_shouldDeleteVideoFolder() {
+        // given
+        final var gateway = new LocalMediaResourceGateway(root.toString(), 1024);
+        final var expectedId = VideoID.generateUnique();
+
+        final var actualMedia = gateway.storeImage(
+                expectedId,
+                Resource.with("banner".getBytes(), "image/jpg", "banner.jpg", Resource.Type.BANNER)
+        );
+
+        Assertions.assertTrue(Files.exists(Path.of(actualMedia.getLocation())));
+
+        // when
+        gateway.clearResources(expectedId);
+
+        // then
+        Assertions.assertFalse(Files.exists(Path.of(actualMedia.getLocation())));
+        Assertions.assertFalse(Files.exists(root.resolve("videos").resolve(expectedId.getValue())));
+    }
+
+    @Test
+    public void givenTwoStoredImages_whenCallsReleaseForOneType_shouldKeepTheOtherType() {
+        // given
+        final var gateway = new LocalMediaResourceGateway(root.toString(), 1024);
+        final var expectedId = VideoID.generateUnique();
+
+        final var aBanner = gateway.storeImage(
+                expectedId,
+                Resource.with("banner".getBytes(), "image/jpg", "banner.jpg", Resource.Type.BANNER)
+        );
+        final var aThumbnail = gateway.storeImage(
+                expectedId,
+                Resource.with("thumbnail".getBytes(), "image/jpg", "thumbnail.jpg", Resource.Type.THUMBNAIL)
+        );
+
+        // when
+        gateway.release(expectedId, Resource.Type.BANNER);
+        gateway.release(expectedId, Resource.Type.VIDEO);
+
+        // then
+        Assertions.assertFalse(Files.exists(Path.of(aBanner.getLocation())));
+        Assertions.assertTrue(Files.exists(Path.of(aThumbnail.getLocation())));
+        Assertions.assertFalse(Files.exists(root.resolve("videos").resolve(expectedId.getValue()).resolve("banner")));
+    }
+
+    @Test
+    public void givenTheSameContentForTwoVideos_whenCallsStoreImage_shouldShareOneBlobUntilBothAreCleared() {
+        // given
+        final var gateway = new LocalMediaResourceGateway(root.toString(), 1024);
+        final var firstId = VideoID.generateUnique();
+        final var secondId = VideoID.generateUnique();
+        final var aBanner = Resource.with("banner".getBytes(), "image/jpg", "banner.jpg", Resource.Type.BANNER);
+
+        // when
+        final var firstMedia = gateway.storeImage(firstId, aBanner);
+        final var secondMedia = gateway.storeImage(secondId, aBanner);
+
+        // then
+        Assertions.assertEquals(firstMedia.getChecksum(), secondMedia.getChecksum());
+        Assertions.assertEquals(firstMedia.getLocation(), secondMedia.getLocation());
+
+        gateway.clearResources(firstId);
+        Assertions.assertTrue(Files.exists(Path.of(secondMedia.getLocation())));
+
+        gateway.clearResources(secondId);
+        Assertions.assertFalse(Files.exists(Path.of(secondMedia.getLocation())));
+    }
+
+    @Test
+    public void givenAReplacedResource_whenCallsStoreAudioVideo_shouldReleaseThePreviousBlob() {
+        // given
+        final var gateway = new LocalMediaResourceGateway(root.toString(), 1024);
+        final var expectedId = VideoID.generateUnique();
+
+        final var previousMedia = gateway.storeAudioVideo(
+                expectedId,
+                Resource.with("first".getBytes(), "video/mp4", "trailer.mp4", Resource.Type.TRAILER)
+        );
+
+        // when
+        final var actualMedia = gateway.storeAudioVideo(
+                expectedId,
+                Resource.with("second".getBytes(), "video/mp4", "trailer.mp4", Resource.Type.TRAILER)
+        );
+
+        // then
+        Assertions.assertNotEquals(previousMedia.getRawLocation(), actualMedia.getRawLocation());
+        Assertions.assertFalse(Files.exists(Path.of(previousMedia.getRawLocation())));
+        Assertions.assertTrue(Files.exists(Path.of(actualMedia.getRawLocation())));
+    }
+}
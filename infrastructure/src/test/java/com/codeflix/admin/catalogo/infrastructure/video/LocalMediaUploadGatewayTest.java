@@ -0,0 +1,141 @@
+package com.codeflix.admin.catalogo.infrastructure.video;
+
+import com.codeflix.admin.catalogo.domain.exceptions.DomainException;
+import com.codeflix.admin.catalogo.domain.exceptions.NotFoundException;
+import com.codeflix.admin.catalogo.domain.video.MediaUpload;
+import com.codeflix.admin.catalogo.domain.video.Resource;
+import com.codeflix.admin.catalogo.domain.video.VideoID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+public class LocalMediaUploadGatewayTest {
+
+    @TempDir
+    private Path root;
+
+    @Test
+    public void givenChunksOutOfOrder_whenCallsWrite_shouldAssembleTheResourceOnceComplete() throws Exception {
+        // given
+        final var gateway = newGateway();
+        final var content = randomBytes(10 * 1024 + 7);
+        final var anUpload = gateway.create(VideoID.generateUnique(), Resource.Type.VIDEO, "video.mp4", "video/mp4", content.length);
+
+        // when
+        gateway.write(anUpload.id(), 4096, content.length - 4096, chunk(content, 4096, content.length));
+        final var partial = gateway.write(anUpload.id(), 0, 1000, chunk(content, 0, 1000));
+        final var complete = gateway.write(anUpload.id(), 1000, 3096, chunk(content, 1000, 4096));
+
+        // then
+        Assertions.assertFalse(partial.isComplete());
+        Assertions.assertEquals(content.length - 3096, partial.receivedBytes());
+        Assertions.assertTrue(complete.isComplete());
+        Assertions.assertEquals(List.of(new MediaUpload.ByteRange(0, content.length)), complete.received());
+
+        final var aResource = gateway.open(anUpload.id());
+        Assertions.assertEquals(content.length, aResource.getLength());
+        try (final var in = aResource.openStream()) {
+            Assertions.assertArrayEquals(content, in.readAllBytes());
+        }
+    }
+
+    @Test
+    public void givenAPartialUpload_whenGatewayRestarts_shouldResumeFromTheReceivedRanges() {
+        // given
+        final var content = randomBytes(2048);
+        final var expectedVideoId = VideoID.generateUnique();
+        final var anUpload = newGateway().create(expectedVideoId, Resource.Type.TRAILER, "trailer.mp4", "video/mp4", content.length);
+        newGateway().write(anUpload.id(), 0, 1024, chunk(content, 0, 1024));
+
+        // when
+        final var actualUpload = newGateway().findById(anUpload.id()).orElseThrow();
+
+        // then
+        Assertions.assertEquals(expectedVideoId, actualUpload.videoId());
+        Assertions.assertEquals(Resource.Type.TRAILER, actualUpload.type());
+        Assertions.assertEquals(List.of(new MediaUpload.ByteRange(0, 1024)), actualUpload.received());
+        Assertions.assertFalse(actualUpload.isComplete());
+    }
+
+    @Test
+    public void givenAnIdOutsideTheRoot_whenCallsWrite_shouldReturnNotFound() {
+        // given
+        final var gateway = newGateway();
+
+        // when
+        Assertions.assertThrows(
+                NotFoundException.class,
+                () -> gateway.write("../etc", 0, 1, chunk(new byte[]{1}, 0, 1))
+        );
+
+        // then
+        Assertions.assertTrue(gateway.findById("../etc").isEmpty());
+    }
+
+    @Test
+    public void givenACompletedUpload_whenCallsCompleteOrWriteAgain_shouldRejectUntilReopened() {
+        // given
+        final var gateway = newGateway();
+        final var content = randomBytes(16);
+        final var anUpload = gateway.create(VideoID.generateUnique(), Resource.Type.VIDEO, "video.mp4", "video/mp4", content.length);
+        gateway.write(anUpload.id(), 0, content.length, chunk(content, 0, content.length));
+
+        // when
+        final var first = gateway.complete(anUpload.id());
+        final var second = gateway.complete(anUpload.id());
+
+        // then
+        Assertions.assertTrue(first);
+        Assertions.assertFalse(second);
+        Assertions.assertThrows(
+                DomainException.class,
+                () -> gateway.write(anUpload.id(), 0, content.length, chunk(content, 0, content.length))
+        );
+
+        gateway.reopen(anUpload.id());
+        Assertions.assertTrue(gateway.complete(anUpload.id()));
+
+        gateway.deleteById(anUpload.id());
+        Assertions.assertTrue(gateway.findById(anUpload.id()).isEmpty());
+    }
+
+    @Test
+    public void givenACompletedUploadIdleForLongerThanTheTtl_whenANewUploadStarts_shouldKeepItUntilTheTtlPassesSinceCompletion() throws Exception {
+        // given
+        final var gateway = newGateway();
+        final var anUpload = gateway.create(VideoID.generateUnique(), Resource.Type.VIDEO, "video.mp4", "video/mp4", 1);
+        gateway.write(anUpload.id(), 0, 1, chunk(new byte[]{1}, 0, 1));
+        Files.setLastModifiedTime(root.resolve(anUpload.id()).resolve("ranges"), FileTime.from(Instant.now().minus(Duration.ofHours(2))));
+        gateway.complete(anUpload.id());
+
+        // when
+        gateway.create(VideoID.generateUnique(), Resource.Type.VIDEO, "other.mp4", "video/mp4", 1);
+
+        // then
+        Assertions.assertTrue(gateway.findById(anUpload.id()).isPresent());
+    }
+
+    private LocalMediaUploadGateway newGateway() {
+        return new LocalMediaUploadGateway(root.toString(), 1024, Duration.ofHours(1));
+    }
+
+    private static Resource.Content chunk(final byte[] content, final int from, final int to) {
+        return () -> new ByteArrayInputStream(Arrays.copyOfRange(content, from, to));
+    }
+
+    private static byte[] randomBytes(final int length) {
+        final var content = new byte[length];
+        new Random(42).nextBytes(content);
+        return content;
+    }
+}
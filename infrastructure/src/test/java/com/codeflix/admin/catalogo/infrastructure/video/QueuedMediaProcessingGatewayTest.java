@@ -0,0 +1,239 @@
+package com.codeflix.admin.catalogo.infrastructure.video;
+
+import com.codeflix.admin.catalogo.application.video.media.ProcessVideoMediaCommand;
+import com.codeflix.admin.catalogo.application.video.media.ProcessVideoMediaUseCase;
+import com.codeflix.admin.catalogo.domain.video.Resource;
+import com.codeflix.admin.catalogo.domain.video.VideoID;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class QueuedMediaProcessingGatewayTest {
+
+    private final List<Resource> resources = List.of(
+            Resource.with(new byte[]{1}, "video/mp4", "video.mp4", Resource.Type.VIDEO)
+    );
+
+    @Test
+    public void givenAFullQueueAndRejectPolicy_whenCallsProcess_shouldRejectAndExposeQueueDepth() throws Exception {
+        // given
+        final var registry = new SimpleMeterRegistry();
+        final var release = new CountDownLatch(1);
+        final var done = new CountDownLatch(2);
+        final var gateway = newGateway(blockingUseCase(release, done), registry, "reject");
+
+        // when
+        gateway.process(VideoID.generateUnique(), resources);
+        gateway.process(VideoID.generateUnique(), resources);
+
+        // then
+        Assertions.assertEquals(1, gateway.queueDepth());
+        Assertions.assertEquals(1.0, registry.get("media.processing.queue.depth").gauge().value());
+        Assertions.assertThrows(
+                RejectedExecutionException.class,
+                () -> gateway.process(VideoID.generateUnique(), resources)
+        );
+
+        release.countDown();
+        done.await();
+        gateway.close();
+        Assertions.assertEquals(0, gateway.queueDepth());
+    }
+
+    @Test
+    public void givenJobsWaitingBehindTheSameVideo_whenCallsProcess_shouldCountThemAgainstTheCapacity() throws Exception {
+        // given
+        final var release = new CountDownLatch(1);
+        final var done = new CountDownLatch(2);
+        final var gateway = newGateway(blockingUseCase(release, done), new SimpleMeterRegistry(), "reject");
+        final var anId = VideoID.generateUnique();
+
+        // when
+        gateway.process(anId, resources);
+        gateway.process(anId, resources);
+
+        // then
+        Assertions.assertEquals(1, gateway.queueDepth());
+        Assertions.assertThrows(
+                RejectedExecutionException.class,
+                () -> gateway.process(anId, resources)
+        );
+        Assertions.assertThrows(
+                RejectedExecutionException.class,
+                () -> gateway.process(VideoID.generateUnique(), resources)
+        );
+
+        release.countDown();
+        done.await();
+        gateway.close();
+        Assertions.assertEquals(0, gateway.queueDepth());
+    }
+
+    @Test
+    public void givenAFullQueueAndCallerRunsPolicy_whenCallsProcessForABusyVideo_shouldRejectInsteadOfOvertakingIt() throws Exception {
+        // given
+        final var release = new CountDownLatch(1);
+        final var threads = new ConcurrentLinkedQueue<String>();
+        final var gateway = newGateway(new ProcessVideoMediaUseCase() {
+            @Override
+            public void execute(final ProcessVideoMediaCommand aCommand) {
+                threads.add(Thread.currentThread().getName());
+                if (Thread.currentThread().getName().startsWith("media-processing-")) {
+                    awaitQuietly(release);
+                }
+            }
+        }, new SimpleMeterRegistry(), "caller-runs");
+        final var busy = VideoID.generateUnique();
+
+        // when
+        gateway.process(busy, resources);
+        gateway.process(VideoID.generateUnique(), resources);
+
+        // then
+        Assertions.assertThrows(
+                RejectedExecutionException.class,
+                () -> gateway.process(busy, resources)
+        );
+        Assertions.assertFalse(threads.contains(Thread.currentThread().getName()));
+
+        release.countDown();
+        gateway.close();
+    }
+
+    @Test
+    public void givenAFullQueueAndCallerRunsPolicy_whenCallsProcess_shouldRunOnTheCallingThread() throws Exception {
+        // given
+        final var release = new CountDownLatch(1);
+        final var threads = new ConcurrentLinkedQueue<String>();
+        final var gateway = newGateway(new ProcessVideoMediaUseCase() {
+            @Override
+            public void execute(final ProcessVideoMediaCommand aCommand) {
+                threads.add(Thread.currentThread().getName());
+                if (Thread.currentThread().getName().startsWith("media-processing-")) {
+                    awaitQuietly(release);
+                }
+            }
+        }, new SimpleMeterRegistry(), "caller-runs");
+        final var caller = Thread.currentThread().getName();
+
+        // when
+        gateway.process(VideoID.generateUnique(), resources);
+        gateway.process(VideoID.generateUnique(), resources);
+        gateway.process(VideoID.generateUnique(), resources);
+
+        // then
+        Assertions.assertTrue(threads.contains(caller));
+
+        release.countDown();
+        gateway.close();
+    }
+
+    @Test
+    public void givenJobsForTheSameVideo_whenCallsProcess_shouldRunThemOneAtATimeInSubmissionOrder() throws Exception {
+        // given
+        final var release = new CountDownLatch(1);
+        final var done = new CountDownLatch(3);
+        final var running = new AtomicInteger();
+        final var overlapped = new AtomicBoolean();
+        final var order = new ConcurrentLinkedQueue<String>();
+        final var gateway = new QueuedMediaProcessingGateway(new ProcessVideoMediaUseCase() {
+            @Override
+            public void execute(final ProcessVideoMediaCommand aCommand) {
+                if (running.incrementAndGet() > 1) {
+                    overlapped.set(true);
+                }
+                awaitQuietly(release);
+                order.add(aCommand.resources().get(0).getName());
+                running.decrementAndGet();
+                done.countDown();
+            }
+        }, new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class), 4, 10, "reject", Duration.ofSeconds(5));
+        final var anId = VideoID.generateUnique();
+
+        // when
+        gateway.process(anId, List.of(Resource.with(new byte[]{1}, "video/mp4", "first.mp4", Resource.Type.VIDEO)));
+        gateway.process(anId, List.of(Resource.with(new byte[]{2}, "video/mp4", "second.mp4", Resource.Type.VIDEO)));
+        gateway.process(anId, List.of(Resource.with(new byte[]{3}, "video/mp4", "third.mp4", Resource.Type.VIDEO)));
+
+        // then
+        Assertions.assertEquals(2, gateway.queueDepth());
+
+        release.countDown();
+        done.await();
+        gateway.close();
+
+        Assertions.assertFalse(overlapped.get());
+        Assertions.assertEquals(List.of("first.mp4", "second.mp4", "third.mp4"), List.copyOf(order));
+        Assertions.assertEquals(0, gateway.queueDepth());
+    }
+
+    @Test
+    public void givenAFailingJob_whenCallsProcess_shouldRunOnFinishedAfterTheJob() throws Exception {
+        // given
+        final var events = new ConcurrentLinkedQueue<String>();
+        final var finished = new CountDownLatch(1);
+        final var gateway = newGateway(new ProcessVideoMediaUseCase() {
+            @Override
+            public void execute(final ProcessVideoMediaCommand aCommand) {
+                events.add("job");
+                throw new IllegalStateException("disk full");
+            }
+        }, new SimpleMeterRegistry(), "reject");
+
+        // when
+        gateway.process(VideoID.generateUnique(), resources, () -> {
+            events.add("finished");
+            finished.countDown();
+        });
+
+        // then
+        finished.await();
+        gateway.close();
+        Assertions.assertEquals(List.of("job", "finished"), List.copyOf(events));
+    }
+
+    private static QueuedMediaProcessingGateway newGateway(
+            final ProcessVideoMediaUseCase aUseCase,
+            final MeterRegistry aRegistry,
+            final String onFull
+    ) {
+        final var beanFactory = new StaticListableBeanFactory(Map.of("meterRegistry", aRegistry));
+        return new QueuedMediaProcessingGateway(
+                aUseCase,
+                beanFactory.getBeanProvider(MeterRegistry.class),
+                1,
+                1,
+                onFull,
+                Duration.ofSeconds(5)
+        );
+    }
+
+    private static ProcessVideoMediaUseCase blockingUseCase(final CountDownLatch release, final CountDownLatch done) {
+        return new ProcessVideoMediaUseCase() {
+            @Override
+            public void execute(final ProcessVideoMediaCommand aCommand) {
+                awaitQuietly(release);
+                done.countDown();
+            }
+        };
+    }
+
+    private static void awaitQuietly(final CountDownLatch aLatch) {
+        try {
+            aLatch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.codeflix.admin.catalogo.infrastructure.video;
+
+import com.codeflix.admin.catalogo.MySQLGatewayTest;
+import com.codeflix.admin.catalogo.domain.castmember.CastMember;
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberType;
+import com.codeflix.admin.catalogo.domain.category.Category;
+import com.codeflix.admin.catalogo.domain.exceptions.ConflictException;
+import com.codeflix.admin.catalogo.domain.genre.Genre;
+import com.codeflix.admin.catalogo.domain.video.AudioVideoMedia;
+import com.codeflix.admin.catalogo.domain.video.ImageMedia;
+import com.codeflix.admin.catalogo.domain.video.MediaStatus;
+import com.codeflix.admin.catalogo.domain.video.Rating;
+import com.codeflix.admin.catalogo.domain.video.Video;
+import com.codeflix.admin.catalogo.domain.video.VideoID;
+import com.codeflix.admin.catalogo.domain.video.VideoSearchQuery;
+import com.codeflix.admin.catalogo.infrastructure.castmember.CastMemberMySQLGateway;
+import com.codeflix.admin.catalogo.infrastructure.category.CategoryMySQLGateway;
+import com.codeflix.admin.catalogo.infrastructure.genre.GenreMySQLGateway;
+import com.codeflix.admin.catalogo.infrastructure.sql.QueryStats;
+import com.codeflix.admin.catalogo.infrastructure.video.persistence.VideoRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.Year;
+import java.util.Set;
+
+@MySQLGatewayTest
+public class VideoMySQLGatewayTest {
+
+    @Autowired
+    private CategoryMySQLGateway categoryGateway;
+
+    @Autowired
+    private GenreMySQLGateway genreGateway;
+
+    @Autowired
+    private CastMemberMySQLGateway castMemberGateway;
+
+    @Autowired
+    private VideoMySQLGateway videoGateway;
+
+    @Autowired
+    private VideoRepository videoRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    public void testDependenciesInjected() {
+        Assertions.assertNotNull(categoryGateway);
+        Assertions.assertNotNull(genreGateway);
+        Assertions.assertNotNull(castMemberGateway);
+        Assertions.assertNotNull(videoGateway);
+        Assertions.assertNotNull(videoRepository);
+    }
+
+    @Test
+    public void givenAValidVideo_whenCallsCreate_shouldPersistItWithRelationsAndMedia() {
+        // given
+        final var movies = categoryGateway.create(Category.createCategory("Movies", null, true));
+        final var horror = genreGateway.create(Genre.createGenre("Horror", true));
+        final var actor = castMemberGateway.create(CastMember.create("Wesley", CastMemberType.ACTOR));
+
+        final var expectedVideo = AudioVideoMedia.with("abc", "video.mp4", "/videos/video.mp4", "", MediaStatus.PENDING);
+        final var expectedBanner = ImageMedia.with("def", "banner.jpg", "/videos/banner.jpg");
+
+        final var aVideo = Video.create(
+                "System Design", "Interviews", Year.of(2022), 120.5, Rating.L, true, false,
+                Set.of(movies.getId()), Set.of(horror.getId()), Set.of(actor.getId())
+        ).setVideo(expectedVideo).setBanner(expectedBanner);
+
+        Assertions.assertEquals(0, videoRepository.count());
+
+        // when
+        videoGateway.create(aVideo);
+
+        // then
+        Assertions.assertEquals(1, videoRepository.count());
+
+        final var actualVideo = videoGateway.findById(aVideo.getId()).get();
+
+        Assertions.assertEquals(aVideo.getTitle(), actualVideo.getTitle());
+        Assertions.assertEquals(aVideo.getLaunchedAt(), actualVideo.getLaunchedAt());
+        Assertions.assertEquals(aVideo.getDuration(), actualVideo.getDuration());
+        Assertions.assertEquals(aVideo.getRating(), actualVideo.getRating());
+        Assertions.assertEquals(Set.of(movies.getId()), actualVideo.getCategories());
+        Assertions.assertEquals(Set.of(horror.getId()), actualVideo.getGenres());
+        Assertions.assertEquals(Set.of(actor.getId()), actualVideo.getCastMembers());
+        Assertions.assertEquals(expectedVideo, actualVideo.getVideo().get());
+        Assertions.assertEquals(expectedBanner, actualVideo.getBanner().get());
+        Assertions.assertTrue(actualVideo.getTrailer().isEmpty());
+    }
+
+    @Test
+    public void givenAPersistedVideo_whenCallsUpdateWithOtherRelations_shouldReplaceOnlyTheDifference() {
+        // given
+        final var movies = categoryGateway.create(Category.createCategory("Movies", null, true));
+        final var series = categoryGateway.create(Category.createCategory("Series", null, true));
+        final var horror = genreGateway.create(Genre.createGenre("Horror", true));
+
+        final var aVideo = videoGateway.create(Video.create(
+                "System Design", "Interviews", Year.of(2022), 120.5, Rating.L, true, false,
+                Set.of(movies.getId()), Set.of(horror.getId()), Set.of()
+        ));
+
+        final var expectedCategories = Set.of(movies.getId(), series.getId());
+
+        // when
+        videoGateway.update(Video.from(aVideo).update(
+                "Clean Architecture", "Interviews", Year.of(2022), 120.5, Rating.L, true, true,
+                expectedCategories, Set.of(), Set.of()
+        ));
+
+        // then
+        final var actualVideo = videoGateway.findById(aVideo.getId()).get();
+
+        Assertions.assertEquals("Clean Architecture", actualVideo.getTitle());
+        Assertions.assertTrue(actualVideo.isPublished());
+        Assertions.assertEquals(expectedCategories, actualVideo.getCategories());
+        Assertions.assertTrue(actualVideo.getGenres().isEmpty());
+    }
+
+    @Test
+    public void givenAStaleVideo_whenCallsUpdate_shouldRaiseConflictAndKeepTheNewerWrite() {
+        // given
+        final var aVideo = videoGateway.create(Video.create(
+                "System Design", "Interviews", Year.of(2022), 120.5, Rating.L, true, false,
+                Set.of(), Set.of(), Set.of()
+        ));
+        final var stale = Video.from(aVideo);
+
+        final var updated = videoGateway.update(Video.from(aVideo).update(
+                "Clean Architecture", "Interviews", Year.of(2022), 120.5, Rating.L, true, false,
+                Set.of(), Set.of(), Set.of()
+        ));
+        Assertions.assertEquals(aVideo.getVersion() + 1, updated.getVersion());
+
+        final var expectedErrorMessage = "Video with ID %s was modified concurrently".formatted(aVideo.getId().getValue());
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                ConflictException.class,
+                () -> videoGateway.update(stale.setVideo(AudioVideoMedia.pending("video.mp4")))
+        );
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+
+        entityManager.clear();
+        final var actualVideo = videoGateway.findById(aVideo.getId()).get();
+        Assertions.assertEquals("Clean Architecture", actualVideo.getTitle());
+        Assertions.assertEquals(updated.getVersion(), actualVideo.getVersion());
+        Assertions.assertTrue(actualVideo.getVideo().isEmpty());
+    }
+
+    @Test
+    public void givenAPersistedVideo_whenCallsDeleteById_shouldDeleteItWithoutLoadingIt() {
+        // given
+        final var movies = categoryGateway.create(Category.createCategory("Movies", null, true));
+        final var aVideo = videoGateway.create(Video.create(
+                "System Design", "Interviews", Year.of(2022), 120.5, Rating.L, true, false,
+                Set.of(movies.getId()), Set.of(), Set.of()
+        ).setVideo(AudioVideoMedia.with("abc", "video.mp4", "/videos/video.mp4", "", MediaStatus.PENDING))
+                .setBanner(ImageMedia.with("def", "banner.jpg", "/videos/banner.jpg")));
+
+        Assertions.assertEquals(1, videoRepository.count());
+
+        // when
+        try (final var stats = QueryStats.start()) {
+            videoGateway.deleteById(aVideo.getId());
+
+            // then
+            Assertions.assertEquals(3, stats.statements());
+        }
+
+        Assertions.assertEquals(0, videoRepository.count());
+        Assertions.assertEquals(0, countRows("videos_video_media"));
+        Assertions.assertEquals(0, countRows("videos_image_media"));
+        Assertions.assertEquals(0, countRows("videos_categories"));
+    }
+
+    @Test
+    public void givenAnUnknownId_whenCallsDeleteById_shouldOnlyRunTheDelete() {
+        try (final var stats = QueryStats.start()) {
+            videoGateway.deleteById(VideoID.generateUnique());
+
+            Assertions.assertEquals(1, stats.statements());
+        }
+    }
+
+    @Test
+    public void givenAnInvalidId_whenCallsFindById_shouldReturnEmpty() {
+        Assertions.assertTrue(videoGateway.findById(VideoID.from("123")).isEmpty());
+    }
+
+    @Test
+    public void givenPersistedVideos_whenCallsFindAllWithTerms_shouldReturnFilteredWithRelations() {
+        // given
+        final var movies = categoryGateway.create(Category.createCategory("Movies", null, true));
+
+        videoGateway.create(Video.create(
+                "System Design", "Interviews", Year.of(2022), 120.5, Rating.L, true, false,
+                Set.of(movies.getId()), Set.of(), Set.of()
+        ));
+        videoGateway.create(Video.create(
+                "Clean Code", "Books", Year.of(2008), 60.0, Rating.L, true, false,
+                Set.of(), Set.of(), Set.of()
+        ));
+
+        // when
+        final var actualPage = videoGateway.findAll(new VideoSearchQuery(0, 10, "design", "title", "asc"));
+
+        // then
+        Assertions.assertEquals(1, actualPage.total());
+        Assertions.assertEquals("System Design", actualPage.items().get(0).getTitle());
+        Assertions.assertEquals(Set.of(movies.getId()), actualPage.items().get(0).getCategories());
+    }
+
+    private long countRows(final String aTable) {
+        return ((Number) entityManager.getEntityManager()
+                .createNativeQuery("SELECT COUNT(*) FROM " + aTable)
+                .getSingleResult()).longValue();
+    }
+}